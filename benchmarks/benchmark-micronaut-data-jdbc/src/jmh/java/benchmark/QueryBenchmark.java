@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookDTO;
+import example.BookRepository;
+import example.BookSpecifications;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+    private static final int AUTHORS = 10;
+    private static final int BOOKS_PER_AUTHOR = 10;
+    private static final Sort BY_PAGES = Sort.of(Sort.Order.asc("pages"));
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    AuthorRepository authorRepository;
+    Long bookId;
+    Pageable pageable;
+    CursoredPageable cursoredPageable;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.run();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+        List<Author> authors = Fixtures.authors(AUTHORS, BOOKS_PER_AUTHOR);
+        authorRepository.saveAll(authors);
+        this.bookId = authors.get(0).getBooks().get(0).getId();
+        this.pageable = Pageable.from(2, 20, BY_PAGES);
+        // the second page, so that the query is restricted by the cursor
+        this.cursoredPageable = bookRepository.retrieveByPagesGreaterThan(0, CursoredPageable.from(20, BY_PAGES)).nextPageable();
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Optional<Book> findById() {
+        return bookRepository.findById(bookId);
+    }
+
+    @Benchmark
+    public Book findByTitle() {
+        return bookRepository.findByTitle(Fixtures.bookTitle(3, 7));
+    }
+
+    @Benchmark
+    public List<BookDTO> findDtoProjection() {
+        return bookRepository.findByPagesBetween(200, 400);
+    }
+
+    @Benchmark
+    public List<Book> findManyToOneJoin() {
+        return bookRepository.queryByPagesBetween(200, 400);
+    }
+
+    @Benchmark
+    public Author findOneToManyJoin() {
+        return authorRepository.queryByName(Fixtures.authorName(3));
+    }
+
+    @Benchmark
+    public Page<Book> findOffsetPage() {
+        return bookRepository.listByPagesGreaterThan(0, pageable);
+    }
+
+    @Benchmark
+    public CursoredPage<Book> findCursoredPage() {
+        return bookRepository.retrieveByPagesGreaterThan(0, cursoredPageable);
+    }
+
+    @Benchmark
+    public List<Book> findBySpecification() {
+        return bookRepository.findAll(BookSpecifications.pagesBetween(200, 400));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + QueryBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
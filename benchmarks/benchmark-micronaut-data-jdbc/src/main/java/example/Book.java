@@ -15,6 +15,7 @@
  */
 package example;
 
+import io.micronaut.core.annotation.Nullable;
 import jakarta.persistence.*;
 
 @Entity
@@ -24,6 +25,9 @@ public class Book {
     private Long id;
     private String title;
     private int pages;
+    @Nullable
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Author author;
 
     public Book(String title, int pages) {
         this.title = title;
@@ -56,4 +60,13 @@ public class Book {
     public void setPages(int pages) {
         this.pages = pages;
     }
+
+    @Nullable
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(@Nullable Author author) {
+        this.author = author;
+    }
 }
@@ -15,11 +15,28 @@
  */
 package example;
 
+import io.micronaut.data.annotation.Join;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.CursoredPage;
+import io.micronaut.data.model.CursoredPageable;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
+
+import java.util.List;
 
 @JdbcRepository(dialect = Dialect.H2)
-public interface BookRepository extends CrudRepository<Book, Long> {
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> {
     Book findByTitle(String title);
+
+    List<BookDTO> findByPagesBetween(int minPages, int maxPages);
+
+    @Join("author")
+    List<Book> queryByPagesBetween(int minPages, int maxPages);
+
+    Page<Book> listByPagesGreaterThan(int pages, Pageable pageable);
+
+    CursoredPage<Book> retrieveByPagesGreaterThan(int pages, CursoredPageable pageable);
 }
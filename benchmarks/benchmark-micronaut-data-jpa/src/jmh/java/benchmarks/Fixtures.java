@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmarks;
+
+import example.Author;
+import example.Book;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The data shared by the benchmarks, every author has the same number of books and every book a distinct page count.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static List<Author> authors(int authors, int booksPerAuthor) {
+        List<Author> result = new ArrayList<>(authors);
+        for (int i = 0; i < authors; i++) {
+            Author author = new Author(authorName(i));
+            for (int j = 0; j < booksPerAuthor; j++) {
+                author.addBook(new Book(bookTitle(i, j), 100 + 10 * (i * booksPerAuthor + j)));
+            }
+            result.add(author);
+        }
+        return result;
+    }
+
+    static Author author(String name, int books) {
+        Author author = new Author(name);
+        for (int i = 0; i < books; i++) {
+            author.addBook(new Book(name + " " + i, 100 + i));
+        }
+        return author;
+    }
+
+    static List<Book> books(String prefix, int count) {
+        List<Book> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new Book(prefix + " " + i, 100 + i));
+        }
+        return result;
+    }
+
+    static String authorName(int author) {
+        return "Author " + author;
+    }
+
+    static String bookTitle(int author, int book) {
+        return "Book " + author + "-" + book;
+    }
+}
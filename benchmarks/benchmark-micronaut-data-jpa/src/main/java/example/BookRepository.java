@@ -18,10 +18,11 @@ package example;
 import io.micronaut.data.annotation.*;
 import io.micronaut.data.model.*;
 import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.jpa.JpaSpecificationExecutor;
 import java.util.List;
 
 @Repository // <1>
-public interface BookRepository extends CrudRepository<Book, Long> { // <2>
+public interface BookRepository extends CrudRepository<Book, Long>, JpaSpecificationExecutor<Book> { // <2>
 // end::repository[]
 
     // tag::simple[]
@@ -112,6 +113,13 @@ public interface BookRepository extends CrudRepository<Book, Long> { // <2>
     List<Book> findNativeBooks(String title);
     // end::native[]
 
+    List<BookDTO> findByPagesBetween(int minPages, int maxPages);
+
+    @Join("author")
+    List<Book> queryByPagesBetween(int minPages, int maxPages);
+
+    Page<Book> listByPagesGreaterThan(int pages, Pageable pageable);
+
 // tag::repository[]
 }
 // end::repository[]
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package benchmark;
+
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+
+    @Param({"10", "100"})
+    int batchSize;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    AuthorRepository authorRepository;
+    List<Book> persistedBooks;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.run();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void persistBooks() {
+        this.persistedBooks = bookRepository.saveAll(Fixtures.books("Update", batchSize)).collectList().block();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteAll() {
+        bookRepository.deleteAll().block();
+        authorRepository.deleteAll().block();
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Book> saveAll() {
+        return bookRepository.saveAll(Fixtures.books("Save", batchSize)).collectList().block();
+    }
+
+    @Benchmark
+    public List<Book> updateAll() {
+        for (Book book : persistedBooks) {
+            book.setPages(book.getPages() + 1);
+        }
+        return bookRepository.updateAll(persistedBooks).collectList().block();
+    }
+
+    @Benchmark
+    public Author cascadePersist() {
+        return authorRepository.save(Fixtures.author("Cascade", batchSize)).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + WriteBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(4)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
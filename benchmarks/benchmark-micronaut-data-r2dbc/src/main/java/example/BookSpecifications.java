@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import io.micronaut.data.repository.jpa.criteria.PredicateSpecification;
+
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    public static PredicateSpecification<Book> titleEquals(String title) {
+        return (root, criteriaBuilder) -> criteriaBuilder.equal(root.get("title"), title);
+    }
+
+    public static PredicateSpecification<Book> pagesBetween(int minPages, int maxPages) {
+        return (root, criteriaBuilder) -> criteriaBuilder.between(root.<Integer>get("pages"), minPages, maxPages);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package example;
+
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BookRepositoryTest {
+
+    private BookRepository bookRepository;
+    private ApplicationContext context;
+
+    @BeforeAll
+    void setup() {
+        this.context = ApplicationContext.run();
+        this.bookRepository = context.getBean(BookRepository.class);
+        this.bookRepository.saveAll(Arrays.asList(
+                new Book("The Stand", 1000),
+                new Book("The Shining", 600),
+                new Book("The Power of the Dog", 500),
+                new Book("The Border", 700),
+                new Book("Along Came a Spider", 300),
+                new Book("Pet Cemetery", 400),
+                new Book("A Game of Thrones", 900),
+                new Book("A Clash of Kings", 1100)
+        )).blockLast();
+    }
+
+    @AfterAll
+    void cleanup() {
+        this.context.close();
+    }
+
+    @Test
+    void bookCount() {
+        bookRepository.findByTitle("The Stand").block();
+        Assertions.assertEquals(
+                8,
+                bookRepository.count().block()
+        );
+    }
+
+}
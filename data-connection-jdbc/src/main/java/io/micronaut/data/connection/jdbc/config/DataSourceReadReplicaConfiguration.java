@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.jdbc.config;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The read replicas configuration of a data source.
+ *
+ * @since 4.12
+ */
+@EachProperty(value = DataSourceReadReplicaConfiguration.PREFIX, primary = "default")
+public class DataSourceReadReplicaConfiguration implements Named {
+
+    /**
+     * The prefix to use.
+     */
+    public static final String PREFIX = "datasources";
+
+    private static final Duration DEFAULT_REPLICA_LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    private final String name;
+    private List<String> readReplicas = Collections.emptyList();
+    @Nullable
+    private Duration maxReplicaLag;
+    @Nullable
+    private String replicaLagQuery;
+    private Duration replicaLagCheckInterval = DEFAULT_REPLICA_LAG_CHECK_INTERVAL;
+
+    /**
+     * The configuration.
+     *
+     * @param name The data source name
+     */
+    public DataSourceReadReplicaConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The names of the read replica data sources
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the read replica data sources. The read-only connections and transactions are routed
+     * to the replicas in the round-robin order, the read-write connections to this data source.
+     *
+     * @param readReplicas The names of the read replica data sources
+     */
+    public void setReadReplicas(@Nullable List<String> readReplicas) {
+        this.readReplicas = readReplicas == null ? Collections.emptyList() : readReplicas;
+    }
+
+    /**
+     * @return The maximum replication lag of a replica serving the read-only connections
+     */
+    @Nullable
+    public Duration getMaxReplicaLag() {
+        return maxReplicaLag;
+    }
+
+    /**
+     * Sets the maximum replication lag of a replica serving the read-only connections. A lagging replica is skipped
+     * until the next lag check. Requires {@link #setReplicaLagQuery(String)}. Defaults to no lag checks.
+     *
+     * @param maxReplicaLag The maximum replication lag
+     */
+    public void setMaxReplicaLag(@Nullable Duration maxReplicaLag) {
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    /**
+     * @return The query measuring the replication lag of a replica
+     */
+    @Nullable
+    public String getReplicaLagQuery() {
+        return replicaLagQuery;
+    }
+
+    /**
+     * Sets the query executed on a replica measuring its replication lag, the first column of the first row is the lag in seconds,
+     * no row or {@code NULL} is a zero lag. For example: {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())}.
+     *
+     * @param replicaLagQuery The lag query
+     */
+    public void setReplicaLagQuery(@Nullable String replicaLagQuery) {
+        this.replicaLagQuery = replicaLagQuery;
+    }
+
+    /**
+     * @return The interval of the replication lag checks
+     */
+    @NonNull
+    public Duration getReplicaLagCheckInterval() {
+        return replicaLagCheckInterval;
+    }
+
+    /**
+     * Sets the interval of the replication lag checks. Defaults to 5 seconds.
+     *
+     * @param replicaLagCheckInterval The interval
+     */
+    public void setReplicaLagCheckInterval(@Nullable Duration replicaLagCheckInterval) {
+        this.replicaLagCheckInterval = replicaLagCheckInterval == null ? DEFAULT_REPLICA_LAG_CHECK_INTERVAL : replicaLagCheckInterval;
+    }
+}
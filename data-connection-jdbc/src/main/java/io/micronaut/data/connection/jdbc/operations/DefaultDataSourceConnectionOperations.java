@@ -15,24 +15,36 @@
  */
 package io.micronaut.data.connection.jdbc.operations;
 
+import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.data.connection.exceptions.ConnectionException;
 import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
+import io.micronaut.data.connection.jdbc.config.DataSourceReadReplicaConfiguration;
 import io.micronaut.data.connection.jdbc.exceptions.CannotGetJdbcConnectionException;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.ConnectionSynchronization;
 import io.micronaut.data.connection.support.AbstractConnectionOperations;
 import io.micronaut.data.connection.support.JdbcConnectionUtils;
+import io.micronaut.data.connection.support.ReadReplicaRouter;
+import io.micronaut.data.connection.support.ReadReplicaSession;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The {@link DataSource} connection operations.
@@ -46,15 +58,57 @@ public final class DefaultDataSourceConnectionOperations extends AbstractConnect
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDataSourceConnectionOperations.class);
     private final DataSource dataSource;
+    @Nullable
+    private final ReadReplicaRouter<DataSource> readReplicaRouter;
 
-    DefaultDataSourceConnectionOperations(DataSource dataSource) {
+    DefaultDataSourceConnectionOperations(@Parameter String dataSourceName,
+                                          DataSource dataSource,
+                                          BeanContext beanContext) {
         this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource);
+        this.readReplicaRouter = beanContext.findBean(DataSourceReadReplicaConfiguration.class, Qualifiers.byName(dataSourceName))
+            .filter(configuration -> !configuration.getReadReplicas().isEmpty())
+            .map(configuration -> createReadReplicaRouter(dataSourceName, configuration, beanContext))
+            .orElse(null);
+    }
+
+    private static ReadReplicaRouter<DataSource> createReadReplicaRouter(String dataSourceName,
+                                                                         DataSourceReadReplicaConfiguration configuration,
+                                                                         BeanContext beanContext) {
+        String lagQuery = configuration.getReplicaLagQuery();
+        return new ReadReplicaRouter<>(
+            dataSourceName,
+            configuration.getReadReplicas(),
+            replicaName -> DelegatingDataSource.unwrapDataSource(beanContext.getBean(DataSource.class, Qualifiers.byName(replicaName))),
+            configuration.getMaxReplicaLag(),
+            configuration.getReplicaLagCheckInterval(),
+            lagQuery == null ? null : (replica, callback) -> probeReplicaLag(replica, lagQuery, callback)
+        );
+    }
+
+    private static void probeReplicaLag(DataSource replica, String lagQuery, Consumer<Duration> callback) {
+        Duration lag;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lag = ReadReplicaRouter.toLag(resultSet.next() ? resultSet.getObject(1) : null);
+        } catch (SQLException | RuntimeException e) {
+            LOG.warn("Failed to measure the replication lag of a read replica: {}", e.getMessage(), e);
+            lag = null;
+        }
+        callback.accept(lag);
     }
 
     @Override
     protected Connection openConnection(ConnectionDefinition definition) {
+        DataSource target = dataSource;
+        if (readReplicaRouter != null) {
+            DataSource replica = readReplicaRouter.route(definition, ReadReplicaSession.find(PropagatedContext.getOrEmpty()).orElse(null));
+            if (replica != null) {
+                target = replica;
+            }
+        }
         try {
-            return dataSource.getConnection();
+            return target.getConnection();
         } catch (SQLException e) {
             throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", e);
         }
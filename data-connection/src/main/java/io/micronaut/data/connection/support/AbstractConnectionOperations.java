@@ -50,6 +50,8 @@ public abstract class AbstractConnectionOperations<C> implements ConnectionOpera
 
     private final List<ConnectionCustomizer<C>> connectionCustomizers = new ArrayList<>(10);
 
+    private final List<ConnectionObserver> connectionObservers = new ArrayList<>(2);
+
     /**
      * Adds a connection customizer to the list of customizers that will be notified before or after a call to the underlying data repository
      * is issues.
@@ -65,6 +67,17 @@ public abstract class AbstractConnectionOperations<C> implements ConnectionOpera
         OrderUtil.sort(connectionCustomizers);
     }
 
+    /**
+     * Adds a connection observer that will be notified when a new connection is opened and closed.
+     *
+     * @param connectionObserver the connection observer to add
+     *
+     * @since 4.12
+     */
+    public void addConnectionObserver(@NonNull ConnectionObserver connectionObserver) {
+        connectionObservers.add(connectionObserver);
+    }
+
     /**
      * Opens a new connection.
      *
@@ -158,8 +171,7 @@ public abstract class AbstractConnectionOperations<C> implements ConnectionOpera
 
     private <R> R executeWithNewConnection(@NonNull ConnectionDefinition definition,
                                            @NonNull Function<ConnectionStatus<C>, R> callback) {
-        C connection = openConnection(definition);
-        DefaultConnectionStatus<C> status = new DefaultConnectionStatus<>(connection, definition, true);
+        DefaultConnectionStatus<C> status = openNewConnectionStatus(definition);
         try (PropagatedContext.Scope ignore = PropagatedContext.getOrEmpty()
             .plus(new ConnectionPropagatedContextElement<>(this, status))
             .propagate()) {
@@ -215,9 +227,31 @@ public abstract class AbstractConnectionOperations<C> implements ConnectionOpera
         }
     }
 
-    private DefaultConnectionStatus<C> openNewConnectionInternal(@NonNull ConnectionDefinition definition) {
+    private DefaultConnectionStatus<C> openNewConnectionStatus(@NonNull ConnectionDefinition definition) {
+        if (connectionObservers.isEmpty()) {
+            return new DefaultConnectionStatus<>(openConnection(definition), definition, true);
+        }
+        long start = System.nanoTime();
         C connection = openConnection(definition);
+        long opened = System.nanoTime();
+        for (ConnectionObserver connectionObserver : connectionObservers) {
+            connectionObserver.connectionOpened(definition, opened - start);
+        }
         DefaultConnectionStatus<C> status = new DefaultConnectionStatus<>(connection, definition, true);
+        status.registerSynchronization(new ConnectionSynchronization() {
+            @Override
+            public void afterClosed() {
+                long holdNanos = System.nanoTime() - opened;
+                for (ConnectionObserver connectionObserver : connectionObservers) {
+                    connectionObserver.connectionClosed(definition, holdNanos);
+                }
+            }
+        });
+        return status;
+    }
+
+    private DefaultConnectionStatus<C> openNewConnectionInternal(@NonNull ConnectionDefinition definition) {
+        DefaultConnectionStatus<C> status = openNewConnectionStatus(definition);
         ConnectionPropagatedContextElement<C> newConnectionContextElement = new ConnectionPropagatedContextElement<>(this, status);
         PropagatedContext.getOrEmpty().plus(newConnectionContextElement).propagate();
         status.registerSynchronization(new ConnectionSynchronization() {
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.connection.ConnectionDefinition;
+
+/**
+ * Observes the new connections opened by {@link AbstractConnectionOperations}, for example to record metrics.
+ *
+ * The durations are only measured when at least one observer is registered.
+ *
+ * @since 4.12
+ */
+@Experimental
+public interface ConnectionObserver {
+
+    /**
+     * Invoked after a new connection was opened.
+     *
+     * @param definition The connection definition
+     * @param waitNanos  The time spent opening or acquiring the connection in nanoseconds
+     */
+    default void connectionOpened(@NonNull ConnectionDefinition definition, long waitNanos) {
+    }
+
+    /**
+     * Invoked after a new connection was closed or returned to the pool.
+     *
+     * @param definition The connection definition
+     * @param holdNanos  The time the connection was held in nanoseconds
+     */
+    default void connectionClosed(@NonNull ConnectionDefinition definition, long holdNanos) {
+    }
+}
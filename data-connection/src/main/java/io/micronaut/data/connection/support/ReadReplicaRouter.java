@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.data.connection.ConnectionDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Routes the read-only connections of a data source to its read replicas.
+ * The replicas are selected in the round-robin order, the replicas lagging behind the primary more than the allowed maximum
+ * are skipped until the next lag check. The read-write connections, the read-only connections of a written {@link ReadReplicaSession}
+ * and the read-only connections without an available replica are routed to the primary.
+ *
+ * @param <T> The replica type
+ * @since 4.12
+ */
+@Internal
+public final class ReadReplicaRouter<T> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+    private final String dataSourceName;
+    private final List<Replica> replicas;
+    private final long maxLagNanos;
+    private final long lagCheckIntervalNanos;
+    @Nullable
+    private final LagProbe<T> lagProbe;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * The default constructor.
+     *
+     * @param dataSourceName   The primary data source name
+     * @param replicaNames     The replica names
+     * @param replicaResolver  The replica resolver, invoked lazily on the first use of the replica
+     * @param maxLag           The maximum allowed replica lag, null to disable the lag checks
+     * @param lagCheckInterval The lag check interval
+     * @param lagProbe         The lag probe, null to disable the lag checks
+     */
+    public ReadReplicaRouter(@NonNull String dataSourceName,
+                             @NonNull List<String> replicaNames,
+                             @NonNull Function<String, T> replicaResolver,
+                             @Nullable Duration maxLag,
+                             @NonNull Duration lagCheckInterval,
+                             @Nullable LagProbe<T> lagProbe) {
+        if (replicaNames.isEmpty()) {
+            throw new IllegalArgumentException("No read replicas configured for data source: " + dataSourceName);
+        }
+        this.dataSourceName = dataSourceName;
+        this.maxLagNanos = maxLag == null || lagProbe == null ? 0 : Math.max(1, maxLag.toNanos());
+        this.lagCheckIntervalNanos = lagCheckInterval.toNanos();
+        this.lagProbe = lagProbe;
+        List<Replica> replicas = new ArrayList<>(replicaNames.size());
+        for (String replicaName : replicaNames) {
+            replicas.add(new Replica(replicaName, SupplierUtil.memoized(() -> replicaResolver.apply(replicaName))));
+        }
+        this.replicas = replicas;
+    }
+
+    /**
+     * Routes the connection.
+     *
+     * @param definition The connection definition
+     * @param session    The read replica session
+     * @return The replica or null if the connection should be opened by the primary
+     */
+    @Nullable
+    public T route(@NonNull ConnectionDefinition definition, @Nullable ReadReplicaSession session) {
+        if (!definition.isReadOnly().orElse(false)) {
+            if (session != null) {
+                session.markWritten();
+            }
+            return null;
+        }
+        if (session != null && session.isWritten()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (maxLagNanos > 0) {
+                replica.checkLag();
+            }
+            if (replica.available) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Routing read-only connection of data source: {} to the read replica: {}", dataSourceName, replica.name);
+                }
+                return replica.target.get();
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("No read replica of data source: {} available, routing read-only connection to the primary", dataSourceName);
+        }
+        return null;
+    }
+
+    /**
+     * Converts the result of a lag query to the lag.
+     *
+     * @param seconds The lag in seconds, null is a zero lag
+     * @return The lag
+     */
+    @NonNull
+    public static Duration toLag(@Nullable Object seconds) {
+        if (seconds == null) {
+            return Duration.ZERO;
+        }
+        double value = seconds instanceof Number number ? number.doubleValue() : Double.parseDouble(seconds.toString());
+        return Duration.ofNanos((long) (Math.max(0, value) * 1_000_000_000L));
+    }
+
+    /**
+     * Measures the replication lag of a replica.
+     *
+     * @param <T> The replica type
+     */
+    @FunctionalInterface
+    public interface LagProbe<T> {
+
+        /**
+         * Measures the replication lag of the replica, the callback can be invoked asynchronously.
+         *
+         * @param replica  The replica
+         * @param callback The callback accepting the lag or null if the lag couldn't be measured
+         */
+        void probe(@NonNull T replica, @NonNull Consumer<Duration> callback);
+    }
+
+    private final class Replica {
+
+        private final String name;
+        private final Supplier<T> target;
+        private final AtomicLong nextLagCheck = new AtomicLong(System.nanoTime());
+        private volatile boolean available = true;
+
+        private Replica(String name, Supplier<T> target) {
+            this.name = name;
+            this.target = target;
+        }
+
+        private void checkLag() {
+            long now = System.nanoTime();
+            long nextCheck = nextLagCheck.get();
+            if (now - nextCheck < 0 || !nextLagCheck.compareAndSet(nextCheck, now + lagCheckIntervalNanos)) {
+                return;
+            }
+            lagProbe.probe(target.get(), lag -> {
+                boolean wasAvailable = available;
+                available = lag != null && lag.toNanos() <= maxLagNanos;
+                if (wasAvailable && !available) {
+                    LOG.warn("Read replica: {} of data source: {} excluded from routing, replication lag: {}", name, dataSourceName, lag == null ? "unknown" : lag);
+                } else if (!wasAvailable && available && LOG.isInfoEnabled()) {
+                    LOG.info("Read replica: {} of data source: {} included in routing, replication lag: {}", name, dataSourceName, lag);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.core.propagation.PropagatedContextElement;
+
+import java.util.Optional;
+
+/**
+ * The read replica session propagated for the duration of a unit of work, usually an HTTP request.
+ * Once a read-write connection is opened in the session, the following read-only connections of the same session
+ * are routed to the primary data source, so the unit of work reads its own writes regardless of the replica lag.
+ *
+ * <p>Without a session the read-only connections are always routed to the replicas.</p>
+ *
+ * @since 4.12
+ */
+@Experimental
+public final class ReadReplicaSession implements PropagatedContextElement {
+
+    private volatile boolean written;
+
+    /**
+     * Opens a new session in the current propagated context.
+     *
+     * @return The scope to close at the end of the session
+     */
+    @NonNull
+    public static PropagatedContext.Scope open() {
+        return PropagatedContext.getOrEmpty().plus(new ReadReplicaSession()).propagate();
+    }
+
+    /**
+     * Finds the session of the propagated context.
+     *
+     * @param propagatedContext The propagated context
+     * @return The session if present
+     */
+    @NonNull
+    public static Optional<ReadReplicaSession> find(@NonNull PropagatedContext propagatedContext) {
+        return propagatedContext.find(ReadReplicaSession.class);
+    }
+
+    /**
+     * Marks the session as written, the following read-only connections are routed to the primary data source.
+     */
+    public void markWritten() {
+        written = true;
+    }
+
+    /**
+     * @return Whether a read-write connection was opened in the session
+     */
+    public boolean isWritten() {
+        return written;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.support;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.condition.Condition;
+import io.micronaut.context.condition.ConditionContext;
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * A condition matching when a JDBC or an R2DBC data source has the read replicas configured.
+ *
+ * @since 4.12
+ */
+@Internal
+final class ReadReplicasConfiguredCondition implements Condition {
+
+    private static final String[] DATASOURCES = {"datasources", "r2dbc.datasources"};
+    private static final String READ_REPLICAS = "read-replicas";
+
+    @Override
+    public boolean matches(ConditionContext context) {
+        if (!(context.getBeanContext() instanceof ApplicationContext applicationContext)) {
+            return false;
+        }
+        for (String datasources : DATASOURCES) {
+            for (String dataSourceName : applicationContext.getPropertyEntries(datasources)) {
+                if (applicationContext.containsProperty(datasources + '.' + dataSourceName + '.' + READ_REPLICAS)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
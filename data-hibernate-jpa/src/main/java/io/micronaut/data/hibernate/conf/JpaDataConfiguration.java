@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate.conf;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Micronaut Data Hibernate JPA integration configuration.
+ *
+ * @since 4.12
+ */
+@ConfigurationProperties(JpaDataConfiguration.PREFIX)
+public class JpaDataConfiguration {
+
+    public static final String PREFIX = "micronaut.data.jpa";
+
+    private int writeBatchSize;
+
+    /**
+     * @return The number of the entities after which the session is flushed and cleared by the batch operations, 0 if disabled
+     */
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * Sets the number of the entities after which {@code persistAll}, {@code updateAll} and {@code deleteAll} flush and clear the session.
+     * Keeps the persistence context small when writing a large number of entities, the value should be aligned with
+     * {@code hibernate.jdbc.batch_size} so that each flush is executed as a JDBC batch. Defaults to 0, the session is not cleared.
+     * Can be overridden per method by {@link io.micronaut.data.jpa.annotation.WriteBatchSize}.
+     *
+     * @param writeBatchSize The write batch size
+     */
+    public void setWriteBatchSize(int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+}
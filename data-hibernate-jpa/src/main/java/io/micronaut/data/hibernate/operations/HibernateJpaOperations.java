@@ -27,8 +27,10 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.data.annotation.QueryHint;
 import io.micronaut.data.annotation.sql.Procedure;
+import io.micronaut.data.hibernate.conf.JpaDataConfiguration;
 import io.micronaut.data.hibernate.conf.RequiresSyncHibernate;
 import io.micronaut.data.jpa.annotation.EntityGraph;
+import io.micronaut.data.jpa.annotation.WriteBatchSize;
 import io.micronaut.data.jpa.operations.JpaRepositoryOperations;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
@@ -51,6 +53,7 @@ import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.convert.DataConversionService;
+import io.micronaut.data.runtime.operations.AsyncExecutorResolver;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperationsSupportingCriteria;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperationsSupportingCriteria;
@@ -100,6 +103,7 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
     private final TransactionOperations<Session> transactionOperations;
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
+    private final JpaDataConfiguration jpaDataConfiguration;
 
     /**
      * Default constructor.
@@ -109,18 +113,21 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
      * @param executorService       The executor service for I/O tasks to use
      * @param runtimeEntityRegistry The runtime entity registry
      * @param dataConversionService The data conversion service
+     * @param jpaDataConfiguration  The JPA data configuration
      */
     public HibernateJpaOperations(
         @NonNull @Parameter SessionFactory sessionFactory,
         @NonNull @Parameter TransactionOperations<Session> transactionOperations,
         @Named("io") @Nullable ExecutorService executorService,
         RuntimeEntityRegistry runtimeEntityRegistry,
-        DataConversionService dataConversionService) {
+        DataConversionService dataConversionService,
+        JpaDataConfiguration jpaDataConfiguration) {
         super(runtimeEntityRegistry, dataConversionService);
         ArgumentUtils.requireNonNull("sessionFactory", sessionFactory);
         this.sessionFactory = sessionFactory;
         this.transactionOperations = transactionOperations;
         this.executorService = executorService;
+        this.jpaDataConfiguration = jpaDataConfiguration;
     }
 
     @Override
@@ -367,9 +374,11 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
                 return executeUpdate(operation, session, storedQuery);
             }
             List<T> results = new ArrayList<>();
+            int writeBatchSize = getWriteBatchSize(operation.getAnnotationMetadata());
             for (T entity : operation) {
                 T merge = session.merge(entity);
                 results.add(merge);
+                flushBatchIfNecessary(session, writeBatchSize, results.size());
             }
             flushIfNecessary(session, operation.getAnnotationMetadata());
             return results;
@@ -396,14 +405,29 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
             if (storedQuery != null) {
                 return executeUpdate(operation, session, storedQuery);
             }
+            int writeBatchSize = getWriteBatchSize(operation.getAnnotationMetadata());
+            int count = 0;
             for (T entity : operation) {
                 session.persist(entity);
+                flushBatchIfNecessary(session, writeBatchSize, ++count);
             }
             flushIfNecessary(session, operation.getAnnotationMetadata());
             return operation;
         });
     }
 
+    private int getWriteBatchSize(AnnotationMetadata annotationMetadata) {
+        return annotationMetadata.intValue(WriteBatchSize.class).orElse(jpaDataConfiguration.getWriteBatchSize());
+    }
+
+    private void flushBatchIfNecessary(Session session, int writeBatchSize, int count) {
+        if (writeBatchSize > 0 && count % writeBatchSize == 0) {
+            // Write the batch and release the persistence context to keep the dirty checking cost and the memory flat
+            session.flush();
+            session.clear();
+        }
+    }
+
     private boolean flushIfNecessary(EntityManager entityManager, AnnotationMetadata annotationMetadata) {
         return flushIfNecessary(entityManager, annotationMetadata, false);
     }
@@ -530,10 +554,11 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
                 }
                 return i;
             }
+            int writeBatchSize = getWriteBatchSize(operation.getAnnotationMetadata());
             int i = 0;
             for (T entity : operation) {
                 session.remove(entity);
-                i++;
+                flushBatchIfNecessary(session, writeBatchSize, ++i);
             }
             return i;
         });
@@ -585,7 +610,7 @@ final class HibernateJpaOperations extends AbstractHibernateOperations<Session,
                     executorAsyncOperations = new ExecutorAsyncOperationsSupportingCriteria(
                         this,
                         this,
-                        executorService != null ? executorService : newLocalThreadPool()
+                        AsyncExecutorResolver.resolve(getApplicationContext(), executorService, this::newLocalThreadPool)
                     );
                     this.asyncOperations = executorAsyncOperations;
                 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate
+
+import io.micronaut.data.annotation.Repository
+import io.micronaut.data.jpa.annotation.WriteBatchSize
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.tck.entities.Person
+
+@Repository
+interface PersonBatchRepository extends CrudRepository<Person, Long> {
+
+    @WriteBatchSize(10)
+    @Override
+    <S extends Person> List<S> saveAll(Iterable<S> entities)
+
+    @WriteBatchSize(10)
+    @Override
+    <S extends Person> List<S> updateAll(Iterable<S> entities)
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import jakarta.persistence.EntityManager
+import org.hibernate.Session
+import spock.lang.Specification
+
+@MicronautTest(rollback = false, transactional = false, packages = "io.micronaut.data.tck.entities")
+@H2DBProperties
+@Property(name = "micronaut.data.jpa.write-batch-size", value = "5")
+class WriteBatchSizeSpec extends Specification {
+
+    @Inject
+    PersonBatchRepository batchRepository
+
+    @Inject
+    PersonCrudRepository crudRepository
+
+    @Inject
+    EntityManager entityManager
+
+    @Inject
+    TransactionOperations<Session> transactionOperations
+
+    def cleanup() {
+        crudRepository.deleteAll()
+    }
+
+    void "test persistAll flushes and clears the session every batch"() {
+        when:
+        def people = (1..25).collect { new Person(name: "Person $it", age: it) }
+        def managed = transactionOperations.executeWrite {
+            batchRepository.saveAll(people)
+            people.collect { entityManager.contains(it) }
+        }
+
+        then:
+        managed.count(false) == 20
+        managed.takeRight(5).every()
+        crudRepository.count() == 25
+    }
+
+    void "test updateAll flushes and clears the session every batch"() {
+        given:
+        def people = batchRepository.saveAll((1..15).collect { new Person(name: "Person $it", age: it) })
+        people.each { it.age = it.age + 100 }
+
+        when:
+        def managed = transactionOperations.executeWrite {
+            def updated = batchRepository.updateAll(people)
+            updated.collect { entityManager.contains(it) }
+        }
+
+        then:
+        managed.count(false) == 10
+        crudRepository.findAll().every { it.age > 100 }
+    }
+
+    void "test the configured batch size is used without the annotation"() {
+        when:
+        def people = (1..12).collect { new Person(name: "Person $it", age: it) }
+        def managed = transactionOperations.executeWrite {
+            crudRepository.saveAll(people)
+            people.collect { entityManager.contains(it) }
+        }
+
+        then:
+        managed.count(false) == 10
+        crudRepository.count() == 12
+    }
+}
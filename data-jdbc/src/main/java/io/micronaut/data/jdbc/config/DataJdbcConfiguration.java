@@ -22,6 +22,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.naming.Named;
 import io.micronaut.core.util.Toggleable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.config.SchemaGenerate;
 
 import java.util.ArrayList;
@@ -49,6 +50,14 @@ public class DataJdbcConfiguration implements Named, Toggleable {
     private String schemaGenerateName;
     @Nullable
     private List<String> schemaGenerateNames;
+    private boolean columnIndexMapping = false;
+    @Nullable
+    private Integer fetchSize;
+    private ResultSetType resultSetType = ResultSetType.FORWARD_ONLY;
+    private boolean streamingPrerequisites = true;
+    private ExpandableParameterPadding expandableParameterPadding = ExpandableParameterPadding.NONE;
+    private int multiRowInsertSize;
+    private boolean writeBehind = false;
 
     /**
      * If true, {@link javax.sql.DataSource#getConnection()} will be used in try-resource block for the operation.
@@ -190,4 +199,157 @@ public class DataJdbcConfiguration implements Named, Toggleable {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    /**
+     * @return Whether the entities are mapped by the column index resolved once per statement
+     * @since 4.12
+     */
+    public boolean isColumnIndexMapping() {
+        return columnIndexMapping;
+    }
+
+    /**
+     * Sets whether the entities should be mapped by the column index. The result set metadata is resolved once per statement
+     * and every row is read by the resolved column index instead of the column name. Defaults to false.
+     *
+     * @param columnIndexMapping Whether the entities are mapped by the column index
+     * @since 4.12
+     */
+    public void setColumnIndexMapping(boolean columnIndexMapping) {
+        this.columnIndexMapping = columnIndexMapping;
+    }
+
+    /**
+     * @return The fetch size of the query statements, null if the driver default is used
+     * @since 4.12
+     */
+    @Nullable
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the fetch size of the query statements executed by the repositories. Can be overridden per method by the
+     * {@link io.micronaut.data.jdbc.operations.JdbcQueryHints#FETCH_SIZE} query hint.
+     * Without a fetch size some drivers (PostgreSQL, MySQL) read the complete result into the memory.
+     *
+     * @param fetchSize The fetch size
+     * @since 4.12
+     */
+    public void setFetchSize(@Nullable Integer fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return The result set type of the query statements
+     * @since 4.12
+     */
+    @NonNull
+    public ResultSetType getResultSetType() {
+        return resultSetType;
+    }
+
+    /**
+     * Sets the result set type of the query statements. Defaults to {@link ResultSetType#FORWARD_ONLY}.
+     * Can be overridden per method by the {@link io.micronaut.data.jdbc.operations.JdbcQueryHints#RESULT_SET_TYPE} query hint.
+     *
+     * @param resultSetType The result set type
+     * @since 4.12
+     */
+    public void setResultSetType(@Nullable ResultSetType resultSetType) {
+        if (resultSetType != null) {
+            this.resultSetType = resultSetType;
+        }
+    }
+
+    /**
+     * @return Whether the dialect specific prerequisites for streaming are applied
+     * @since 4.12
+     */
+    public boolean isStreamingPrerequisites() {
+        return streamingPrerequisites;
+    }
+
+    /**
+     * Sets whether the dialect specific prerequisites are applied when a result is streamed with a fetch size
+     * by a connection opened for the operation. PostgreSQL only uses a cursor when the auto-commit is disabled,
+     * MySQL Connector/J streams the rows one by one with the {@link Integer#MIN_VALUE} fetch size unless the connection
+     * uses {@code useCursorFetch=true}.
+     * Defaults to true.
+     *
+     * @param streamingPrerequisites Whether the prerequisites are applied
+     * @since 4.12
+     */
+    public void setStreamingPrerequisites(boolean streamingPrerequisites) {
+        this.streamingPrerequisites = streamingPrerequisites;
+    }
+
+    /**
+     * @return The padding of the expanded collection parameters
+     * @since 4.12
+     */
+    @NonNull
+    public ExpandableParameterPadding getExpandableParameterPadding() {
+        return expandableParameterPadding;
+    }
+
+    /**
+     * Sets the padding of the expanded collection parameters ({@code IN (?, ?, ...)}). With {@link ExpandableParameterPadding#POWER_OF_TWO}
+     * the statements of different collection sizes share the same SQL, which keeps the statement and the plan caches small.
+     * Defaults to {@link ExpandableParameterPadding#NONE}.
+     *
+     * @param expandableParameterPadding The padding
+     * @since 4.12
+     */
+    public void setExpandableParameterPadding(@Nullable ExpandableParameterPadding expandableParameterPadding) {
+        if (expandableParameterPadding != null) {
+            this.expandableParameterPadding = expandableParameterPadding;
+        }
+    }
+
+    /**
+     * @return The maximum number of the rows inserted by one multi-row insert statement, 0 if disabled
+     * @since 4.12
+     */
+    public int getMultiRowInsertSize() {
+        return multiRowInsertSize;
+    }
+
+    /**
+     * Sets the maximum number of the rows inserted by one multi-row {@code INSERT ... VALUES (...), (...)} statement
+     * executed by {@code saveAll}. The entities are inserted in one round trip per chunk, including the dialects and the generated
+     * identities not supporting the JDBC batch. The size is limited by the maximum number of the statement parameters of the dialect.
+     * Supported by H2, MySQL, PostgreSQL and SQL Server without generated identities. Defaults to 0, disabled.
+     *
+     * @param multiRowInsertSize The multi-row insert size
+     * @since 4.12
+     */
+    public void setMultiRowInsertSize(int multiRowInsertSize) {
+        this.multiRowInsertSize = multiRowInsertSize;
+    }
+
+    /**
+     * @return Whether the entity writes of a transaction are batched until the next read or the commit
+     * @since 4.12
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Enables the transaction-scoped write-behind: the single entity {@code INSERT}, {@code UPDATE} and {@code DELETE} statements
+     * are queued and executed as JDBC batches before the next read, the next write not supporting it, an explicit
+     * {@link io.micronaut.data.jdbc.operations.JdbcRepositoryOperations#flush()} or the commit.
+     * Only applies to the entities without cascaded associations, without post-event listeners and without database generated identities.
+     * A queued operation returns the expected affected row count (1) without executing the statement, so an optimistic locking
+     * failure isn't thrown by the update or the delete, but by the flush, at the latest by the commit, which then fails
+     * and rolls back the transaction. The queue is flushed before the savepoint of a nested transaction is created and
+     * the rollback to the savepoint discards the statements queued after it. Defaults to false.
+     *
+     * @param writeBehind The write-behind
+     * @since 4.12
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.config;
+
+import java.sql.ResultSet;
+
+/**
+ * The type of the {@link ResultSet} created by the query statements.
+ *
+ * @since 4.12
+ */
+public enum ResultSetType {
+
+    /**
+     * See {@link ResultSet#TYPE_FORWARD_ONLY}.
+     */
+    FORWARD_ONLY(ResultSet.TYPE_FORWARD_ONLY),
+    /**
+     * See {@link ResultSet#TYPE_SCROLL_INSENSITIVE}.
+     */
+    SCROLL_INSENSITIVE(ResultSet.TYPE_SCROLL_INSENSITIVE),
+    /**
+     * See {@link ResultSet#TYPE_SCROLL_SENSITIVE}.
+     */
+    SCROLL_SENSITIVE(ResultSet.TYPE_SCROLL_SENSITIVE);
+
+    private final int type;
+
+    ResultSetType(int type) {
+        this.type = type;
+    }
+
+    /**
+     * @return The JDBC result set type constant
+     */
+    public int getType() {
+        return type;
+    }
+}
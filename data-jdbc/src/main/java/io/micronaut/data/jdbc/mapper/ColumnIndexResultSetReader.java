@@ -24,15 +24,19 @@ import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.mapper.ResultReader;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResolver;
 
 import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A reader that uses the column index.
@@ -40,7 +44,7 @@ import java.util.Date;
  * @author graemerocher
  * @since 1.0.0
  */
-public final class ColumnIndexResultSetReader implements ResultReader<ResultSet, Integer> {
+public final class ColumnIndexResultSetReader implements ResultReader<ResultSet, Integer>, SqlColumnIndexResolver<ResultSet> {
 
     private final ConversionService conversionService;
 
@@ -238,6 +242,21 @@ public final class ColumnIndexResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Override
+    public Map<String, Integer> resolveColumnIndexes(ResultSet resultSet) {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            Map<String, Integer> columnIndexes = new HashMap<>(columnCount * 2);
+            for (int i = 1; i <= columnCount; i++) {
+                columnIndexes.putIfAbsent(SqlColumnIndexResolver.normalizeColumnLabel(metaData.getColumnLabel(i)), i);
+            }
+            return columnIndexes;
+        } catch (SQLException e) {
+            throw new DataAccessException("Error reading the result set metadata: " + e.getMessage(), e);
+        }
+    }
+
     private DataAccessException exceptionForColumn(Integer index, Exception e) {
         return new DataAccessException("Error reading object for index [" + index + "] from result set: " + e.getMessage(), e);
     }
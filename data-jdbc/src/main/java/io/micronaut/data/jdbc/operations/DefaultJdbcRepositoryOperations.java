@@ -16,6 +16,7 @@
 package io.micronaut.data.jdbc.operations;
 
 import io.micronaut.aop.InvocationContext;
+import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
@@ -29,11 +30,13 @@ import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionOperations;
 import io.micronaut.data.connection.annotation.Connectable;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
+import io.micronaut.data.jdbc.config.ResultSetType;
 import io.micronaut.data.jdbc.convert.JdbcConversionContext;
 import io.micronaut.data.jdbc.mapper.ColumnIndexCallableResultReader;
 import io.micronaut.data.jdbc.mapper.ColumnIndexResultSetReader;
@@ -47,8 +50,9 @@ import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
-import io.micronaut.data.model.query.JoinPath;
+import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
@@ -72,6 +76,7 @@ import io.micronaut.data.operations.DeleteReturningRepositoryOperations;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
@@ -79,9 +84,11 @@ import io.micronaut.data.runtime.mapper.DTOMapper;
 import io.micronaut.data.runtime.mapper.ResultConsumer;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.data.runtime.mapper.TypeMapper;
+import io.micronaut.data.runtime.mapper.sql.EntitySnapshots;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
+import io.micronaut.data.runtime.operations.AsyncExecutorResolver;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
@@ -90,12 +97,16 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledSequenceAllocator;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
+import io.micronaut.data.runtime.operations.internal.sql.WindowCountOperations;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.json.JsonMapper;
 import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronization;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
 import jakarta.persistence.Tuple;
@@ -103,15 +114,20 @@ import jakarta.persistence.Tuple;
 import javax.sql.DataSource;
 import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -121,11 +137,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -145,8 +164,14 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     AsyncCapableRepository,
     ReactiveCapableRepository,
     AutoCloseable,
+    WindowCountOperations,
     SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultJdbcRepositoryOperations.JdbcOperationContext> {
 
+    /**
+     * The maximum pool size properties of the Hikari, Tomcat, DBCP and UCP datasources.
+     */
+    private static final List<String> POOL_SIZE_PROPERTIES = List.of("maximum-pool-size", "max-active", "max-total", "max-pool-size");
+
     private final ConnectionOperations<Connection> connectionOperations;
     private final TransactionOperations<Connection> transactionOperations;
     private final DataSource dataSource;
@@ -160,6 +185,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     private final ColumnIndexCallableResultReader columnIndexCallableResultReader;
     private final Map<Dialect, List<SqlExceptionMapper>> sqlExceptionMappers = new EnumMap<>(Dialect.class);
+    private final Map<Connection, WriteBehindQueue> writeBehindQueues = new ConcurrentHashMap<>();
+    private final Map<Connection, TransactionSnapshots> transactionSnapshots = new ConcurrentHashMap<>();
 
     /**
      * Default constructor.
@@ -240,12 +267,46 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return new ColumnNameExistenceAwareResultSetReader();
     }
 
+    @Override
+    protected boolean isColumnIndexMapping() {
+        return jdbcConfiguration.isColumnIndexMapping();
+    }
+
+    @Override
+    protected boolean isDynamicUpdateSupported() {
+        return true;
+    }
+
+    @Override
+    protected ExpandableParameterPadding getExpandableParameterPadding() {
+        return jdbcConfiguration.getExpandableParameterPadding();
+    }
+
+    @Override
+    protected int getMultiRowInsertSize() {
+        return jdbcConfiguration.getMultiRowInsertSize();
+    }
+
     @NonNull
     private ExecutorService newLocalThreadPool() {
         this.executorService = Executors.newCachedThreadPool();
         return executorService;
     }
 
+    /**
+     * @return The configured maximum size of the connection pool of the datasource, null if not configured
+     */
+    @Nullable
+    private Integer findPoolSize() {
+        for (String property : POOL_SIZE_PROPERTIES) {
+            Optional<Integer> poolSize = getApplicationContext().getProperty("datasources." + dataSourceName + "." + property, Integer.class);
+            if (poolSize.isPresent()) {
+                return poolSize.get();
+            }
+        }
+        return null;
+    }
+
     @Override
     protected Integer getFirstResultSetIndex() {
         return 1;
@@ -288,6 +349,22 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return op.getEntity();
     }
 
+    @Override
+    public <T> List<T> updateBatch(JdbcOperationContext ctx, Iterable<T> values, RuntimePersistentEntity<T> persistentEntity) {
+        SqlStoredQuery<T, T> storedQuery = resolveEntityUpdate(
+            ctx.annotationMetadata,
+            ctx.repositoryType,
+            persistentEntity.getIntrospection().getBeanType(),
+            persistentEntity
+        );
+        if (!isSupportsBatchUpdate(persistentEntity, storedQuery)) {
+            return SyncCascadeOperations.SyncCascadeOperationsHelper.super.updateBatch(ctx, values, persistentEntity);
+        }
+        JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, values, storedQuery);
+        op.update();
+        return op.getEntities();
+    }
+
     @Override
     public void persistManyAssociation(JdbcOperationContext ctx,
                                        RuntimeAssociation runtimeAssociation,
@@ -316,6 +393,45 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
     }
 
+    @Override
+    public void persistManyAssociationsBatch(JdbcOperationContext ctx,
+                                             RuntimeAssociation runtimeAssociation,
+                                             List<Object> values, RuntimePersistentEntity<Object> persistentEntity,
+                                             List<? extends Iterable<Object>> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        if (values.isEmpty()) {
+            return;
+        }
+        // The association insert differs only by the parent values, all the rows are added to one batch
+        List<SqlStoredQuery<Object, ?>> storedQueries = new ArrayList<>(values.size());
+        for (Object value : values) {
+            storedQueries.add(resolveSqlInsertAssociation(ctx.repositoryType, runtimeAssociation, persistentEntity, value));
+        }
+        SqlStoredQuery<Object, ?> firstStoredQuery = storedQueries.get(0);
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing SQL query: {}", firstStoredQuery.getQuery());
+        }
+        try (PreparedStatement ps = ctx.connection.prepareStatement(firstStoredQuery.getQuery())) {
+            int batchSize = 0;
+            for (int i = 0; i < storedQueries.size(); i++) {
+                SqlStoredQuery<Object, ?> storedQuery = storedQueries.get(i);
+                for (Object child : children.get(i)) {
+                    if (ctx.persisted.contains(child)) {
+                        continue;
+                    }
+                    storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, storedQuery), ctx.invocationContext, child, null);
+                    ps.addBatch();
+                    batchSize++;
+                }
+            }
+            if (batchSize > 0) {
+                int rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
+                observeRowsWritten(ctx.repositoryType, ctx.methodName(firstStoredQuery), rowsUpdated, batchSize);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("SQL error executing INSERT: " + e.getMessage(), e);
+        }
+    }
+
     @NonNull
     @Override
     public ExecutorAsyncOperations async() {
@@ -326,7 +442,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                         this,
-                        executorService != null ? executorService : newLocalThreadPool()
+                        AsyncExecutorResolver.resolve(getApplicationContext(), executorService, this::newLocalThreadPool, findPoolSize())
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -345,13 +461,73 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> pq) {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(pq);
+        Object cachedId = schemaTenantResolver == null ? findCachedEntityId(sqlPreparedQuery) : null;
+        if (cachedId != null) {
+            return findCachedOne(sqlPreparedQuery, cachedId);
+        }
         return executeRead(connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext());
     }
 
+    private <T, R> R findCachedOne(SqlPreparedQuery<T, R> preparedQuery, Object id) {
+        RuntimePersistentEntity<R> persistentEntity = (RuntimePersistentEntity<R>) preparedQuery.getPersistentEntity();
+        // The entity is only cached if no entity of its type is written until it's read
+        long generation = entityCache.generation(persistentEntity);
+        if (transactionOperations.findTransactionStatus().isEmpty()) {
+            R cached = entityCache.get(null, persistentEntity, id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return executeRead(connection -> {
+            TransactionStatus<?> status = findCommittingTransaction(connection);
+            R result = entityCache.get(status, persistentEntity, id);
+            if (result == null) {
+                result = findOne(connection, preparedQuery);
+                if (result != null) {
+                    entityCache.put(status, persistentEntity, id, result, generation);
+                }
+            }
+            return result;
+        }, preparedQuery.getInvocationContext());
+    }
+
+    /**
+     * Finds the transaction the writes on the connection are committed by.
+     *
+     * @param connection The connection
+     * @return The transaction status or null if the connection is committing every statement
+     */
+    @Nullable
+    private TransactionStatus<?> findCommittingTransaction(Connection connection) {
+        try {
+            if (connection.getAutoCommit()) {
+                return null;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Error reading the auto-commit mode: " + e.getMessage(), e);
+        }
+        TransactionStatus<?> status = transactionOperations.findTransactionStatus().orElse(null);
+        return status != null && status.getConnection() == connection ? status : null;
+    }
+
+    private void evictCachedEntities(Connection connection, SqlPreparedQuery<?, ?> preparedQuery) {
+        if (isCachedEntityWrite(preparedQuery.getPersistentEntity(), preparedQuery)) {
+            evictCachedEntities(findCommittingTransaction(connection), preparedQuery);
+        }
+    }
+
+    private <T> void evictCachedEntity(Connection connection, RuntimePersistentEntity<T> persistentEntity, SqlStoredQuery<T, ?> storedQuery, T entity) {
+        if (isCachedEntityWrite(persistentEntity, storedQuery)) {
+            evictCachedEntity(findCommittingTransaction(connection), persistentEntity, storedQuery, entity);
+        }
+    }
+
     private <T, R> R findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            long start = observationStart();
             try (ResultSet rs = ps.executeQuery()) {
+                long mapStart = observeQueryExecuted(preparedQuery.getRepositoryType(), preparedQuery.getName(), start);
                 SqlTypeMapper<ResultSet, R> mapper = createMapper(preparedQuery, ResultSet.class);
                 R result;
                 if (mapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
@@ -374,6 +550,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
                         .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
                 }
+                observeResultMapped(preparedQuery.getRepositoryType(), preparedQuery.getName(), result == null ? 0 : 1, mapStart);
                 return result;
             }
         } catch (SQLException e) {
@@ -382,9 +559,15 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T, R> List<R> findAll(Connection connection, SqlPreparedQuery<T, R> preparedQuery, boolean applyPageable) {
-        try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, !applyPageable, false)) {
+        try (PreparedStatement ps = prepareQueryStatement(connection, preparedQuery, !applyPageable, resolveFetchSize(preparedQuery))) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
-            return findAll(preparedQuery, ps);
+            long start = observationStart();
+            try (ResultSet rs = ps.executeQuery()) {
+                long mapStart = observeQueryExecuted(preparedQuery.getRepositoryType(), preparedQuery.getName(), start);
+                List<R> result = findAll(preparedQuery, rs);
+                observeResultMapped(preparedQuery.getRepositoryType(), preparedQuery.getName(), result.size(), mapStart);
+                return result;
+            }
         } catch (Throwable e) {
             throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
         }
@@ -398,11 +581,21 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     @NonNull
     private <T, R> List<R> findAll(SqlStoredQuery<T, R> sqlStoredQuery, ResultSet rs) throws SQLException {
+        return findAll(sqlStoredQuery, rs, null);
+    }
+
+    @NonNull
+    private <T, R> List<R> findAll(SqlStoredQuery<T, R> sqlStoredQuery, ResultSet rs, @Nullable LongConsumer windowCountConsumer) throws SQLException {
         SqlTypeMapper<ResultSet, R> mapper = createMapper(sqlStoredQuery, ResultSet.class);
         List<R> result;
+        boolean readWindowCount = windowCountConsumer != null;
         if (mapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
             SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
             while (rs.next()) {
+                if (readWindowCount) {
+                    windowCountConsumer.accept(rs.getLong(SqlQueryBuilder2.WINDOW_COUNT_ALIAS));
+                    readWindowCount = false;
+                }
                 manyMapper.processRow(rs);
             }
             result = manyMapper.getResult();
@@ -412,6 +605,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         } else {
             result = new ArrayList<>();
             while (rs.next()) {
+                if (readWindowCount) {
+                    windowCountConsumer.accept(rs.getLong(SqlQueryBuilder2.WINDOW_COUNT_ALIAS));
+                    readWindowCount = false;
+                }
                 result.add(
                     mapper.map(rs, sqlStoredQuery.getResultType())
                 );
@@ -455,34 +652,89 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
 
-        PreparedStatement ps;
+        // Rows of the "many" joins can be aggregated incrementally only if they are ordered by the root entity
+        boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, preparedQuery.getJoinPaths());
+        boolean incrementalJoins = !onlySingleEndedJoins && preparedQuery.attachIdentityOrder();
+
+        PreparedStatement preparedStatement = null;
+        boolean autoCommitDisabled = false;
         try {
-            ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
-            preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            Integer fetchSize = resolveFetchSize(preparedQuery);
+            autoCommitDisabled = applyStreamingPrerequisites(connection, preparedQuery, fetchSize, closeConnection);
+            fetchSize = resolveStreamingFetchSize(connection, preparedQuery, fetchSize, closeConnection);
+            preparedStatement = prepareQueryStatement(connection, preparedQuery, false, fetchSize);
+            preparedQuery.bindParameters(new JdbcParameterBinder(connection, preparedStatement, preparedQuery));
         } catch (Exception e) {
+            // Restore the auto-commit and release the statement and the owned connection before propagating the failure
+            closeResultSet(connection, preparedStatement, null, finished, closeConnection, autoCommitDisabled, e);
             throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
         }
+        PreparedStatement ps = preparedStatement;
+        boolean resetAutoCommit = autoCommitDisabled;
 
         ResultSet openedRs = null;
         ResultSet rs;
         try {
+            long start = observationStart();
             openedRs = ps.executeQuery();
             rs = openedRs;
+            long mapStart = observeQueryExecuted(preparedQuery.getRepositoryType(), preparedQuery.getName(), start);
+            StreamObservation observation = new StreamObservation(preparedQuery.getRepositoryType(), preparedQuery.getName());
             SqlResultConsumer<R> sqlMappingConsumer = preparedQuery.hasResultConsumer() ? preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class).orElse(null) : null;
             SqlTypeMapper<ResultSet, R> resultMapper = createMapper(preparedQuery, ResultSet.class);
-            if (resultMapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
-                Set<JoinPath> joinFetchPaths = preparedQuery.getJoinPaths();
-                boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
-                // Cannot stream ResultSet for "many" joined query
-                if (!onlySingleEndedJoins) {
+            if (resultMapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper && !onlySingleEndedJoins) {
+                if (incrementalJoins) {
+                    SqlResultEntityTypeMapper.IncrementalMapper<ResultSet, R> manyMapper = entityTypeMapper.readManyIncrementalMapper();
+                    Spliterator<R> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE) {
+                        @Override
+                        public boolean tryAdvance(Consumer<? super R> action) {
+                            if (finished.get()) {
+                                return false;
+                            }
+                            long rowStart = observationStart();
+                            try {
+                                while (rs.next()) {
+                                    R o = manyMapper.processRow(rs);
+                                    if (o != null) {
+                                        observation.mapped(rowStart);
+                                        action.accept(o);
+                                        return true;
+                                    }
+                                }
+                            } catch (SQLException e) {
+                                throw new DataAccessException("Error reading SQL result: " + e.getMessage(), e);
+                            }
+                            R last = manyMapper.complete();
+                            if (last != null) {
+                                observation.mapped(rowStart);
+                            }
+                            observation.complete();
+                            closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit);
+                            if (last != null) {
+                                action.accept(last);
+                                return true;
+                            }
+                            return false;
+                        }
+                    };
+                    return StreamSupport.stream(spliterator, false)
+                        .onClose(() -> {
+                            observation.complete();
+                            closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit);
+                        });
+                } else {
+                    // Cannot stream ResultSet for "many" joined query that is not ordered by the root entity
                     try {
                         SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
                         while (rs.next()) {
                             manyMapper.processRow(rs);
                         }
-                        return manyMapper.getResult().stream();
+                        List<R> result = manyMapper.getResult();
+                        observeResultMapped(preparedQuery.getRepositoryType(), preparedQuery.getName(), result.size(), mapStart);
+                        return result.stream();
                     } finally {
-                        closeResultSet(connection, ps, rs, finished, closeConnection);
+                        closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit);
                     }
                 }
             }
@@ -494,45 +746,197 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     if (finished.get()) {
                         return false;
                     }
+                    long rowStart = observationStart();
                     boolean hasNext = resultMapper.hasNext(rs);
                     if (hasNext) {
                         R o = resultMapper.map(rs, resultType);
                         if (sqlMappingConsumer != null) {
                             sqlMappingConsumer.accept(o, newMappingContext(rs));
                         }
+                        observation.mapped(rowStart);
                         action.accept(o);
                     } else {
-                        closeResultSet(connection, ps, rs, finished, closeConnection);
+                        observation.complete();
+                        closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit);
                     }
                     return hasNext;
                 }
             };
             return StreamSupport.stream(spliterator, false)
-                .onClose(() -> closeResultSet(connection, ps, rs, finished, closeConnection));
+                .onClose(() -> {
+                    observation.complete();
+                    closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit);
+                });
         } catch (Exception e) {
-            closeResultSet(connection, ps, openedRs, finished, closeConnection);
+            closeResultSet(connection, ps, openedRs, finished, closeConnection, resetAutoCommit, e);
             throw new DataAccessException("SQL Error executing Query: " + e.getMessage(), e);
         }
     }
 
-    private void closeResultSet(Connection connection, PreparedStatement ps, ResultSet rs, AtomicBoolean finished, boolean closeConnection) {
-        if (finished.compareAndSet(false, true)) {
+    private void closeResultSet(Connection connection, PreparedStatement ps, ResultSet rs, AtomicBoolean finished, boolean closeConnection, boolean resetAutoCommit) {
+        closeResultSet(connection, ps, rs, finished, closeConnection, resetAutoCommit, null);
+    }
+
+    /**
+     * Closes the result set and the statement, restores the auto-commit and closes the owned connection.
+     * Every step is attempted even if the previous one fails.
+     *
+     * @param failure The failure being propagated, the close errors are added as suppressed, or null to throw the first close error
+     */
+    private void closeResultSet(Connection connection,
+                                @Nullable PreparedStatement ps,
+                                @Nullable ResultSet rs,
+                                AtomicBoolean finished,
+                                boolean closeConnection,
+                                boolean resetAutoCommit,
+                                @Nullable Exception failure) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        SQLException closeFailure = null;
+        if (rs != null) {
             try {
-                if (rs != null) {
-                    rs.close();
-                }
-                if (ps != null) {
-                    ps.close();
-                }
-                if (closeConnection) {
-                    connection.close();
+                rs.close();
+            } catch (SQLException e) {
+                closeFailure = e;
+            }
+        }
+        if (ps != null) {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                closeFailure = addCloseFailure(closeFailure, e);
+            }
+        }
+        if (resetAutoCommit) {
+            try {
+                if (failure == null) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
                 }
             } catch (SQLException e) {
-                throw new DataAccessException("Error closing JDBC result stream: " + e.getMessage(), e);
+                closeFailure = addCloseFailure(closeFailure, e);
+            }
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                closeFailure = addCloseFailure(closeFailure, e);
+            }
+        }
+        if (closeConnection) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                closeFailure = addCloseFailure(closeFailure, e);
+            }
+        }
+        if (closeFailure != null) {
+            if (failure != null) {
+                failure.addSuppressed(closeFailure);
+            } else {
+                throw new DataAccessException("Error closing JDBC result stream: " + closeFailure.getMessage(), closeFailure);
             }
         }
     }
 
+    private static SQLException addCloseFailure(@Nullable SQLException closeFailure, SQLException e) {
+        if (closeFailure == null) {
+            return e;
+        }
+        closeFailure.addSuppressed(e);
+        return closeFailure;
+    }
+
+    private <T, R> PreparedStatement prepareQueryStatement(Connection connection,
+                                                           SqlPreparedQuery<T, R> preparedQuery,
+                                                           boolean isUpdate,
+                                                           @Nullable Integer fetchSize) throws SQLException {
+        int resultSetType = resolveResultSetType(preparedQuery).getType();
+        PreparedStatement ps = prepareStatement(
+            sql -> connection.prepareStatement(sql, resultSetType, ResultSet.CONCUR_READ_ONLY),
+            preparedQuery,
+            isUpdate,
+            false
+        );
+        if (fetchSize != null) {
+            try {
+                ps.setFetchSize(fetchSize);
+            } catch (SQLException e) {
+                ps.close();
+                throw e;
+            }
+        }
+        return ps;
+    }
+
+    @Nullable
+    private Integer resolveFetchSize(SqlStoredQuery<?, ?> storedQuery) {
+        Object fetchSize = storedQuery.getQueryHints().get(JdbcQueryHints.FETCH_SIZE);
+        if (fetchSize != null) {
+            return conversionService.convertRequired(fetchSize, Integer.class);
+        }
+        return jdbcConfiguration.getFetchSize();
+    }
+
+    private ResultSetType resolveResultSetType(SqlStoredQuery<?, ?> storedQuery) {
+        Object resultSetType = storedQuery.getQueryHints().get(JdbcQueryHints.RESULT_SET_TYPE);
+        if (resultSetType != null) {
+            return conversionService.convertRequired(resultSetType, ResultSetType.class);
+        }
+        return jdbcConfiguration.getResultSetType();
+    }
+
+    /**
+     * PostgreSQL only fetches the result in chunks by a cursor when the auto-commit is disabled.
+     *
+     * @return true if the auto-commit was disabled and needs to be reset after the result is consumed
+     */
+    private boolean applyStreamingPrerequisites(Connection connection,
+                                                SqlStoredQuery<?, ?> storedQuery,
+                                                @Nullable Integer fetchSize,
+                                                boolean ownsConnection) throws SQLException {
+        if (ownsConnection
+            && fetchSize != null
+            && fetchSize > 0
+            && jdbcConfiguration.isStreamingPrerequisites()
+            && storedQuery.getDialect() == Dialect.POSTGRES
+            && connection.getAutoCommit()) {
+            connection.setAutoCommit(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * MySQL Connector/J reads the complete result into the memory unless the fetch size is {@link Integer#MIN_VALUE},
+     * which streams the rows one by one, or the connection is opened with {@code useCursorFetch=true}.
+     * The streamed result blocks any other statement of the connection, it's only used with a connection opened for the operation.
+     *
+     * @return The fetch size of the streamed query
+     */
+    @Nullable
+    private Integer resolveStreamingFetchSize(Connection connection,
+                                              SqlStoredQuery<?, ?> storedQuery,
+                                              @Nullable Integer fetchSize,
+                                              boolean ownsConnection) throws SQLException {
+        if (ownsConnection
+            && fetchSize != null
+            && fetchSize > 0
+            && jdbcConfiguration.isStreamingPrerequisites()
+            && storedQuery.getDialect() == Dialect.MYSQL
+            && resolveResultSetType(storedQuery) == ResultSetType.FORWARD_ONLY) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String driverName = metaData.getDriverName();
+            String url = metaData.getURL();
+            if (driverName != null && driverName.startsWith("MySQL Connector")
+                && (url == null || !url.contains("useCursorFetch=true"))) {
+                return Integer.MIN_VALUE;
+            }
+        }
+        return fetchSize;
+    }
+
     @NonNull
     @Override
     public <T, R> Iterable<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
@@ -540,10 +944,46 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executeRead(connection -> findAll(connection, sqlPreparedQuery, true), sqlPreparedQuery.getInvocationContext());
     }
 
+    @Nullable
+    @Override
+    public <T, R> WindowCountResult<R> findAllWithWindowCount(@NonNull PreparedQuery<T, R> pq) {
+        SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        SqlQueryBuilder2 queryBuilder = preparedQuery.getQueryBuilder();
+        if (preparedQuery.getResultDataType() != DataType.ENTITY || preparedQuery.isCount()
+            || !preparedQuery.getJoinFetchPaths().isEmpty() || queryBuilder.buildWindowCountSelect(preparedQuery.getQuery()) == null) {
+            return null;
+        }
+        return executeRead(connection -> {
+            int resultSetType = resolveResultSetType(preparedQuery).getType();
+            try (PreparedStatement ps = prepareStatement(
+                sql -> connection.prepareStatement(queryBuilder.buildWindowCountSelect(sql), resultSetType, ResultSet.CONCUR_READ_ONLY),
+                preparedQuery,
+                false,
+                false
+            )) {
+                preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+                long start = observationStart();
+                try (ResultSet rs = ps.executeQuery()) {
+                    long mapStart = observeQueryExecuted(preparedQuery.getRepositoryType(), preparedQuery.getName(), start);
+                    AtomicLong totalCount = new AtomicLong(-1);
+                    List<R> result = findAll(preparedQuery, rs, totalCount::set);
+                    observeResultMapped(preparedQuery.getRepositoryType(), preparedQuery.getName(), result.size(), mapStart);
+                    return new WindowCountResult<>(result, totalCount.get() == -1 ? null : totalCount.get());
+                }
+            } catch (SQLException e) {
+                throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
+            }
+        }, preparedQuery.getInvocationContext());
+    }
+
     @NonNull
     @Override
     public Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
         SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
+        int identityDeleteSize = getIdentityDeleteSize(preparedQuery);
+        if (identityDeleteSize > 0) {
+            return executeWrite(connection -> Optional.of(executeIdentityDelete(connection, preparedQuery, identityDeleteSize)), preparedQuery.getInvocationContext());
+        }
         return executeWrite(connection -> {
             try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
                 preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
@@ -551,9 +991,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (QUERY_LOG.isTraceEnabled()) {
                     QUERY_LOG.trace("Update operation updated {} records", result);
                 }
+                observeRowsWritten(preparedQuery.getRepositoryType(), preparedQuery.getName(), result, 0);
                 if (preparedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, result);
                 }
+                evictCachedEntities(connection, preparedQuery);
                 return Optional.of(result);
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, preparedQuery.getDialect(), sqlException -> new DataAccessException("Error executing SQL UPDATE: " + sqlException.getMessage(), sqlException));
@@ -561,6 +1003,30 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }, preparedQuery.getInvocationContext());
     }
 
+    private int executeIdentityDelete(Connection connection, SqlPreparedQuery<?, Number> preparedQuery, int chunkSize) {
+        List<Object> identities = getDeletedIdentities(preparedQuery);
+        int result = 0;
+        for (int from = 0; from < identities.size(); from += chunkSize) {
+            List<Object> chunk = identities.subList(from, Math.min(identities.size(), from + chunkSize));
+            String query = buildIdentityDelete(preparedQuery, chunk.size());
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(query)) {
+                bindIdentities(new JdbcParameterBinder(connection, ps, preparedQuery), preparedQuery, chunk);
+                result += ps.executeUpdate();
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, preparedQuery.getDialect(), sqlException -> new DataAccessException("Error executing SQL DELETE: " + sqlException.getMessage(), sqlException));
+            }
+        }
+        if (QUERY_LOG.isTraceEnabled()) {
+            QUERY_LOG.trace("Delete operation deleted {} records", result);
+        }
+        observeRowsWritten(preparedQuery.getRepositoryType(), preparedQuery.getName(), result, 0);
+        evictCachedEntities(connection, preparedQuery);
+        return result;
+    }
+
     @Override
     public <R> List<R> execute(PreparedQuery<?, R> pq) {
         SqlPreparedQuery<?, R> preparedQuery = getSqlPreparedQuery(pq);
@@ -569,7 +1035,9 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (preparedQuery.isProcedure()) {
                     return callProcedure(connection, preparedQuery);
                 } else {
-                    return findAll(connection, preparedQuery, false);
+                    List<R> result = findAll(connection, preparedQuery, false);
+                    evictCachedEntities(connection, preparedQuery);
+                    return result;
                 }
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, preparedQuery.getDialect(), sqlException -> new DataAccessException("Error executing SQL UPDATE: " + sqlException.getMessage(), sqlException));
@@ -613,6 +1081,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+            int multiRowDeleteSize = getMultiRowDeleteSize(persistentEntity, storedQuery);
+            if (multiRowDeleteSize > 0) {
+                JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery, false, multiRowDeleteSize);
+                op.delete();
+                return op.rowsUpdated;
+            }
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                 JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.delete();
@@ -635,9 +1109,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
+            op.writeBehind = true;
             op.delete();
             return op;
-        }, operation.getInvocationContext()).rowsUpdated;
+        }, operation.getInvocationContext(), false).rowsUpdated;
     }
 
     @Override
@@ -677,10 +1152,45 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executeWrite(connection -> {
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
-            JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
-            op.update();
-            return op.getEntity();
-        }, operation.getInvocationContext());
+            return updateEntity(ctx, storedQuery, operation.getEntity(), true);
+        }, operation.getInvocationContext(), false);
+    }
+
+    private <T> T updateEntity(JdbcOperationContext ctx, SqlStoredQuery<T, ?> storedQuery, T entity, boolean writeBehind) {
+        RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+        boolean dynamicUpdate = EntitySnapshots.isDynamicUpdate(persistentEntity);
+        TransactionStatus<?> status = dynamicUpdate ? findCommittingTransaction(ctx.connection) : null;
+        Object[] snapshot = null;
+        if (dynamicUpdate) {
+            // The entity updated by the transaction is compared with its last update instead of the committed snapshot
+            TransactionSnapshots transaction = status == null ? null : transactionSnapshots.get(ctx.connection);
+            snapshot = transaction != null && transaction.contains(entity) ? transaction.get(entity) : entitySnapshots.find(entity);
+        }
+        SqlStoredQuery<T, ?> updateQuery = resolveDynamicUpdate(ctx.annotationMetadata, ctx.repositoryType, storedQuery, entity, snapshot);
+        if (updateQuery == null) {
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Skipping the update of unchanged entity: {}", entity);
+            }
+            return entity;
+        }
+        JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, entity, updateQuery);
+        op.writeBehind = writeBehind;
+        op.update();
+        T updatedEntity = op.getEntity();
+        Object[] updatedSnapshot = dynamicUpdate ? entitySnapshots.snapshot(persistentEntity, updatedEntity) : null;
+        if (updatedSnapshot != null) {
+            if (status == null) {
+                entitySnapshots.store(updatedEntity, updatedSnapshot);
+            } else {
+                // The update can still be rolled back, the snapshot is stored after the commit
+                transactionSnapshots.computeIfAbsent(ctx.connection, connection -> {
+                    TransactionSnapshots transaction = new TransactionSnapshots(connection);
+                    status.registerSynchronization(transaction);
+                    return transaction;
+                }).updated(updatedEntity, updatedSnapshot);
+            }
+        }
+        return updatedEntity;
     }
 
     @NonNull
@@ -690,6 +1200,13 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            if (EntitySnapshots.isDynamicUpdate(persistentEntity)) {
+                // Each entity has its own changed columns
+                return operation.split()
+                    .stream()
+                    .map(updateOp -> updateEntity(ctx, storedQuery, updateOp.getEntity(), false))
+                    .toList();
+            }
             if (!isSupportsBatchUpdate(persistentEntity, storedQuery)) {
                 return operation.split()
                     .stream()
@@ -713,9 +1230,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, storedQuery.getPersistentEntity(), operation.getEntity(), true);
+            op.writeBehind = true;
             op.persist();
             return op;
-        }, operation.getInvocationContext()).getEntity();
+        }, operation.getInvocationContext(), false).getEntity();
     }
 
     @Nullable
@@ -753,6 +1271,12 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            int multiRowInsertSize = getMultiRowInsertSize(persistentEntity, storedQuery);
+            if (multiRowInsertSize > 0) {
+                JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery, true, multiRowInsertSize);
+                op.persist();
+                return op.getEntities();
+            }
             if (!isSupportsBatchInsert(persistentEntity, storedQuery)) {
                 return operation.split().stream()
                     .map(persistOp -> {
@@ -777,21 +1301,96 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return connectionOperations.execute(ConnectionDefinition.READ_ONLY.withAnnotationMetadata(annotationMetadata), status -> {
             Connection connection = status.getConnection();
             applySchema(connection);
+            flushWriteBehind(connection);
             return fn.apply(connection);
         });
     }
 
     private <I> I executeWrite(Function<Connection, I> fn, AnnotationMetadata annotationMetadata) {
+        return executeWrite(fn, annotationMetadata, true);
+    }
+
+    /**
+     * Executes the write operation.
+     *
+     * @param fn                 The operation
+     * @param annotationMetadata The annotation metadata
+     * @param flushWriteBehind   Whether to flush the write-behind queue before the operation,
+     *                           the single entity operations are flushing it only if they cannot be queued
+     * @param <I>                The result type
+     * @return The result
+     */
+    private <I> I executeWrite(Function<Connection, I> fn, AnnotationMetadata annotationMetadata, boolean flushWriteBehind) {
         if (!jdbcConfiguration.isAllowConnectionPerOperation() && connectionOperations.findConnectionStatus().isEmpty()) {
             throw connectionNotFoundAndNewNotAllowed();
         }
         return connectionOperations.execute(ConnectionDefinition.DEFAULT.withAnnotationMetadata(annotationMetadata), status -> {
             Connection connection = status.getConnection();
             applySchema(connection);
+            if (flushWriteBehind) {
+                flushWriteBehind(connection);
+            }
             return fn.apply(connection);
         });
     }
 
+    @Override
+    public void flush() {
+        if (!writeBehindQueues.isEmpty() && transactionOperations.hasConnection()) {
+            flushWriteBehind(transactionOperations.getConnection());
+        }
+    }
+
+    private void flushWriteBehind(Connection connection) {
+        if (writeBehindQueues.isEmpty()) {
+            return;
+        }
+        WriteBehindQueue queue = writeBehindQueues.get(connection);
+        if (queue != null) {
+            queue.flush();
+        }
+    }
+
+    /**
+     * Finds the write-behind queue of the transaction in progress if the entity operation can be queued.
+     *
+     * @param connection         The connection
+     * @param persistentEntity   The persistent entity
+     * @param storedQuery        The stored query
+     * @param returnsGeneratedId Whether the insert is reading the generated identity
+     * @return The queue or null if the operation needs to be executed immediately
+     */
+    @Nullable
+    private WriteBehindQueue findWriteBehindQueue(Connection connection,
+                                                  RuntimePersistentEntity<?> persistentEntity,
+                                                  SqlStoredQuery<?, ?> storedQuery,
+                                                  boolean returnsGeneratedId) {
+        if (!jdbcConfiguration.isWriteBehind() || storedQuery.isRawQuery()) {
+            return null;
+        }
+        boolean supported = switch (storedQuery.getOperationType()) {
+            case INSERT -> !returnsGeneratedId && !persistentEntity.hasPostPersistEventListeners();
+            case UPDATE -> !persistentEntity.hasPostUpdateEventListeners();
+            case DELETE -> !persistentEntity.hasPostRemoveEventListeners();
+            default -> false;
+        };
+        if (!supported || persistentEntity.getAssociations().stream().anyMatch(association -> association.doesCascade(Relation.Cascade.PERSIST, Relation.Cascade.UPDATE))) {
+            return null;
+        }
+        TransactionStatus<?> status = transactionOperations.findTransactionStatus().orElse(null);
+        if (status == null || status.getConnection() != connection) {
+            return null;
+        }
+        if (status.getTransactionDefinition().isReadOnly().orElse(false)) {
+            return null;
+        }
+        return writeBehindQueues.computeIfAbsent(connection, c -> {
+            WriteBehindQueue queue = new WriteBehindQueue(c);
+            status.registerSynchronization(queue);
+            return queue;
+        });
+    }
+
     private DataAccessException connectionNotFoundAndNewNotAllowed() {
         return new DataAccessException("Connection is required for this operation. Annotate with @" + Connectable.class + ", @Transactional or enable `isAllowConnectionPerOperation`.");
     }
@@ -822,6 +1421,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public Connection getConnection() {
         Connection connection = connectionOperations.getConnectionStatus().getConnection();
         applySchema(connection);
+        flushWriteBehind(connection);
         return connection;
     }
 
@@ -837,6 +1437,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             needsToCloseConnection = true;
         }
         applySchema(connection);
+        flushWriteBehind(connection);
         return new ConnectionContext(connection, needsToCloseConnection);
     }
 
@@ -1052,17 +1653,29 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return fallbackMapper.apply(sqlException);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public boolean isSupportsBatchInsert(JdbcOperationContext jdbcOperationContext, RuntimePersistentEntity<?> persistentEntity) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity != null && identity.isGenerated()) {
+            // The pooled sequence identities support batches
+            RuntimePersistentEntity<Object> entity = (RuntimePersistentEntity<Object>) persistentEntity;
+            return isSupportsBatchInsert(entity, resolveEntityInsert(
+                jdbcOperationContext.annotationMetadata,
+                jdbcOperationContext.repositoryType,
+                entity.getIntrospection().getBeanType(),
+                entity
+            ));
+        }
         return isSupportsBatchInsert(persistentEntity, jdbcOperationContext.dialect);
     }
 
-    private final class JdbcParameterBinder implements BindableParametersStoredQuery.Binder {
+    private class JdbcParameterBinder implements BindableParametersStoredQuery.Binder {
 
         private final SqlStoredQuery<?, ?> sqlStoredQuery;
         private final Connection connection;
         private final PreparedStatement ps;
-        private int index = 1;
+        int index = 1;
 
         public JdbcParameterBinder(Connection connection, PreparedStatement ps, SqlStoredQuery<?, ?> sqlStoredQuery) {
             this.connection = connection;
@@ -1130,11 +1743,144 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     }
 
+    /**
+     * The binder recording the parameter values of a queued write-behind statement.
+     */
+    private final class WriteBehindParameterBinder extends JdbcParameterBinder {
+
+        private final List<WriteBehindParameter> parameters = new ArrayList<>();
+
+        private WriteBehindParameterBinder(Connection connection, SqlStoredQuery<?, ?> sqlStoredQuery) {
+            super(connection, null, sqlStoredQuery);
+        }
+
+        @Override
+        public void bindOne(QueryParameterBinding binding, Object value) {
+            JsonDataType jsonDataType = null;
+            if (binding.getDataType() == DataType.JSON) {
+                jsonDataType = binding.getJsonDataType();
+            }
+            parameters.add(new WriteBehindParameter(binding.getDataType(), jsonDataType, value));
+            index++;
+        }
+    }
+
+    private record WriteBehindParameter(DataType dataType, @Nullable JsonDataType jsonDataType, @Nullable Object value) {
+    }
+
+    /**
+     * The statements queued by the write-behind of a transaction. The consecutive statements of the same query
+     * are executed as one JDBC batch, the order of the statements is preserved.
+     * The queue is flushed before a savepoint is created, the statements queued after the savepoint are discarded by its rollback.
+     */
+    private final class WriteBehindQueue implements TransactionSynchronization {
+
+        private final Connection connection;
+        private final List<WriteBehindBatch> batches = new ArrayList<>();
+
+        private WriteBehindQueue(Connection connection) {
+            this.connection = connection;
+        }
+
+        private void add(JdbcOperationContext ctx, SqlStoredQuery<?, ?> storedQuery, List<WriteBehindParameter> parameters) {
+            WriteBehindBatch batch = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+            if (batch == null || !batch.storedQuery.getQuery().equals(storedQuery.getQuery())) {
+                batch = new WriteBehindBatch(ctx, storedQuery);
+                batches.add(batch);
+            }
+            batch.rows.add(parameters);
+        }
+
+        private void flush() {
+            while (!batches.isEmpty()) {
+                batches.remove(0).execute(connection);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+
+        @Override
+        public void beforeSavepoint() {
+            // The statements queued by the enclosing transaction must not be rolled back with the savepoint
+            flush();
+        }
+
+        @Override
+        public void afterSavepointRollback() {
+            batches.clear();
+        }
+
+        @Override
+        public void afterCompletion(Status status) {
+            batches.clear();
+            writeBehindQueues.remove(connection);
+        }
+    }
+
+    private final class WriteBehindBatch {
+
+        private final JdbcOperationContext ctx;
+        private final SqlStoredQuery<?, ?> storedQuery;
+        private final List<List<WriteBehindParameter>> rows = new ArrayList<>();
+
+        private WriteBehindBatch(JdbcOperationContext ctx, SqlStoredQuery<?, ?> storedQuery) {
+            this.ctx = ctx;
+            this.storedQuery = storedQuery;
+        }
+
+        private void execute(Connection connection) {
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing write-behind batch of {} statements: {}", rows.size(), storedQuery.getQuery());
+            }
+            try (PreparedStatement ps = connection.prepareStatement(storedQuery.getQuery())) {
+                for (List<WriteBehindParameter> row : rows) {
+                    int index = 1;
+                    for (WriteBehindParameter parameter : row) {
+                        setStatementParameter(ps, index++, parameter.dataType(), parameter.jsonDataType(), parameter.value(), storedQuery);
+                    }
+                    ps.addBatch();
+                }
+                int rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
+                observeRowsWritten(ctx.repositoryType, ctx.methodName(storedQuery), rowsUpdated, rows.size());
+                if (storedQuery.isOptimisticLock()) {
+                    checkOptimisticLocking(rows.size(), rowsUpdated);
+                }
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing write-behind SQL batch: " + sqlException.getMessage(), sqlException));
+            }
+        }
+    }
+
+    private long nextPooledId(JdbcOperationContext ctx, PooledSequenceAllocator idAllocator) {
+        return idAllocator.allocate(() -> {
+            String query = idAllocator.getQuery();
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            try (PreparedStatement ps = ctx.connection.prepareStatement(query);
+                 ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new DataAccessException("The sequence query produced no results: " + query);
+                }
+                return rs.getLong(1);
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing SQL query: " + sqlException.getMessage(), sqlException));
+            }
+        });
+    }
+
     private final class JdbcEntityOperations<T> extends AbstractSyncEntityOperations<JdbcOperationContext, T, SQLException> {
 
         private final SqlStoredQuery<T, ?> storedQuery;
+        @Nullable
+        private final PooledSequenceAllocator idAllocator;
+        private final boolean returnsGeneratedId;
         private Integer rowsUpdated;
         private Map<QueryParameterBinding, Object> previousValues;
+        private boolean writeBehind;
 
         private JdbcEntityOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
             this(ctx, storedQuery, persistentEntity, entity, false);
@@ -1146,6 +1892,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 entityEventRegistry, persistentEntity,
                 DefaultJdbcRepositoryOperations.this.conversionService, entity, insert);
             this.storedQuery = storedQuery;
+            this.idAllocator = insert ? findPooledSequenceAllocator(persistentEntity, storedQuery) : null;
+            this.returnsGeneratedId = hasGeneratedId && idAllocator == null;
         }
 
         @Override
@@ -1159,7 +1907,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
             if (insert) {
                 Dialect dialect = storedQuery.getDialect();
-                if (hasGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
+                if (returnsGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
                     if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
                         // This is being closed in try with resources from where it is being called
                         @SuppressWarnings({"java:S2095"})
@@ -1170,7 +1918,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     }
                     return connection.prepareStatement(this.storedQuery.getQuery(), new String[]{persistentEntity.getIdentity().getPersistedName()});
                 } else {
-                    return connection.prepareStatement(this.storedQuery.getQuery(), hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+                    return connection.prepareStatement(this.storedQuery.getQuery(), returnsGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
             } else {
                 return connection.prepareStatement(this.storedQuery.getQuery());
@@ -1179,6 +1927,29 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
         @Override
         protected void execute() throws SQLException {
+            if (idAllocator != null) {
+                BeanProperty<T, Object> property = persistentEntity.getIdentity().getProperty();
+                if (property.get(entity) == null) {
+                    entity = updateEntityId(property, entity, nextPooledId(ctx, idAllocator));
+                }
+            }
+            WriteBehindQueue writeBehindQueue = writeBehind ? findWriteBehindQueue(ctx.connection, persistentEntity, storedQuery, returnsGeneratedId) : null;
+            if (writeBehindQueue != null) {
+                if (storedQuery instanceof SqlPreparedQuery<T, ?> sqlPreparedQuery) {
+                    sqlPreparedQuery.prepare(entity);
+                }
+                WriteBehindParameterBinder binder = new WriteBehindParameterBinder(ctx.connection, storedQuery);
+                storedQuery.bindParameters(binder, ctx.invocationContext, entity, previousValues);
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Queueing write-behind SQL query: {}", storedQuery.getQuery());
+                }
+                writeBehindQueue.add(ctx, storedQuery, binder.parameters);
+                // The optimistic locking is checked by the flush
+                rowsUpdated = 1;
+                evictCachedEntity(ctx.connection, persistentEntity, storedQuery, entity);
+                return;
+            }
+            flushWriteBehind(ctx.connection);
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
@@ -1193,6 +1964,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 if (storedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, rowsUpdated);
                 }
+                evictCachedEntity(ctx.connection, persistentEntity, storedQuery, entity);
             } catch (SQLException e) {
                 DataAccessException dataAccessException = mapSqlException(e, ctx.dialect);
                 if (dataAccessException != null) {
@@ -1220,7 +1992,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             try (PreparedStatement ps = prepare(ctx.connection, storedQuery)) {
                 storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, storedQuery), ctx.invocationContext, entity, previousValues);
                 rowsUpdated = ps.executeUpdate();
-                if (hasGeneratedId) {
+                observeRowsWritten(ctx.repositoryType, ctx.methodName(storedQuery), rowsUpdated, 0);
+                if (returnsGeneratedId) {
                     if (isJsonEntityGeneratedId(storedQuery, persistentEntity) && ps instanceof CallableStatement callableStatement) {
                         Object id = callableStatement.getObject(storedQuery.getQueryBindings().size() + 1);
                         BeanProperty<T, Object> property = persistentEntity.getIdentity().getProperty();
@@ -1245,6 +2018,10 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     private final class JdbcEntitiesOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
 
         private final SqlStoredQuery<T, ?> storedQuery;
+        private final int multiRowSize;
+        @Nullable
+        private final PooledSequenceAllocator idAllocator;
+        private final boolean returnsGeneratedId;
         private int rowsUpdated;
 
         private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery) {
@@ -1252,11 +2029,18 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
 
         private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert) {
+            this(ctx, persistentEntity, entities, storedQuery, insert, 0);
+        }
+
+        private JdbcEntitiesOperations(JdbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery<T, ?> storedQuery, boolean insert, int multiRowSize) {
             super(ctx,
                 DefaultJdbcRepositoryOperations.this.cascadeOperations,
                 DefaultJdbcRepositoryOperations.this.conversionService,
                 entityEventRegistry, persistentEntity, entities, insert);
             this.storedQuery = storedQuery;
+            this.multiRowSize = multiRowSize;
+            this.idAllocator = insert ? findPooledSequenceAllocator(persistentEntity, storedQuery) : null;
+            this.returnsGeneratedId = hasGeneratedId && idAllocator == null;
         }
 
         @Override
@@ -1270,38 +2054,63 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
 
         private PreparedStatement prepare(Connection connection) throws SQLException {
+            return prepare(connection, storedQuery.getQuery());
+        }
+
+        private PreparedStatement prepare(Connection connection, String query) throws SQLException {
             if (insert) {
                 Dialect dialect = storedQuery.getDialect();
-                if (hasGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
+                if (returnsGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
                     if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
                         // This is being closed in try with resources from where it is being called
                         @SuppressWarnings({"java:S2095"})
-                        CallableStatement callableStatement = connection.prepareCall(this.storedQuery.getQuery());
+                        CallableStatement callableStatement = connection.prepareCall(query);
                         // expected auto generated value in insert will be numeric
                         callableStatement.registerOutParameter(storedQuery.getQueryBindings().size() + 1, Types.NUMERIC);
                         return callableStatement;
                     }
-                    return connection.prepareStatement(storedQuery.getQuery(), new String[]{persistentEntity.getIdentity().getPersistedName()});
+                    return connection.prepareStatement(query, new String[]{persistentEntity.getIdentity().getPersistedName()});
                 } else {
-                    return connection.prepareStatement(storedQuery.getQuery(), hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+                    return connection.prepareStatement(query, returnsGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
             } else {
-                return connection.prepareStatement(storedQuery.getQuery());
+                return connection.prepareStatement(query);
             }
         }
 
-        private void setParameters(PreparedStatement stmt, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
+        private int setParameters(PreparedStatement stmt, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
+            int batchSize = 0;
             for (Data d : entities) {
                 if (d.vetoed) {
                     continue;
                 }
                 storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, stmt, storedQuery), ctx.invocationContext, d.entity, d.previousValues);
                 stmt.addBatch();
+                batchSize++;
             }
+            return batchSize;
         }
 
         @Override
         protected void execute() {
+            flushWriteBehind(ctx.connection);
+            if (idAllocator != null) {
+                BeanProperty<T, Object> property = persistentEntity.getIdentity().getProperty();
+                for (Data d : entities) {
+                    if (!d.vetoed && property.get(d.entity) == null) {
+                        d.entity = updateEntityId(property, d.entity, nextPooledId(ctx, idAllocator));
+                    }
+                }
+            }
+            if (multiRowSize > 0) {
+                if (insert) {
+                    executeMultiRowInsert();
+                } else {
+                    executeMultiRowDelete();
+                    evictCachedEntities();
+                }
+                return;
+            }
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
@@ -1310,39 +2119,100 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 throw new IllegalStateException("Batch operations don't support returning operations");
             }
             try (PreparedStatement ps = prepare(ctx.connection)) {
-                setParameters(ps, storedQuery);
+                int batchSize = setParameters(ps, storedQuery);
                 rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
-                if (hasGeneratedId) {
-                    RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    List<Object> ids = new ArrayList<>();
-                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                        Dialect dialect = storedQuery.getDialect();
-                        while (generatedKeys.next()) {
-                            ids.add(getGeneratedIdentity(generatedKeys, identity, dialect));
-                        }
-                    }
-                    Iterator<Object> iterator = ids.iterator();
-                    for (Data d : entities) {
-                        if (d.vetoed) {
-                            continue;
-                        }
-                        if (!iterator.hasNext()) {
-                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                        } else {
-                            Object id = iterator.next();
-                            d.entity = updateEntityId(identity.getProperty(), d.entity, id);
-                        }
-                    }
+                observeRowsWritten(ctx.repositoryType, ctx.methodName(storedQuery), rowsUpdated, batchSize);
+                if (returnsGeneratedId) {
+                    updateGeneratedIds(ps, entities);
                 }
                 if (storedQuery.isOptimisticLock()) {
                     int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
                     checkOptimisticLocking(expected, rowsUpdated);
                 }
+                evictCachedEntities();
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
             }
         }
 
+        private void evictCachedEntities() {
+            for (Data d : entities) {
+                if (!d.vetoed) {
+                    evictCachedEntity(ctx.connection, persistentEntity, storedQuery, d.entity);
+                }
+            }
+        }
+
+        private void executeMultiRowDelete() {
+            List<Data> rows = entities.stream().filter(d -> !d.vetoed).toList();
+            for (int from = 0; from < rows.size(); from += multiRowSize) {
+                List<Data> chunk = rows.subList(from, Math.min(rows.size(), from + multiRowSize));
+                String query = buildMultiRowDelete(storedQuery, chunk.size());
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = ctx.connection.prepareStatement(query)) {
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : chunk) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    int deleted = ps.executeUpdate();
+                    rowsUpdated += deleted;
+                    observeRowsWritten(ctx.repositoryType, ctx.methodName(storedQuery), deleted, chunk.size());
+                } catch (SQLException e) {
+                    throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing multi-row SQL DELETE: " + sqlException.getMessage(), sqlException));
+                }
+            }
+        }
+
+        private void executeMultiRowInsert() {
+            List<Data> rows = entities.stream().filter(d -> !d.vetoed).toList();
+            for (int from = 0; from < rows.size(); from += multiRowSize) {
+                List<Data> chunk = rows.subList(from, Math.min(rows.size(), from + multiRowSize));
+                String query = buildMultiRowInsert(persistentEntity, storedQuery, chunk.size());
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", query);
+                }
+                try (PreparedStatement ps = prepare(ctx.connection, query)) {
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : chunk) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    int inserted = ps.executeUpdate();
+                    rowsUpdated += inserted;
+                    observeRowsWritten(ctx.repositoryType, ctx.methodName(storedQuery), inserted, chunk.size());
+                    if (returnsGeneratedId) {
+                        updateGeneratedIds(ps, chunk);
+                    }
+                } catch (SQLException e) {
+                    throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing multi-row SQL INSERT: " + sqlException.getMessage(), sqlException));
+                }
+            }
+        }
+
+        private void updateGeneratedIds(PreparedStatement ps, List<Data> rows) throws SQLException {
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            List<Object> ids = new ArrayList<>();
+            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                Dialect dialect = storedQuery.getDialect();
+                while (generatedKeys.next()) {
+                    ids.add(getGeneratedIdentity(generatedKeys, identity, dialect));
+                }
+            }
+            Iterator<Object> iterator = ids.iterator();
+            for (Data d : rows) {
+                if (d.vetoed) {
+                    continue;
+                }
+                if (!iterator.hasNext()) {
+                    throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                } else {
+                    Object id = iterator.next();
+                    d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+                }
+            }
+        }
+
     }
 
     @SuppressWarnings("VisibilityModifier")
@@ -1367,6 +2237,13 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             this.connection = connection;
             this.invocationContext = invocationContext;
         }
+
+        private String methodName(SqlStoredQuery<?, ?> storedQuery) {
+            if (invocationContext instanceof MethodInvocationContext<?, ?> methodInvocationContext) {
+                return methodInvocationContext.getMethodName();
+            }
+            return storedQuery.getName();
+        }
     }
 
     private static final class RuntimePersistentPropertyJdbcCC extends JdbcConversionContextImpl implements RuntimePersistentPropertyConversionContext {
@@ -1420,6 +2297,115 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     }
 
+    /**
+     * The snapshots of the entities updated by a transaction, the entities updated again by the transaction are compared
+     * with their last update. The snapshots are stored after the commit, the snapshot of an entity is released if the transaction
+     * is rolled back or if its update is rolled back by the savepoint of a nested transaction.
+     */
+    private final class TransactionSnapshots implements TransactionSynchronization {
+
+        private final Connection connection;
+        // The snapshot is null if an update of the entity was rolled back to a savepoint
+        private final Map<Object, Object[]> snapshots = new IdentityHashMap<>();
+        // The entities updated after each of the active savepoints created after the registration, the innermost first
+        private final Deque<Set<Object>> savepointUpdates = new ArrayDeque<>();
+
+        private TransactionSnapshots(Connection connection) {
+            this.connection = connection;
+        }
+
+        private boolean contains(Object entity) {
+            return snapshots.containsKey(entity);
+        }
+
+        @Nullable
+        private Object[] get(Object entity) {
+            return snapshots.get(entity);
+        }
+
+        private void updated(Object entity, Object[] snapshot) {
+            snapshots.put(entity, snapshot);
+            Set<Object> entities = savepointUpdates.peek();
+            if (entities != null) {
+                entities.add(entity);
+            }
+        }
+
+        @Override
+        public void beforeSavepoint() {
+            savepointUpdates.push(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+
+        @Override
+        public void afterSavepointRelease() {
+            Set<Object> entities = savepointUpdates.poll();
+            Set<Object> outerEntities = savepointUpdates.peek();
+            if (entities != null && outerEntities != null) {
+                outerEntities.addAll(entities);
+            }
+        }
+
+        @Override
+        public void afterSavepointRollback() {
+            Set<Object> entities = savepointUpdates.poll();
+            if (entities == null) {
+                // The savepoint was created before the registration, all the updates were rolled back
+                snapshots.replaceAll((entity, snapshot) -> null);
+                return;
+            }
+            for (Object entity : entities) {
+                snapshots.put(entity, null);
+            }
+            Set<Object> outerEntities = savepointUpdates.peek();
+            if (outerEntities != null) {
+                outerEntities.addAll(entities);
+            }
+        }
+
+        @Override
+        public void afterCompletion(@NonNull Status status) {
+            transactionSnapshots.remove(connection);
+            for (Map.Entry<Object, Object[]> e : snapshots.entrySet()) {
+                if (status == Status.COMMITTED && e.getValue() != null) {
+                    entitySnapshots.store(e.getKey(), e.getValue());
+                } else {
+                    entitySnapshots.release(e.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates the mapping time and the rows of a streamed query, reported once the stream is exhausted or closed.
+     */
+    private final class StreamObservation {
+
+        private final Class<?> repositoryType;
+        private final String methodName;
+        private boolean completed;
+        private long rows;
+        private long mapNanos;
+
+        private StreamObservation(Class<?> repositoryType, String methodName) {
+            this.repositoryType = repositoryType;
+            this.methodName = methodName;
+        }
+
+        void mapped(long rowStart) {
+            if (rowStart != 0) {
+                rows++;
+                mapNanos += System.nanoTime() - rowStart;
+            }
+        }
+
+        void complete() {
+            if (!completed) {
+                completed = true;
+                observeStreamMapped(repositoryType, methodName, rows, mapNanos);
+            }
+        }
+    }
+
     private static final class ConnectionContext {
 
         private final Connection connection;
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+/**
+ * The names of the {@link io.micronaut.data.annotation.QueryHint} supported by the JDBC repository operations.
+ *
+ * <pre class="code">
+ * &#64;QueryHint(name = JdbcQueryHints.FETCH_SIZE, value = "500")
+ * Stream&lt;Book&gt; findAllByTitleLike(String title);
+ * </pre>
+ *
+ * @since 4.12
+ */
+public final class JdbcQueryHints {
+
+    /**
+     * The fetch size of the query statement, overrides {@link io.micronaut.data.jdbc.config.DataJdbcConfiguration#getFetchSize()}.
+     */
+    public static final String FETCH_SIZE = "io.micronaut.data.jdbc.fetchSize";
+
+    /**
+     * The result set type of the query statement: {@code FORWARD_ONLY}, {@code SCROLL_INSENSITIVE} or {@code SCROLL_SENSITIVE}.
+     * Overrides {@link io.micronaut.data.jdbc.config.DataJdbcConfiguration#getResultSetType()}.
+     */
+    public static final String RESULT_SET_TYPE = "io.micronaut.data.jdbc.resultSetType";
+
+    private JdbcQueryHints() {
+    }
+}
@@ -25,4 +25,14 @@ import io.micronaut.data.operations.RepositoryOperations;
  * @since 1.0.0
  */
 public interface JdbcRepositoryOperations extends RepositoryOperations, JdbcOperations {
+
+    /**
+     * Executes the statements queued by the write-behind of the current transaction.
+     * No-op if the write-behind is disabled or nothing is queued.
+     *
+     * @see io.micronaut.data.jdbc.config.DataJdbcConfiguration#setWriteBehind(boolean)
+     * @since 4.12
+     */
+    default void flush() {
+    }
 }
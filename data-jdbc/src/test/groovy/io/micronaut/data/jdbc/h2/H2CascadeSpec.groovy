@@ -29,4 +29,24 @@ class H2CascadeSpec extends Specification {
         loadedEntity.subEntityAs().size() == 1
         loadedEntity.subEntityBs().size() == 1
     }
+
+    void "test cascade update"() {
+        given:
+        def entity = repository.save(new CascadeEntity(null, List.of(new CascadeSubEntityA(null, 1, null), new CascadeSubEntityA(null, 2, null)), List.of(new CascadeSubEntityB(null, 1, null))))
+        def existingA = entity.subEntityAs()
+        when:
+        def subEntityAs = List.of(
+                new CascadeSubEntityA(existingA[0].id(), 10, null),
+                new CascadeSubEntityA(existingA[1].id(), 20, null),
+                new CascadeSubEntityA(null, 30, null)
+        )
+        entity = repository.update(new CascadeEntity(entity.id(), subEntityAs, entity.subEntityBs()))
+        def loadedEntity = repository.findById(entity.id()).get()
+        then:
+        entity.subEntityAs().every { it.id() }
+        loadedEntity.subEntityAs().size() == 3
+        loadedEntity.subEntityAs()*.data().sort() == [10, 20, 30]
+        loadedEntity.subEntityAs().find { it.data() == 10 }.id() == existingA[0].id()
+        loadedEntity.subEntityAs().find { it.data() == 20 }.id() == existingA[1].id()
+    }
 }
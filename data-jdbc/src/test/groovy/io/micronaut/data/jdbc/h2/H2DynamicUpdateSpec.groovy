@@ -0,0 +1,186 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Query
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class H2DynamicUpdateSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    DynamicUpdateTaskRepository repository = applicationContext.getBean(DynamicUpdateTaskRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test only the changed columns are updated"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+            def loaded = repository.findById(task.id).get()
+            repository.updateNote(task.id, "Changed externally")
+
+        when:
+            loaded.status = "DONE"
+            repository.update(loaded)
+            def reloaded = repository.findById(task.id).get()
+
+        then:
+            reloaded.status == "DONE"
+            reloaded.note == "Changed externally"
+            reloaded.version == loaded.version
+            reloaded.version == task.version + 1
+    }
+
+    void "test unchanged entity is not updated"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+            def loaded = repository.findById(task.id).get()
+
+        when:
+            repository.update(loaded)
+            repository.updateAll([loaded])
+
+        then:
+            repository.findById(task.id).get().version == task.version
+    }
+
+    void "test array changed in place is updated"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None", data: [1, 2, 3] as byte[]))
+            def loaded = repository.findById(task.id).get()
+
+        when:
+            loaded.data[0] = 9 as byte
+            repository.update(loaded)
+
+        then:
+            repository.findById(task.id).get().data == [9, 2, 3] as byte[]
+    }
+
+    void "test update rolled back by the transaction is written again"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+            def loaded = repository.findById(task.id).get()
+            loaded.status = "DONE"
+
+        when:
+            transactionOperations.executeWrite { status ->
+                repository.update(loaded)
+                status.setRollbackOnly()
+            }
+
+        then:
+            repository.findById(task.id).get().status == "NEW"
+
+        when:
+            repository.update(loaded)
+
+        then:
+            repository.findById(task.id).get().status == "DONE"
+    }
+
+    void "test update rolled back by the savepoint is written again"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+            def loaded = repository.findById(task.id).get()
+            loaded.status = "DONE"
+
+        when:
+            transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                try {
+                    transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                        repository.update(loaded)
+                        throw new IllegalStateException("Rollback to savepoint")
+                    }
+                } catch (IllegalStateException ignored) {
+                }
+            }
+
+        then:
+            repository.findById(task.id).get().status == "NEW"
+
+        when:
+            repository.update(loaded)
+
+        then:
+            repository.findById(task.id).get().status == "DONE"
+    }
+
+    void "test entity changed back in the transaction is updated again"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+            def loaded = repository.findById(task.id).get()
+
+        when:
+            transactionOperations.executeWrite {
+                loaded.status = "DONE"
+                repository.update(loaded)
+                loaded.status = "NEW"
+                repository.update(loaded)
+            }
+
+        then:
+            def reloaded = repository.findById(task.id).get()
+            reloaded.status == "NEW"
+            reloaded.version == task.version + 2
+
+        when: "the committed snapshot is used after the transaction"
+            loaded.status = "DONE"
+            repository.update(loaded)
+
+        then:
+            repository.findById(task.id).get().status == "DONE"
+    }
+
+    void "test entity without snapshot is fully updated"() {
+        given:
+            def task = repository.save(new DynamicUpdateTask(name: "Task", status: "NEW", note: "None"))
+
+        when:
+            task.note = "Updated"
+            repository.update(task)
+
+        then:
+            repository.findById(task.id).get().note == "Updated"
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface DynamicUpdateTaskRepository extends CrudRepository<DynamicUpdateTask, Long> {
+
+    @Query("UPDATE `dynamic_update_task` SET `note` = :note WHERE `id` = :id")
+    void updateNote(Long id, String note)
+}
+
+@MappedEntity(dynamicUpdate = true)
+class DynamicUpdateTask {
+    @Id
+    @GeneratedValue
+    Long id
+    @Version
+    Long version
+    String name
+    String status
+    String note
+    byte[] data
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.EntityCache
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+class H2EntityCacheSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    IdentityCachedItemRepository repository = applicationContext.getBean(IdentityCachedItemRepository)
+
+    @Shared
+    VersionedCachedItemRepository versionedRepository = applicationContext.getBean(VersionedCachedItemRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void cleanup() {
+        repository.deleteAll()
+        versionedRepository.deleteAll()
+    }
+
+    void "test the entity is read through the cache and evicted by an update"() {
+        given:
+            repository.save(new IdentityCachedItem(id: 1L, name: "A"))
+
+        expect:
+            repository.findById(1L).get().name == "A"
+
+        when:
+            executeUpdate("UPDATE identity_cached_item SET name = 'B' WHERE id = 1")
+
+        then:
+            repository.findById(1L).get().name == "A"
+            repository.findByName("B").present
+
+        when:
+            repository.update(new IdentityCachedItem(id: 1L, name: "C"))
+
+        then:
+            repository.findById(1L).get().name == "C"
+    }
+
+    void "test the entity is evicted by a delete"() {
+        given:
+            repository.save(new IdentityCachedItem(id: 1L, name: "A"))
+            repository.save(new IdentityCachedItem(id: 2L, name: "B"))
+
+        expect:
+            repository.findById(1L).present
+            repository.findById(2L).present
+
+        when:
+            repository.deleteById(1L)
+            repository.delete(repository.findById(2L).get())
+
+        then:
+            !repository.findById(1L).present
+            !repository.findById(2L).present
+    }
+
+    void "test the entities are evicted by an update query"() {
+        given:
+            repository.save(new IdentityCachedItem(id: 1L, name: "A"))
+
+        expect:
+            repository.findById(1L).get().name == "A"
+
+        when:
+            repository.updateName(1L, "B")
+
+        then:
+            repository.findById(1L).get().name == "B"
+    }
+
+    void "test the written entity is only cached after the commit"() {
+        given:
+            versionedRepository.save(new VersionedCachedItem(id: 1L, name: "A"))
+
+        expect:
+            versionedRepository.findById(1L).get().name == "A"
+
+        when:
+            def nameInTransaction = transactionOperations.executeWrite { status ->
+                def item = versionedRepository.findById(1L).get()
+                versionedRepository.update(new VersionedCachedItem(id: 1L, version: item.version, name: "B"))
+                status.setRollbackOnly()
+                return versionedRepository.findById(1L).get().name
+            }
+
+        then:
+            nameInTransaction == "B"
+            versionedRepository.findById(1L).get().name == "A"
+
+        when:
+            transactionOperations.executeWrite {
+                def item = versionedRepository.findById(1L).get()
+                versionedRepository.update(new VersionedCachedItem(id: 1L, version: item.version, name: "C"))
+            }
+            executeUpdate("UPDATE versioned_cached_item SET name = 'D' WHERE id = 1")
+
+        then: "the committed version is cached"
+            def item = versionedRepository.findById(1L).get()
+            item.name == "C"
+            item.version == 1
+    }
+
+    void "test the write rolled back by the savepoint is not cached"() {
+        given:
+            versionedRepository.save(new VersionedCachedItem(id: 1L, name: "A"))
+
+        when:
+            transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                try {
+                    transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                        def item = versionedRepository.findById(1L).get()
+                        versionedRepository.update(new VersionedCachedItem(id: 1L, version: item.version, name: "B"))
+                        throw new IllegalStateException("Rollback to savepoint")
+                    }
+                } catch (IllegalStateException ignored) {
+                }
+            }
+
+        then:
+            def item = versionedRepository.findById(1L).get()
+            item.name == "A"
+            item.version == 0
+    }
+
+    void "test the changes of a found entity are not visible to the other readers"() {
+        given:
+            repository.save(new IdentityCachedItem(id: 1L, name: "A"))
+
+        expect:
+            repository.findById(1L).get().name == "A"
+
+        when:
+            transactionOperations.executeWrite { status ->
+                repository.findById(1L).get().name = "B"
+                assert repository.findById(1L).get().name == "A"
+                status.setRollbackOnly()
+            }
+
+        then:
+            repository.findById(1L).get().name == "A"
+
+        when: "a found entity is changed without saving it"
+            repository.findById(1L).get().name = "C"
+
+        then:
+            repository.findById(1L).get().name == "A"
+    }
+
+    void "test the changes of a saved entity are not visible to the other readers"() {
+        given:
+            versionedRepository.save(new VersionedCachedItem(id: 1L, name: "A"))
+
+        when:
+            def item = versionedRepository.findById(1L).get()
+            item.name = "B"
+            versionedRepository.update(item)
+            item.name = "C"
+
+        then:
+            versionedRepository.findById(1L).get().name == "B"
+            !versionedRepository.findById(1L).get().is(versionedRepository.findById(1L).get())
+    }
+
+    private void executeUpdate(String sql) {
+        applicationContext.getBean(DataSource).connection.withCloseable {
+            it.createStatement().executeUpdate(sql)
+        }
+    }
+}
+
+@MappedEntity
+@EntityCache(maximumSize = 100)
+class IdentityCachedItem {
+    @Id
+    Long id
+    String name
+}
+
+@MappedEntity
+@EntityCache(ttl = "10m")
+class VersionedCachedItem {
+    @Id
+    Long id
+    @Version
+    Long version
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface IdentityCachedItemRepository extends CrudRepository<IdentityCachedItem, Long> {
+
+    Optional<IdentityCachedItem> findByName(String name)
+
+    void updateName(@Id Long id, String name)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface VersionedCachedItemRepository extends CrudRepository<VersionedCachedItem, Long> {
+}
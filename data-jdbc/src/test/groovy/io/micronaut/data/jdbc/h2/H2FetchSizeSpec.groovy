@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.fetch-size", value = "1")
+class H2FetchSizeSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    H2PersonFetchSizeRepository fetchSizeRepository
+
+    void setup() {
+        personRepository.deleteAll()
+        personRepository.saveAll([
+                new Person(name: 'c', age: 30),
+                new Person(name: 'a', age: 10),
+                new Person(name: 'b', age: 20),
+                new Person(name: 'd', age: 40)
+        ])
+    }
+
+    void "test stream with the fetch size hint"() {
+        when:
+            def names = fetchSizeRepository.findByNameIsNotNullOrderByName().map { it.name }.toList()
+
+        then:
+            names == ['a', 'b', 'c', 'd']
+    }
+
+    void "test find all with the global fetch size and the result set type hint"() {
+        when:
+            def names = fetchSizeRepository.findByAgeGreaterThanOrderByName(15)*.name
+
+        then:
+            names == ['b', 'c', 'd']
+    }
+
+    void "test invalid fetch size hint"() {
+        when:
+            fetchSizeRepository.findByAgeLessThan(100)
+
+        then:
+            thrown(DataAccessException)
+    }
+}
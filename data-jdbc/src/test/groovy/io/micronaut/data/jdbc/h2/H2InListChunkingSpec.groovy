@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.InListChunking
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.repository.GenericRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.util.concurrent.CompletableFuture
+
+class H2InListChunkingSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    ChunkedItemRepository repository = applicationContext.getBean(ChunkedItemRepository)
+
+    @Shared
+    ChunkedItemAsyncRepository asyncRepository = applicationContext.getBean(ChunkedItemAsyncRepository)
+
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+    void setupSpec() {
+        repository.saveAll((1L..100L).collect { new ChunkedItem(id: it, name: "Item " + it) })
+    }
+
+    void cleanupSpec() {
+        repository.deleteAll()
+    }
+
+    void "test find all by id"() {
+        expect:
+            repository.findAllById([]).isEmpty()
+            repository.findAllById((1L..100L).toList()).size() == 100
+            repository.findAllById([5L, 5L, 6L, 500L])*.id.toSorted() == [5L, 6L]
+    }
+
+    void "test find all by id in chunks preserving the order"() {
+        given:
+            def ids = (1L..100L).toList().reverse() + [1000L, 100L]
+
+        when:
+            def items = repository.findAllByIdIn(ids)
+
+        then:
+            items*.id == (1L..100L).toList().reverse()
+    }
+
+    void "test find all by id in concurrent chunks"() {
+        when:
+            def items = asyncRepository.findAllByIdIn((1L..100L).toList().reverse()).get()
+
+        then:
+            items*.id == (1L..100L).toList().reverse()
+    }
+
+    void "test find all by id in concurrent chunks inside a transaction"() {
+        when:
+            List<ChunkedItem> items = transactionManager.executeWrite {
+                repository.save(new ChunkedItem(id: 101L, name: "Item 101"))
+                asyncRepository.findAllByIdIn((1L..101L).toList()).get()
+            }
+
+        then:
+            items*.id == (1L..101L).toList()
+
+        cleanup:
+            repository.deleteById(101L)
+    }
+}
+
+@MappedEntity
+class ChunkedItem {
+    @Id
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface ChunkedItemRepository extends CrudRepository<ChunkedItem, Long> {
+
+    @Override
+    @InListChunking
+    List<ChunkedItem> findAllById(Iterable<Long> ids)
+
+    @InListChunking(size = 7, preserveOrder = true)
+    List<ChunkedItem> findAllByIdIn(List<Long> ids)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface ChunkedItemAsyncRepository extends GenericRepository<ChunkedItem, Long> {
+
+    @InListChunking(size = 7, concurrency = 4, preserveOrder = true)
+    CompletableFuture<List<ChunkedItem>> findAllByIdIn(List<Long> ids)
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.Join
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Relation
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+import java.util.stream.Stream
+
+class H2JoinFetchStreamSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    StreamParentRepository parentRepository = applicationContext.getBean(StreamParentRepository)
+
+    @Shared
+    StreamChildRepository childRepository = applicationContext.getBean(StreamChildRepository)
+
+    void setupSpec() {
+        def parents = ["B", "C", "A"].collect { parentRepository.save(new StreamParent(name: it)) }
+        // Interleave the children so the rows of a parent are not stored contiguously
+        (1..3).each { i ->
+            parents.each { parent ->
+                childRepository.save(new StreamChild(name: parent.name + i, parent: parent))
+            }
+        }
+        childRepository.save(new StreamChild(name: "B4", parent: parents[0]))
+        parentRepository.save(new StreamParent(name: "D"))
+    }
+
+    void "test join fetch stream without an order is aggregated by the identity order"() {
+        when:
+            def parents = collect(parentRepository.queryByNameIsNotNull())
+
+        then:
+            parents.size() == 4
+            parents*.id == parents*.id.sort(false)
+            childCounts(parents) == [A: 3, B: 4, C: 3, D: 0]
+            childNames(parents) == [A: ["A1", "A2", "A3"], B: ["B1", "B2", "B3", "B4"], C: ["C1", "C2", "C3"], D: []]
+    }
+
+    void "test join fetch stream with an explicit order"() {
+        when:
+            def parents = collect(parentRepository.queryByNameIsNotNullOrderByNameDesc())
+
+        then:
+            parents*.name == ["D", "C", "B", "A"]
+            childCounts(parents) == [A: 3, B: 4, C: 3, D: 0]
+    }
+
+    void "test join fetch stream with a sort"() {
+        when:
+            def parents = collect(parentRepository.queryByNameIsNotNull(Sort.of(Sort.Order.asc("name"))))
+
+        then:
+            parents*.name == ["A", "B", "C", "D"]
+            childCounts(parents) == [A: 3, B: 4, C: 3, D: 0]
+    }
+
+    void "test join fetch stream emits the parents before the result is consumed"() {
+        when:
+            def stream = parentRepository.queryByNameIsNotNull()
+            def first = stream.findFirst().get()
+            stream.close()
+
+        then:
+            first.name == "B"
+            first.children.size() == 4
+    }
+
+    private static List<StreamParent> collect(Stream<StreamParent> stream) {
+        return stream.withCloseable { it.collect(Collectors.toList()) }
+    }
+
+    private static Map<String, Integer> childCounts(List<StreamParent> parents) {
+        return parents.collectEntries { [(it.name): it.children == null ? 0 : it.children.size()] }
+    }
+
+    private static Map<String, List<String>> childNames(List<StreamParent> parents) {
+        return parents.collectEntries { [(it.name): it.children == null ? [] : it.children*.name.sort()] }
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface StreamParentRepository extends CrudRepository<StreamParent, Long> {
+
+    @Join(value = "children", type = Join.Type.LEFT_FETCH)
+    Stream<StreamParent> queryByNameIsNotNull()
+
+    @Join(value = "children", type = Join.Type.LEFT_FETCH)
+    Stream<StreamParent> queryByNameIsNotNullOrderByNameDesc()
+
+    @Join(value = "children", type = Join.Type.LEFT_FETCH)
+    Stream<StreamParent> queryByNameIsNotNull(Sort sort)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface StreamChildRepository extends CrudRepository<StreamChild, Long> {
+}
+
+@MappedEntity
+class StreamParent {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.ONE_TO_MANY, mappedBy = "parent")
+    List<StreamChild> children
+}
+
+@MappedEntity
+class StreamChild {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Relation(value = Relation.Kind.MANY_TO_ONE)
+    StreamParent parent
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import groovy.transform.EqualsAndHashCode
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.Embeddable
+import io.micronaut.data.annotation.EmbeddedId
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2MultiRowDeleteSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    DeletableRowRepository rowRepository = applicationContext.getBean(DeletableRowRepository)
+
+    @Shared
+    KeyedRowRepository keyedRowRepository = applicationContext.getBean(KeyedRowRepository)
+
+    void cleanup() {
+        rowRepository.deleteAll()
+        keyedRowRepository.deleteAll()
+    }
+
+    void "test delete all by id in chunks"() {
+        given:
+            rowRepository.saveAll((1L..2500L).collect { new DeletableRow(id: it, name: "Row " + it) })
+
+        when:
+            rowRepository.deleteAllById((1L..1500L).toList())
+
+        then:
+            rowRepository.count() == 1000
+            !rowRepository.existsById(1500L)
+            rowRepository.existsById(1501L)
+    }
+
+    void "test delete all entities in chunks"() {
+        given:
+            def rows = rowRepository.saveAll((1L..2500L).collect { new DeletableRow(id: it, name: "Row " + it) })
+
+        when:
+            rowRepository.deleteAll(rows.subList(0, 2400))
+
+        then:
+            rowRepository.count() == 100
+            rowRepository.existsById(2401L)
+    }
+
+    void "test delete all entities with an embedded id"() {
+        given:
+            keyedRowRepository.saveAll([
+                    new KeyedRow(key: new RowKey(region: "A", number: 1), label: "A1"),
+                    new KeyedRow(key: new RowKey(region: "A", number: 2), label: "A2"),
+                    new KeyedRow(key: new RowKey(region: "B", number: 1), label: "B1")
+            ])
+
+        when:
+            keyedRowRepository.deleteAll([
+                    new KeyedRow(key: new RowKey(region: "A", number: 1)),
+                    new KeyedRow(key: new RowKey(region: "B", number: 1))
+            ])
+
+        then:
+            keyedRowRepository.findAll()*.label == ["A2"]
+    }
+
+    void "test delete all by embedded id"() {
+        given:
+            keyedRowRepository.saveAll([
+                    new KeyedRow(key: new RowKey(region: "A", number: 1), label: "A1"),
+                    new KeyedRow(key: new RowKey(region: "A", number: 2), label: "A2"),
+                    new KeyedRow(key: new RowKey(region: "B", number: 1), label: "B1")
+            ])
+
+        when:
+            keyedRowRepository.deleteAllById([new RowKey(region: "A", number: 2), new RowKey(region: "B", number: 1)])
+
+        then:
+            keyedRowRepository.findAll()*.label == ["A1"]
+
+        when:
+            keyedRowRepository.deleteAllById([])
+
+        then:
+            keyedRowRepository.count() == 1
+    }
+}
+
+@MappedEntity
+class DeletableRow {
+    @Id
+    Long id
+    String name
+}
+
+@MappedEntity
+class KeyedRow {
+    @EmbeddedId
+    RowKey key
+    String label
+}
+
+@Embeddable
+@EqualsAndHashCode
+class RowKey {
+    String region
+    Integer number
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface DeletableRowRepository extends CrudRepository<DeletableRow, Long> {
+
+    @Override
+    void deleteAllById(Iterable<Long> ids)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface KeyedRowRepository extends CrudRepository<KeyedRow, RowKey> {
+
+    @Override
+    void deleteAllById(Iterable<RowKey> ids)
+}
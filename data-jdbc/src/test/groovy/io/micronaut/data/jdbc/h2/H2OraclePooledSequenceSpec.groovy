@@ -0,0 +1,65 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2OraclePooledSequenceSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    PooledItemRepository repository = applicationContext.getBean(PooledItemRepository)
+
+    @Override
+    Map<String, String> getProperties() {
+        return getH2DataSourceProperties("default") + [
+                'datasources.default.url'    : 'jdbc:h2:mem:pooledSequence;MODE=Oracle;DB_CLOSE_ON_EXIT=FALSE',
+                'datasources.default.dialect': 'oracle'
+        ]
+    }
+
+    void "test the identifiers are allocated from the blocks of the sequence"() {
+        when:
+            def items = repository.saveAll((1..25).collect { new PooledItem(name: "Item $it") })
+
+        then:
+            items*.id == (1L..25L).toList()
+            repository.count() == 25
+
+        when:
+            def item = repository.save(new PooledItem(name: "Item 26"))
+
+        then:
+            item.id == 26L
+            repository.findById(26L).get().name == "Item 26"
+
+        when:
+            def assigned = repository.save(new PooledItem(id: 1000L, name: "Assigned"))
+
+        then:
+            assigned.id == 1000L
+            repository.save(new PooledItem(name: "Item 27")).id == 27L
+    }
+}
+
+@JdbcRepository(dialect = Dialect.ORACLE)
+interface PooledItemRepository extends CrudRepository<PooledItem, Long> {
+}
+
+@MappedEntity
+class PooledItem {
+    @Id
+    @GeneratedValue(value = GeneratedValue.Type.SEQUENCE, allocationSize = 10)
+    Long id
+    String name
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.PageCount
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.repository.GenericRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.sql.Connection
+import java.util.concurrent.CompletableFuture
+
+class H2PageCountSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CountedItemRepository repository = applicationContext.getBean(CountedItemRepository)
+
+    @Shared
+    CountedItemAsyncRepository asyncRepository = applicationContext.getBean(CountedItemAsyncRepository)
+
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+    void setupSpec() {
+        repository.saveAll((1L..25L).collect { new CountedItem(id: it, name: "Item " + it, category: it % 2 == 0 ? "even" : "odd") })
+    }
+
+    void cleanupSpec() {
+        repository.deleteAll()
+    }
+
+    @Unroll
+    void "test page total count of page #page with the #strategy strategy"() {
+        given:
+            def pageable = Pageable.from(page, 10, Sort.of(Sort.Order.asc("id")))
+
+        when:
+            Page<CountedItem> result = find(strategy, pageable)
+
+        then:
+            result.content*.id == expectedIds
+            result.totalSize == 25
+            result.totalPages == 3
+
+        where:
+            strategy                  | page | expectedIds
+            PageCount.Strategy.WINDOW | 0    | (1L..10L).toList()
+            PageCount.Strategy.WINDOW | 2    | (21L..25L).toList()
+            PageCount.Strategy.WINDOW | 5    | []
+            PageCount.Strategy.ELIDE  | 1    | (11L..20L).toList()
+            PageCount.Strategy.ELIDE  | 2    | (21L..25L).toList()
+            PageCount.Strategy.ELIDE  | 5    | []
+    }
+
+    void "test page total count of an empty first page"() {
+        expect:
+            repository.findByCategory("none", Pageable.from(0, 10)).totalSize == 0
+            repository.findByName("none", Pageable.from(0, 10)).totalSize == 0
+    }
+
+    void "test window count of a filtered page"() {
+        when:
+            def page = repository.findByCategory("even", Pageable.from(1, 5, Sort.of(Sort.Order.asc("id"))))
+
+        then:
+            page.content*.id == [12L, 14L, 16L, 18L, 20L]
+            page.totalSize == 12
+    }
+
+    void "test concurrent count"() {
+        when:
+            def page = asyncRepository.findByNameLike("Item%", Pageable.from(2, 10, Sort.of(Sort.Order.asc("id")))).get()
+
+        then:
+            page.content*.id == (21L..25L).toList()
+            page.totalSize == 25
+    }
+
+    void "test concurrent count inside a transaction"() {
+        when:
+            Page<CountedItem> page = transactionManager.executeWrite {
+                repository.save(new CountedItem(id: 26L, name: "Item 26", category: "even"))
+                asyncRepository.findByNameLike("Item%", Pageable.from(2, 10, Sort.of(Sort.Order.asc("id")))).get()
+            }
+
+        then:
+            page.content*.id == (21L..26L).toList()
+            page.totalSize == 26
+
+        cleanup:
+            repository.deleteById(26L)
+    }
+
+    private Page<CountedItem> find(PageCount.Strategy strategy, Pageable pageable) {
+        strategy == PageCount.Strategy.WINDOW ? repository.findAll(pageable) : repository.findByNameLike("Item%", pageable)
+    }
+}
+
+@MappedEntity
+class CountedItem {
+    @Id
+    Long id
+    String name
+    String category
+}
+
+@PageCount(PageCount.Strategy.WINDOW)
+@JdbcRepository(dialect = Dialect.H2)
+interface CountedItemRepository extends CrudRepository<CountedItem, Long> {
+
+    Page<CountedItem> findAll(Pageable pageable)
+
+    Page<CountedItem> findByCategory(String category, Pageable pageable)
+
+    @PageCount(PageCount.Strategy.ELIDE)
+    Page<CountedItem> findByNameLike(String name, Pageable pageable)
+
+    @PageCount(PageCount.Strategy.ELIDE)
+    Page<CountedItem> findByName(String name, Pageable pageable)
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CountedItemAsyncRepository extends GenericRepository<CountedItem, Long> {
+
+    @PageCount(PageCount.Strategy.CONCURRENT)
+    CompletableFuture<Page<CountedItem>> findByNameLike(String name, Pageable pageable)
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.CacheableQuery
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+import java.util.concurrent.CompletableFuture
+
+class H2QueryResultCacheSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    CachedItemRepository repository = applicationContext.getBean(CachedItemRepository)
+
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager = applicationContext.getBean(SynchronousTransactionManager)
+
+    void setup() {
+        repository.saveAll([new CachedItem(id: 1L, name: "A", category: "x"), new CachedItem(id: 2L, name: "B", category: "x")])
+    }
+
+    void cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test the results are cached until the entity is saved"() {
+        expect:
+            repository.findByCategory("x")*.name == ["A", "B"]
+
+        when:
+            executeUpdate("UPDATE cached_item SET name = 'C' WHERE id = 1")
+
+        then:
+            repository.findByCategory("x")*.name == ["A", "B"]
+            repository.countByCategory("x") == 2
+            repository.findByName("C").empty
+
+        when:
+            repository.save(new CachedItem(id: 3L, name: "D", category: "x"))
+
+        then:
+            repository.findByCategory("x")*.name == ["C", "B", "D"]
+            repository.countByCategory("x") == 3
+    }
+
+    void "test the results are invalidated by an update method"() {
+        expect:
+            repository.findByCategory("x").size() == 2
+
+        when:
+            repository.updateCategory(2L, "y")
+
+        then:
+            repository.findByCategory("x")*.name == ["A"]
+            repository.findByCategory("y")*.name == ["B"]
+    }
+
+    void "test the results are invalidated by a delete"() {
+        expect:
+            repository.countByCategory("x") == 2
+
+        when:
+            repository.deleteById(1L)
+
+        then:
+            repository.countByCategory("x") == 1
+    }
+
+    void "test the results are invalidated after the commit of a transaction"() {
+        expect:
+            repository.findByCategory("x")*.name == ["A", "B"]
+
+        when:
+            def names = transactionManager.executeWrite {
+                repository.save(new CachedItem(id: 3L, name: "C", category: "x"))
+                // A concurrent reader caches the committed results before the commit
+                assert CompletableFuture.supplyAsync { repository.findByCategory("x")*.name }.get() == ["A", "B"]
+                repository.findByCategory("x")*.name
+            }
+
+        then:
+            names == ["A", "B", "C"]
+            repository.findByCategory("x")*.name == ["A", "B", "C"]
+    }
+
+    void "test the results read by a rolled back transaction are not cached"() {
+        expect:
+            repository.countByCategory("x") == 2
+
+        when:
+            transactionManager.executeWrite {
+                repository.save(new CachedItem(id: 3L, name: "C", category: "x"))
+                assert repository.countByCategory("x") == 3
+                throw new IllegalStateException("Rollback")
+            }
+
+        then:
+            thrown(IllegalStateException)
+            repository.countByCategory("x") == 2
+    }
+
+    void "test the cached results are copied"() {
+        when:
+            repository.findByCategory("x").clear()
+
+        then:
+            thrown(UnsupportedOperationException)
+            repository.findByCategory("x").size() == 2
+    }
+
+    private void executeUpdate(String sql) {
+        applicationContext.getBean(DataSource).connection.withCloseable {
+            it.createStatement().executeUpdate(sql)
+        }
+    }
+}
+
+@MappedEntity
+class CachedItem {
+    @Id
+    Long id
+    String name
+    String category
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface CachedItemRepository extends CrudRepository<CachedItem, Long> {
+
+    @CacheableQuery
+    List<CachedItem> findByCategory(String category)
+
+    @CacheableQuery(maximumSize = 10, ttl = "1m")
+    long countByCategory(String category)
+
+    List<CachedItem> findByName(String name)
+
+    void updateCategory(@Id Long id, String category)
+}
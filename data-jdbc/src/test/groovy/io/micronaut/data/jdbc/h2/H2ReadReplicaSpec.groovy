@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+import io.micronaut.data.connection.support.ReadReplicaSession
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+class H2ReadReplicaSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getReplicaProperties("routing") + [
+            'datasources.default.read-replicas': 'replica1,replica2'
+    ])
+
+    @Shared
+    ReplicatedItemRepository repository = applicationContext.getBean(ReplicatedItemRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void setup() {
+        repository.save(new ReplicatedItem(id: 1L, name: "primary"))
+        executeUpdate(applicationContext, "replica1", "INSERT INTO replicated_item (id, name) VALUES (1, 'replica1')")
+        executeUpdate(applicationContext, "replica2", "INSERT INTO replicated_item (id, name) VALUES (1, 'replica2')")
+    }
+
+    void cleanup() {
+        repository.deleteAll()
+        executeUpdate(applicationContext, "replica1", "DELETE FROM replicated_item")
+        executeUpdate(applicationContext, "replica2", "DELETE FROM replicated_item")
+    }
+
+    void "test the read-only connections are routed to the replicas in the round-robin order"() {
+        when:
+            def names = (1..4).collect { repository.findById(1L).get().name }
+
+        then:
+            names.toSet() == ["replica1", "replica2"].toSet()
+            names[0] != names[1]
+            names[1] != names[2]
+    }
+
+    void "test the read-only transactions are routed to the replicas"() {
+        expect:
+            transactionOperations.executeRead { repository.findById(1L).get().name } in ["replica1", "replica2"]
+            transactionOperations.executeWrite { repository.findById(1L).get().name } == "primary"
+    }
+
+    void "test the session reads from the primary after a write"() {
+        when:
+            String beforeWrite
+            String afterWrite
+            ReadReplicaSession.open().withCloseable {
+                beforeWrite = repository.findById(1L).get().name
+                repository.update(new ReplicatedItem(id: 1L, name: "updated"))
+                afterWrite = repository.findById(1L).get().name
+            }
+
+        then:
+            beforeWrite in ["replica1", "replica2"]
+            afterWrite == "updated"
+            repository.findById(1L).get().name in ["replica1", "replica2"]
+    }
+
+    void "test the lagging replicas are excluded"() {
+        given:
+            def context = ApplicationContext.run(getReplicaProperties("lagging") + [
+                    'datasources.default.read-replicas'             : 'replica1,replica2',
+                    'datasources.default.max-replica-lag'           : '1s',
+                    'datasources.default.replica-lag-check-interval': '0s',
+                    'datasources.default.replica-lag-query'         : 'SELECT lag FROM replication_status'
+            ])
+            def laggingRepository = context.getBean(ReplicatedItemRepository)
+            laggingRepository.save(new ReplicatedItem(id: 1L, name: "primary"))
+            ["replica1", "replica2"].each { replicaName ->
+                executeUpdate(context, replicaName, "INSERT INTO replicated_item (id, name) VALUES (1, '$replicaName')")
+                executeUpdate(context, replicaName, "CREATE TABLE replication_status (lag DOUBLE)")
+            }
+            executeUpdate(context, "replica1", "INSERT INTO replication_status VALUES (0.5)")
+            executeUpdate(context, "replica2", "INSERT INTO replication_status VALUES (10)")
+
+        expect:
+            (1..4).collect { laggingRepository.findById(1L).get().name }.toSet() == ["replica1"].toSet()
+
+        when:
+            executeUpdate(context, "replica1", "UPDATE replication_status SET lag = 10")
+
+        then:
+            laggingRepository.findById(1L).get().name == "primary"
+
+        when:
+            executeUpdate(context, "replica2", "DELETE FROM replication_status")
+
+        then:
+            laggingRepository.findById(1L).get().name == "replica2"
+
+        cleanup:
+            context.close()
+    }
+
+    private Map<String, Object> getReplicaProperties(String databasePrefix) {
+        Map<String, Object> properties = [:]
+        ["default", "replica1", "replica2"].each { dataSourceName ->
+            getH2DataSourceProperties(dataSourceName).each { key, value ->
+                properties.put(key, value)
+            }
+            properties.put("datasources.${dataSourceName}.url".toString(), "jdbc:h2:mem:${databasePrefix}_${dataSourceName};LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE".toString())
+        }
+        return properties
+    }
+
+    private static void executeUpdate(ApplicationContext context, String dataSourceName, String sql) {
+        DelegatingDataSource.unwrapDataSource(context.getBean(DataSource, Qualifiers.byName(dataSourceName))).connection.withCloseable {
+            it.createStatement().executeUpdate(sql)
+        }
+    }
+}
+
+@MappedEntity
+class ReplicatedItem {
+    @Id
+    Long id
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface ReplicatedItemRepository extends CrudRepository<ReplicatedItem, Long> {
+}
@@ -0,0 +1,103 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.WriteChunkSize
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.stream.IntStream
+import java.util.stream.Stream
+
+class H2StreamingSaveAllSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    StreamedRowRepository repository = applicationContext.getBean(StreamedRowRepository)
+
+    void cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test save all from a stream returns the count"() {
+        given:
+            def closed = false
+            def rows = IntStream.range(0, 25).mapToObj { new StreamedRow(label: "row$it") }.onClose { closed = true }
+
+        when:
+            def count = repository.saveAll(rows)
+
+        then:
+            count == 25
+            closed
+            repository.count() == 25
+    }
+
+    void "test save all from an iterator"() {
+        when:
+            repository.persistAll((0..<7).collect { new StreamedRow(label: "row$it") }.iterator())
+
+        then:
+            repository.count() == 7
+    }
+
+    void "test save all from a publisher returns the persisted entities"() {
+        when:
+            def rows = repository.insertAll(Flux.range(0, 11).map { new StreamedRow(label: "row$it") })
+
+        then:
+            rows.size() == 11
+            rows.every { it.id != null }
+            repository.count() == 11
+    }
+
+    void "test save all returning a stream persists all the chunks"() {
+        given:
+            def closed = false
+            def rows = repository.storeAll(IntStream.range(0, 9).mapToObj { new StreamedRow(label: "row$it") }.onClose { closed = true })
+
+        expect:
+            closed
+            repository.count() == 9
+
+        when:
+            def persisted = rows.limit(3).toList()
+
+        then:
+            persisted.size() == 3
+            persisted.every { it.id != null }
+            repository.count() == 9
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+@WriteChunkSize(4)
+interface StreamedRowRepository extends CrudRepository<StreamedRow, Long> {
+
+    long saveAll(Stream<StreamedRow> rows)
+
+    void persistAll(Iterator<StreamedRow> rows)
+
+    List<StreamedRow> insertAll(Publisher<StreamedRow> rows)
+
+    Stream<StreamedRow> storeAll(Stream<StreamedRow> rows)
+}
+
+@MappedEntity
+class StreamedRow {
+    @Id
+    @GeneratedValue
+    Long id
+    String label
+}
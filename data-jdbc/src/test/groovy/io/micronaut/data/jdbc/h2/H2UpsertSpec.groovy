@@ -0,0 +1,125 @@
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.DateCreated
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+
+class H2UpsertSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    UpsertProductRepository repository = applicationContext.getBean(UpsertProductRepository)
+
+    @Shared
+    UpsertVersionedProductRepository versionedRepository = applicationContext.getBean(UpsertVersionedProductRepository)
+
+    void cleanup() {
+        repository.deleteAll()
+        versionedRepository.deleteAll()
+    }
+
+    void "test upsert inserts and updates the entity"() {
+        when:
+            repository.saveOrUpdate(new UpsertProduct(id: "p1", name: "Pen", stock: 1))
+        then:
+            repository.count() == 1
+            repository.findById("p1").get().stock == 1
+
+        when:
+            repository.saveOrUpdate(new UpsertProduct(id: "p1", name: "Pen", stock: 5))
+        then:
+            repository.count() == 1
+            repository.findById("p1").get().stock == 5
+    }
+
+    void "test upsert all inserts the new entities and updates the existing"() {
+        given:
+            repository.save(new UpsertProduct(id: "p1", name: "Pen", stock: 1))
+
+        when:
+            def result = repository.saveOrUpdateAll([
+                    new UpsertProduct(id: "p1", name: "Pen", stock: 2),
+                    new UpsertProduct(id: "p2", name: "Pencil", stock: 3)
+            ])
+        then:
+            result.size() == 2
+            repository.count() == 2
+            repository.findById("p1").get().stock == 2
+            repository.findById("p2").get().name == "Pencil"
+    }
+
+    void "test upsert increments the version and keeps the creation date of the existing entity"() {
+        given:
+            def saved = versionedRepository.saveOrUpdate(new UpsertVersionedProduct(id: "p1", name: "Pen"))
+            def inserted = versionedRepository.findById("p1").get()
+
+        expect:
+            saved.version == 0
+            inserted.version == 0
+            inserted.created != null
+
+        when:
+            versionedRepository.saveOrUpdate(new UpsertVersionedProduct(id: "p1", name: "Pencil"))
+            def updated = versionedRepository.findById("p1").get()
+
+        then:
+            updated.name == "Pencil"
+            updated.version == 1
+            updated.created == inserted.created
+
+        when: "the entity loaded before the upsert is updated"
+            inserted.name = "Marker"
+            versionedRepository.update(inserted)
+
+        then:
+            thrown(OptimisticLockException)
+            versionedRepository.findById("p1").get().name == "Pencil"
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface UpsertVersionedProductRepository extends CrudRepository<UpsertVersionedProduct, String> {
+
+    UpsertVersionedProduct saveOrUpdate(UpsertVersionedProduct product)
+}
+
+@MappedEntity
+class UpsertVersionedProduct {
+    @Id
+    String id
+    @Version
+    Long version
+    @DateCreated
+    Instant created
+    String name
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface UpsertProductRepository extends CrudRepository<UpsertProduct, String> {
+
+    UpsertProduct saveOrUpdate(UpsertProduct product)
+
+    List<UpsertProduct> saveOrUpdateAll(Iterable<UpsertProduct> products)
+}
+
+@MappedEntity
+class UpsertProduct {
+    @Id
+    String id
+    String name
+    int stock
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class H2WriteBehindSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties() + [
+            'datasources.default.write-behind': 'true'
+    ])
+
+    @Shared
+    WriteBehindItemRepository repository = applicationContext.getBean(WriteBehindItemRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    @Shared
+    JdbcRepositoryOperations repositoryOperations = applicationContext.getBean(JdbcRepositoryOperations)
+
+    void cleanup() {
+        repository.deleteAll()
+    }
+
+    void "test queued writes are flushed before reads"() {
+        when:
+            def items = transactionOperations.executeWrite {
+                repository.save(new WriteBehindItem(id: 1, name: "A"))
+                repository.save(new WriteBehindItem(id: 2, name: "B"))
+                def item = repository.save(new WriteBehindItem(id: 3, name: "C"))
+                item.name = "C2"
+                repository.update(item)
+                repository.deleteById(2)
+                repository.delete(new WriteBehindItem(id: 1, version: 0))
+                return repository.findAll().toList()
+            }
+
+        then:
+            items.size() == 1
+            items[0].name == "C2"
+            items[0].version == 1
+            repository.count() == 1
+    }
+
+    void "test queued writes are flushed on commit"() {
+        when:
+            transactionOperations.executeWrite {
+                (1..10).each { repository.save(new WriteBehindItem(id: it, name: "Item " + it)) }
+            }
+
+        then:
+            repository.count() == 10
+            repository.findById(10).get().name == "Item 10"
+    }
+
+    void "test queued writes are discarded on rollback"() {
+        when:
+            transactionOperations.executeWrite { status ->
+                repository.save(new WriteBehindItem(id: 1, name: "A"))
+                status.setRollbackOnly()
+            }
+
+        then:
+            repository.count() == 0
+    }
+
+    void "test queued writes of the outer transaction survive the rollback of a nested transaction"() {
+        when:
+            transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                repository.save(new WriteBehindItem(id: 1, name: "A"))
+                try {
+                    transactionOperations.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) {
+                        repository.save(new WriteBehindItem(id: 2, name: "B"))
+                        assert repository.count() == 2
+                        repository.save(new WriteBehindItem(id: 3, name: "C"))
+                        throw new IllegalStateException("Rollback to savepoint")
+                    }
+                } catch (IllegalStateException ignored) {
+                }
+                repository.save(new WriteBehindItem(id: 4, name: "D"))
+            }
+
+        then:
+            repository.findAll()*.id.sort() == [1L, 4L]
+    }
+
+    void "test optimistic locking failure is reported by the flush"() {
+        given:
+            repository.save(new WriteBehindItem(id: 1, name: "A"))
+
+        when:
+            transactionOperations.executeWrite {
+                repository.update(new WriteBehindItem(id: 1, version: 5, name: "B"))
+                repositoryOperations.flush()
+            }
+
+        then:
+            thrown(OptimisticLockException)
+            repository.findById(1).get().name == "A"
+    }
+}
+
+@JdbcRepository(dialect = Dialect.H2)
+interface WriteBehindItemRepository extends CrudRepository<WriteBehindItem, Long> {
+}
+
+@MappedEntity
+class WriteBehindItem {
+    @Id
+    Long id
+    @Version
+    Long version
+    String name
+}
@@ -172,6 +172,31 @@ class ManyToManyJoinTableSpec extends Specification implements H2TestPropertyPro
             insert.query == 'INSERT INTO "students"."m2m_course_rating_ck" ("rating","xyz_student_id","abc_course_id") VALUES (?,?,?)'
     }
 
+    void 'test many-to-many saveAll cascades the courses of all students'() {
+        given:
+            Course shared = new Course(name: "History")
+            List<Student> students = [
+                    new Student(name: "Anna", courses: [new Course(name: "Biology"), shared]),
+                    new Student(name: "Peter", courses: [new Course(name: "Chemistry"), shared]),
+                    new Student(name: "Jane", courses: [new Course(name: "Art")])
+            ]
+        when:
+            students = studentRepository.saveAll(students).toList()
+        then:
+            students.every { it.id }
+            students.every { student -> student.courses.every { it.id } }
+            students[0].courses[1].id == students[1].courses[1].id
+        when:
+            def anna = studentRepository.findById(students[0].id).get()
+            def peter = studentRepository.findById(students[1].id).get()
+            def jane = studentRepository.findById(students[2].id).get()
+        then:
+            anna.courses*.name.sort() == ["Biology", "History"]
+            peter.courses*.name.sort() == ["Chemistry", "History"]
+            jane.courses*.name == ["Art"]
+            courseRepository.findAll().count { it.name == "History" } == 1
+    }
+
     @Shared
     Map<Class, RuntimePersistentEntity> entities = [:]
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.mysql
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class MySqlFetchSizeSpec extends Specification implements MySQLTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(properties)
+
+    @Shared
+    MySqlPersonRepository personRepository = applicationContext.getBean(MySqlPersonRepository)
+
+    @Shared
+    MySqlPersonFetchSizeRepository fetchSizeRepository = applicationContext.getBean(MySqlPersonFetchSizeRepository)
+
+    @Shared
+    TransactionOperations<Connection> transactionOperations = applicationContext.getBean(TransactionOperations)
+
+    void setup() {
+        personRepository.deleteAll()
+        personRepository.saveAll([
+                new Person(name: 'c', age: 30),
+                new Person(name: 'a', age: 10),
+                new Person(name: 'b', age: 20),
+                new Person(name: 'd', age: 40)
+        ])
+    }
+
+    void "test stream the rows one by one"() {
+        when:
+            def names = fetchSizeRepository.findByNameIsNotNullOrderByName().withCloseable { stream ->
+                stream.map { it.name }.toList()
+            }
+
+        then:
+            names == ['a', 'b', 'c', 'd']
+            personRepository.count() == 4
+    }
+
+    void "test stream with the fetch size in a transaction"() {
+        when:
+            def result = transactionOperations.executeRead {
+                fetchSizeRepository.findByNameIsNotNullOrderByName().withCloseable { stream ->
+                    def iterator = stream.iterator()
+                    def first = iterator.next().name
+                    // The connection of the transaction is still usable while the stream is open
+                    [first, personRepository.count()]
+                }
+            }
+
+        then:
+            result == ['a', 4L]
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.annotation.QueryHint;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.jdbc.operations.JdbcQueryHints;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.data.tck.entities.Person;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface H2PersonFetchSizeRepository extends GenericRepository<Person, Long> {
+
+    @QueryHint(name = JdbcQueryHints.FETCH_SIZE, value = "2")
+    Stream<Person> findByNameIsNotNullOrderByName();
+
+    @QueryHint(name = JdbcQueryHints.RESULT_SET_TYPE, value = "SCROLL_INSENSITIVE")
+    List<Person> findByAgeGreaterThanOrderByName(int age);
+
+    @QueryHint(name = JdbcQueryHints.FETCH_SIZE, value = "many")
+    List<Person> findByAgeLessThan(int age);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jpa.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the number of the entities after which the batch write methods ({@code saveAll}, {@code updateAll}, {@code deleteAll})
+ * flush and clear the session. The entities already written become detached.
+ *
+ * <pre class="code">
+ * &#64;WriteBatchSize(1000)
+ * &lt;S extends Book&gt; List&lt;S&gt; saveAll(Iterable&lt;S&gt; books);
+ * </pre>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface WriteBatchSize {
+
+    /**
+     * The number of the entities written between the flushes, 0 to disable the flushing.
+     * Should be aligned with {@code hibernate.jdbc.batch_size}.
+     *
+     * @return The batch size
+     */
+    int value();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.connection.ConnectionDefinition;
+import io.micronaut.data.connection.support.AbstractConnectionOperations;
+import io.micronaut.data.connection.support.ConnectionObserver;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers a {@link ConnectionObserver} recording the connection wait and hold times of every connection operations.
+ *
+ * @since 4.12
+ */
+@Singleton
+@Requires(beans = MeterRegistry.class)
+@Requires(property = DataMetrics.ENABLED, notEquals = StringUtils.FALSE)
+@Internal
+final class ConnectionMetricsBinder implements BeanCreatedEventListener<AbstractConnectionOperations<?>> {
+
+    private final BeanProvider<MeterRegistry> meterRegistry;
+
+    ConnectionMetricsBinder(BeanProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public AbstractConnectionOperations<?> onCreated(BeanCreatedEvent<AbstractConnectionOperations<?>> event) {
+        AbstractConnectionOperations<?> connectionOperations = event.getBean();
+        connectionOperations.addConnectionObserver(new MicrometerConnectionObserver(meterRegistry.get(), event.getBeanIdentifier().getName()));
+        return connectionOperations;
+    }
+
+    private static final class MicrometerConnectionObserver implements ConnectionObserver {
+
+        private final Timer waitTimer;
+        private final Timer holdTimer;
+
+        private MicrometerConnectionObserver(MeterRegistry meterRegistry, String dataSourceName) {
+            this.waitTimer = Timer.builder(DataMetrics.CONNECTION_WAIT)
+                .tag(DataMetrics.TAG_DATASOURCE, dataSourceName)
+                .register(meterRegistry);
+            this.holdTimer = Timer.builder(DataMetrics.CONNECTION_HOLD)
+                .tag(DataMetrics.TAG_DATASOURCE, dataSourceName)
+                .register(meterRegistry);
+        }
+
+        @Override
+        public void connectionOpened(ConnectionDefinition definition, long waitNanos) {
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void connectionClosed(ConnectionDefinition definition, long holdNanos) {
+            holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer;
+
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * The names of the meters and tags recorded by the Micronaut Data metrics.
+ *
+ * @since 4.12
+ */
+public final class DataMetrics {
+
+    /**
+     * The property to disable the metrics, they are enabled when a {@link io.micrometer.core.instrument.MeterRegistry} bean exists.
+     */
+    public static final String ENABLED = "micronaut.data.metrics.enabled";
+
+    /**
+     * The timer of the repository method invocations.
+     */
+    public static final String REPOSITORY_INVOCATION = "micronaut.data.repository.invocation";
+
+    /**
+     * The timer of the query statement executions.
+     */
+    public static final String QUERY_EXECUTE = "micronaut.data.query.execute";
+
+    /**
+     * The timer of the query result mappings.
+     */
+    public static final String QUERY_MAP = "micronaut.data.query.map";
+
+    /**
+     * The distribution of the number of rows read by a query.
+     */
+    public static final String QUERY_ROWS_READ = "micronaut.data.query.rows.read";
+
+    /**
+     * The distribution of the number of rows written by a statement.
+     */
+    public static final String QUERY_ROWS_WRITTEN = "micronaut.data.query.rows.written";
+
+    /**
+     * The distribution of the batch sizes.
+     */
+    public static final String QUERY_BATCH_SIZE = "micronaut.data.query.batch.size";
+
+    /**
+     * The timer of the time spent opening or acquiring a connection.
+     */
+    public static final String CONNECTION_WAIT = "micronaut.data.connection.wait";
+
+    /**
+     * The timer of the time a connection is held.
+     */
+    public static final String CONNECTION_HOLD = "micronaut.data.connection.hold";
+
+    /**
+     * The timer of the transaction durations.
+     */
+    public static final String TRANSACTION = "micronaut.data.transaction";
+
+    /**
+     * The data source name tag.
+     */
+    public static final String TAG_DATASOURCE = "datasource";
+
+    /**
+     * The repository simple name tag.
+     */
+    public static final String TAG_REPOSITORY = "repository";
+
+    /**
+     * The repository method name tag.
+     */
+    public static final String TAG_METHOD = "method";
+
+    /**
+     * The simple name of the exception thrown by the repository method, {@code none} on success.
+     */
+    public static final String TAG_EXCEPTION = "exception";
+
+    /**
+     * The transaction completion status tag: {@code committed}, {@code rolled_back} or {@code unknown}.
+     */
+    public static final String TAG_STATUS = "status";
+
+    static final String NONE = "none";
+
+    private static final String INTERCEPTED_SUFFIX = "$Intercepted";
+
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String name = type.getSimpleName();
+            if (name.endsWith(INTERCEPTED_SUFFIX)) {
+                name = name.substring(0, name.length() - INTERCEPTED_SUFFIX.length());
+            }
+            return name.startsWith("$") ? name.substring(1) : name;
+        }
+    };
+
+    private DataMetrics() {
+    }
+
+    /**
+     * The repository tag value, the simple name of the repository without the generated suffix.
+     *
+     * @param repositoryType The repository type
+     * @return The repository name
+     */
+    @NonNull
+    static String repositoryName(@NonNull Class<?> repositoryType) {
+        return REPOSITORY_NAMES.get(repositoryType);
+    }
+}
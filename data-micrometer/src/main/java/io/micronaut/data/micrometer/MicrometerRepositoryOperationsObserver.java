@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.runtime.operations.RepositoryOperationsObserver;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the execute and map phases, the rows and the batch sizes of the JDBC repository operations.
+ *
+ * @since 4.12
+ */
+@Singleton
+@Requires(beans = MeterRegistry.class)
+@Requires(property = DataMetrics.ENABLED, notEquals = StringUtils.FALSE)
+@Internal
+final class MicrometerRepositoryOperationsObserver implements RepositoryOperationsObserver {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+
+    MicrometerRepositoryOperationsObserver(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void queryExecuted(String dataSourceName, Class<?> repositoryType, String methodName, long executeNanos) {
+        timer(DataMetrics.QUERY_EXECUTE, dataSourceName, repositoryType, methodName).record(executeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void resultMapped(String dataSourceName, Class<?> repositoryType, String methodName, long rowsRead, long mapNanos) {
+        timer(DataMetrics.QUERY_MAP, dataSourceName, repositoryType, methodName).record(mapNanos, TimeUnit.NANOSECONDS);
+        summary(DataMetrics.QUERY_ROWS_READ, dataSourceName, repositoryType, methodName).record(rowsRead);
+    }
+
+    @Override
+    public void rowsWritten(String dataSourceName, Class<?> repositoryType, String methodName, long rowsWritten) {
+        summary(DataMetrics.QUERY_ROWS_WRITTEN, dataSourceName, repositoryType, methodName).record(rowsWritten);
+    }
+
+    @Override
+    public void batchExecuted(String dataSourceName, Class<?> repositoryType, String methodName, int batchSize) {
+        summary(DataMetrics.QUERY_BATCH_SIZE, dataSourceName, repositoryType, methodName).record(batchSize);
+    }
+
+    private Timer timer(String name, String dataSourceName, Class<?> repositoryType, String methodName) {
+        return (Timer) meters.computeIfAbsent(new MeterKey(name, dataSourceName, repositoryType, methodName),
+            key -> Timer.builder(key.name).tags(key.tags()).register(meterRegistry));
+    }
+
+    private DistributionSummary summary(String name, String dataSourceName, Class<?> repositoryType, String methodName) {
+        return (DistributionSummary) meters.computeIfAbsent(new MeterKey(name, dataSourceName, repositoryType, methodName),
+            key -> DistributionSummary.builder(key.name).tags(key.tags()).register(meterRegistry));
+    }
+
+    private record MeterKey(String name, String dataSourceName, Class<?> repositoryType, String methodName) {
+
+        Tags tags() {
+            return Tags.of(
+                DataMetrics.TAG_DATASOURCE, dataSourceName,
+                DataMetrics.TAG_REPOSITORY, DataMetrics.repositoryName(repositoryType),
+                DataMetrics.TAG_METHOD, methodName
+            );
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.InterceptedMethod;
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of the repository method invocations, including the completion of the reactive and asynchronous results.
+ *
+ * @since 4.12
+ */
+@Singleton
+@InterceptorBean(Repository.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = DataMetrics.ENABLED, notEquals = StringUtils.FALSE)
+@Internal
+final class RepositoryMetricsInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final MeterRegistry meterRegistry;
+    private final ConversionService conversionService;
+    private final Map<RepositoryMethodKey, Timer> successTimers = new ConcurrentHashMap<>();
+
+    RepositoryMetricsInterceptor(MeterRegistry meterRegistry, ConversionService conversionService) {
+        this.meterRegistry = meterRegistry;
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public int getOrder() {
+        return InterceptPhase.TRACE.getPosition();
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        try {
+            return switch (interceptedMethod.resultType()) {
+                case PUBLISHER -> {
+                    Publisher<?> publisher = interceptedMethod.interceptResultAsPublisher();
+                    yield interceptedMethod.handleResult(Flux.defer(() -> {
+                        long start = System.nanoTime();
+                        return Flux.from(publisher)
+                            .doOnComplete(() -> record(context, start, null))
+                            .doOnCancel(() -> record(context, start, null))
+                            .doOnError(throwable -> record(context, start, throwable));
+                    }));
+                }
+                case COMPLETION_STAGE -> {
+                    long start = System.nanoTime();
+                    yield interceptedMethod.handleResult(
+                        interceptedMethod.interceptResultAsCompletionStage()
+                            .whenComplete((value, throwable) -> record(context, start, throwable))
+                    );
+                }
+                case SYNCHRONOUS -> {
+                    long start = System.nanoTime();
+                    try {
+                        Object result = context.proceed();
+                        record(context, start, null);
+                        yield result;
+                    } catch (RuntimeException e) {
+                        record(context, start, e);
+                        throw e;
+                    }
+                }
+            };
+        } catch (Exception e) {
+            return interceptedMethod.handleException(e);
+        }
+    }
+
+    private void record(MethodInvocationContext<Object, Object> context, long start, @Nullable Throwable throwable) {
+        long duration = System.nanoTime() - start;
+        Timer timer;
+        if (throwable == null) {
+            timer = successTimers.computeIfAbsent(new RepositoryMethodKey(context.getTarget(), context.getExecutableMethod()),
+                key -> timer(context, DataMetrics.NONE));
+        } else {
+            if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                throwable = throwable.getCause();
+            }
+            timer = timer(context, throwable.getClass().getSimpleName());
+        }
+        timer.record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(MethodInvocationContext<Object, Object> context, String exception) {
+        return Timer.builder(DataMetrics.REPOSITORY_INVOCATION)
+            .tag(DataMetrics.TAG_REPOSITORY, DataMetrics.repositoryName(context.getTarget().getClass()))
+            .tag(DataMetrics.TAG_METHOD, context.getMethodName())
+            .tag(DataMetrics.TAG_EXCEPTION, exception)
+            .register(meterRegistry);
+    }
+}
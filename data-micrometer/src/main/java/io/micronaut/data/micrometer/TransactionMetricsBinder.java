@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.support.AbstractTransactionOperations;
+import io.micronaut.transaction.support.TransactionObserver;
+import io.micronaut.transaction.support.TransactionSynchronization;
+import jakarta.inject.Singleton;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers a {@link TransactionObserver} recording the transaction durations of every transaction operations.
+ *
+ * @since 4.12
+ */
+@Singleton
+@Requires(beans = MeterRegistry.class)
+@Requires(property = DataMetrics.ENABLED, notEquals = StringUtils.FALSE)
+@Internal
+final class TransactionMetricsBinder implements BeanCreatedEventListener<AbstractTransactionOperations<?, ?>> {
+
+    private final BeanProvider<MeterRegistry> meterRegistry;
+
+    TransactionMetricsBinder(BeanProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public AbstractTransactionOperations<?, ?> onCreated(BeanCreatedEvent<AbstractTransactionOperations<?, ?>> event) {
+        AbstractTransactionOperations<?, ?> transactionOperations = event.getBean();
+        transactionOperations.addTransactionObserver(new MicrometerTransactionObserver(meterRegistry.get(), event.getBeanIdentifier().getName()));
+        return transactionOperations;
+    }
+
+    private static final class MicrometerTransactionObserver implements TransactionObserver {
+
+        private final Map<TransactionSynchronization.Status, Timer> timers = new EnumMap<>(TransactionSynchronization.Status.class);
+
+        private MicrometerTransactionObserver(MeterRegistry meterRegistry, String dataSourceName) {
+            for (TransactionSynchronization.Status status : TransactionSynchronization.Status.values()) {
+                timers.put(status, Timer.builder(DataMetrics.TRANSACTION)
+                    .tag(DataMetrics.TAG_DATASOURCE, dataSourceName)
+                    .tag(DataMetrics.TAG_STATUS, status.name().toLowerCase(Locale.ENGLISH))
+                    .register(meterRegistry));
+            }
+        }
+
+        @Override
+        public void transactionCompleted(TransactionDefinition definition, TransactionSynchronization.Status status, long durationNanos) {
+            timers.get(status).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.micrometer
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.sql.Connection
+
+class DataMetricsSpec extends Specification {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(properties())
+
+    @Shared
+    MetricsBookRepository repository = context.getBean(MetricsBookRepository)
+
+    @Shared
+    MeterRegistry meterRegistry = context.getBean(MeterRegistry)
+
+    Map<String, Object> properties() {
+        return [
+                'datasources.default.url'            : 'jdbc:h2:mem:metricsDb;DB_CLOSE_DELAY=10',
+                'datasources.default.username'       : 'sa',
+                'datasources.default.password'       : '',
+                'datasources.default.dialect'        : 'H2',
+                'datasources.default.schema-generate': 'CREATE_DROP',
+                'datasources.default.packages'       : 'io.micronaut.data.micrometer'
+        ]
+    }
+
+    void 'test repository invocation and query metrics'() {
+        given:
+        repository.saveAll([new MetricsBook("The Stand"), new MetricsBook("The Shining")])
+
+        when:
+        def books = repository.findByTitle("The Stand")
+
+        then:
+        books.size() == 1
+        meterRegistry.get(DataMetrics.REPOSITORY_INVOCATION)
+                .tags(DataMetrics.TAG_REPOSITORY, "MetricsBookRepository", DataMetrics.TAG_METHOD, "findByTitle", DataMetrics.TAG_EXCEPTION, "none")
+                .timer().count() == 1
+        meterRegistry.get(DataMetrics.QUERY_EXECUTE)
+                .tags(DataMetrics.TAG_DATASOURCE, "default", DataMetrics.TAG_METHOD, "findByTitle")
+                .timer().count() == 1
+        meterRegistry.get(DataMetrics.QUERY_MAP)
+                .tags(DataMetrics.TAG_DATASOURCE, "default", DataMetrics.TAG_METHOD, "findByTitle")
+                .timer().count() == 1
+        meterRegistry.get(DataMetrics.QUERY_ROWS_READ)
+                .tags(DataMetrics.TAG_METHOD, "findByTitle")
+                .summary().totalAmount() == 1
+        meterRegistry.get(DataMetrics.QUERY_ROWS_WRITTEN)
+                .tags(DataMetrics.TAG_METHOD, "saveAll")
+                .summary().totalAmount() == 2
+        meterRegistry.get(DataMetrics.CONNECTION_WAIT)
+                .tags(DataMetrics.TAG_DATASOURCE, "default")
+                .timer().count() > 0
+        meterRegistry.get(DataMetrics.CONNECTION_HOLD)
+                .tags(DataMetrics.TAG_DATASOURCE, "default")
+                .timer().count() > 0
+
+        cleanup:
+        repository.deleteAll()
+    }
+
+    void 'test streamed query metrics are recorded when the stream is consumed'() {
+        given:
+        TransactionOperations<Connection> transactionOperations = context.getBean(TransactionOperations)
+        repository.saveAll([new MetricsBook("It"), new MetricsBook("It Ends"), new MetricsBook("Carrie")])
+
+        when:
+        def titles = transactionOperations.executeRead {
+            repository.readByTitleLike("It%").withCloseable { stream -> stream.map { it.title }.toList() }
+        }
+
+        then:
+        titles.toSorted() == ["It", "It Ends"]
+        meterRegistry.get(DataMetrics.QUERY_EXECUTE)
+                .tags(DataMetrics.TAG_DATASOURCE, "default", DataMetrics.TAG_METHOD, "readByTitleLike")
+                .timer().count() == 1
+        meterRegistry.get(DataMetrics.QUERY_MAP)
+                .tags(DataMetrics.TAG_DATASOURCE, "default", DataMetrics.TAG_METHOD, "readByTitleLike")
+                .timer().count() == 1
+        meterRegistry.get(DataMetrics.QUERY_ROWS_READ)
+                .tags(DataMetrics.TAG_METHOD, "readByTitleLike")
+                .summary().totalAmount() == 2
+
+        cleanup:
+        repository.deleteAll()
+    }
+
+    void 'test batch and transaction metrics'() {
+        given:
+        TransactionOperations<Connection> transactionOperations = context.getBean(TransactionOperations)
+        def books = repository.saveAll([new MetricsBook("A"), new MetricsBook("B"), new MetricsBook("C")])
+        books.each { it.title = it.title.toLowerCase() }
+
+        when:
+        transactionOperations.executeWrite { repository.updateAll(books) }
+
+        then:
+        meterRegistry.get(DataMetrics.QUERY_BATCH_SIZE)
+                .tags(DataMetrics.TAG_METHOD, "updateAll")
+                .summary().max() == 3
+        meterRegistry.get(DataMetrics.TRANSACTION)
+                .tags(DataMetrics.TAG_DATASOURCE, "default", DataMetrics.TAG_STATUS, "committed")
+                .timer().count() > 0
+
+        cleanup:
+        repository.deleteAll()
+    }
+
+    void 'test metrics can be disabled'() {
+        given:
+        def properties = properties() + ['micronaut.data.metrics.enabled': 'false', 'datasources.default.url': 'jdbc:h2:mem:metricsDisabledDb;DB_CLOSE_DELAY=10']
+        ApplicationContext disabledContext = ApplicationContext.run(properties)
+
+        when:
+        disabledContext.getBean(MetricsBookRepository).findByTitle("The Stand")
+
+        then:
+        disabledContext.getBean(MeterRegistry).find(DataMetrics.REPOSITORY_INVOCATION).timer() == null
+        disabledContext.getBean(MeterRegistry).find(DataMetrics.QUERY_EXECUTE).timer() == null
+
+        cleanup:
+        disabledContext.close()
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of a repository query method keyed by its parameter values.
+ * The cached results are invalidated when an entity of the root or of a joined entity type is persisted, updated
+ * or deleted, or when an update or delete query method of a repository of such an entity is executed.
+ *
+ * <pre class="code">
+ * &#64;CacheableQuery(maximumSize = 100, ttl = "10m")
+ * List&lt;Book&gt; findByAuthorName(String name);
+ * </pre>
+ *
+ * <p>The cached instances are shared between the invocations and should not be modified.</p>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface CacheableQuery {
+
+    /**
+     * @return The maximum number of the cached results of the method
+     */
+    int maximumSize() default 1000;
+
+    /**
+     * @return The duration after which a cached result expires
+     */
+    String ttl() default "5m";
+
+    /**
+     * The entity types whose changes invalidate the cached results. The root entity and the joined entities
+     * of the query are added by the annotation processor.
+     *
+     * @return The entity types
+     */
+    Class<?>[] entities() default {};
+}
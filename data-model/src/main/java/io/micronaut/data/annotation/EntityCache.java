@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the instances of a mapped entity by their identity. The cache is used by the queries finding a single
+ * entity by its identity, for example {@code findById}, of the JDBC and R2DBC repositories.
+ * The cached instances are evicted by the updates and deletes of the entity and the instances read or written
+ * in a transaction are only shared after the transaction was committed.
+ *
+ * <pre class="code">
+ * &#64;MappedEntity
+ * &#64;EntityCache(maximumSize = 1000, ttl = "10m")
+ * public class Book { ... }
+ * </pre>
+ *
+ * <p>The cached instances are shared between the invocations and should not be modified.</p>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EntityCache {
+
+    /**
+     * @return The maximum number of the cached instances of the entity
+     */
+    int maximumSize() default 10000;
+
+    /**
+     * @return The duration after which a cached instance expires, an empty value means the instances don't expire
+     */
+    String ttl() default "";
+}
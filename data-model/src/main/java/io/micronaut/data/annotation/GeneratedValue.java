@@ -49,6 +49,19 @@ public @interface GeneratedValue {
      */
     String ref() default "";
 
+    /**
+     * In the case of sequence generators, the number of the identifiers allocated by one call of the sequence.
+     * A value greater than 1 makes the repository operations assign the identifiers before the insert
+     * from the blocks of the identifiers fetched from the sequence, which is then incremented by this value.
+     * The entities with the pooled identifiers can be inserted in batches on every dialect supporting sequences.
+     * An existing sequence must be incremented by the allocation size ({@code INCREMENT BY}),
+     * otherwise the blocks of the identifiers overlap and the same identifier is assigned twice.
+     *
+     * @return The allocation size
+     * @since 4.12
+     */
+    int allocationSize() default 1;
+
     /**
      * The type of generation.
      */
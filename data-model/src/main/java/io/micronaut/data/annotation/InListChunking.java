@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Splits the collection bound to the {@code IN} list of a find method into chunks, each executed as a separate query.
+ * The values are de-duplicated and the results of the chunks are concatenated. Applies to the JDBC and R2DBC repositories,
+ * the methods with pagination or a sort parameter or more than one expanded parameter are executed as a single query.
+ *
+ * <pre class="code">
+ * &#64;InListChunking(size = 500, concurrency = 4)
+ * Flux&lt;Book&gt; findByIdIn(List&lt;Long&gt; ids);
+ * </pre>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface InListChunking {
+
+    /**
+     * @return The maximum number of the values per query, by default the limit of the dialect
+     */
+    int size() default 0;
+
+    /**
+     * @return The number of the chunks executed concurrently by the asynchronous and reactive methods, the chunks
+     * of a method called inside a transaction are executed one by one
+     */
+    int concurrency() default 1;
+
+    /**
+     * @return Whether the entities are returned in the order of the given identifiers
+     */
+    boolean preserveOrder() default false;
+}
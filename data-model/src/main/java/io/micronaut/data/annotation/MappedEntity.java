@@ -73,4 +73,13 @@ public @interface MappedEntity {
      * @return the schema to use for this query
      */
     String schema() default "";
+
+    /**
+     * Only applies to JDBC repositories. When enabled, the values of the loaded entities are tracked
+     * and the entity update only writes the changed columns. An update without changes is skipped.
+     * The tracked values are refreshed when the update is committed.
+     * @since 4.12
+     * @return Whether to update only the changed columns
+     */
+    boolean dynamicUpdate() default false;
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how the total count of a {@link io.micronaut.data.model.Page} returned by a query method is computed.
+ * Can be declared on a method or on the repository to apply to all its page methods.
+ *
+ * <pre class="code">
+ * &#64;PageCount(PageCount.Strategy.WINDOW)
+ * Page&lt;Book&gt; findByTitleLike(String title, Pageable pageable);
+ * </pre>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface PageCount {
+
+    /**
+     * @return The strategy used to compute the total count
+     */
+    Strategy value() default Strategy.SEPARATE;
+
+    /**
+     * The strategies of computing the total count of a page.
+     */
+    enum Strategy {
+        /**
+         * The count query is executed after the page query.
+         */
+        SEPARATE,
+        /**
+         * The count query is skipped when the total can be derived from the page, which is the case when the page
+         * is not full or when the first page is empty.
+         */
+        ELIDE,
+        /**
+         * The count is selected together with the page rows using the {@code COUNT(*) OVER()} window function.
+         * Supported by the synchronous JDBC repositories for the entity queries without joins and the dialects
+         * with the window functions, falls back to {@link #ELIDE} otherwise.
+         */
+        WINDOW,
+        /**
+         * The count query is executed concurrently with the page query by the asynchronous and reactive
+         * repositories, executed like {@link #SEPARATE} by the synchronous repositories and inside of a transaction.
+         */
+        CONCURRENT
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the number of the entities written per batch by the save methods accepting
+ * a {@link java.util.stream.Stream}, an {@link java.util.Iterator} or a {@link org.reactivestreams.Publisher} of the entities.
+ * Only one chunk of the entities is held in memory at a time.
+ *
+ * <pre class="code">
+ * &#64;WriteChunkSize(500)
+ * long saveAll(Stream&lt;Book&gt; books);
+ * </pre>
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface WriteChunkSize {
+
+    /**
+     * The default chunk size.
+     */
+    int DEFAULT = 1000;
+
+    /**
+     * @return The number of the entities written per batch
+     */
+    int value() default DEFAULT;
+}
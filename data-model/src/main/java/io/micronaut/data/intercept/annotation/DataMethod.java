@@ -145,6 +145,12 @@ public @interface DataMethod {
      */
     String META_MEMBER_OPTIMISTIC_LOCK = "optimisticLock";
 
+    /**
+     * Whether the insert operation should update the existing entity with the same identity.
+     * @since 4.12
+     */
+    String META_MEMBER_UPSERT = "upsert";
+
     /**
      * The query builder to use.
      */
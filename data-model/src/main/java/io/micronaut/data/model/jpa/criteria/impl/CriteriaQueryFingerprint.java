@@ -0,0 +1,321 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.jpa.criteria.impl;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.jpa.criteria.IExpression;
+import io.micronaut.data.model.jpa.criteria.IPredicate;
+import io.micronaut.data.model.jpa.criteria.ISelection;
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot;
+import io.micronaut.data.model.jpa.criteria.PersistentEntitySubquery;
+import io.micronaut.data.model.jpa.criteria.PersistentPropertyPath;
+import io.micronaut.data.model.jpa.criteria.impl.expression.BinaryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.FunctionExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.IdExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.LiteralExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.SubqueryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.expression.UnaryExpression;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.BetweenPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.BinaryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.ConjunctionPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.DisjunctionPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.ExistsSubqueryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.InPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.LikePredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.NegatedPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.predicate.UnaryPredicate;
+import io.micronaut.data.model.jpa.criteria.impl.selection.AliasedSelection;
+import io.micronaut.data.model.jpa.criteria.impl.selection.CompoundSelection;
+import io.micronaut.data.model.query.JoinPath;
+import io.micronaut.data.model.query.builder.QueryBuilder2;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The structural fingerprint of a select query. Two queries with the same fingerprint produce the same query string,
+ * the values of the parameters are not part of the fingerprint and are collected in the visiting order.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class CriteriaQueryFingerprint implements SelectionVisitor, PredicateVisitor {
+
+    private final StringBuilder key = new StringBuilder(128);
+    private final List<Object> parameterValues = new ArrayList<>();
+    private boolean supported = true;
+
+    private CriteriaQueryFingerprint() {
+    }
+
+    /**
+     * Compute the fingerprint of the select query.
+     *
+     * @param definition The query definition
+     * @return The fingerprint or null if the query contains an expression that cannot be fingerprinted
+     */
+    @Nullable
+    public static CriteriaQueryFingerprint of(@NonNull QueryBuilder2.SelectQueryDefinition definition) {
+        CriteriaQueryFingerprint fingerprint = new CriteriaQueryFingerprint();
+        fingerprint.append(definition);
+        return fingerprint.supported ? fingerprint : null;
+    }
+
+    /**
+     * @return The structural key
+     */
+    @NonNull
+    public String getKey() {
+        return key.toString();
+    }
+
+    /**
+     * @return The values of the parameter expressions in the visiting order
+     */
+    @NonNull
+    public List<Object> getParameterValues() {
+        return parameterValues;
+    }
+
+    private void append(QueryBuilder2.SelectQueryDefinition definition) {
+        key.append(definition.persistentEntity().getName());
+        if (definition.isDistinct()) {
+            key.append(" DISTINCT");
+        }
+        key.append(" SELECT ");
+        visitSelection(definition.selection());
+        key.append(" JOIN ");
+        for (JoinPath joinPath : definition.getJoinPaths()) {
+            key.append(joinPath.getPath()).append(':').append(joinPath.getJoinType());
+            joinPath.getAlias().ifPresent(alias -> key.append(':').append(alias));
+            key.append(',');
+        }
+        Predicate predicate = definition.predicate();
+        if (predicate != null) {
+            key.append(" WHERE ");
+            visitExpression(predicate);
+        }
+        key.append(" ORDER ");
+        for (Order order : definition.order()) {
+            visitExpression(order.getExpression());
+            key.append(order.isAscending() ? " ASC," : " DESC,");
+        }
+        key.append(" LIMIT ").append(definition.limit())
+            .append(" OFFSET ").append(definition.offset());
+        if (definition.isForUpdate()) {
+            key.append(" FOR UPDATE");
+        }
+        Map<String, Integer> parametersInRole = definition.parametersInRole();
+        if (!parametersInRole.isEmpty()) {
+            key.append(" ROLES ").append(parametersInRole);
+        }
+    }
+
+    private void visitSelection(@Nullable Selection<?> selection) {
+        if (selection instanceof ISelection<?> selectionVisitable) {
+            selectionVisitable.visitSelection(this);
+        } else {
+            supported = false;
+        }
+    }
+
+    private void visitExpression(@Nullable Expression<?> expression) {
+        if (expression instanceof IPredicate predicateVisitable) {
+            predicateVisitable.visitPredicate(this);
+        } else if (expression instanceof IExpression<?> expressionVisitable) {
+            expressionVisitable.visitExpression(this);
+        } else if (expression == null) {
+            key.append("null");
+        } else {
+            supported = false;
+        }
+    }
+
+    private void visitExpressions(String name, Collection<? extends Expression<?>> expressions) {
+        key.append(name).append('(');
+        for (Expression<?> expression : expressions) {
+            visitExpression(expression);
+            key.append(',');
+        }
+        key.append(')');
+    }
+
+    @Override
+    public void visit(Predicate predicate) {
+        visitExpression(predicate);
+    }
+
+    @Override
+    public void visit(PersistentPropertyPath<?> persistentPropertyPath) {
+        key.append('[').append(persistentPropertyPath.getPathAsString());
+        String alias = persistentPropertyPath.getAlias();
+        if (alias != null) {
+            key.append(':').append(alias);
+        }
+        key.append(']');
+    }
+
+    @Override
+    public void visit(PersistentEntityRoot<?> entityRoot) {
+        key.append("ROOT");
+        String alias = entityRoot.getAlias();
+        if (alias != null) {
+            key.append(':').append(alias);
+        }
+    }
+
+    @Override
+    public void visit(PersistentEntitySubquery<?> subquery) {
+        supported = false;
+    }
+
+    @Override
+    public void visit(LiteralExpression<?> literalExpression) {
+        // Literals are a part of the query string
+        Object value = literalExpression.getValue();
+        key.append("LITERAL(");
+        if (value != null) {
+            key.append(value.getClass().getName()).append(':');
+        }
+        key.append(value).append(')');
+    }
+
+    @Override
+    public void visit(UnaryExpression<?> unaryExpression) {
+        key.append(unaryExpression.getType()).append('(');
+        visitExpression(unaryExpression.getExpression());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(BinaryExpression<?> binaryExpression) {
+        visitExpressions(binaryExpression.getType().name(), List.of(binaryExpression.getLeft(), binaryExpression.getRight()));
+    }
+
+    @Override
+    public void visit(IdExpression<?, ?> idExpression) {
+        key.append("ID");
+    }
+
+    @Override
+    public void visit(FunctionExpression<?> functionExpression) {
+        visitExpressions("FUNCTION " + functionExpression.getName(), functionExpression.getExpressions());
+    }
+
+    @Override
+    public void visit(IParameterExpression<?> parameterExpression) {
+        if (parameterExpression instanceof DefaultParameterExpression<?> defaultParameterExpression) {
+            key.append("?(").append(parameterExpression.getParameterType().getName());
+            String name = parameterExpression.getName();
+            if (name != null) {
+                key.append(':').append(name);
+            }
+            key.append(')');
+            parameterValues.add(defaultParameterExpression.getValue());
+        } else {
+            supported = false;
+        }
+    }
+
+    @Override
+    public void visit(SubqueryExpression<?> subqueryExpression) {
+        supported = false;
+    }
+
+    @Override
+    public void visit(AliasedSelection<?> aliasedSelection) {
+        key.append("AS ").append(aliasedSelection.getAlias()).append('(');
+        visitSelection(aliasedSelection.getSelection());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(CompoundSelection<?> compoundSelection) {
+        key.append("COMPOUND(");
+        for (Selection<?> selection : compoundSelection.getCompoundSelectionItems()) {
+            visitSelection(selection);
+            key.append(',');
+        }
+        key.append(')');
+    }
+
+    @Override
+    public void visit(ConjunctionPredicate conjunction) {
+        visitExpressions("AND", conjunction.getPredicates());
+    }
+
+    @Override
+    public void visit(DisjunctionPredicate disjunction) {
+        visitExpressions("OR", disjunction.getPredicates());
+    }
+
+    @Override
+    public void visit(NegatedPredicate negate) {
+        key.append("NOT(");
+        visitExpression(negate.getNegated());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(InPredicate<?> inPredicate) {
+        key.append("IN(");
+        visitExpression(inPredicate.getExpression());
+        visitExpressions(",", inPredicate.getValues());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(UnaryPredicate unaryPredicate) {
+        key.append(unaryPredicate.getOp()).append('(');
+        visitExpression(unaryPredicate.getExpression());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(BetweenPredicate betweenPredicate) {
+        visitExpressions("BETWEEN", List.of(betweenPredicate.getValue(), betweenPredicate.getFrom(), betweenPredicate.getTo()));
+    }
+
+    @Override
+    public void visit(BinaryPredicate binaryPredicate) {
+        visitExpressions(binaryPredicate.getOp().name(), List.of(binaryPredicate.getLeftExpression(), binaryPredicate.getRightExpression()));
+    }
+
+    @Override
+    public void visit(LikePredicate likePredicate) {
+        key.append(likePredicate.isNegated() ? "NOT " : "")
+            .append(likePredicate.isCaseInsensitive() ? "ILIKE(" : "LIKE(");
+        visitExpression(likePredicate.getExpression());
+        key.append(',');
+        visitExpression(likePredicate.getPattern());
+        key.append(',');
+        visitExpression(likePredicate.getEscapeChar());
+        key.append(')');
+    }
+
+    @Override
+    public void visit(ExistsSubqueryPredicate existsSubqueryPredicate) {
+        supported = false;
+    }
+}
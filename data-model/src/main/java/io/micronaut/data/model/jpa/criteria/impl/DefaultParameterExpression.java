@@ -42,6 +42,14 @@ final class DefaultParameterExpression<T> extends IParameterExpression<T> {
         this.value = value;
     }
 
+    /**
+     * @return The value of the parameter
+     */
+    @Nullable
+    Object getValue() {
+        return value;
+    }
+
     @Override
     public QueryParameterBinding bind(BindingContext bindingContext) {
         String name = bindingContext.getName() == null ? String.valueOf(bindingContext.getIndex()) : bindingContext.getName();
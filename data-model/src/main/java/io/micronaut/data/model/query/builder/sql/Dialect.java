@@ -213,4 +213,90 @@ public enum Dialect {
     public boolean supportsDeleteReturning() {
         return supportsDeleteReturning;
     }
+
+    /**
+     * Whether the dialect supports the multi-row {@code INSERT ... VALUES (...), (...)} statements.
+     *
+     * @param generatedKeys Whether the generated keys of all the inserted rows need to be returned
+     * @return true if it does support
+     * @since 4.12
+     */
+    public boolean supportsMultiRowInsert(boolean generatedKeys) {
+        return switch (this) {
+            case H2, MYSQL, POSTGRES -> true;
+            // Only the identity of the last row is returned
+            case SQL_SERVER -> !generatedKeys;
+            // Oracle supports the row value constructors only since 23c
+            default -> false;
+        };
+    }
+
+    /**
+     * Whether the dialect supports comparing row values, like {@code (a, b) > (?, ?)}, which can be executed
+     * as a single index range scan.
+     *
+     * @return true if it does support
+     * @since 4.12
+     */
+    public boolean supportsRowValueComparison() {
+        return switch (this) {
+            case H2, MYSQL, POSTGRES -> true;
+            // Oracle and SQL Server only support the equality of row values
+            default -> false;
+        };
+    }
+
+    /**
+     * Whether the dialect supports the window functions, like {@code COUNT(*) OVER()}.
+     *
+     * @return true if it does support
+     * @since 4.12
+     */
+    public boolean supportsWindowFunctions() {
+        return switch (this) {
+            case H2, POSTGRES, ORACLE, SQL_SERVER -> true;
+            // MySQL supports the window functions only since 8.0
+            default -> false;
+        };
+    }
+
+    /**
+     * Whether the dialect sorts the {@code NULL} values as lower than any other value, so they are first in the ascending order.
+     *
+     * @return true if the {@code NULL} values are the lowest, false if they are the highest
+     * @since 4.12
+     */
+    public boolean sortsNullsLow() {
+        return switch (this) {
+            case POSTGRES, ORACLE -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * The maximum number of the bind parameters of a single statement.
+     *
+     * @return The maximum number of the parameters
+     * @since 4.12
+     */
+    public int getMaxBindParameters() {
+        return switch (this) {
+            case SQL_SERVER -> 2100;
+            case MYSQL -> 65535;
+            default -> 32767;
+        };
+    }
+
+    /**
+     * The maximum number of the expressions of an {@code IN} list.
+     *
+     * @return The maximum number of the expressions
+     * @since 4.12
+     */
+    public int getMaxInListSize() {
+        if (this == ORACLE) {
+            return 1000;
+        }
+        return getMaxBindParameters();
+    }
 }
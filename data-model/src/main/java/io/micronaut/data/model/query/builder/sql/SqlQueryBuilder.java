@@ -82,6 +82,8 @@ import static io.micronaut.data.annotation.GeneratedValue.Type.IDENTITY;
 import static io.micronaut.data.annotation.GeneratedValue.Type.SEQUENCE;
 import static io.micronaut.data.annotation.GeneratedValue.Type.UUID;
 import static io.micronaut.data.model.query.builder.sql.SqlQueryBuilderUtils.addTypeToColumn;
+import static io.micronaut.data.model.query.builder.sql.SqlQueryBuilderUtils.getSequenceAllocationSize;
+import static io.micronaut.data.model.query.builder.sql.SqlQueryBuilderUtils.isPooledSequence;
 
 /**
  * Implementation of {@link QueryBuilder} that builds SQL queries.
@@ -545,11 +547,15 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = getSequenceAllocationSize(identity);
                     if (dialect == Dialect.ORACLE) {
+                        if (allocationSize > 1) {
+                            createSequenceStmt += " INCREMENT BY " + allocationSize;
+                        }
                         createSequenceStmt += " CACHE 100 NOCYCLE";
                     } else {
-                        if (isSqlServer) {
-                            createSequenceStmt += " INCREMENT BY 1";
+                        if (isSqlServer || allocationSize > 1) {
+                            createSequenceStmt += " INCREMENT BY " + allocationSize;
                         }
                     }
                     createStatements.add(createSequenceStmt);
@@ -970,6 +976,21 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         return buildInsert(repositoryMetadata, entity, true);
     }
 
+    /**
+     * Builds an insert statement that updates the existing row with the same identity instead of failing.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @return The upsert query
+     * @see SqlQueryBuilder2#buildUpsert(AnnotationMetadata, PersistentEntity)
+     * @since 4.12
+     */
+    @NonNull
+    public QueryResult buildUpsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity) {
+        SqlQueryBuilder2 queryBuilder = annotationMetadata != null ? new SqlQueryBuilder2(annotationMetadata) : new SqlQueryBuilder2(dialect);
+        return queryBuilder.buildUpsert(repositoryMetadata, entity);
+    }
+
     @NonNull
     private QueryResult buildInsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity, boolean isReturning) {
         boolean escape = shouldEscape(entity);
@@ -1135,7 +1156,8 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                                 .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
                                 .orElseGet(() -> selectAutoStrategy(property));
                             if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
+                                // The pooled identifiers are assigned before the insert
+                                isSequence = !isPooledSequence(property, dialect, this::selectAutoStrategy);
                             } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
                                 // Property skipped
                                 return;
@@ -25,6 +25,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.AutoPopulated;
 import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Index;
@@ -71,6 +72,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -99,6 +102,11 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
 
     public static final String STANDARD_FOR_UPDATE_CLAUSE = " FOR UPDATE";
     public static final String SQL_SERVER_FOR_UPDATE_CLAUSE = " WITH (UPDLOCK, ROWLOCK)";
+    /**
+     * The alias of the total count column selected by {@link #buildWindowCountSelect(String)}.
+     * @since 4.12
+     */
+    public static final String WINDOW_COUNT_ALIAS = "mn_total_count_";
 
     /**
      * Annotation used to represent join tables.
@@ -110,6 +118,8 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
     private static final String SEQ_SUFFIX = "_seq";
     private static final String INSERT_INTO = "INSERT INTO ";
     private static final String JDBC_REPO_ANNOTATION = "io.micronaut.data.jdbc.annotation.JdbcRepository";
+    // A single column compared with a single parameter, for example ("id" = ?) or (`id` = UUID_TO_BIN(?))
+    private static final Pattern SINGLE_COLUMN_PREDICATE = Pattern.compile("\\(([^\\s()=]+) = ([^\\s()]+|\\w+\\([^\\s()]+\\))\\)");
 
     private final Dialect dialect;
     private final Map<Dialect, DialectConfig> perDialectConfig = new EnumMap<>(Dialect.class);
@@ -524,11 +534,15 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                     }
 
                     createSequenceStmt += " MINVALUE 1 START WITH 1";
+                    int allocationSize = getSequenceAllocationSize(identity);
                     if (dialect == Dialect.ORACLE) {
+                        if (allocationSize > 1) {
+                            createSequenceStmt += " INCREMENT BY " + allocationSize;
+                        }
                         createSequenceStmt += " CACHE 100 NOCYCLE";
                     } else {
-                        if (isSqlServer) {
-                            createSequenceStmt += " INCREMENT BY 1";
+                        if (isSqlServer || allocationSize > 1) {
+                            createSequenceStmt += " INCREMENT BY " + allocationSize;
                         }
                     }
                     createStatements.add(createSequenceStmt);
@@ -810,9 +824,6 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         }
         PersistentEntity entity = definition.persistentEntity();
 
-        boolean escape = shouldEscape(entity);
-        final String unescapedTableName = getUnescapedTableName(entity);
-
         String builder;
         List<QueryParameterBinding> parameterBindings = new ArrayList<>();
 
@@ -851,31 +862,166 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                 });
             }
         } else {
+            InsertColumns insertColumns = collectInsertColumns(entity, parameterBindings);
 
-            NamingStrategy namingStrategy = getNamingStrategy(entity);
+            builder = INSERT_INTO + getTableName(entity) +
+                " (" + String.join(",", insertColumns.columns()) + CLOSE_BRACKET + " " +
+                "VALUES (" + String.join(String.valueOf(COMMA), insertColumns.values()) + CLOSE_BRACKET;
 
-            Collection<? extends PersistentProperty> persistentProperties = entity.getPersistentProperties();
-            List<String> columns = new ArrayList<>();
-            List<String> resultColumns = new ArrayList<>();
-            List<String> values = new ArrayList<>();
+            if (definition.returningSelection() != null) {
+                // TODO: proper selection of columns
+                builder += RETURNING + String.join(",", insertColumns.resultColumns());
+            }
+        }
+        return QueryResult.of(
+            builder,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
 
-            for (PersistentProperty prop : persistentProperties) {
-                PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), prop, (associations, property) -> {
-                    boolean generated = PersistentEntityUtils.isPropertyGenerated(entity, prop, property);
-                    if (generated) {
-                        String columnName = getMappedName(namingStrategy, associations, property);
-                        if (escape) {
-                            columnName = quote(columnName);
+    private InsertColumns collectInsertColumns(PersistentEntity entity, List<QueryParameterBinding> parameterBindings) {
+        boolean escape = shouldEscape(entity);
+        final String unescapedTableName = getUnescapedTableName(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+
+        Collection<? extends PersistentProperty> persistentProperties = entity.getPersistentProperties();
+        List<String> columns = new ArrayList<>();
+        List<String> resultColumns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<String> identityColumns = new ArrayList<>();
+
+        for (PersistentProperty prop : persistentProperties) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), prop, (associations, property) -> {
+                boolean generated = PersistentEntityUtils.isPropertyGenerated(entity, prop, property);
+                if (generated) {
+                    String columnName = getMappedName(namingStrategy, associations, property);
+                    if (escape) {
+                        columnName = quote(columnName);
+                    }
+                    resultColumns.add(columnName);
+                    return;
+                }
+
+                addWriteExpression(values, property);
+
+                String key = String.valueOf(values.size());
+                String[] path = asStringPath(associations, property);
+                parameterBindings.add(new QueryParameterBinding() {
+                    @Override
+                    public String getName() {
+                        return key;
+                    }
+
+                    @Override
+                    public String getKey() {
+                        return key;
+                    }
+
+                    @Override
+                    public DataType getDataType() {
+                        return property.getDataType();
+                    }
+
+                    @Override
+                    public JsonDataType getJsonDataType() {
+                        return property.getJsonDataType();
+                    }
+
+                    @Override
+                    public String[] getPropertyPath() {
+                        return path;
+                    }
+                });
+
+                String columnName = getMappedName(namingStrategy, associations, property);
+                if (escape) {
+                    columnName = quote(columnName);
+                }
+                columns.add(columnName);
+                resultColumns.add(columnName);
+            });
+        }
+        PersistentProperty version = entity.getVersion();
+        if (version != null && !version.isGenerated()) {
+            addWriteExpression(values, version);
+
+            String key = String.valueOf(values.size());
+            parameterBindings.add(new QueryParameterBinding() {
+
+                @Override
+                public String getName() {
+                    return key;
+                }
+
+                @Override
+                public String getKey() {
+                    return key;
+                }
+
+                @Override
+                public DataType getDataType() {
+                    return version.getDataType();
+                }
+
+                @Override
+                public JsonDataType getJsonDataType() {
+                    return null;
+                }
+
+                @Override
+                public String[] getPropertyPath() {
+                    return new String[]{version.getName()};
+                }
+            });
+
+            String columnName = getMappedName(namingStrategy, Collections.emptyList(), version);
+            if (escape) {
+                columnName = quote(columnName);
+            }
+            columns.add(columnName);
+            resultColumns.add(columnName);
+        }
+
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            // Property skipped
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, (associations, property) -> {
+                String columnName = getMappedName(namingStrategy, associations, property);
+                if (escape) {
+                    columnName = quote(columnName);
+                }
+                identityColumns.add(columnName);
+
+                boolean isSequence = false;
+                if (isNotForeign(associations)) {
+
+                    resultColumns.add(columnName);
+
+                    Optional<AnnotationValue<GeneratedValue>> generated = property.findAnnotation(GeneratedValue.class);
+                    if (generated.isPresent()) {
+                        GeneratedValue.Type idGeneratorType = generated
+                            .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
+                            .orElseGet(() -> selectAutoStrategy(property));
+                        if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
+                            // The pooled identifiers are assigned before the insert
+                            isSequence = !isPooledSequence(property);
+                        } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
+                            // Property skipped
+                            return;
                         }
-                        resultColumns.add(columnName);
-                        return;
                     }
+                }
 
+                if (isSequence) {
+                    values.add(getSequenceStatement(unescapedTableName, property));
+                } else {
                     addWriteExpression(values, property);
 
                     String key = String.valueOf(values.size());
                     String[] path = asStringPath(associations, property);
                     parameterBindings.add(new QueryParameterBinding() {
+
                         @Override
                         public String getName() {
                             return key;
@@ -902,138 +1048,348 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
                         }
                     });
 
+                }
+
+                columns.add(columnName);
+            });
+        }
+        return new InsertColumns(columns, resultColumns, values, identityColumns);
+    }
+
+    /**
+     * Builds an insert statement that updates the existing row with the same identity instead of failing.
+     * Renders {@code MERGE ... KEY} for H2, {@code ON CONFLICT ... DO UPDATE} for Postgres,
+     * {@code ON DUPLICATE KEY UPDATE} for MySQL and a {@code MERGE} statement for the other dialects.
+     * The parameters are bound in the same order as the parameters of the insert statement.
+     * The update of the existing row increments its numeric version and keeps the values of the columns that are not updatable,
+     * for example {@link io.micronaut.data.annotation.DateCreated}, H2 renders a {@code MERGE} statement with a source query for them.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @return The upsert query
+     * @since 4.12
+     */
+    @NonNull
+    public QueryResult buildUpsert(@NonNull AnnotationMetadata repositoryMetadata, @NonNull PersistentEntity entity) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Upsert is not supported for the JSON representation of entity: " + entity.getName());
+        }
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        InsertColumns insertColumns = collectInsertColumns(entity, parameterBindings);
+        List<String> columns = insertColumns.columns();
+        List<String> keyColumns = insertColumns.identityColumns();
+        if (keyColumns.isEmpty() || !columns.containsAll(keyColumns)
+            || entity.getIdentityProperties().stream().anyMatch(PersistentProperty::isGenerated)) {
+            throw new IllegalStateException("Upsert requires an assigned identity, the identity of entity [" + entity.getName() + "] is missing or generated");
+        }
+        boolean escape = shouldEscape(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        List<String> insertOnlyColumns = new ArrayList<>();
+        for (PersistentProperty prop : entity.getPersistentProperties()) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), prop, (associations, property) -> {
+                if (!property.findAnnotation(AutoPopulated.class).flatMap(av -> av.booleanValue(AutoPopulated.UPDATABLE)).orElse(true)) {
                     String columnName = getMappedName(namingStrategy, associations, property);
-                    if (escape) {
-                        columnName = quote(columnName);
-                    }
-                    columns.add(columnName);
-                    resultColumns.add(columnName);
-                });
-            }
-            PersistentProperty version = entity.getVersion();
-            if (version != null && !version.isGenerated()) {
-                addWriteExpression(values, version);
+                    insertOnlyColumns.add(escape ? quote(columnName) : columnName);
+                }
+            });
+        }
+        // The numeric version of the existing row is incremented, the other versions are replaced by the inserted version
+        String versionColumn = findNumericVersionColumn(entity, namingStrategy, escape);
+        List<String> updateColumns = columns.stream()
+            .filter(column -> !keyColumns.contains(column) && !insertOnlyColumns.contains(column))
+            .toList();
+        String tableName = getTableName(entity);
+        String columnList = String.join(",", columns);
+        String valueList = String.join(String.valueOf(COMMA), insertColumns.values());
+        String insert = INSERT_INTO + tableName + " (" + columnList + ") VALUES (" + valueList + CLOSE_BRACKET;
+        String query = switch (dialect) {
+            case H2 -> versionColumn == null && insertOnlyColumns.isEmpty()
+                ? "MERGE INTO " + tableName + " (" + columnList + ") KEY (" + String.join(",", keyColumns) + ") VALUES (" + valueList + CLOSE_BRACKET
+                : buildMerge(tableName, columns, insertColumns.values(), keyColumns, updateColumns, versionColumn);
+            case POSTGRES -> insert + " ON CONFLICT (" + String.join(",", keyColumns) + ") " + (updateColumns.isEmpty()
+                ? "DO NOTHING"
+                : "DO UPDATE SET " + updateColumns.stream()
+                    .map(column -> column.equals(versionColumn) ? column + "=" + tableName + "." + column + "+1" : column + "=EXCLUDED." + column)
+                    .collect(Collectors.joining(",")));
+            case MYSQL -> insert + " ON DUPLICATE KEY UPDATE " + (updateColumns.isEmpty() ? keyColumns : updateColumns).stream()
+                .map(column -> column.equals(versionColumn) ? column + "=" + column + "+1" : column + "=VALUES(" + column + ")")
+                .collect(Collectors.joining(","));
+            default -> buildMerge(tableName, columns, insertColumns.values(), keyColumns, updateColumns, versionColumn);
+        };
+        return QueryResult.of(
+            query,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
 
-                String key = String.valueOf(values.size());
-                parameterBindings.add(new QueryParameterBinding() {
+    /**
+     * Builds an update of the given properties of an entity by the identity.
+     * The version, if present, is incremented and checked. The parameters are bound from the entity.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param properties         The properties to update
+     * @return The update query
+     * @since 4.12
+     */
+    @NonNull
+    public QueryResult buildPartialUpdate(@NonNull AnnotationMetadata repositoryMetadata,
+                                          @NonNull PersistentEntity entity,
+                                          @NonNull Collection<? extends PersistentProperty> properties) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Partial update is not supported for the JSON representation of entity: " + entity.getName());
+        }
+        boolean escape = shouldEscape(entity);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        List<String> restrictions = new ArrayList<>();
+        BiConsumer<List<Association>, PersistentProperty> setter = (associations, property) -> {
+            String columnName = getMappedName(namingStrategy, associations, property);
+            addWriteExpression(values, property);
+            assignments.add((escape ? quote(columnName) : columnName) + "=" + values.get(values.size() - 1));
+            boolean autoPopulated = property.findAnnotation(AutoPopulated.class)
+                .flatMap(av -> av.booleanValue(AutoPopulated.UPDATEABLE))
+                .orElse(false);
+            parameterBindings.add(entityParameterBinding(values.size(), property, asStringPath(associations, property), autoPopulated, false));
+        };
+        for (PersistentProperty property : properties) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), property, setter);
+        }
+        PersistentProperty version = entity.getVersion();
+        if (version != null) {
+            setter.accept(Collections.emptyList(), version);
+        }
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, (associations, property) -> {
+                String columnName = getMappedName(namingStrategy, associations, property);
+                values.add(formatParameter(values.size() + 1).name());
+                restrictions.add((escape ? quote(columnName) : columnName) + " = " + values.get(values.size() - 1));
+                parameterBindings.add(entityParameterBinding(values.size(), property, asStringPath(associations, property), false, false));
+            });
+        }
+        if (version != null) {
+            String columnName = getMappedName(namingStrategy, Collections.emptyList(), version);
+            values.add(formatParameter(values.size() + 1).name());
+            restrictions.add((escape ? quote(columnName) : columnName) + " = " + values.get(values.size() - 1));
+            parameterBindings.add(entityParameterBinding(values.size(), version, new String[]{version.getName()}, true, true));
+        }
+        String query = "UPDATE " + getTableName(entity) + " SET " + String.join(String.valueOf(COMMA), assignments)
+            + " WHERE (" + String.join(" AND ", restrictions) + CLOSE_BRACKET;
+        return QueryResult.of(
+            query,
+            Collections.emptyList(),
+            parameterBindings,
+            Collections.emptyMap()
+        );
+    }
 
-                    @Override
-                    public String getName() {
-                        return key;
-                    }
+    private static QueryParameterBinding entityParameterBinding(int index,
+                                                                PersistentProperty property,
+                                                                String[] path,
+                                                                boolean autoPopulated,
+                                                                boolean requiresPreviousPopulatedValue) {
+        String key = String.valueOf(index);
+        return new QueryParameterBinding() {
+            @Override
+            public String getName() {
+                return key;
+            }
 
-                    @Override
-                    public String getKey() {
-                        return key;
-                    }
+            @Override
+            public String getKey() {
+                return key;
+            }
 
-                    @Override
-                    public DataType getDataType() {
-                        return version.getDataType();
-                    }
+            @Override
+            public DataType getDataType() {
+                return property.getDataType();
+            }
 
-                    @Override
-                    public JsonDataType getJsonDataType() {
-                        return null;
-                    }
+            @Override
+            public JsonDataType getJsonDataType() {
+                return property.getJsonDataType();
+            }
 
-                    @Override
-                    public String[] getPropertyPath() {
-                        return new String[]{version.getName()};
-                    }
-                });
+            @Override
+            public String[] getPropertyPath() {
+                return path;
+            }
 
-                String columnName = getMappedName(namingStrategy, Collections.emptyList(), version);
-                if (escape) {
-                    columnName = quote(columnName);
-                }
-                columns.add(columnName);
-                resultColumns.add(columnName);
+            @Override
+            public boolean isAutoPopulated() {
+                return autoPopulated;
             }
 
-            for (PersistentProperty identity : entity.getIdentityProperties()) {
-                // Property skipped
-                PersistentEntityUtils.traversePersistentProperties(Collections.emptyList(), identity, (associations, property) -> {
-                    String columnName = getMappedName(namingStrategy, associations, property);
-                    if (escape) {
-                        columnName = quote(columnName);
-                    }
+            @Override
+            public boolean isRequiresPreviousPopulatedValue() {
+                return requiresPreviousPopulatedValue;
+            }
+        };
+    }
 
-                    boolean isSequence = false;
-                    if (isNotForeign(associations)) {
-
-                        resultColumns.add(columnName);
-
-                        Optional<AnnotationValue<GeneratedValue>> generated = property.findAnnotation(GeneratedValue.class);
-                        if (generated.isPresent()) {
-                            GeneratedValue.Type idGeneratorType = generated
-                                .flatMap(av -> av.enumValue(GeneratedValue.Type.class))
-                                .orElseGet(() -> selectAutoStrategy(property));
-                            if (idGeneratorType == GeneratedValue.Type.SEQUENCE) {
-                                isSequence = true;
-                            } else if (dialect != Dialect.MYSQL || property.getDataType() != DataType.UUID) {
-                                // Property skipped
-                                return;
-                            }
-                        }
-                    }
+    @Nullable
+    private String findNumericVersionColumn(PersistentEntity entity, NamingStrategy namingStrategy, boolean escape) {
+        PersistentProperty version = entity.getVersion();
+        if (version == null || !version.getDataType().isNumeric()) {
+            return null;
+        }
+        String columnName = getMappedName(namingStrategy, Collections.emptyList(), version);
+        return escape ? quote(columnName) : columnName;
+    }
 
-                    if (isSequence) {
-                        values.add(getSequenceStatement(unescapedTableName, property));
-                    } else {
-                        addWriteExpression(values, property);
-
-                        String key = String.valueOf(values.size());
-                        String[] path = asStringPath(associations, property);
-                        parameterBindings.add(new QueryParameterBinding() {
-
-                            @Override
-                            public String getName() {
-                                return key;
-                            }
-
-                            @Override
-                            public String getKey() {
-                                return key;
-                            }
-
-                            @Override
-                            public DataType getDataType() {
-                                return property.getDataType();
-                            }
-
-                            @Override
-                            public JsonDataType getJsonDataType() {
-                                return property.getJsonDataType();
-                            }
-
-                            @Override
-                            public String[] getPropertyPath() {
-                                return path;
-                            }
-                        });
+    private String buildMerge(String tableName,
+                              List<String> columns,
+                              List<String> values,
+                              List<String> keyColumns,
+                              List<String> updateColumns,
+                              @Nullable String versionColumn) {
+        StringBuilder builder = new StringBuilder("MERGE INTO ").append(tableName).append(" t USING (");
+        if (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER || dialect == Dialect.H2) {
+            builder.append("SELECT ");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    builder.append(COMMA);
+                }
+                builder.append(values.get(i)).append(dialect == Dialect.ORACLE ? " " : " AS ").append(columns.get(i));
+            }
+            if (dialect == Dialect.ORACLE) {
+                builder.append(" FROM DUAL");
+            }
+            builder.append(") s");
+        } else {
+            builder.append("VALUES (").append(String.join(String.valueOf(COMMA), values)).append(")) s (")
+                .append(String.join(",", columns)).append(CLOSE_BRACKET);
+        }
+        builder.append(" ON (")
+            .append(keyColumns.stream().map(column -> "t." + column + "=s." + column).collect(Collectors.joining(" AND ")))
+            .append(CLOSE_BRACKET);
+        if (!updateColumns.isEmpty()) {
+            builder.append(" WHEN MATCHED THEN UPDATE SET ")
+                .append(updateColumns.stream()
+                    .map(column -> column.equals(versionColumn) ? "t." + column + "=t." + column + "+1" : "t." + column + "=s." + column)
+                    .collect(Collectors.joining(",")));
+        }
+        builder.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(",", columns)).append(") VALUES (")
+            .append(columns.stream().map(column -> "s." + column).collect(Collectors.joining(","))).append(CLOSE_BRACKET);
+        if (dialect == Dialect.SQL_SERVER) {
+            // SQL Server requires MERGE to be terminated
+            builder.append(';');
+        }
+        return builder.toString();
+    }
 
-                    }
+    /**
+     * Builds a multi-row {@code INSERT ... VALUES (...), (...)} statement of the entity. The statement is rendered
+     * from the insert columns of the entity, the single row statement equals the insert statement
+     * produced by {@link #buildInsert(AnnotationMetadata, InsertQueryDefinition)} without a returning selection.
+     * The parameters of every additional row are numbered after the parameters of the previous row.
+     *
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity             The entity
+     * @param rows               The number of the rows
+     * @return The multi-row insert query or null if the entity cannot be inserted by a multi-row statement
+     * @since 4.12
+     */
+    @Nullable
+    public String buildMultiRowInsert(@NonNull AnnotationMetadata repositoryMetadata, @NonNull PersistentEntity entity, int rows) {
+        if (rows < 1 || isJsonEntity(repositoryMetadata, entity)) {
+            return null;
+        }
+        List<QueryParameterBinding> parameterBindings = new ArrayList<>();
+        InsertColumns insertColumns = collectInsertColumns(entity, parameterBindings);
+        String row = OPEN_BRACKET + String.join(String.valueOf(COMMA), insertColumns.values()) + CLOSE_BRACKET;
+        StringBuilder builder = new StringBuilder(INSERT_INTO).append(getTableName(entity))
+            .append(" (").append(String.join(",", insertColumns.columns())).append(CLOSE_BRACKET)
+            .append(" VALUES ").append(row);
+        appendRepeatedRows(builder, row, ",", "", parameterBindings.size(), rows);
+        return builder.toString();
+    }
 
-                    columns.add(columnName);
-                });
+    /**
+     * Builds a {@code DELETE} statement of multiple entities from the {@code DELETE} statement of one entity.
+     * A predicate comparing a single column with a single parameter, for example a simple identity, is expanded into
+     * {@code column IN (...)}, other predicates, for example of an embedded identity, are joined with {@code OR}.
+     * The parameters of every additional entity are numbered after the parameters of the previous entity.
+     *
+     * @param deleteQuery      The delete query of one entity
+     * @param parametersPerRow The number of the parameters of an entity
+     * @param rows             The number of the entities
+     * @return The delete query or null if the query cannot be expanded
+     * @since 4.12
+     */
+    @Nullable
+    public String buildMultiRowDelete(@NonNull String deleteQuery, int parametersPerRow, int rows) {
+        int whereIndex = deleteQuery.indexOf(WHERE_CLAUSE);
+        if (!deleteQuery.startsWith("DELETE ") || whereIndex == -1 || deleteQuery.contains(" RETURNING ")) {
+            return null;
+        }
+        int predicateStart = whereIndex + WHERE_CLAUSE.length();
+        String predicate = deleteQuery.substring(predicateStart).trim();
+        if (parametersPerRow == 1) {
+            Matcher inListMatcher = SINGLE_COLUMN_PREDICATE.matcher(predicate);
+            if (inListMatcher.matches()) {
+                String value = inListMatcher.group(2);
+                StringBuilder builder = new StringBuilder(deleteQuery.length() + (value.length() + 1) * (rows - 1));
+                builder.append(deleteQuery, 0, predicateStart)
+                    .append(OPEN_BRACKET).append(inListMatcher.group(1)).append(" IN (").append(value);
+                appendRepeatedRows(builder, value, ",", "", parametersPerRow, rows);
+                return builder.append("))").toString();
             }
+        }
+        StringBuilder builder = new StringBuilder(deleteQuery.length() + (predicate.length() + 6) * (rows - 1));
+        builder.append(deleteQuery, 0, predicateStart);
+        builder.append(OPEN_BRACKET).append(predicate).append(CLOSE_BRACKET);
+        appendRepeatedRows(builder, predicate, " OR (", ")", parametersPerRow, rows);
+        return builder.toString();
+    }
 
-            builder = INSERT_INTO + getTableName(entity) +
-                " (" + String.join(",", columns) + CLOSE_BRACKET + " " +
-                "VALUES (" + String.join(String.valueOf(COMMA), values) + CLOSE_BRACKET;
+    /**
+     * Builds a {@code SELECT} statement that additionally selects the total number of the matching rows
+     * as the {@link #WINDOW_COUNT_ALIAS} column using the {@code COUNT(*) OVER()} window function. The window is evaluated
+     * before the pagination of the query is applied.
+     *
+     * @param selectQuery The select query
+     * @return The select query with the total count column or null if the dialect doesn't support the window functions
+     * or the number of the rows doesn't match the number of the results
+     * @since 4.12
+     */
+    @Nullable
+    public String buildWindowCountSelect(@NonNull String selectQuery) {
+        if (!getDialect().supportsWindowFunctions() || !selectQuery.startsWith(SELECT_CLAUSE) || selectQuery.startsWith(SELECT_CLAUSE + DISTINCT)
+            || selectQuery.contains(" JOIN ") || selectQuery.contains(" GROUP BY ")
+            || selectQuery.contains(STANDARD_FOR_UPDATE_CLAUSE) || selectQuery.contains(SQL_SERVER_FOR_UPDATE_CLAUSE)) {
+            return null;
+        }
+        return SELECT_CLAUSE + "COUNT(*) OVER() AS " + WINDOW_COUNT_ALIAS + "," + selectQuery.substring(SELECT_CLAUSE.length());
+    }
 
-            if (definition.returningSelection() != null) {
-                // TODO: proper selection of columns
-                builder += RETURNING + String.join(",", resultColumns);
+    private void appendRepeatedRows(StringBuilder builder, String row, String prefix, String suffix, int parametersPerRow, int rows) {
+        String positionalFormat = positionalParameterFormat();
+        int nameIndex = positionalFormat.indexOf("%s");
+        if (nameIndex == -1) {
+            for (int i = 1; i < rows; i++) {
+                builder.append(prefix).append(row).append(suffix);
             }
+            return;
         }
-        return QueryResult.of(
-            builder,
-            Collections.emptyList(),
-            parameterBindings,
-            Collections.emptyMap()
+        Pattern parameterPattern = Pattern.compile(
+            Pattern.quote(positionalFormat.substring(0, nameIndex)) + "(\\d+)" + Pattern.quote(positionalFormat.substring(nameIndex + 2))
         );
+        for (int i = 1; i < rows; i++) {
+            int offset = i * parametersPerRow;
+            builder.append(prefix);
+            Matcher matcher = parameterPattern.matcher(row);
+            while (matcher.find()) {
+                int index = Integer.parseInt(matcher.group(1)) + offset;
+                matcher.appendReplacement(builder, Matcher.quoteReplacement(String.format(positionalFormat, index)));
+            }
+            matcher.appendTail(builder);
+            builder.append(suffix);
+        }
     }
 
     private String[] asStringPath(List<Association> associations, PersistentProperty property) {
@@ -1059,6 +1415,51 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         };
     }
 
+    /**
+     * Builds the query selecting the next value of the sequence generating the identity of the entity.
+     *
+     * @param entity The entity
+     * @return The query
+     * @since 4.12
+     */
+    @NonNull
+    public String buildNextSequenceValue(@NonNull PersistentEntity entity) {
+        PersistentProperty identity = entity.getIdentity();
+        if (identity == null) {
+            throw new IllegalStateException("Cannot select the next sequence value of an entity without an identity: " + entity.getName());
+        }
+        final String sequenceName = resolveSequenceName(identity, getUnescapedTableName(entity));
+        return switch (dialect) {
+            case ORACLE -> "SELECT " + quote(sequenceName) + ".nextval FROM DUAL";
+            case POSTGRES -> "SELECT nextval('" + sequenceName + "')";
+            case H2, SQL_SERVER -> "SELECT NEXT VALUE FOR " + quote(sequenceName);
+            default ->
+                throw new IllegalStateException("Cannot generate a sequence for dialect: " + dialect);
+        };
+    }
+
+    /**
+     * Whether the identifiers of the property are allocated from the blocks of a pooled sequence before the insert.
+     *
+     * @param identity The identity
+     * @return true if the sequence is pooled
+     * @see GeneratedValue#allocationSize()
+     * @since 4.12
+     */
+    public boolean isPooledSequence(@NonNull PersistentProperty identity) {
+        return SqlQueryBuilderUtils.isPooledSequence(identity, dialect, this::selectAutoStrategy);
+    }
+
+    /**
+     * @param identity The identity
+     * @return The number of the identifiers allocated by one call of the sequence
+     * @see GeneratedValue#allocationSize()
+     * @since 4.12
+     */
+    public int getSequenceAllocationSize(@NonNull PersistentProperty identity) {
+        return SqlQueryBuilderUtils.getSequenceAllocationSize(identity);
+    }
+
     private String resolveSequenceName(PersistentProperty identity, String unescapedTableName) {
         return identity.getAnnotationMetadata().stringValue(GeneratedValue.class, "ref")
             .map(n -> {
@@ -19,6 +19,7 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.MappedProperty;
 import io.micronaut.data.exceptions.MappingException;
 import io.micronaut.data.model.Association;
@@ -31,6 +32,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.Function;
 
 /**
  * The utility methods for query builders.
@@ -40,6 +42,32 @@ final class SqlQueryBuilderUtils {
 
     private SqlQueryBuilderUtils() { }
 
+    /**
+     * Whether the identifiers of the property are allocated from the blocks of a pooled sequence before the insert.
+     *
+     * @param identity     The identity
+     * @param dialect      The dialect
+     * @param autoStrategy The strategy of the {@link GeneratedValue.Type#AUTO} generated values
+     * @return true if the sequence is pooled
+     */
+    static boolean isPooledSequence(PersistentProperty identity, Dialect dialect, Function<PersistentProperty, GeneratedValue.Type> autoStrategy) {
+        if (dialect == Dialect.MYSQL || !identity.isGenerated() || getSequenceAllocationSize(identity) < 2) {
+            return false;
+        }
+        GeneratedValue.Type idGeneratorType = identity.getAnnotationMetadata()
+            .enumValue(GeneratedValue.class, GeneratedValue.Type.class)
+            .orElseGet(() -> autoStrategy.apply(identity));
+        return idGeneratorType == GeneratedValue.Type.SEQUENCE;
+    }
+
+    /**
+     * @param identity The identity
+     * @return The number of the identifiers allocated by one call of the sequence
+     */
+    static int getSequenceAllocationSize(PersistentProperty identity) {
+        return identity.getAnnotationMetadata().intValue(GeneratedValue.class, "allocationSize").orElse(1);
+    }
+
     /**
      * Adds column type for the column for creating table.
      *
@@ -116,6 +116,8 @@ public interface RepositoryOperations extends HintsCapableRepository, Applicatio
 
     /**
      * Finds all results for the given query.
+     * <p>The SQL implementations order an unordered query fetching a collection association by the root entity identity,
+     * which allows emitting each root entity as soon as its rows are read. Such a stream is returned in the identity order.</p>
      * @param preparedQuery The prepared query
      * @param <T> The entity type
      * @param <R> The result type
@@ -17,9 +17,13 @@ package io.micronaut.data.repository;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Blocking;
+import io.micronaut.data.annotation.InListChunking;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A repository interface for performing CRUD (Create, Read, Update, Delete). This is a blocking
@@ -97,6 +101,26 @@ public interface CrudRepository<E, ID> extends GenericRepository<E, ID> {
      */
     @NonNull List<E> findAll();
 
+    /**
+     * Returns the entities with the given ids, every id is found once. The default implementation finds the entities one by one
+     * with {@link #findById(Object)}. A repository declaring the method finds them with an {@code IN} query instead,
+     * queried in the chunks fitting the {@code IN} list limit of the dialect when annotated with {@link InListChunking}.
+     *
+     * @param ids The ids, must not be {@literal null}
+     * @return The entities found
+     * @since 4.12
+     */
+    @NonNull
+    default List<E> findAllById(@NonNull Iterable<ID> ids) {
+        Set<ID> distinctIds = new LinkedHashSet<>();
+        ids.forEach(distinctIds::add);
+        List<E> entities = new ArrayList<>(distinctIds.size());
+        for (ID id : distinctIds) {
+            findById(id).ifPresent(entities::add);
+        }
+        return entities;
+    }
+
     /**
      * Returns the number of entities available.
      *
@@ -111,6 +135,20 @@ public interface CrudRepository<E, ID> extends GenericRepository<E, ID> {
      */
     void deleteById(@NonNull ID id);
 
+    /**
+     * Deletes the entities with the given ids. The default implementation deletes the entities one by one
+     * with {@link #deleteById(Object)}. The JDBC and R2DBC repositories declaring the method delete the ids
+     * by one statement for each chunk of the ids.
+     *
+     * @param ids The ids, must not be {@literal null}
+     * @since 4.12
+     */
+    default void deleteAllById(@NonNull Iterable<ID> ids) {
+        for (ID id : ids) {
+            deleteById(id);
+        }
+    }
+
     /**
      * Deletes a given entity.
      *
@@ -16,10 +16,17 @@
 package io.micronaut.data.repository.async;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.annotation.InListChunking;
 import io.micronaut.core.annotation.NonBlocking;
+import io.micronaut.data.exceptions.EmptyResultException;
 import io.micronaut.data.repository.GenericRepository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Asynchronous variation of {@link io.micronaut.data.repository.CrudRepository}.
@@ -96,6 +103,35 @@ public interface AsyncCrudRepository<E, ID> extends GenericRepository<E, ID> {
      */
     @NonNull CompletableFuture<? extends Iterable<E>> findAll();
 
+    /**
+     * Returns the entities with the given ids, every id is found once. The default implementation finds the entities one by one
+     * with {@link #findById(Object)}. A repository declaring the method finds them with an {@code IN} query instead,
+     * queried in the chunks fitting the {@code IN} list limit of the dialect when annotated with {@link InListChunking}.
+     *
+     * @param ids The ids, must not be {@literal null}
+     * @return The entities found
+     * @since 4.12
+     */
+    @NonNull
+    default CompletableFuture<? extends Iterable<E>> findAllById(@NonNull Iterable<ID> ids) {
+        Set<ID> distinctIds = new LinkedHashSet<>();
+        ids.forEach(distinctIds::add);
+        CompletableFuture<List<E>> result = CompletableFuture.completedFuture(new ArrayList<>(distinctIds.size()));
+        for (ID id : distinctIds) {
+            result = result.thenCompose(entities -> findById(id).handle((entity, throwable) -> {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                if (cause != null && !(cause instanceof EmptyResultException)) {
+                    throw throwable instanceof CompletionException completionException ? completionException : new CompletionException(throwable);
+                }
+                if (entity != null) {
+                    entities.add(entity);
+                }
+                return entities;
+            }));
+        }
+        return result;
+    }
+
     /**
      * Returns the number of entities available.
      *
@@ -111,6 +147,24 @@ public interface AsyncCrudRepository<E, ID> extends GenericRepository<E, ID> {
      */
     @NonNull CompletableFuture<Void> deleteById(@NonNull ID id);
 
+    /**
+     * Deletes the entities with the given ids. The default implementation deletes the entities one by one
+     * with {@link #deleteById(Object)}. The JDBC and R2DBC repositories declaring the method delete the ids
+     * by one statement for each chunk of the ids.
+     *
+     * @param ids must not be {@literal null}.
+     * @return A future that executes the delete operation
+     * @since 4.12
+     */
+    @NonNull
+    default CompletableFuture<Void> deleteAllById(@NonNull Iterable<ID> ids) {
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (ID id : ids) {
+            result = result.thenCompose(ignore -> deleteById(id));
+        }
+        return result;
+    }
+
     /**
      * Deletes a given entity.
      *
@@ -17,8 +17,13 @@ package io.micronaut.data.repository.reactive;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.annotation.SingleResult;
+import io.micronaut.data.annotation.InListChunking;
 import io.micronaut.data.repository.GenericRepository;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Interface for CRUD using Reactive Streams.
@@ -97,6 +102,22 @@ public interface ReactiveStreamsCrudRepository<E, ID> extends GenericRepository<
      */
     @NonNull Publisher<E> findAll();
 
+    /**
+     * Returns the entities with the given ids, every id is found once. The default implementation finds the entities one by one
+     * with {@link #findById(Object)}. A repository declaring the method finds them with an {@code IN} query instead,
+     * queried in the chunks fitting the {@code IN} list limit of the dialect when annotated with {@link InListChunking}.
+     *
+     * @param ids The ids, must not be {@literal null}
+     * @return The entities found
+     * @since 4.12
+     */
+    @NonNull
+    default Publisher<E> findAllById(@NonNull Iterable<ID> ids) {
+        Set<ID> distinctIds = new LinkedHashSet<>();
+        ids.forEach(distinctIds::add);
+        return Flux.fromIterable(distinctIds).concatMap(this::findById);
+    }
+
     /**
      * Returns the number of entities available.
      *
@@ -115,6 +136,21 @@ public interface ReactiveStreamsCrudRepository<E, ID> extends GenericRepository<
     @SingleResult
     Publisher<Long> deleteById(@NonNull ID id);
 
+    /**
+     * Deletes the entities with the given ids. The default implementation deletes the entities one by one
+     * with {@link #deleteById(Object)}. The JDBC and R2DBC repositories declaring the method delete the ids
+     * by one statement for each chunk of the ids.
+     *
+     * @param ids must not be {@literal null}.
+     * @return A publisher emitting the number of the deleted entities
+     * @since 4.12
+     */
+    @NonNull
+    @SingleResult
+    default Publisher<Long> deleteAllById(@NonNull Iterable<ID> ids) {
+        return Flux.fromIterable(ids).concatMap(this::deleteById).reduce(0L, Long::sum);
+    }
+
     /**
      * Deletes a given entity.
      *
@@ -58,6 +58,12 @@ public interface ReactorCrudRepository<E, ID> extends ReactiveStreamsCrudReposit
     @Override
     Flux<E> findAll();
 
+    @NonNull
+    @Override
+    default Flux<E> findAllById(@NonNull Iterable<ID> ids) {
+        return Flux.from(ReactiveStreamsCrudRepository.super.findAllById(ids));
+    }
+
     @NonNull
     @Override
     Mono<Long> count();
@@ -66,6 +72,12 @@ public interface ReactorCrudRepository<E, ID> extends ReactiveStreamsCrudReposit
     @Override
     Mono<Long> deleteById(@NonNull ID id);
 
+    @NonNull
+    @Override
+    default Mono<Long> deleteAllById(@NonNull Iterable<ID> ids) {
+        return Mono.from(ReactiveStreamsCrudRepository.super.deleteAllById(ids));
+    }
+
     @NonNull
     @Override
     Mono<Long> delete(@NonNull E entity);
@@ -16,12 +16,16 @@
 package io.micronaut.data.repository.reactive;
 
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.annotation.InListChunking;
 import io.micronaut.data.repository.GenericRepository;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Interface for CRUD using RxJava 2.
  *
@@ -96,6 +100,22 @@ public interface RxJavaCrudRepository<E, ID> extends GenericRepository<E, ID> {
      */
     @NonNull Flowable<E> findAll();
 
+    /**
+     * Returns the entities with the given ids, every id is found once. The default implementation finds the entities one by one
+     * with {@link #findById(Object)}. A repository declaring the method finds them with an {@code IN} query instead,
+     * queried in the chunks fitting the {@code IN} list limit of the dialect when annotated with {@link InListChunking}.
+     *
+     * @param ids The ids, must not be {@literal null}
+     * @return The entities found
+     * @since 4.12
+     */
+    @NonNull
+    default Flowable<E> findAllById(@NonNull Iterable<ID> ids) {
+        Set<ID> distinctIds = new LinkedHashSet<>();
+        ids.forEach(distinctIds::add);
+        return Flowable.fromIterable(distinctIds).concatMapMaybe(this::findById);
+    }
+
     /**
      * Returns the number of entities available.
      *
@@ -112,6 +132,20 @@ public interface RxJavaCrudRepository<E, ID> extends GenericRepository<E, ID> {
     @NonNull
     Completable deleteById(@NonNull ID id);
 
+    /**
+     * Deletes the entities with the given ids. The default implementation deletes the entities one by one
+     * with {@link #deleteById(Object)}. The JDBC and R2DBC repositories declaring the method delete the ids
+     * by one statement for each chunk of the ids.
+     *
+     * @param ids must not be {@literal null}.
+     * @return A completable that executes the delete operation
+     * @since 4.12
+     */
+    @NonNull
+    default Completable deleteAllById(@NonNull Iterable<ID> ids) {
+        return Flowable.fromIterable(ids).concatMapCompletable(this::deleteById);
+    }
+
     /**
      * Deletes a given entity.
      *
@@ -15,8 +15,10 @@
  */
 package io.micronaut.data.repository.kotlin
 
+import io.micronaut.data.annotation.InListChunking
 import io.micronaut.data.repository.GenericRepository
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
 
 /**
  * Interface for CRUD repository using Kotlin coroutines.
@@ -88,6 +90,21 @@ interface CoroutineCrudRepository<E, ID> : GenericRepository<E, ID> {
      */
     fun findAll(): Flow<E>
 
+    /**
+     * Returns the entities with the given ids, every id is found once. The default implementation finds the entities one by one
+     * with [findById]. A repository declaring the method finds them with an `IN` query instead,
+     * queried in the chunks fitting the `IN` list limit of the dialect when annotated with [InListChunking].
+     *
+     * @param ids The ids
+     * @return The entities found
+     * @since 4.12
+     */
+    fun findAllById(ids: Iterable<ID>): Flow<E> = flow {
+        for (id in ids.toSet()) {
+            findById(id)?.let { emit(it) }
+        }
+    }
+
     /**
      * Returns the number of entities available.
      *
@@ -102,6 +119,23 @@ interface CoroutineCrudRepository<E, ID> : GenericRepository<E, ID> {
      */
     suspend fun deleteById(id: ID): Int
 
+    /**
+     * Deletes the entities with the given ids. The default implementation deletes the entities one by one
+     * with [deleteById]. The JDBC and R2DBC repositories declaring the method delete the ids
+     * by one statement for each chunk of the ids.
+     *
+     * @param ids the ids.
+     * @return the number of entities deleted
+     * @since 4.12
+     */
+    suspend fun deleteAllById(ids: Iterable<ID>): Int {
+        var deleted = 0
+        for (id in ids) {
+            deleted += deleteById(id)
+        }
+        return deleted
+    }
+
     /**
      * Deletes a given entity.
      *
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.query.builder.sql
+package io.micronaut.data.model.query.builder.sql
+
+import spock.lang.Specification
+
+class SqlQueryBuilder2MultiRowDeleteSpec extends Specification {
+
+    void "test build multi-row delete of simple identities"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.H2)
+
+        expect:
+        builder.buildMultiRowDelete('DELETE  FROM "book"  WHERE ("id" = ?)', 1, 3) ==
+                'DELETE  FROM "book"  WHERE ("id" IN (?,?,?))'
+        builder.buildMultiRowDelete('DELETE  FROM `uuid_entity`  WHERE (`id` = UUID_TO_BIN(?))', 1, 2) ==
+                'DELETE  FROM `uuid_entity`  WHERE (`id` IN (UUID_TO_BIN(?),UUID_TO_BIN(?)))'
+    }
+
+    void "test build multi-row delete of composite predicates"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.H2)
+
+        expect:
+        builder.buildMultiRowDelete('DELETE  FROM "account"  WHERE ("id" = ? AND "tenancy" = ?)', 2, 2) ==
+                'DELETE  FROM "account"  WHERE (("id" = ? AND "tenancy" = ?)) OR (("id" = ? AND "tenancy" = ?))'
+    }
+
+    void "test multi-row delete is not built for unsupported queries"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.H2)
+
+        expect:
+        builder.buildMultiRowDelete('DELETE  FROM "book"', 0, 2) == null
+        builder.buildMultiRowDelete('DELETE  FROM "book"  WHERE ("id" = ?) RETURNING "id"', 1, 2) == null
+        builder.buildMultiRowDelete('UPDATE "book" SET "title"=? WHERE ("id" = ?)', 2, 2) == null
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.query.builder.sql
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import spock.lang.Specification
+
+class SqlQueryBuilder2MultiRowInsertSpec extends Specification {
+
+    void "test build multi-row insert"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.H2)
+
+        expect:
+        builder.buildMultiRowInsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(MultiRowBook), 1) ==
+                'INSERT INTO "multi_row_book" ("title","pages") VALUES (?,?)'
+        builder.buildMultiRowInsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(MultiRowBook), 3) ==
+                'INSERT INTO "multi_row_book" ("title","pages") VALUES (?,?),(?,?),(?,?)'
+        builder.buildMultiRowInsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(MultiRowAssignedBook), 2) ==
+                'INSERT INTO "multi_row_assigned_book" ("title","id") VALUES (?,?),(?,?)'
+    }
+
+    void "test multi-row insert is not built without rows"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.H2)
+
+        expect:
+        builder.buildMultiRowInsert(AnnotationMetadata.EMPTY_METADATA, new RuntimePersistentEntity(MultiRowBook), 0) == null
+    }
+
+    void "test multi-row insert support"() {
+        expect:
+        Dialect.H2.supportsMultiRowInsert(true)
+        Dialect.POSTGRES.supportsMultiRowInsert(true)
+        Dialect.SQL_SERVER.supportsMultiRowInsert(false)
+        !Dialect.SQL_SERVER.supportsMultiRowInsert(true)
+        !Dialect.ORACLE.supportsMultiRowInsert(false)
+        Dialect.SQL_SERVER.getMaxBindParameters() == 2100
+    }
+}
+
+@MappedEntity
+class MultiRowBook {
+    @Id
+    @GeneratedValue
+    Long id
+    String title
+    int pages
+}
+
+@MappedEntity
+class MultiRowAssignedBook {
+    @Id
+    Long id
+    String title
+}
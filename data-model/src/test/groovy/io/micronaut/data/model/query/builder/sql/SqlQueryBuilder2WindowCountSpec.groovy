@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.query.builder.sql
+
+import spock.lang.Specification
+
+class SqlQueryBuilder2WindowCountSpec extends Specification {
+
+    void "test build window count select"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.POSTGRES)
+
+        expect:
+        builder.buildWindowCountSelect('SELECT book_."id",book_."title" FROM "book" book_ WHERE (book_."pages" > $1) LIMIT 10') ==
+                'SELECT COUNT(*) OVER() AS mn_total_count_,book_."id",book_."title" FROM "book" book_ WHERE (book_."pages" > $1) LIMIT 10'
+    }
+
+    void "test window count select is not built for unsupported queries"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.POSTGRES)
+
+        expect:
+        builder.buildWindowCountSelect('SELECT DISTINCT book_."title" FROM "book" book_') == null
+        builder.buildWindowCountSelect('SELECT book_."id" FROM "book" book_ INNER JOIN "author" author_ ON book_."author_id"=author_."id"') == null
+        builder.buildWindowCountSelect('SELECT book_."id" FROM "book" book_ FOR UPDATE') == null
+        builder.buildWindowCountSelect('UPDATE "book" SET "title"=$1') == null
+    }
+
+    void "test window count select is not built for dialects without window functions"() {
+        given:
+        def builder = new SqlQueryBuilder2(Dialect.MYSQL)
+
+        expect:
+        builder.buildWindowCountSelect('SELECT book_.`id`,book_.`title` FROM `book` book_ LIMIT 10') == null
+    }
+}
@@ -19,7 +19,11 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.DeleteOptions;
 import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.InsertOneOptions;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
@@ -27,6 +31,9 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.PreparedQuery;
@@ -46,15 +53,20 @@ import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperation
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentWrapper;
+import org.bson.BsonInt32;
 import org.bson.BsonNull;
+import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -268,6 +280,81 @@ abstract sealed class AbstractMongoRepositoryOperations<Dtb> extends AbstractRep
         return filter;
     }
 
+    /**
+     * Is the insert operation an upsert.
+     *
+     * @param annotationMetadata The operation annotation metadata
+     * @return true if the existing entity with the same identity should be replaced
+     * @since 4.12
+     */
+    protected final boolean isUpsert(AnnotationMetadata annotationMetadata) {
+        return annotationMetadata.booleanValue(DataMethod.NAME, DataMethod.META_MEMBER_UPSERT).orElse(false);
+    }
+
+    /**
+     * Creates a model replacing the entity with the same identity or inserting the entity if it doesn't exist.
+     * The replaced document keeps the values of the fields that are not updatable, for example
+     * {@link io.micronaut.data.annotation.DateCreated}, and increments its numeric version, such documents
+     * are replaced by an update pipeline.
+     *
+     * @param annotationMetadata The operation annotation metadata
+     * @param persistentEntity   The persistent entity
+     * @param entity             The entity
+     * @param codecRegistry      The codec registry
+     * @param <T>                The entity type
+     * @return The upsert model
+     * @since 4.12
+     */
+    protected final <T> WriteModel<BsonDocument> createUpsertModel(AnnotationMetadata annotationMetadata,
+                                                                 RuntimePersistentEntity<T> persistentEntity,
+                                                                 T entity,
+                                                                 CodecRegistry codecRegistry) {
+        BsonDocument bsonDocument = BsonDocumentWrapper.asBsonDocument(entity, codecRegistry);
+        BsonValue id = bsonDocument.remove(MongoUtils.ID);
+        if (id == null || id.isNull()) {
+            throw new DataAccessException("Upsert requires an assigned identity: " + entity);
+        }
+        BsonDocument filter = new BsonDocument(MongoUtils.ID, id);
+        RuntimePersistentProperty<T> version = persistentEntity.getVersion();
+        String versionField = version != null && version.getDataType().isNumeric() ? version.getPersistedName() : null;
+        List<String> insertOnlyFields = new ArrayList<>();
+        for (RuntimePersistentProperty<T> property : persistentEntity.getPersistentProperties()) {
+            if (!property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATABLE).orElse(true)) {
+                insertOnlyFields.add(property.getPersistedName());
+            }
+        }
+        if (versionField == null && insertOnlyFields.isEmpty()) {
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing Mongo 'replaceOne' upsert with filter: {}", filter.toJson());
+            }
+            return new ReplaceOneModel<>(filter, bsonDocument, getReplaceOptions(annotationMetadata).upsert(true));
+        }
+        BsonDocument replacement = new BsonDocument(MongoUtils.ID, literal(id));
+        for (Map.Entry<String, BsonValue> e : bsonDocument.entrySet()) {
+            String field = e.getKey();
+            BsonString currentValue = new BsonString("$" + field);
+            BsonValue value = literal(e.getValue());
+            if (field.equals(versionField)) {
+                BsonDocument missing = new BsonDocument("$eq", new BsonArray(List.of(new BsonDocument("$type", currentValue), new BsonString("missing"))));
+                BsonDocument incremented = new BsonDocument("$add", new BsonArray(List.of(currentValue, new BsonInt32(1))));
+                value = new BsonDocument("$cond", new BsonArray(List.of(missing, value, incremented)));
+            } else if (insertOnlyFields.contains(field)) {
+                value = new BsonDocument("$ifNull", new BsonArray(List.of(currentValue, value)));
+            }
+            replacement.put(field, value);
+        }
+        List<BsonDocument> pipeline = List.of(new BsonDocument("$replaceWith", replacement));
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing Mongo 'updateOne' upsert with filter: {} and update: {}", filter.toJson(), pipeline);
+        }
+        UpdateOptions updateOptions = MongoOptionsUtils.buildUpdateOptions(annotationMetadata, true).orElseGet(UpdateOptions::new);
+        return new UpdateOneModel<>(filter, pipeline, updateOptions.upsert(true));
+    }
+
+    private static BsonDocument literal(BsonValue value) {
+        return new BsonDocument("$literal", value);
+    }
+
     protected void logFind(MongoFind find) {
         StringBuilder sb = new StringBuilder("Executing Mongo 'find'");
         MongoFindOptions options = find.getOptions();
@@ -30,6 +30,7 @@ import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -72,6 +73,7 @@ import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.date.DateTimeProvider;
+import io.micronaut.data.runtime.operations.AsyncExecutorResolver;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
@@ -512,6 +514,12 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     public <T> T persist(InsertOperation<T> operation) {
         return withClientSession(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+            if (isUpsert(operation.getAnnotationMetadata())) {
+                MongoEntitiesOperation<T> op = createMongoUpsertInBulkOperation(ctx, runtimeEntityRegistry.getEntity(operation.getRootEntity()),
+                        Collections.singletonList(operation.getEntity()));
+                op.persist();
+                return op.getEntities().iterator().next();
+            }
             return persistOne(ctx, operation.getEntity(), runtimeEntityRegistry.getEntity(operation.getRootEntity()));
         });
     }
@@ -520,6 +528,11 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
     public <T> Iterable<T> persistAll(InsertBatchOperation<T> operation) {
         return withClientSession(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getAnnotationMetadata(), operation.getRepositoryType());
+            if (isUpsert(operation.getAnnotationMetadata())) {
+                MongoEntitiesOperation<T> op = createMongoUpsertInBulkOperation(ctx, runtimeEntityRegistry.getEntity(operation.getRootEntity()), operation);
+                op.persist();
+                return op.getEntities();
+            }
             return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
         });
     }
@@ -876,6 +889,27 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
         };
     }
 
+    private <T> MongoEntitiesOperation<T> createMongoUpsertInBulkOperation(MongoOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities) {
+        return new MongoEntitiesOperation<>(ctx, persistentEntity, entities, true) {
+
+            @Override
+            protected void execute() throws RuntimeException {
+                MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
+                MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+                List<WriteModel<BsonDocument>> upserts = new ArrayList<>(entities.size());
+                for (Data d : entities) {
+                    if (!d.vetoed) {
+                        upserts.add(createUpsertModel(ctx.annotationMetadata, persistentEntity, d.entity, mongoDatabase.getCodecRegistry()));
+                    }
+                }
+                if (!upserts.isEmpty()) {
+                    BulkWriteResult bulkWriteResult = collection.bulkWrite(ctx.clientSession, upserts);
+                    modifiedCount = bulkWriteResult.getModifiedCount() + bulkWriteResult.getUpserts().size();
+                }
+            }
+        };
+    }
+
     private <T> MongoEntityOperation<T> createMongoDeleteOneOperation(MongoOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity) {
         return new MongoEntityOperation<>(ctx, persistentEntity, entity, false) {
 
@@ -1006,7 +1040,7 @@ final class DefaultMongoRepositoryOperations extends AbstractMongoRepositoryOper
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            AsyncExecutorResolver.resolve(getApplicationContext(), executorService, this::newLocalThreadPool)
                     );
                     this.asyncOperations = asyncOperations;
                 }
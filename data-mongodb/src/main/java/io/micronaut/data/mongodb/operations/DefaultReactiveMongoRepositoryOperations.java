@@ -21,6 +21,7 @@ import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.ClientSession;
@@ -209,6 +210,12 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
     public <T> Mono<T> persist(InsertOperation<T> operation) {
         return withClientSession(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+            if (isUpsert(operation.getAnnotationMetadata())) {
+                MongoReactiveEntitiesOperation<T> op = createMongoUpsertInBulkOperation(ctx, runtimeEntityRegistry.getEntity(operation.getRootEntity()),
+                    Collections.singletonList(operation.getEntity()));
+                op.persist();
+                return op.getEntities().next();
+            }
             return persistOne(ctx, operation.getEntity(), runtimeEntityRegistry.getEntity(operation.getRootEntity()));
         });
     }
@@ -217,6 +224,11 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
     public <T> Flux<T> persistAll(InsertBatchOperation<T> operation) {
         return withClientSessionMany(clientSession -> {
             MongoOperationContext ctx = new MongoOperationContext(clientSession, operation.getRepositoryType(), operation.getAnnotationMetadata());
+            if (isUpsert(operation.getAnnotationMetadata())) {
+                MongoReactiveEntitiesOperation<T> op = createMongoUpsertInBulkOperation(ctx, runtimeEntityRegistry.getEntity(operation.getRootEntity()), operation);
+                op.persist();
+                return op.getEntities();
+            }
             return persistBatch(ctx, operation, runtimeEntityRegistry.getEntity(operation.getRootEntity()), null);
         });
     }
@@ -756,6 +768,33 @@ public final class DefaultReactiveMongoRepositoryOperations extends AbstractMong
         };
     }
 
+    private <T> MongoReactiveEntitiesOperation<T> createMongoUpsertInBulkOperation(MongoOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities) {
+        return new MongoReactiveEntitiesOperation<>(ctx, persistentEntity, entities, true) {
+
+            final MongoDatabase mongoDatabase = getDatabase(persistentEntity, ctx.repositoryType);
+            final MongoCollection<BsonDocument> collection = getCollection(mongoDatabase, persistentEntity, BsonDocument.class);
+
+            @Override
+            protected void execute() throws RuntimeException {
+                Mono<Tuple2<List<Data>, Long>> entitiesWithRowsUpdated = entities.flatMap(list -> {
+                    List<WriteModel<BsonDocument>> upserts = new ArrayList<>(list.size());
+                    for (Data d : list) {
+                        if (!d.vetoed) {
+                            upserts.add(createUpsertModel(ctx.annotationMetadata, persistentEntity, d.entity, mongoDatabase.getCodecRegistry()));
+                        }
+                    }
+                    if (upserts.isEmpty()) {
+                        return Mono.just(Tuples.of(list, 0L));
+                    }
+                    return Mono.from(collection.bulkWrite(ctx.clientSession, upserts))
+                        .map(bulkWriteResult -> Tuples.of(list, (long) bulkWriteResult.getModifiedCount() + bulkWriteResult.getUpserts().size()));
+                }).cache();
+                entities = entitiesWithRowsUpdated.flatMap(t -> Mono.just(t.getT1()));
+                rowsUpdated = entitiesWithRowsUpdated.map(Tuple2::getT2);
+            }
+        };
+    }
+
     private <T> MongoReactiveEntitiesOperation<T> createMongoReplaceOneInBulkOperation(MongoOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities) {
         return new MongoReactiveEntitiesOperation<>(ctx, persistentEntity, entities, false) {
 
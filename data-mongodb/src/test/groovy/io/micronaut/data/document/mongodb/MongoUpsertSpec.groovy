@@ -0,0 +1,119 @@
+package io.micronaut.data.document.mongodb
+
+import io.micronaut.data.annotation.DateCreated
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.mongodb.annotation.MongoRepository
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.time.Instant
+
+@MicronautTest(transactional = false)
+class MongoUpsertSpec extends Specification implements MongoTestPropertyProvider {
+
+    @Inject
+    UpsertDocumentRepository repository
+
+    @Inject
+    UpsertVersionedDocumentRepository versionedRepository
+
+    void cleanup() {
+        repository.deleteAll()
+        versionedRepository.deleteAll()
+    }
+
+    void "test upsert inserts and replaces the document"() {
+        when:
+            repository.saveOrUpdate(new UpsertDocument(id: "d1", name: "Pen", stock: 1))
+        then:
+            repository.count() == 1
+            repository.findById("d1").get().stock == 1
+
+        when:
+            repository.saveOrUpdate(new UpsertDocument(id: "d1", name: "Pen", stock: 5))
+        then:
+            repository.count() == 1
+            repository.findById("d1").get().stock == 5
+    }
+
+    void "test upsert all inserts the new documents and replaces the existing"() {
+        given:
+            repository.save(new UpsertDocument(id: "d1", name: "Pen", stock: 1))
+
+        when:
+            def result = repository.saveOrUpdateAll([
+                    new UpsertDocument(id: "d1", name: "Pen", stock: 2),
+                    new UpsertDocument(id: "d2", name: "Pencil", stock: 3)
+            ])
+        then:
+            result.size() == 2
+            repository.count() == 2
+            repository.findById("d1").get().stock == 2
+            repository.findById("d2").get().name == "Pencil"
+    }
+
+    void "test upsert increments the version and keeps the creation date of the existing document"() {
+        given:
+            versionedRepository.saveOrUpdate(new UpsertVersionedDocument(id: "d1", name: "Pen"))
+            def inserted = versionedRepository.findById("d1").get()
+
+        expect:
+            inserted.version == 0
+            inserted.created != null
+
+        when:
+            versionedRepository.saveOrUpdate(new UpsertVersionedDocument(id: "d1", name: "Pencil"))
+            def updated = versionedRepository.findById("d1").get()
+
+        then:
+            updated.name == "Pencil"
+            updated.version == 1
+            updated.created == inserted.created
+
+        when: "the document loaded before the upsert is updated"
+            inserted.name = "Marker"
+            versionedRepository.update(inserted)
+
+        then:
+            thrown(OptimisticLockException)
+            versionedRepository.findById("d1").get().name == "Pencil"
+    }
+}
+
+@MongoRepository
+interface UpsertDocumentRepository extends CrudRepository<UpsertDocument, String> {
+
+    UpsertDocument saveOrUpdate(UpsertDocument document)
+
+    List<UpsertDocument> saveOrUpdateAll(Iterable<UpsertDocument> documents)
+}
+
+@MongoRepository
+interface UpsertVersionedDocumentRepository extends CrudRepository<UpsertVersionedDocument, String> {
+
+    UpsertVersionedDocument saveOrUpdate(UpsertVersionedDocument document)
+}
+
+@MappedEntity
+class UpsertDocument {
+    @Id
+    String id
+    String name
+    int stock
+}
+
+@MappedEntity
+class UpsertVersionedDocument {
+    @Id
+    String id
+    @Version
+    Long version
+    @DateCreated
+    Instant created
+    String name
+}
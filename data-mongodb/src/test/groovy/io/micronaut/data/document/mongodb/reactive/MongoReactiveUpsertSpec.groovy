@@ -0,0 +1,8 @@
+package io.micronaut.data.document.mongodb.reactive
+
+import io.micronaut.data.document.mongodb.MongoUpsertSpec
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+
+@MicronautTest(transactional = false)
+class MongoReactiveUpsertSpec extends MongoUpsertSpec implements MongoSelectReactiveDriver {
+}
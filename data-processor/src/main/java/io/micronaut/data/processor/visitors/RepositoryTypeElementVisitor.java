@@ -30,6 +30,7 @@ import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.CacheableQuery;
 import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.Join;
 import io.micronaut.data.annotation.ParameterExpression;
@@ -41,6 +42,7 @@ import io.micronaut.data.annotation.sql.Procedure;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.intercept.annotation.DataMethodQuery;
 import io.micronaut.data.intercept.annotation.DataMethodQueryParameter;
+import io.micronaut.data.model.Association;
 import io.micronaut.data.model.CursoredPage;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
@@ -85,6 +87,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -414,6 +417,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
         }
 
         annotateQueryResultIfApplicable(element, methodInfo, methodMatchContext.getRootEntity());
+        if (element.hasAnnotation(CacheableQuery.class)) {
+            annotateCacheableQuery(element, methodInfo, methodMatchContext.getRootEntity(), queryResult);
+        }
 
         element.annotate(DataMethod.class.getName(), annotationBuilder -> {
 
@@ -430,6 +436,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
             if (methodInfo.isOptimisticLock()) {
                 annotationBuilder.member(DataMethod.META_MEMBER_OPTIMISTIC_LOCK, true);
             }
+            if (methodInfo.isUpsert()) {
+                annotationBuilder.member(DataMethod.META_MEMBER_UPSERT, true);
+            }
 
             // include the roles
             methodInfo.getParameterRoles().forEach(annotationBuilder::member);
@@ -754,6 +763,37 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
         }
     }
 
+    /**
+     * Completes the {@link CacheableQuery} annotation with the entity types invalidating the cached results,
+     * the root entity and the entities of the join paths.
+     *
+     * @param element     the method element
+     * @param methodInfo  the method match info
+     * @param entity      the root entity
+     * @param queryResult the query result
+     */
+    private void annotateCacheableQuery(MethodElement element, MethodMatchInfo methodInfo, SourcePersistentEntity entity, @Nullable QueryResult queryResult) {
+        DataMethod.OperationType operationType = methodInfo.getOperationType();
+        if (operationType != DataMethod.OperationType.QUERY && operationType != DataMethod.OperationType.COUNT
+            && operationType != DataMethod.OperationType.EXISTS) {
+            throw new ProcessingException(element, "@CacheableQuery can only be declared on the query methods");
+        }
+        Set<String> entities = new LinkedHashSet<>();
+        entities.add(entity.getName());
+        entities.addAll(Arrays.asList(element.stringValues(CacheableQuery.class, "entities")));
+        if (queryResult != null) {
+            for (JoinPath joinPath : queryResult.getJoinPaths()) {
+                for (Association association : joinPath.getAssociationPath()) {
+                    if (association.getAssociatedEntity() != null) {
+                        entities.add(association.getAssociatedEntity().getName());
+                    }
+                }
+            }
+        }
+        element.annotate(CacheableQuery.class, builder -> builder.member("entities",
+            entities.stream().map(AnnotationClassValue::new).toArray(AnnotationClassValue[]::new)));
+    }
+
     /**
      * Annotates method element with {@link io.micronaut.data.annotation.QueryResult} if root entity is {@link EntityRepresentation} of JSON type
      * and method is {@link DataMethod.OperationType#QUERY}.
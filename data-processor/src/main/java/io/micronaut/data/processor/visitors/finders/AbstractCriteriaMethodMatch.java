@@ -428,6 +428,15 @@ public abstract class AbstractCriteriaMethodMatch implements MethodMatcher.Metho
 
         Expression<Object> prop = getProperty(root, propertyName);
 
+        if (restriction instanceof Restrictions.PropertyEquals<Object> && parameters.hasNext() && isSimpleIdentity(root, propertyName)) {
+            ParameterElement parameter = parameters.next();
+            if (parameter.getGenericType().isAssignable(Iterable.class)) {
+                // The identity compared to a collection of the identities: deleteAllById(Iterable<ID> ids)
+                restriction = Restrictions.findPropertyRestriction("In");
+            }
+            parameters = List.of(parameter).iterator();
+        }
+
         List<ParameterExpression<Object>> parameterExpressions = provideParams(parameters,
             restriction.getRequiredParameters(),
             restriction.getName(),
@@ -445,6 +454,19 @@ public abstract class AbstractCriteriaMethodMatch implements MethodMatcher.Metho
         return predicate;
     }
 
+    /**
+     * The simple identity compared to a collection is rendered as {@code IN}, the embedded and composite identities
+     * keep the predicate of one identity which is repeated for every identity of the collection at runtime.
+     */
+    private <T> boolean isSimpleIdentity(PersistentEntityRoot<T> root, String propertyName) {
+        PersistentProperty identity = root.getPersistentEntity().getIdentity();
+        if (identity == null || identity.isEmbedded() || root.getPersistentEntity().hasCompositeIdentity()) {
+            return false;
+        }
+        String name = NameUtils.decapitalize(propertyName);
+        return TypeRole.ID.equals(name) || identity.getName().equals(name);
+    }
+
     private <T> Predicate getRestriction(PersistentEntityRoot<T> root,
                                          PersistentEntityCriteriaBuilder cb,
                                          Iterator<ParameterElement> parameters,
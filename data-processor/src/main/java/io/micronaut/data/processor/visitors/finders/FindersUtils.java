@@ -189,7 +189,7 @@ public interface FindersUtils {
                 } else {
                     saveEntry = pickSaveOneInterceptor(matchContext, returnType);
                 }
-                if (isContainer(saveEntry.returnType, Iterable.class)) {
+                if (isContainer(saveEntry.returnType, Iterable.class) || isContainer(saveEntry.returnType, Stream.class)) {
                     yield typeAndInterceptorEntry(saveEntry.returnType.getFirstTypeArgument().orElseThrow(IllegalStateException::new), saveEntry.interceptor);
                 } else {
                     yield saveEntry;
@@ -43,6 +43,7 @@ public final class MethodMatchInfo {
     private final Map<String, String> parameterRoles = new HashMap<>(2);
     private boolean dto;
     private boolean optimisticLock;
+    private boolean upsert;
 
     private QueryResult queryResult;
     private QueryResult countQueryResult;
@@ -95,6 +96,16 @@ public final class MethodMatchInfo {
         this.optimisticLock = optimisticLock;
     }
 
+    /**
+     * Is the insert an upsert.
+     *
+     * @return the value
+     * @since 4.12
+     */
+    public boolean isUpsert() {
+        return upsert;
+    }
+
     /**
      * Adds a parameter role. This indicates that a parameter is involved
      * somehow in the query.
@@ -159,6 +170,18 @@ public final class MethodMatchInfo {
         return this;
     }
 
+    /**
+     * Sets whether the insert is an upsert, updating the existing entity with the same identity.
+     *
+     * @param upsert Is the insert an upsert
+     * @return this
+     * @since 4.12
+     */
+    public MethodMatchInfo upsert(boolean upsert) {
+        this.upsert = upsert;
+        return this;
+    }
+
     public ClassElement getInterceptor() {
         return interceptor;
     }
@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A save method for saving a single entity.
@@ -65,7 +66,8 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
     @Override
     protected MethodMatch match(MethodMatchContext matchContext, List<MethodNameParser.Match> matches) {
         MethodElement methodElement = matchContext.getMethodElement();
-        boolean producesAnEntity = TypeUtils.doesMethodProducesAnEntityIterableOfAnEntity(methodElement);
+        boolean producesAnEntity = TypeUtils.doesMethodProducesAnEntityIterableOfAnEntity(methodElement)
+            || (methodElement.getGenericReturnType().isAssignable(Stream.class) && TypeUtils.hasPersistedTypeArgument(methodElement.getGenericReturnType()));
         if (!TypeUtils.doesReturnVoid(methodElement)
             && !TypeUtils.doesMethodProducesANumber(methodElement)
             && !producesAnEntity) {
@@ -89,17 +91,25 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
         if (parameters.length == 0) {
             throw new ProcessingException(methodElement, "Save method requires parameters");
         }
-        if (matchContext.getParametersNotInRole().stream().allMatch(p -> TypeUtils.isIterableOfEntity(p.getGenericType()) || TypeUtils.isEntity(p.getGenericType()))) {
+        if (matchContext.getParametersNotInRole().stream().allMatch(p -> isEntities(p.getGenericType()) || TypeUtils.isEntity(p.getGenericType()))) {
+            if (TypeUtils.isFutureType(methodElement.getGenericReturnType())
+                && matchContext.getParametersNotInRole().stream().anyMatch(p -> TypeUtils.isStreamOfEntity(p.getGenericType()))) {
+                throw new ProcessingException(methodElement, "Asynchronous save methods don't support a stream, an iterator or a publisher of the entities");
+            }
             return saveEntity(isReturning ? DataMethod.OperationType.INSERT_RETURNING : DataMethod.OperationType.INSERT);
         }
         return saveProperties();
     }
 
+    private static boolean isEntities(ClassElement type) {
+        return TypeUtils.isIterableOfEntity(type) || TypeUtils.isStreamOfEntity(type);
+    }
+
     private MethodMatch saveEntity(DataMethod.OperationType operationType) {
         return mc -> {
             ParameterElement[] parameters = mc.getParameters();
             ParameterElement entityParameter = Arrays.stream(parameters).filter(p -> TypeUtils.isEntity(p.getGenericType())).findFirst().orElse(null);
-            ParameterElement entitiesParameter = Arrays.stream(parameters).filter(p -> TypeUtils.isIterableOfEntity(p.getGenericType())).findFirst().orElse(null);
+            ParameterElement entitiesParameter = Arrays.stream(parameters).filter(p -> isEntities(p.getGenericType())).findFirst().orElse(null);
             if (entityParameter == null && entitiesParameter == null) {
                 throw new MatchFailedException("Cannot implement save method for specified arguments and return type", mc.getMethodElement());
             }
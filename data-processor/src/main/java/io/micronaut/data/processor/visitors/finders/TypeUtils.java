@@ -45,6 +45,7 @@ import java.time.chrono.ChronoLocalDate;
 import java.time.temporal.Temporal;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -89,6 +90,19 @@ public class TypeUtils {
         return type != null && isIterableOfDto(type) && hasPersistedTypeArgument(type);
     }
 
+    /**
+     * Is the element a stream, an iterator or a publisher of an entity.
+     *
+     * @param type The type
+     * @return True if is
+     * @since 4.12
+     */
+    public static boolean isStreamOfEntity(@Nullable ClassElement type) {
+        return type != null
+                && (type.isAssignable(Stream.class) || type.isAssignable(Iterator.class) || type.isAssignable(Publisher.class))
+                && hasPersistedTypeArgument(type);
+    }
+
     /**
      * Is the element an iterable of a DTO.
      *
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors.finders;
+
+import io.micronaut.data.annotation.DataAnnotationUtils;
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
+import io.micronaut.data.processor.visitors.MatchFailedException;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.processing.ProcessingException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A save method that inserts the entity or updates the existing entity with the same identity.
+ * Supported by the SQL repositories, which render the native upsert of the dialect, and by the MongoDB repositories.
+ *
+ * @since 4.12
+ */
+public class UpsertMethodMatcher extends AbstractMethodMatcher {
+
+    private static final String MONGO_REPOSITORY = "io.micronaut.data.mongodb.annotation.MongoRepository";
+
+    /**
+     * The default constructor.
+     */
+    public UpsertMethodMatcher() {
+        super(MethodNameParser.builder()
+            .match(QueryMatchId.PREFIX, "saveOrUpdate", "upsert")
+            .tryMatch(QueryMatchId.ALL_OR_ONE, ALL_OR_ONE)
+            .takeRest(QueryMatchId.PROJECTION)
+            .build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Before SaveMethodMatcher which matches the `save` prefix
+        return DEFAULT_POSITION - 100;
+    }
+
+    @Override
+    protected MethodMatch match(MethodMatchContext matchContext, List<MethodNameParser.Match> matches) {
+        boolean isSql = !matchContext.supportsImplicitQueries() && matchContext.getQueryBuilder() instanceof SqlQueryBuilder;
+        if (!isSql && !matchContext.getRepositoryClass().hasStereotype(MONGO_REPOSITORY)) {
+            // Not supported, fallback to a regular save method
+            return null;
+        }
+        if (matchContext.getParametersNotInRole().isEmpty() || !matchContext.getParametersNotInRole().stream()
+            .allMatch(p -> TypeUtils.isIterableOfEntity(p.getGenericType()) || TypeUtils.isEntity(p.getGenericType()))) {
+            return null;
+        }
+        MethodElement methodElement = matchContext.getMethodElement();
+        if (!TypeUtils.doesReturnVoid(methodElement)
+            && !TypeUtils.doesMethodProducesANumber(methodElement)
+            && !TypeUtils.doesMethodProducesAnEntityIterableOfAnEntity(methodElement)) {
+            ClassElement producingItem = TypeUtils.getMethodProducingItemType(methodElement);
+            throw new ProcessingException(methodElement, "Unsupported return type for an upsert method: " + producingItem.getName());
+        }
+        return mc -> {
+            ParameterElement[] parameters = mc.getParameters();
+            ParameterElement entityParameter = Arrays.stream(parameters).filter(p -> TypeUtils.isEntity(p.getGenericType())).findFirst().orElse(null);
+            ParameterElement entitiesParameter = Arrays.stream(parameters).filter(p -> TypeUtils.isIterableOfEntity(p.getGenericType())).findFirst().orElse(null);
+            if (entityParameter == null && entitiesParameter == null) {
+                throw new MatchFailedException("Cannot implement upsert method for specified arguments and return type", mc.getMethodElement());
+            }
+            FindersUtils.InterceptorMatch entry = FindersUtils.resolveInterceptorTypeByOperationType(
+                entityParameter != null,
+                entitiesParameter != null,
+                DataMethod.OperationType.INSERT, mc
+            );
+            MethodMatchInfo methodMatchInfo = new MethodMatchInfo(
+                DataMethod.OperationType.INSERT,
+                entry.returnType(),
+                entry.interceptor()
+            ).upsert(true);
+            if (isSql) {
+                AnnotationMetadataHierarchy annotationMetadataHierarchy = new AnnotationMetadataHierarchy(
+                    mc.getRepositoryClass().getAnnotationMetadata(),
+                    mc.getAnnotationMetadata()
+                );
+                SqlQueryBuilder queryBuilder = (SqlQueryBuilder) mc.getQueryBuilder();
+                try {
+                    methodMatchInfo
+                        .encodeEntityParameters(!DataAnnotationUtils.hasJsonEntityRepresentationAnnotation(mc.getAnnotationMetadata()))
+                        .queryResult(queryBuilder.buildUpsert(annotationMetadataHierarchy, mc.getRootEntity()));
+                } catch (IllegalStateException e) {
+                    throw new MatchFailedException(e.getMessage(), mc.getMethodElement());
+                }
+            }
+            if (entitiesParameter != null) {
+                methodMatchInfo.addParameterRole(TypeRole.ENTITIES, entitiesParameter.getName());
+            }
+            if (entityParameter != null) {
+                methodMatchInfo.addParameterRole(TypeRole.ENTITY, entityParameter.getName());
+            }
+            return methodMatchInfo;
+        };
+    }
+
+}
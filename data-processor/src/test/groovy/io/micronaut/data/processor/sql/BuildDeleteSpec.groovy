@@ -102,6 +102,31 @@ ${entity('Movie', [title: String, theLongName: String])}
             getParameterBindingIndexes(method) == ['-1'] as String[]
     }
 
+    void  "test build delete all by id query"() {
+        given:
+            def repository = buildRepository('test.MovieRepository', """
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+
+@JdbcRepository(dialect= Dialect.MYSQL)
+@io.micronaut.context.annotation.Executable
+interface MovieRepository extends CrudRepository<Movie, Integer> {
+
+    @Override
+    void deleteAllById(Iterable<Integer> ids);
+}
+
+${entity('Movie', [title: String, theLongName: String])}
+""")
+            def method = repository.findMethod('deleteAllById', Iterable.class).get()
+
+        expect:
+            getQuery(method) == 'DELETE  FROM `movie`  WHERE (`id` IN (?))'
+            getQueryParts(method) == ['DELETE  FROM `movie`  WHERE (`id` IN (', '))']
+            getParameterBindingIndexes(method) == ['0'] as String[]
+            getDataInterceptor(method) == "io.micronaut.data.intercept.DeleteAllInterceptor"
+    }
+
     void "test build delete relation"() {
         given:
             def repository = buildRepository('test.BookRepository', """
@@ -619,4 +619,135 @@ interface PersonRepository extends CrudRepository<Person, Long> {
         insertQuery.replace('\n', ' ') == "WITH ids AS (SELECT id FROM person) INSERT INTO person(name, age, enabled) VALUES (:name, :age, TRUE) "
         method.classValue(DataMethod, "interceptor").get() == SaveEntityInterceptor
     }
+
+    @Unroll
+    void "test build upsert for dialect - #dialect"() {
+        given:
+        def beanDefinition = buildBeanDefinition('test.MyInterface' + BeanDefinitionVisitor.PROXY_SUFFIX, """
+package test;
+import io.micronaut.data.annotation.*;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+
+@JdbcRepository(dialect=Dialect.${dialect.name()})
+@io.micronaut.context.annotation.Executable
+interface MyInterface extends GenericRepository<Test, String> {
+    Test saveOrUpdate(Test test);
+}
+
+@MappedEntity
+class Test {
+    @Id
+    private String id;
+    private String name;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+""")
+        def method = beanDefinition.findPossibleMethods("saveOrUpdate").findFirst().get()
+
+        expect:
+        getQuery(method) == query
+        getParameterPropertyPaths(method) == ['name', 'id'] as String[]
+        method.booleanValue(DataMethod, DataMethod.META_MEMBER_UPSERT).orElse(false)
+        method.classValue(DataMethod, "interceptor").get() == SaveEntityInterceptor
+
+        where:
+        dialect            | query
+        Dialect.H2         | 'MERGE INTO `test` (`name`,`id`) KEY (`id`) VALUES (?,?)'
+        Dialect.POSTGRES   | 'INSERT INTO "test" ("name","id") VALUES (?,?) ON CONFLICT ("id") DO UPDATE SET "name"=EXCLUDED."name"'
+        Dialect.MYSQL      | 'INSERT INTO `test` (`name`,`id`) VALUES (?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`)'
+        Dialect.ORACLE     | 'MERGE INTO "TEST" t USING (SELECT ? "NAME",? "ID" FROM DUAL) s ON (t."ID"=s."ID") WHEN MATCHED THEN UPDATE SET t."NAME"=s."NAME" WHEN NOT MATCHED THEN INSERT ("NAME","ID") VALUES (s."NAME",s."ID")'
+        Dialect.SQL_SERVER | 'MERGE INTO [test] t USING (SELECT ? AS [name],? AS [id]) s ON (t.[id]=s.[id]) WHEN MATCHED THEN UPDATE SET t.[name]=s.[name] WHEN NOT MATCHED THEN INSERT ([name],[id]) VALUES (s.[name],s.[id]);'
+        Dialect.ANSI       | 'MERGE INTO "test" t USING (VALUES (?,?)) s ("name","id") ON (t."id"=s."id") WHEN MATCHED THEN UPDATE SET t."name"=s."name" WHEN NOT MATCHED THEN INSERT ("name","id") VALUES (s."name",s."id")'
+    }
+
+    void "test build upsert of versioned entity for dialect - #dialect"() {
+        given:
+        def beanDefinition = buildBeanDefinition('test.MyInterface' + BeanDefinitionVisitor.PROXY_SUFFIX, """
+package test;
+import io.micronaut.data.annotation.*;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import java.time.Instant;
+
+@JdbcRepository(dialect=Dialect.${dialect.name()})
+@io.micronaut.context.annotation.Executable
+interface MyInterface extends GenericRepository<Test, String> {
+    Test saveOrUpdate(Test test);
+}
+
+@MappedEntity
+class Test {
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    @DateCreated
+    private Instant created;
+    private String name;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    public void setCreated(Instant created) {
+        this.created = created;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+""")
+        def method = beanDefinition.findPossibleMethods("saveOrUpdate").findFirst().get()
+
+        expect:
+        getQuery(method) == query
+        getParameterPropertyPaths(method) == ['created', 'name', 'version', 'id'] as String[]
+
+        where:
+        dialect            | query
+        Dialect.H2         | 'MERGE INTO `test` t USING (SELECT ? AS `created`,? AS `name`,? AS `version`,? AS `id`) s ON (t.`id`=s.`id`) WHEN MATCHED THEN UPDATE SET t.`name`=s.`name`,t.`version`=t.`version`+1 WHEN NOT MATCHED THEN INSERT (`created`,`name`,`version`,`id`) VALUES (s.`created`,s.`name`,s.`version`,s.`id`)'
+        Dialect.POSTGRES   | 'INSERT INTO "test" ("created","name","version","id") VALUES (?,?,?,?) ON CONFLICT ("id") DO UPDATE SET "name"=EXCLUDED."name","version"="test"."version"+1'
+        Dialect.MYSQL      | 'INSERT INTO `test` (`created`,`name`,`version`,`id`) VALUES (?,?,?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`),`version`=`version`+1'
+    }
 }
@@ -16,6 +16,8 @@
 package io.micronaut.data.processor.sql
 
 import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.annotation.CacheableQuery
+import io.micronaut.data.annotation.InListChunking
 import io.micronaut.data.annotation.Join
 import io.micronaut.data.intercept.FindAllInterceptor
 import io.micronaut.data.intercept.FindOneInterceptor
@@ -96,6 +98,89 @@ interface MyInterface2 extends CrudRepository<CustomBook, Long> {
             query == 'SELECT custom_book_."id",custom_book_."title" FROM "CustomBooK" custom_book_ WHERE (custom_book_."id" = ?)'
     }
 
+    void "test find all by ids"() {
+        given:
+            def repository = buildRepository('test.MyInterface2', """
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.annotation.InListChunking;
+import io.micronaut.data.tck.entities.CustomBook;
+import java.util.List;
+
+@JdbcRepository(dialect= Dialect.POSTGRES)
+@io.micronaut.context.annotation.Executable
+interface MyInterface2 extends CrudRepository<CustomBook, Long> {
+
+    @Override
+    @InListChunking
+    List<CustomBook> findAllById(Iterable<Long> ids);
+}
+"""
+            )
+
+        when:
+            def method = repository.getRequiredMethod("findAllById", Iterable)
+
+        then:
+            getQuery(method) == 'SELECT custom_book_."id",custom_book_."title" FROM "CustomBooK" custom_book_ WHERE (custom_book_."id" IN (?))'
+            getParameterBindingIndexes(method) == ['0'] as String[]
+            getDataInterceptor(method) == "io.micronaut.data.intercept.FindAllInterceptor"
+            method.hasAnnotation(InListChunking)
+    }
+
+    void "test cacheable query entities"() {
+        given:
+            def repository = buildRepository('test.MyInterface2', """
+import io.micronaut.data.annotation.CacheableQuery;
+import io.micronaut.data.annotation.Join;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.data.tck.entities.Book;
+
+@JdbcRepository(dialect= Dialect.POSTGRES)
+@io.micronaut.context.annotation.Executable
+interface MyInterface2 extends GenericRepository<Book, Long> {
+
+    @CacheableQuery(maximumSize = 10)
+    @Join("author")
+    List<Book> findByTitle(String title);
+}
+"""
+            )
+
+        when:
+            def method = repository.getRequiredMethod("findByTitle", String)
+
+        then:
+            method.stringValues(CacheableQuery, "entities") as List == ["io.micronaut.data.tck.entities.Book", "io.micronaut.data.tck.entities.Author"]
+            method.intValue(CacheableQuery, "maximumSize").getAsInt() == 10
+    }
+
+    void "test cacheable query on a delete method"() {
+        when:
+            buildRepository('test.MyInterface2', """
+import io.micronaut.data.annotation.CacheableQuery;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.data.tck.entities.Book;
+
+@JdbcRepository(dialect= Dialect.POSTGRES)
+@io.micronaut.context.annotation.Executable
+interface MyInterface2 extends GenericRepository<Book, Long> {
+
+    @CacheableQuery
+    void deleteByTitle(String title);
+}
+"""
+            )
+
+        then:
+            def e = thrown(Exception)
+            e.message.contains "@CacheableQuery can only be declared on the query methods"
+    }
+
     void "test POSTGRES custom query"() {
         given:
             def repository = buildRepository('test.MyInterface2', """
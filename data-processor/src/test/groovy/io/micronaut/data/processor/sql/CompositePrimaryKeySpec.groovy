@@ -117,6 +117,8 @@ interface UserRoleRepository extends GenericRepository<UserRole, UserRoleId> {
 
     void deleteById(UserRoleId id);
 
+    void deleteAllById(Iterable<UserRoleId> ids);
+
     default void delete(User user, Role role) {
         deleteById(new UserRoleId(user, role));
     }
@@ -144,6 +146,16 @@ interface UserRoleRepository extends GenericRepository<UserRole, UserRoleId> {
         getParameterBindingIndexes(deleteByIdMethod) == ["0", "0"]
         getParameterPropertyPaths(deleteByIdMethod) == ["id.user.id", "id.role.id"] as String[]
         getParameterBindingPaths(deleteByIdMethod) == ["user", "role"] as String[]
+
+        when:"The predicate of one identity is expanded with OR for every identity at runtime"
+        def deleteAllByIdMethod = repository.findPossibleMethods("deleteAllById").findFirst().get()
+
+        then:
+        getQuery(deleteAllByIdMethod) == 'DELETE  FROM "user_role"  WHERE ("id_user_id" = ? AND "id_role_id" = ?)'
+        getQueryParts(deleteAllByIdMethod) == ['DELETE  FROM "user_role"  WHERE ("id_user_id" = ', ' AND "id_role_id" = ', ')']
+        getParameterBindingIndexes(deleteAllByIdMethod) == ["0", "0"]
+        getParameterPropertyPaths(deleteAllByIdMethod) == ["id.user.id", "id.role.id"] as String[]
+        getParameterBindingPaths(deleteAllByIdMethod) == ["user", "role"] as String[]
     }
 
     void "test compile repo with composite key relations2"() {
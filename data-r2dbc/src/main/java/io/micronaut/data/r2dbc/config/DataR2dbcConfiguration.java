@@ -22,12 +22,15 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.naming.Named;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.r2dbc.operations.R2dbcOperations;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.config.SchemaGenerate;
 import io.micronaut.r2dbc.BasicR2dbcProperties;
 import io.r2dbc.spi.ConnectionFactory;
 import jakarta.inject.Provider;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,6 +42,8 @@ import java.util.List;
 @EachProperty(value = BasicR2dbcProperties.PREFIX, primary = "default")
 public class DataR2dbcConfiguration implements Named {
 
+    private static final Duration DEFAULT_REPLICA_LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
     private Dialect dialect = Dialect.ANSI;
@@ -50,6 +55,15 @@ public class DataR2dbcConfiguration implements Named {
     private String schemaGenerateName;
     @Nullable
     private List<String> schemaGenerateNames;
+    private boolean columnIndexMapping = false;
+    private ExpandableParameterPadding expandableParameterPadding = ExpandableParameterPadding.NONE;
+    private int multiRowInsertSize;
+    private List<String> readReplicas = Collections.emptyList();
+    @Nullable
+    private Duration maxReplicaLag;
+    @Nullable
+    private String replicaLagQuery;
+    private Duration replicaLagCheckInterval = DEFAULT_REPLICA_LAG_CHECK_INTERVAL;
 
     /**
      * The configuration.
@@ -181,4 +195,147 @@ public class DataR2dbcConfiguration implements Named {
     public void setSchemaGenerateNames(@Nullable List<String> schemaGenerateNames) {
         this.schemaGenerateNames = schemaGenerateNames;
     }
+
+    /**
+     * @return Whether the entities are mapped by the column index resolved once per statement
+     * @since 4.12
+     */
+    public boolean isColumnIndexMapping() {
+        return columnIndexMapping;
+    }
+
+    /**
+     * Sets whether the entities should be mapped by the column index. The result set metadata is resolved once per statement
+     * and every row is read by the resolved column index instead of the column name. Defaults to false.
+     *
+     * @param columnIndexMapping Whether the entities are mapped by the column index
+     * @since 4.12
+     */
+    public void setColumnIndexMapping(boolean columnIndexMapping) {
+        this.columnIndexMapping = columnIndexMapping;
+    }
+
+    /**
+     * @return The padding of the expanded collection parameters
+     * @since 4.12
+     */
+    @NonNull
+    public ExpandableParameterPadding getExpandableParameterPadding() {
+        return expandableParameterPadding;
+    }
+
+    /**
+     * Sets the padding of the expanded collection parameters ({@code IN (?, ?, ...)}). With {@link ExpandableParameterPadding#POWER_OF_TWO}
+     * the statements of different collection sizes share the same SQL, which keeps the statement and the plan caches small.
+     * Defaults to {@link ExpandableParameterPadding#NONE}.
+     *
+     * @param expandableParameterPadding The padding
+     * @since 4.12
+     */
+    public void setExpandableParameterPadding(@Nullable ExpandableParameterPadding expandableParameterPadding) {
+        if (expandableParameterPadding != null) {
+            this.expandableParameterPadding = expandableParameterPadding;
+        }
+    }
+
+    /**
+     * @return The maximum number of the rows inserted by one multi-row insert statement, 0 if disabled
+     * @since 4.12
+     */
+    public int getMultiRowInsertSize() {
+        return multiRowInsertSize;
+    }
+
+    /**
+     * Sets the maximum number of the rows inserted by one multi-row {@code INSERT ... VALUES (...), (...)} statement
+     * executed by {@code saveAll}. The entities are inserted in one round trip per chunk, including the dialects and the generated
+     * identities not supporting the batch. The size is limited by the maximum number of the statement parameters of the dialect.
+     * Supported by H2 and PostgreSQL, by MySQL and SQL Server without generated identities. Defaults to 0, disabled.
+     *
+     * @param multiRowInsertSize The multi-row insert size
+     * @since 4.12
+     */
+    public void setMultiRowInsertSize(int multiRowInsertSize) {
+        this.multiRowInsertSize = multiRowInsertSize;
+    }
+
+    /**
+     * @return The names of the read replica connection factories
+     * @since 4.12
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the read replica connection factories. The read-only connections and transactions are routed
+     * to the replicas in the round-robin order, the read-write connections to this connection factory.
+     *
+     * @param readReplicas The names of the read replica connection factories
+     * @since 4.12
+     */
+    public void setReadReplicas(@Nullable List<String> readReplicas) {
+        this.readReplicas = readReplicas == null ? Collections.emptyList() : readReplicas;
+    }
+
+    /**
+     * @return The maximum replication lag of a replica serving the read-only connections
+     * @since 4.12
+     */
+    @Nullable
+    public Duration getMaxReplicaLag() {
+        return maxReplicaLag;
+    }
+
+    /**
+     * Sets the maximum replication lag of a replica serving the read-only connections. A lagging replica is skipped
+     * until the next lag check. Requires {@link #setReplicaLagQuery(String)}. Defaults to no lag checks.
+     *
+     * @param maxReplicaLag The maximum replication lag
+     * @since 4.12
+     */
+    public void setMaxReplicaLag(@Nullable Duration maxReplicaLag) {
+        this.maxReplicaLag = maxReplicaLag;
+    }
+
+    /**
+     * @return The query measuring the replication lag of a replica
+     * @since 4.12
+     */
+    @Nullable
+    public String getReplicaLagQuery() {
+        return replicaLagQuery;
+    }
+
+    /**
+     * Sets the query executed on a replica measuring its replication lag, the first column of the first row is the lag in seconds,
+     * no row or {@code NULL} is a zero lag. The lag is measured asynchronously, the replica keeps serving the connections
+     * until the result of the check is known.
+     *
+     * @param replicaLagQuery The lag query
+     * @since 4.12
+     */
+    public void setReplicaLagQuery(@Nullable String replicaLagQuery) {
+        this.replicaLagQuery = replicaLagQuery;
+    }
+
+    /**
+     * @return The interval of the replication lag checks
+     * @since 4.12
+     */
+    @NonNull
+    public Duration getReplicaLagCheckInterval() {
+        return replicaLagCheckInterval;
+    }
+
+    /**
+     * Sets the interval of the replication lag checks. Defaults to 5 seconds.
+     *
+     * @param replicaLagCheckInterval The interval
+     * @since 4.12
+     */
+    public void setReplicaLagCheckInterval(@Nullable Duration replicaLagCheckInterval) {
+        this.replicaLagCheckInterval = replicaLagCheckInterval == null ? DEFAULT_REPLICA_LAG_CHECK_INTERVAL : replicaLagCheckInterval;
+    }
 }
@@ -15,16 +15,22 @@
  */
 package io.micronaut.data.r2dbc.connection;
 
+import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.propagation.ReactorPropagation;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.support.AbstractReactorConnectionOperations;
+import io.micronaut.data.connection.support.ReadReplicaRouter;
+import io.micronaut.data.connection.support.ReadReplicaSession;
 import io.micronaut.data.r2dbc.config.DataR2dbcConfiguration;
 import io.micronaut.data.r2dbc.operations.R2dbcSchemaHandler;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import org.reactivestreams.Publisher;
@@ -33,6 +39,9 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -53,17 +62,49 @@ public final class DefaultR2dbcReactorConnectionOperations extends AbstractReact
     @Nullable
     private final SchemaTenantResolver schemaTenantResolver;
     private final R2dbcSchemaHandler schemaHandler;
+    @Nullable
+    private final ReadReplicaRouter<ConnectionFactory> readReplicaRouter;
 
     DefaultR2dbcReactorConnectionOperations(@Parameter String dataSourceName,
                                             @Parameter ConnectionFactory connectionFactory,
                                             @Parameter DataR2dbcConfiguration configuration,
                                             @Nullable SchemaTenantResolver schemaTenantResolver,
-                                            R2dbcSchemaHandler schemaHandler) {
+                                            R2dbcSchemaHandler schemaHandler,
+                                            BeanContext beanContext) {
         this.dataSourceName = dataSourceName;
         this.connectionFactory = connectionFactory;
         this.configuration = configuration;
         this.schemaTenantResolver = schemaTenantResolver;
         this.schemaHandler = schemaHandler;
+        if (configuration.getReadReplicas().isEmpty()) {
+            this.readReplicaRouter = null;
+        } else {
+            String lagQuery = configuration.getReplicaLagQuery();
+            this.readReplicaRouter = new ReadReplicaRouter<>(
+                dataSourceName,
+                configuration.getReadReplicas(),
+                replicaName -> beanContext.getBean(ConnectionFactory.class, Qualifiers.byName(replicaName)),
+                configuration.getMaxReplicaLag(),
+                configuration.getReplicaLagCheckInterval(),
+                lagQuery == null ? null : (replica, callback) -> probeReplicaLag(replica, lagQuery, callback)
+            );
+        }
+    }
+
+    private static void probeReplicaLag(ConnectionFactory replica, String lagQuery, Consumer<Duration> callback) {
+        Mono.usingWhen(
+                Mono.<Connection>from(replica.create()),
+                connection -> Flux.from(connection.createStatement(lagQuery).execute())
+                    .concatMap(result -> result.map((row, metadata) -> Optional.ofNullable(row.get(0))))
+                    .next(),
+                Connection::close
+            )
+            .map(lag -> ReadReplicaRouter.toLag(lag.orElse(null)))
+            .defaultIfEmpty(Duration.ZERO)
+            .subscribe(callback, e -> {
+                LOG.warn("Failed to measure the replication lag of a read replica: {}", e.getMessage(), e);
+                callback.accept(null);
+            });
     }
 
     @Override
@@ -71,7 +112,16 @@ public final class DefaultR2dbcReactorConnectionOperations extends AbstractReact
         if (LOG.isDebugEnabled()) {
             LOG.debug("Opening Connection for R2DBC configuration: {} and definition: {}", dataSourceName, definition);
         }
-        return (Publisher<Connection>) connectionFactory.create();
+        if (readReplicaRouter == null) {
+            return (Publisher<Connection>) connectionFactory.create();
+        }
+        return Mono.deferContextual(contextView -> {
+            ReadReplicaSession session = ReactorPropagation.findContextElement(contextView, ReadReplicaSession.class)
+                .or(() -> ReadReplicaSession.find(PropagatedContext.getOrEmpty()))
+                .orElse(null);
+            ConnectionFactory replica = readReplicaRouter.route(definition, session);
+            return Mono.from((replica == null ? connectionFactory : replica).create());
+        });
     }
 
     @Override
@@ -23,6 +23,8 @@ import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.mapper.ResultReader;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResolver;
+import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.R2dbcTransientResourceException;
 import io.r2dbc.spi.Row;
 
@@ -32,6 +34,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of {@link ResultReader} for R2DBC.
@@ -39,7 +44,7 @@ import java.util.Date;
  * @author graemerocher
  * @since 1.0.0
  */
-public class ColumnIndexR2dbcResultReader implements ResultReader<Row, Integer> {
+public class ColumnIndexR2dbcResultReader implements ResultReader<Row, Integer>, SqlColumnIndexResolver<Row> {
     private final ConversionService conversionService;
 
     public ColumnIndexR2dbcResultReader() {
@@ -229,6 +234,17 @@ public class ColumnIndexR2dbcResultReader implements ResultReader<Row, Integer>
         return false;
     }
 
+    @Override
+    public Map<String, Integer> resolveColumnIndexes(Row resultSet) {
+        List<? extends ColumnMetadata> columnMetadatas = resultSet.getMetadata().getColumnMetadatas();
+        Map<String, Integer> columnIndexes = new HashMap<>(columnMetadatas.size() * 2);
+        int i = 0;
+        for (ColumnMetadata columnMetadata : columnMetadatas) {
+            columnIndexes.putIfAbsent(SqlColumnIndexResolver.normalizeColumnLabel(columnMetadata.getName()), i++);
+        }
+        return columnIndexes;
+    }
+
     private DataAccessException exceptionForColumn(Integer name, Exception e) {
         return new DataAccessException("Error reading object for index [" + name + "] from result set: " + e.getMessage(), e);
     }
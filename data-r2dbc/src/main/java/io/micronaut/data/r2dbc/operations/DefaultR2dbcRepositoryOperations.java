@@ -38,6 +38,8 @@ import io.micronaut.data.exceptions.NonUniqueResultException;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.PersistentEntity;
+import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
@@ -67,6 +69,7 @@ import io.micronaut.data.r2dbc.mapper.ColumnNameR2dbcResultReader;
 import io.micronaut.data.r2dbc.mapper.R2dbcQueryStatement;
 import io.micronaut.data.r2dbc.mapper.RowTupleMapper;
 import io.micronaut.data.r2dbc.transaction.R2dbcReactorTransactionOperations;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.convert.RuntimePersistentPropertyConversionContext;
 import io.micronaut.data.runtime.date.DateTimeProvider;
@@ -81,14 +84,17 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.ReactiveCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.PooledSequenceAllocator;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.transaction.TransactionExecution;
 import io.micronaut.transaction.exceptions.TransactionSystemException;
 import io.micronaut.transaction.reactive.ReactiveTransactionOperations.TransactionalCallback;
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
+import io.micronaut.transaction.support.TransactionUtil;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Parameters;
@@ -237,6 +243,31 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return new ColumnNameExistenceAwareR2dbcResultSetReader();
     }
 
+    @Override
+    protected boolean isColumnIndexMapping() {
+        return configuration.isColumnIndexMapping();
+    }
+
+    @Override
+    protected ExpandableParameterPadding getExpandableParameterPadding() {
+        return configuration.getExpandableParameterPadding();
+    }
+
+    @Override
+    protected int getMultiRowInsertSize() {
+        return configuration.getMultiRowInsertSize();
+    }
+
+    @Override
+    protected int getMultiRowInsertSize(PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (sqlStoredQuery.getDialect() == Dialect.MYSQL && identity != null && identity.isGenerated()) {
+            // The R2DBC MySQL drivers don't return the generated identities of all the inserted rows
+            return 0;
+        }
+        return super.getMultiRowInsertSize(persistentEntity, sqlStoredQuery);
+    }
+
     @Override
     protected SqlTypeMapper<Row, Tuple> createTupleMapper() {
         return new RowTupleMapper(conversionService);
@@ -295,6 +326,22 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return op.getEntity();
     }
 
+    @Override
+    public <T> Flux<T> updateBatch(R2dbcOperationContext ctx, Iterable<T> values, RuntimePersistentEntity<T> persistentEntity) {
+        SqlStoredQuery<T, ?> storedQuery = resolveEntityUpdate(
+            ctx.annotationMetadata,
+            ctx.repositoryType,
+            persistentEntity.getIntrospection().getBeanType(),
+            persistentEntity
+        );
+        if (!isSupportsBatchUpdate(persistentEntity, storedQuery)) {
+            return ReactiveCascadeOperations.ReactiveCascadeOperationsHelper.super.updateBatch(ctx, values, persistentEntity);
+        }
+        R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, persistentEntity, values, storedQuery);
+        op.update();
+        return op.getEntities();
+    }
+
     @Override
     public Mono<Void> persistManyAssociation(R2dbcOperationContext ctx,
                                              RuntimeAssociation runtimeAssociation,
@@ -417,8 +464,20 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public boolean isSupportsBatchInsert(R2dbcOperationContext context, RuntimePersistentEntity<?> persistentEntity) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity != null && identity.isGenerated()) {
+            // The pooled sequence identities support batches
+            RuntimePersistentEntity<Object> entity = (RuntimePersistentEntity<Object>) persistentEntity;
+            return isSupportsBatchInsert(entity, resolveEntityInsert(
+                context.annotationMetadata,
+                context.repositoryType,
+                entity.getIntrospection().getBeanType(),
+                entity
+            ));
+        }
         return isSupportsBatchInsert(persistentEntity, context.dialect);
     }
 
@@ -451,6 +510,12 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             .flatMap(result -> Flux.from(result.map((row, rowMetadata) -> mapper.apply(row))));
     }
 
+    private static <T> Flux<T> executeAndStreamEachRow(Statement statement, Function<Row, T> mapper) {
+        // concatMap propagates the downstream demand directly to the rows of the current result
+        return Flux.from(statement.execute())
+            .concatMap(result -> Flux.from(result.map((row, rowMetadata) -> mapper.apply(row))));
+    }
+
     private static <T> Flux<T> executeAndMapEachReadable(Statement statement, Function<Readable, T> mapper) {
         return Flux.from(statement.execute())
             .flatMap(result -> Flux.from(result.map(mapper)));
@@ -509,6 +574,32 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public <T, R> Mono<R> findOne(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+            Object cachedId = schemaTenantResolver == null ? findCachedEntityId(preparedQuery) : null;
+            if (cachedId != null) {
+                return findCachedOne(preparedQuery, cachedId);
+            }
+            return findOne(preparedQuery);
+        }
+
+        private <T, R> Mono<R> findCachedOne(SqlPreparedQuery<T, R> preparedQuery, Object id) {
+            RuntimePersistentEntity<R> persistentEntity = (RuntimePersistentEntity<R>) preparedQuery.getPersistentEntity();
+            return Mono.deferContextual(contextView -> {
+                // The reactive transactions don't report their outcome, the cache is only used outside of them
+                if (preparedQuery.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).isPresent()
+                    || transactionOperations.findTransactionStatus(contextView).isPresent()) {
+                    return findOne(preparedQuery);
+                }
+                // The entity is only cached if no entity of its type is written until it's read
+                long generation = entityCache.generation(persistentEntity);
+                R cached = entityCache.get(null, persistentEntity, id);
+                if (cached != null) {
+                    return Mono.just(cached);
+                }
+                return findOne(preparedQuery).doOnNext(result -> entityCache.put(null, persistentEntity, id, result, generation));
+            });
+        }
+
+        private <T, R> Mono<R> findOne(SqlPreparedQuery<T, R> preparedQuery) {
             return executeReadMono(preparedQuery, connection -> {
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
@@ -534,11 +625,23 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         public <T, R> Flux<R> findAll(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
             return executeReadFlux(preparedQuery, connection -> {
+                // Rows of the "many" joins can be aggregated incrementally only if they are ordered by the root entity
+                boolean onlySingleEndedJoins = isOnlySingleEndedJoins(preparedQuery.getPersistentEntity(), preparedQuery.getJoinPaths());
+                boolean incrementalJoins = !onlySingleEndedJoins && preparedQuery.attachIdentityOrder();
                 Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
                 preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
 
                 SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
                 if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
+                    if (onlySingleEndedJoins) {
+                        // Every row is one entity, no need to aggregate
+                        return executeAndStreamEachRow(statement, entityTypeMapper::readEntity);
+                    }
+                    if (incrementalJoins) {
+                        SqlResultEntityTypeMapper.IncrementalMapper<Row, R> rowsMapper = entityTypeMapper.readManyIncrementalMapper();
+                        return executeAndMapEachRowNullable(statement, rowsMapper::processRow)
+                            .concatWith(Mono.fromSupplier(rowsMapper::complete));
+                    }
                     SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> rowsMapper = entityTypeMapper.readManyMapper();
                     return executeAndMapEachRow(statement, row -> {
                         rowsMapper.processRow(row);
@@ -553,11 +656,18 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public Mono<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
             SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
+            int identityDeleteSize = getIdentityDeleteSize(preparedQuery);
             return executeWriteMono(preparedQuery, connection -> {
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, true, true);
-                Dialect dialect = preparedQuery.getDialect();
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
-                return executeAndGetRowsUpdatedSingle(statement, dialect)
+                ReactiveTransactionStatus<?> status = findCommittingTransaction(preparedQuery, connection);
+                Mono<Number> rowsUpdatedMono;
+                if (identityDeleteSize > 0) {
+                    rowsUpdatedMono = executeIdentityDelete(connection, preparedQuery, identityDeleteSize);
+                } else {
+                    Statement statement = prepareStatement(connection::createStatement, preparedQuery, true, true);
+                    preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+                    rowsUpdatedMono = executeAndGetRowsUpdatedSingle(statement, preparedQuery.getDialect());
+                }
+                return rowsUpdatedMono
                     .flatMap((Number rowsUpdated) -> {
                         if (QUERY_LOG.isTraceEnabled()) {
                             QUERY_LOG.trace("Update operation updated {} records", rowsUpdated);
@@ -565,6 +675,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (preparedQuery.isOptimisticLock()) {
                             checkOptimisticLocking(1, rowsUpdated);
                         }
+                        evictCachedEntities(status, preparedQuery);
                         Argument<?> argument = preparedQuery.getResultArgument().getFirstTypeVariable().orElse(null);
                         if (argument != null) {
                             if (argument.isVoid() || argument.getType() == Void.class) {
@@ -580,6 +691,25 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        private Mono<Number> executeIdentityDelete(Connection connection, SqlPreparedQuery<?, Number> preparedQuery, int chunkSize) {
+            List<Object> identities = getDeletedIdentities(preparedQuery);
+            List<List<Object>> chunks = new ArrayList<>();
+            for (int from = 0; from < identities.size(); from += chunkSize) {
+                chunks.add(identities.subList(from, Math.min(identities.size(), from + chunkSize)));
+            }
+            return Flux.fromIterable(chunks)
+                .concatMap(chunk -> {
+                    String query = buildIdentityDelete(preparedQuery, chunk.size());
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing SQL query: {}", query);
+                    }
+                    Statement statement = connection.createStatement(query);
+                    bindIdentities(new R2dbcParameterBinder(connection, statement, preparedQuery), preparedQuery, chunk);
+                    return executeAndGetRowsUpdated(statement).onErrorResume(errorHandler(preparedQuery.getDialect()));
+                })
+                .reduce((Number) 0L, (rowsUpdated, deleted) -> rowsUpdated.longValue() + deleted.longValue());
+        }
+
         @NonNull
         @Override
         public Mono<Number> executeDelete(@NonNull PreparedQuery<?, Number> preparedQuery) {
@@ -627,6 +757,12 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 final RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
                 final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
+                int multiRowInsertSize = getMultiRowInsertSize(persistentEntity, storedQuery);
+                if (multiRowInsertSize > 0) {
+                    R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, storedQuery, persistentEntity, operation, true, multiRowInsertSize);
+                    op.persist();
+                    return op.getEntities();
+                }
                 if (!isSupportsBatchInsert(persistentEntity, storedQuery)) {
                     return concatMono(
                         operation.split().stream()
@@ -755,6 +891,12 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
                 final R2dbcOperationContext ctx = createContext(operation, connection, storedQuery);
+                int multiRowDeleteSize = getMultiRowDeleteSize(persistentEntity, storedQuery);
+                if (multiRowDeleteSize > 0) {
+                    R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, storedQuery, persistentEntity, operation, false, multiRowDeleteSize);
+                    op.delete();
+                    return op.getRowsUpdated();
+                }
                 if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                     R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                     op.delete();
@@ -795,7 +937,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
 
         private <T> R2dbcOperationContext createContext(EntityOperation<T> operation, Connection connection, SqlStoredQuery<T, ?> storedQuery) {
-            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection);
+            return new R2dbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection,
+                findCommittingTransaction(operation, connection));
         }
 
         @NonNull
@@ -915,8 +1058,51 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
 
     }
 
+    private Mono<Long> nextPooledId(R2dbcOperationContext ctx, PooledSequenceAllocator idAllocator) {
+        return Mono.defer(() -> {
+            Long id = idAllocator.tryAllocate();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            String query = idAllocator.getQuery();
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            Statement statement = ctx.connection.createStatement(query);
+            return executeAndMapEachRow(statement, row -> row.get(0, Long.class))
+                .onErrorResume(errorHandler(ctx.dialect))
+                .as(DefaultR2dbcRepositoryOperations::toSingleResult)
+                .map(idAllocator::allocateBlock);
+        });
+    }
+
+    /**
+     * Finds the transaction the writes on the connection are committed by, must be invoked while the context
+     * of the operation is propagated.
+     *
+     * @param operation  The operation
+     * @param connection The connection
+     * @return The transaction status or null if the connection is committing every statement
+     */
+    @Nullable
+    private ReactiveTransactionStatus<?> findCommittingTransaction(PreparedDataOperation<?> operation, Connection connection) {
+        ReactiveTransactionStatus<?> status = operation.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).orElse(null);
+        if (status != null) {
+            return status.getConnection() == connection ? status : null;
+        }
+        for (TransactionExecution transaction : TransactionUtil.findActiveTransactions(PropagatedContext.getOrEmpty())) {
+            if (transaction instanceof ReactiveTransactionStatus<?> reactiveStatus && reactiveStatus.getConnection() == connection) {
+                return reactiveStatus;
+            }
+        }
+        return null;
+    }
+
     private final class R2dbcEntityOperations<T> extends AbstractReactiveEntityOperations<R2dbcOperationContext, T, RuntimeException> {
         private final SqlStoredQuery<T, ?> storedQuery;
+        @Nullable
+        private final PooledSequenceAllocator idAllocator;
+        private final boolean returnsGeneratedId;
 
         private R2dbcEntityOperations(R2dbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
             this(ctx, storedQuery, persistentEntity, entity, false);
@@ -929,6 +1115,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 entityEventRegistry,
                 persistentEntity, entity, insert);
             this.storedQuery = storedQuery;
+            this.idAllocator = insert ? findPooledSequenceAllocator(persistentEntity, storedQuery) : null;
+            this.returnsGeneratedId = hasGeneratedId && idAllocator == null;
         }
 
         @Override
@@ -954,7 +1142,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             }
             LOG.debug(storedQuery.getQuery());
             Statement statement = connection.createStatement(storedQuery.getQuery());
-            if (hasGeneratedId) {
+            if (returnsGeneratedId) {
                 if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
                     return statement.bind(storedQuery.getQueryBindings().size(), Parameters.out(R2dbcType.NUMERIC));
                 } else {
@@ -987,9 +1175,21 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
+            if (idAllocator != null) {
+                BeanProperty<T, Object> property = persistentEntity.getIdentity().getProperty();
+                data = data.flatMap(d -> {
+                    if (d.vetoed || property.get(d.entity) != null) {
+                        return Mono.just(d);
+                    }
+                    return nextPooledId(ctx, idAllocator).map(id -> {
+                        d.entity = updateEntityId(property, d.entity, id);
+                        return d;
+                    });
+                });
+            }
             Statement statement = prepare(ctx.connection);
             setParameters(statement, storedQuery);
-            if (hasGeneratedId) {
+            if (returnsGeneratedId) {
                 data = data.flatMap(d -> {
                     if (d.vetoed) {
                         return Mono.just(d);
@@ -1025,24 +1225,43 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     return d;
                 });
             }
+            if (isCachedEntityWrite(persistentEntity, storedQuery)) {
+                data = data.map(d -> {
+                    if (!d.vetoed) {
+                        evictCachedEntity(ctx.transactionStatus, persistentEntity, storedQuery, d.entity);
+                    }
+                    return d;
+                });
+            }
         }
     }
 
     private final class R2dbcEntitiesOperations<T> extends AbstractReactiveEntitiesOperations<R2dbcOperationContext, T, RuntimeException> {
 
         private final SqlStoredQuery<T, ?> storedQuery;
+        private final int multiRowSize;
+        @Nullable
+        private final PooledSequenceAllocator idAllocator;
+        private final boolean returnsGeneratedId;
 
         private R2dbcEntitiesOperations(R2dbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, SqlStoredQuery storedQuery) {
             this(ctx, storedQuery, persistentEntity, entities, false);
         }
 
         private R2dbcEntitiesOperations(R2dbcOperationContext ctx, SqlStoredQuery storedQuery, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, boolean insert) {
+            this(ctx, storedQuery, persistentEntity, entities, insert, 0);
+        }
+
+        private R2dbcEntitiesOperations(R2dbcOperationContext ctx, SqlStoredQuery storedQuery, RuntimePersistentEntity<T> persistentEntity, Iterable<T> entities, boolean insert, int multiRowSize) {
             super(ctx,
                 DefaultR2dbcRepositoryOperations.this.cascadeOperations,
                 DefaultR2dbcRepositoryOperations.this.conversionService,
                 entityEventRegistry,
                 persistentEntity, entities, insert);
             this.storedQuery = storedQuery;
+            this.multiRowSize = multiRowSize;
+            this.idAllocator = insert ? findPooledSequenceAllocator(persistentEntity, storedQuery) : null;
+            this.returnsGeneratedId = hasGeneratedId && idAllocator == null;
         }
 
         @Override
@@ -1077,13 +1296,94 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        private void executeMultiRow() {
+            Mono<Tuple2<List<Data>, Long>> entitiesWithRowsUpdated = entities
+                .flatMap(list -> {
+                    List<Data> notVetoedEntities = list.stream().filter(this::notVetoed).toList();
+                    List<List<Data>> chunks = new ArrayList<>();
+                    for (int from = 0; from < notVetoedEntities.size(); from += multiRowSize) {
+                        chunks.add(notVetoedEntities.subList(from, Math.min(notVetoedEntities.size(), from + multiRowSize)));
+                    }
+                    return Flux.fromIterable(chunks)
+                        .concatMap(chunk -> insert ? executeMultiRowInsert(chunk) : executeMultiRowDelete(chunk))
+                        .reduce(0L, Long::sum)
+                        .map(rowsUpdated -> Tuples.of(list, rowsUpdated));
+                }).cache();
+            entities = entitiesWithRowsUpdated.map(Tuple2::getT1);
+            rowsUpdated = entitiesWithRowsUpdated.map(Tuple2::getT2);
+        }
+
+        private Mono<Long> executeMultiRowDelete(List<Data> chunk) {
+            String query = buildMultiRowDelete(storedQuery, chunk.size());
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            Statement statement = ctx.connection.createStatement(query);
+            R2dbcParameterBinder binder = new R2dbcParameterBinder(ctx, statement, storedQuery);
+            for (Data d : chunk) {
+                storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+            }
+            return executeAndGetRowsUpdated(statement)
+                .onErrorResume(errorHandler(ctx.dialect))
+                .map(Number::longValue)
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> chunk.forEach(d -> evictCachedEntity(ctx.transactionStatus, persistentEntity, storedQuery, d.entity)));
+        }
+
+        private Mono<Long> executeMultiRowInsert(List<Data> chunk) {
+            String query = buildMultiRowInsert(persistentEntity, storedQuery, chunk.size());
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", query);
+            }
+            Statement statement = ctx.connection.createStatement(query);
+            R2dbcParameterBinder binder = new R2dbcParameterBinder(ctx, statement, storedQuery);
+            for (Data d : chunk) {
+                storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+            }
+            if (!returnsGeneratedId) {
+                return executeAndGetRowsUpdated(statement)
+                    .onErrorResume(errorHandler(ctx.dialect))
+                    .map(Number::longValue)
+                    .reduce(0L, Long::sum);
+            }
+            RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            statement.returnGeneratedValues(identity.getPersistedName());
+            return executeAndMapEachRow(statement, row -> columnIndexResultSetReader.readDynamic(row, 0, identity.getDataType()))
+                .onErrorResume(errorHandler(ctx.dialect))
+                .collectList()
+                .map(ids -> {
+                    Iterator<Object> iterator = ids.iterator();
+                    for (Data d : chunk) {
+                        if (!iterator.hasNext()) {
+                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                        }
+                        d.entity = updateEntityId(identity.getProperty(), d.entity, iterator.next());
+                    }
+                    return (long) ids.size();
+                });
+        }
+
         @Override
         protected void execute() throws RuntimeException {
+            if (idAllocator != null) {
+                BeanProperty<T, Object> property = persistentEntity.getIdentity().getProperty();
+                entities = entities.flatMap(list -> Flux.fromIterable(list)
+                    .filter(d -> !d.vetoed && property.get(d.entity) == null)
+                    .concatMap(d -> nextPooledId(ctx, idAllocator).map(id -> {
+                        d.entity = updateEntityId(property, d.entity, id);
+                        return d;
+                    }))
+                    .then(Mono.just(list)));
+            }
+            if (multiRowSize > 0) {
+                executeMultiRow();
+                return;
+            }
             if (QUERY_LOG.isDebugEnabled()) {
                 QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
             }
             Statement statement;
-            if (hasGeneratedId) {
+            if (returnsGeneratedId) {
                 statement = ctx.connection.createStatement(storedQuery.getQuery());
                 if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
                     statement.bind(storedQuery.getQueryBindings().size(), Parameters.out(R2dbcType.NUMERIC));
@@ -1094,7 +1394,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 statement = ctx.connection.createStatement(storedQuery.getQuery());
             }
             setParameters(statement, storedQuery);
-            if (hasGeneratedId) {
+            if (returnsGeneratedId) {
                 entities = entities
                     .flatMap(list -> {
                         List<Data> notVetoedEntities = list.stream().filter(this::notVetoed).toList();
@@ -1140,6 +1440,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                                 if (storedQuery.isOptimisticLock()) {
                                     checkOptimisticLocking(notVetoedEntities.size(), rowsUpdated);
                                 }
+                                notVetoedEntities.forEach(d -> evictCachedEntity(ctx.transactionStatus, persistentEntity, storedQuery, d.entity));
                                 return Tuples.of(list, rowsUpdated);
                             });
                     }).cache();
@@ -1154,6 +1455,8 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         private final Connection connection;
         private final Dialect dialect;
         private final InvocationContext<?, ?> invocationContext;
+        @Nullable
+        private final ReactiveTransactionStatus<?> transactionStatus;
 
         /**
          * The default constructor.
@@ -1163,12 +1466,15 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
          * @param repositoryType     the repository type
          * @param dialect            the dialect
          * @param connection         the connection
+         * @param transactionStatus  the status of the transaction the writes are committed by or null
          */
-        public R2dbcOperationContext(AnnotationMetadata annotationMetadata, InvocationContext<?, ?> invocationContext, Class<?> repositoryType, Dialect dialect, Connection connection) {
+        public R2dbcOperationContext(AnnotationMetadata annotationMetadata, InvocationContext<?, ?> invocationContext, Class<?> repositoryType, Dialect dialect, Connection connection,
+                                     @Nullable ReactiveTransactionStatus<?> transactionStatus) {
             super(annotationMetadata, repositoryType);
             this.dialect = dialect;
             this.connection = connection;
             this.invocationContext = invocationContext;
+            this.transactionStatus = transactionStatus;
         }
     }
 
@@ -8,7 +8,11 @@ import io.micronaut.data.tck.repositories.StudentReactiveRepository
 import io.micronaut.data.tck.tests.AbstractReactiveRepositorySpec
 import io.micronaut.transaction.reactive.ReactiveTransactionStatus
 import io.r2dbc.spi.Connection
+import org.reactivestreams.Subscription
+import reactor.core.publisher.BaseSubscriber
+import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
+import spock.util.concurrent.PollingConditions
 
 class H2ReactiveRepositorySpec extends AbstractReactiveRepositorySpec implements H2TestPropertyProvider {
 
@@ -45,4 +49,46 @@ class H2ReactiveRepositorySpec extends AbstractReactiveRepositorySpec implements
         then:
         person != null
     }
+
+    void 'test find all emits entities on demand'() {
+        given:
+        personRepository.saveAll((1..20).collect { new Person(name: "Streamed " + it) }).blockLast()
+        List<Person> received = Collections.synchronizedList([])
+        def subscriber = new BaseSubscriber<Person>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(2)
+            }
+
+            @Override
+            protected void hookOnNext(Person value) {
+                received.add(value)
+            }
+        }
+
+        when:
+        Flux.from(personRepository.findByNameLike("Streamed%")).subscribe(subscriber)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            received.size() == 2
+        }
+
+        when:
+        sleep(200)
+
+        then:
+        received.size() == 2
+
+        when:
+        subscriber.request(Long.MAX_VALUE)
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            received.size() == 20
+        }
+
+        cleanup:
+        subscriber.dispose()
+    }
 }
@@ -0,0 +1,66 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.WriteChunkSize
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class H2StreamingSaveAllSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    StreamedRowRepository repository = applicationContext.getBean(StreamedRowRepository)
+
+    void cleanup() {
+        repository.deleteAll().block()
+    }
+
+    void "test save all from a publisher returns the count"() {
+        when:
+            def count = repository.saveAll(Flux.range(0, 25).map { new StreamedRow(label: "row$it") }).block()
+
+        then:
+            count == 25
+            repository.count().block() == 25
+    }
+
+    void "test save all from a publisher returns the persisted entities"() {
+        when:
+            def rows = repository.persistAll(Flux.range(0, 11).map { new StreamedRow(label: "row$it") }).collectList().block()
+
+        then:
+            rows.size() == 11
+            rows*.label == (0..<11).collect { "row$it" }
+            rows.every { it.id != null }
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+@WriteChunkSize(4)
+interface StreamedRowRepository extends ReactorCrudRepository<StreamedRow, Long> {
+
+    Mono<Long> saveAll(Publisher<StreamedRow> rows)
+
+    Flux<StreamedRow> persistAll(Publisher<StreamedRow> rows)
+}
+
+@MappedEntity
+class StreamedRow {
+    @Id
+    @GeneratedValue
+    Long id
+    String label
+}
@@ -0,0 +1,126 @@
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.annotation.DateCreated
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.annotation.Version
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.r2dbc.annotation.R2dbcRepository
+import io.micronaut.data.repository.reactive.ReactorCrudRepository
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+
+class H2UpsertSpec extends Specification implements H2TestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext applicationContext = ApplicationContext.run(getProperties())
+
+    @Shared
+    UpsertItemRepository repository = applicationContext.getBean(UpsertItemRepository)
+
+    @Shared
+    UpsertVersionedItemRepository versionedRepository = applicationContext.getBean(UpsertVersionedItemRepository)
+
+    void cleanup() {
+        repository.deleteAll().block()
+        versionedRepository.deleteAll().block()
+    }
+
+    void "test upsert inserts and updates the entity"() {
+        when:
+            repository.saveOrUpdate(new UpsertItem(id: "i1", name: "Pen", stock: 1)).block()
+        then:
+            repository.count().block() == 1
+            repository.findById("i1").block().stock == 1
+
+        when:
+            repository.saveOrUpdate(new UpsertItem(id: "i1", name: "Pen", stock: 5)).block()
+        then:
+            repository.count().block() == 1
+            repository.findById("i1").block().stock == 5
+    }
+
+    void "test upsert all inserts the new entities and updates the existing"() {
+        given:
+            repository.save(new UpsertItem(id: "i1", name: "Pen", stock: 1)).block()
+
+        when:
+            def result = repository.saveOrUpdateAll([
+                    new UpsertItem(id: "i1", name: "Pen", stock: 2),
+                    new UpsertItem(id: "i2", name: "Pencil", stock: 3)
+            ]).collectList().block()
+        then:
+            result.size() == 2
+            repository.count().block() == 2
+            repository.findById("i1").block().stock == 2
+            repository.findById("i2").block().name == "Pencil"
+    }
+
+    void "test upsert increments the version and keeps the creation date of the existing entity"() {
+        given:
+            versionedRepository.saveOrUpdate(new UpsertVersionedItem(id: "i1", name: "Pen")).block()
+            def inserted = versionedRepository.findById("i1").block()
+
+        expect:
+            inserted.version == 0
+            inserted.created != null
+
+        when:
+            versionedRepository.saveOrUpdate(new UpsertVersionedItem(id: "i1", name: "Pencil")).block()
+            def updated = versionedRepository.findById("i1").block()
+
+        then:
+            updated.name == "Pencil"
+            updated.version == 1
+            updated.created == inserted.created
+
+        when: "the entity loaded before the upsert is updated"
+            inserted.name = "Marker"
+            versionedRepository.update(inserted).block()
+
+        then:
+            thrown(OptimisticLockException)
+            versionedRepository.findById("i1").block().name == "Pencil"
+    }
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface UpsertItemRepository extends ReactorCrudRepository<UpsertItem, String> {
+
+    Mono<UpsertItem> saveOrUpdate(UpsertItem item)
+
+    Flux<UpsertItem> saveOrUpdateAll(Iterable<UpsertItem> items)
+}
+
+@R2dbcRepository(dialect = Dialect.H2)
+interface UpsertVersionedItemRepository extends ReactorCrudRepository<UpsertVersionedItem, String> {
+
+    Mono<UpsertVersionedItem> saveOrUpdate(UpsertVersionedItem item)
+}
+
+@MappedEntity
+class UpsertItem {
+    @Id
+    String id
+    String name
+    int stock
+}
+
+@MappedEntity
+class UpsertVersionedItem {
+    @Id
+    String id
+    @Version
+    Long version
+    @DateCreated
+    Instant created
+    String name
+}
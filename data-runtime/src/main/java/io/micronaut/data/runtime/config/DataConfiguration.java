@@ -16,6 +16,7 @@
 package io.micronaut.data.runtime.config;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
 import java.util.regex.Pattern;
 
@@ -159,4 +160,74 @@ public class DataConfiguration implements DataSettings {
             }
         }
     }
+
+    /**
+     * Configuration of the executor running the asynchronous operations of the blocking repository operations.
+     *
+     * @since 4.12
+     */
+    @ConfigurationProperties(AsyncConfiguration.PREFIX)
+    public static class AsyncConfiguration {
+        public static final String PREFIX = "async";
+        public static final String VIRTUAL_EXECUTOR = "virtual";
+        private boolean virtualThreads = false;
+        @Nullable
+        private String executor;
+        @Nullable
+        private Integer maxConcurrency;
+
+        /**
+         * @return Whether the asynchronous operations run on virtual threads
+         */
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        /**
+         * Sets whether the asynchronous operations run on virtual threads using the {@code virtual} executor.
+         * Requires a JVM supporting virtual threads. Defaults to false.
+         *
+         * @param virtualThreads Whether to use the virtual threads
+         */
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        /**
+         * @return The name of the executor bean running the asynchronous operations, null if the {@code io} executor is used
+         */
+        @Nullable
+        public String getExecutor() {
+            return virtualThreads ? VIRTUAL_EXECUTOR : executor;
+        }
+
+        /**
+         * Sets the name of the executor bean running the asynchronous operations. Defaults to the {@code io} executor.
+         *
+         * @param executor The executor name
+         */
+        public void setExecutor(@Nullable String executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * @return The maximum number of the asynchronous operations running concurrently, null if not limited
+         */
+        @Nullable
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * Sets the maximum number of the asynchronous operations running concurrently per repository operations.
+         * The exceeding operations are queued instead of occupying a thread while waiting for a connection.
+         * Defaults to the maximum size of the connection pool of the JDBC datasource when it is configured,
+         * otherwise the operations aren't limited.
+         *
+         * @param maxConcurrency The maximum concurrency
+         */
+        public void setMaxConcurrency(@Nullable Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.config;
+
+/**
+ * Enum describing how the SQL of the expanded collection parameters ({@code IN (?, ?, ...)}) is generated.
+ * Without padding every collection size produces a different statement.
+ *
+ * @since 4.12
+ */
+public enum ExpandableParameterPadding {
+    /**
+     * One placeholder per collection element.
+     */
+    NONE,
+    /**
+     * The number of the placeholders is padded to the next power of two by repeating the last element,
+     * limiting the number of distinct statements cached by the driver and the database.
+     */
+    POWER_OF_TWO
+}
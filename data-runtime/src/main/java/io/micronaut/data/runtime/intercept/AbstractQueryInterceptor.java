@@ -33,6 +33,8 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.data.annotation.InListChunking;
+import io.micronaut.data.annotation.PageCount;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.EmptyResultException;
@@ -55,12 +57,17 @@ import io.micronaut.data.model.runtime.EntityOperation;
 import io.micronaut.data.model.runtime.InsertBatchOperation;
 import io.micronaut.data.model.runtime.InsertOperation;
 import io.micronaut.data.model.runtime.PagedQuery;
+import io.micronaut.data.model.runtime.DelegatingQueryParameterBinding;
 import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.model.runtime.QueryParameterBinding;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
 import io.micronaut.data.operations.HintsCapableRepository;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.query.DefaultPagedQueryResolver;
 import io.micronaut.data.runtime.query.DefaultPreparedQueryResolver;
 import io.micronaut.data.runtime.query.DefaultStoredQueryResolver;
@@ -70,16 +77,21 @@ import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryResolver;
 import io.micronaut.data.runtime.query.StoredQueryDecorator;
 import io.micronaut.data.runtime.query.StoredQueryResolver;
+import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -236,6 +248,70 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         return preparedQueryDecorator.decorate(preparedQuery);
     }
 
+    /**
+     * Prepares the queries of the chunks of the {@code IN} list values of a method annotated with {@link InListChunking}.
+     *
+     * @param methodKey The method key
+     * @param context   The context
+     * @param <RT>      The result type
+     * @return The chunked queries or null if the method is executed as a single query
+     */
+    @Nullable
+    protected final <RT> ChunkedQueries<RT> prepareChunkedQueries(RepositoryMethodKey methodKey,
+                                                                  MethodInvocationContext<T, R> context) {
+        AnnotationValue<InListChunking> chunking = context.getAnnotation(InListChunking.class);
+        if (chunking == null) {
+            return null;
+        }
+        validateNullArguments(context);
+        StoredQuery<Object, RT> storedQuery = findStoreQuery(methodKey, context);
+        if (!(storedQuery instanceof SqlStoredQuery<Object, RT> sqlStoredQuery) || storedQuery.hasPageable()
+            || !(storedQuery instanceof DelegateStoredQuery<Object, RT> delegateStoredQuery)) {
+            return null;
+        }
+        QueryParameterBinding inListBinding = null;
+        for (QueryParameterBinding binding : storedQuery.getQueryBindings()) {
+            if (binding.isExpandable()) {
+                if (inListBinding != null || binding.getRole() != null || binding.getParameterIndex() == -1) {
+                    return null;
+                }
+                inListBinding = binding;
+            }
+        }
+        if (inListBinding == null || !(context.getParameterValues()[inListBinding.getParameterIndex()] instanceof Iterable<?> iterable)) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>(toDistinctSet(iterable));
+        int size = chunking.intValue("size").orElse(0);
+        if (size <= 0) {
+            size = sqlStoredQuery.getDialect().getMaxInListSize();
+        }
+        size = Math.max(1, Math.min(size, sqlStoredQuery.getDialect().getMaxBindParameters() - storedQuery.getQueryBindings().size() + 1));
+        List<PreparedQuery<?, RT>> queries = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            List<Object> chunk = values.subList(i, Math.min(values.size(), i + size));
+            StoredQuery<Object, RT> chunkQuery = storedQueryDecorator.decorate(context,
+                new InListChunkStoredQuery<>(delegateStoredQuery.getStoredQueryDelegate(), inListBinding, chunk));
+            PreparedQuery<Object, RT> preparedQuery = preparedQueryResolver.resolveQuery(context, chunkQuery, Pageable.UNPAGED);
+            queries.add(preparedQueryDecorator.decorate(preparedQuery));
+        }
+        boolean preserveOrder = chunking.booleanValue("preserveOrder").orElse(false);
+        return new ChunkedQueries<>(
+            queries,
+            chunking.intValue("concurrency").orElse(1),
+            preserveOrder ? sqlStoredQuery.getPersistentEntity() : null,
+            values
+        );
+    }
+
+    private static Set<Object> toDistinctSet(Iterable<?> iterable) {
+        Set<Object> values = new LinkedHashSet<>();
+        for (Object value : iterable) {
+            values.add(value);
+        }
+        return values;
+    }
+
     private <E, RT> StoredQuery<E, RT> findStoreQuery(MethodInvocationContext<?, ?> context) {
         RepositoryMethodKey key = new RepositoryMethodKey(context.getTarget(), context.getExecutableMethod());
         return findStoreQuery(key, context);
@@ -415,6 +491,41 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         return pageable;
     }
 
+    /**
+     * Resolves the strategy of computing the total count of a page declared by {@link PageCount}.
+     *
+     * @param context The context
+     * @return The strategy
+     * @since 4.12
+     */
+    @NonNull
+    protected PageCount.Strategy getPageCountStrategy(MethodInvocationContext<?, ?> context) {
+        return context.enumValue(PageCount.class, PageCount.Strategy.class).orElse(PageCount.Strategy.SEPARATE);
+    }
+
+    /**
+     * Derives the total count from the size of the results of an offset page, which is possible
+     * when the page is not full or when the first page is empty.
+     *
+     * @param pageable   The pageable
+     * @param resultSize The number of the results of the page
+     * @return The total count or null if it needs to be queried
+     * @since 4.12
+     */
+    @Nullable
+    protected static Long elideTotalCount(Pageable pageable, int resultSize) {
+        if (pageable.getMode() != Pageable.Mode.OFFSET) {
+            return null;
+        }
+        if (pageable.isUnpaged()) {
+            return (long) resultSize;
+        }
+        if (resultSize < pageable.getSize() && (resultSize > 0 || pageable.getOffset() == 0)) {
+            return pageable.getOffset() + resultSize;
+        }
+        return null;
+    }
+
     /**
      * Resolves the {@link Pageable} for the given context.
      *
@@ -813,6 +924,120 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         }
     }
 
+    /**
+     * The queries of the chunks of an {@code IN} list.
+     *
+     * @param <RT> The result type
+     * @since 4.12
+     */
+    protected static final class ChunkedQueries<RT> {
+
+        private final List<PreparedQuery<?, RT>> queries;
+        private final int concurrency;
+        @Nullable
+        private final RuntimePersistentEntity<?> orderedEntity;
+        private final List<Object> values;
+
+        private ChunkedQueries(List<PreparedQuery<?, RT>> queries,
+                               int concurrency,
+                               @Nullable RuntimePersistentEntity<?> orderedEntity,
+                               List<Object> values) {
+            this.queries = queries;
+            this.concurrency = Math.max(1, concurrency);
+            this.orderedEntity = orderedEntity;
+            this.values = values;
+        }
+
+        /**
+         * @return The queries of the chunks
+         */
+        public List<PreparedQuery<?, RT>> getQueries() {
+            return queries;
+        }
+
+        /**
+         * @return The number of the chunks executed concurrently
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * @return Whether the results need to be ordered by {@link #order(List)}
+         */
+        public boolean isPreserveOrder() {
+            return orderedEntity != null;
+        }
+
+        /**
+         * Orders the results of the chunks by the position of their identity in the {@code IN} list
+         * if {@link InListChunking#preserveOrder()} is enabled.
+         *
+         * @param results The results of all the chunks
+         * @return The ordered results
+         */
+        @SuppressWarnings("unchecked")
+        public List<RT> order(List<RT> results) {
+            if (orderedEntity == null || orderedEntity.getIdentity() == null || results.size() < 2) {
+                return results;
+            }
+            RuntimePersistentProperty<Object> identity = (RuntimePersistentProperty<Object>) orderedEntity.getIdentity();
+            Class<?> entityType = orderedEntity.getIntrospection().getBeanType();
+            Map<Object, Integer> positions = new HashMap<>(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                positions.putIfAbsent(values.get(i), i);
+            }
+            for (RT result : results) {
+                if (!entityType.isInstance(result)) {
+                    // DTO projections don't have the identity property
+                    return results;
+                }
+            }
+            List<RT> ordered = new ArrayList<>(results);
+            ordered.sort(Comparator.<RT>comparingInt(result -> positions.getOrDefault(identity.getProperty().get(result), Integer.MAX_VALUE)));
+            return ordered;
+        }
+    }
+
+    /**
+     * The stored query binding a chunk of the {@code IN} list values.
+     *
+     * @param <E> The entity type
+     * @param <K> The result type
+     */
+    private static final class InListChunkStoredQuery<E, K> implements DelegateStoredQuery<E, K> {
+
+        private final StoredQuery<E, K> storedQuery;
+        private final List<QueryParameterBinding> queryBindings;
+
+        private InListChunkStoredQuery(StoredQuery<E, K> storedQuery, QueryParameterBinding inListBinding, List<Object> chunk) {
+            this.storedQuery = storedQuery;
+            this.queryBindings = new ArrayList<>(storedQuery.getQueryBindings());
+            this.queryBindings.replaceAll(binding -> binding != inListBinding ? binding : new DelegatingQueryParameterBinding(binding) {
+
+                @Override
+                public int getParameterIndex() {
+                    return -1;
+                }
+
+                @Override
+                public Object getValue() {
+                    return chunk;
+                }
+            });
+        }
+
+        @Override
+        public StoredQuery<E, K> getStoredQueryDelegate() {
+            return storedQuery;
+        }
+
+        @Override
+        public List<QueryParameterBinding> getQueryBindings() {
+            return queryBindings;
+        }
+    }
+
     /**
      * Default implementation of {@link InsertOperation}.
      *
@@ -31,6 +31,7 @@ import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.support.NullValue;
 import io.micronaut.inject.InjectionPoint;
 import jakarta.inject.Inject;
+import org.reactivestreams.Publisher;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -54,20 +55,25 @@ public final class DataIntroductionAdvice implements MethodInterceptor<Object, O
 
     private final DataConversionService conversionService;
 
+    private final QueryResultCache queryResultCache;
+
     /**
      * Default constructor.
      *
      * @param dataInterceptorResolver The data interceptor resolver
      * @param injectionPoint          The injection point
      * @param conversionService       The conversion service
+     * @param queryResultCache        The query result cache
      */
     @Inject
     public DataIntroductionAdvice(@NonNull DataInterceptorResolver dataInterceptorResolver,
                                   @Nullable InjectionPoint<?> injectionPoint,
-                                  DataConversionService conversionService) {
+                                  DataConversionService conversionService,
+                                  QueryResultCache queryResultCache) {
         this.dataInterceptorResolver = dataInterceptorResolver;
         this.injectionPoint = injectionPoint;
         this.conversionService = conversionService;
+        this.queryResultCache = queryResultCache;
     }
 
     @Override
@@ -75,7 +81,19 @@ public final class DataIntroductionAdvice implements MethodInterceptor<Object, O
         RepositoryMethodKey key = new RepositoryMethodKey(context.getTarget(), context.getExecutableMethod());
         DataInterceptor<Object, Object> dataInterceptor = dataInterceptorResolver.resolve(key, context, injectionPoint);
         InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+        QueryResultCache.CachedMethod cachedMethod = queryResultCache.resolve(key, context);
         try {
+            if (cachedMethod != null) {
+                return switch (interceptedMethod.resultType()) {
+                    case PUBLISHER -> interceptedMethod.handleResult(
+                        cachedMethod.interceptPublisher(context, () -> (Publisher<Object>) dataInterceptor.intercept(key, context))
+                    );
+                    case COMPLETION_STAGE -> interceptedMethod.handleResult(
+                        cachedMethod.interceptCompletionStage(context, () -> (CompletionStage<Object>) interceptCompletionStage(context, dataInterceptor, key))
+                    );
+                    case SYNCHRONOUS -> cachedMethod.intercept(context, () -> dataInterceptor.intercept(key, context));
+                };
+            }
             return switch (interceptedMethod.resultType()) {
                 case PUBLISHER ->
                     interceptedMethod.handleResult(dataInterceptor.intercept(key, context));
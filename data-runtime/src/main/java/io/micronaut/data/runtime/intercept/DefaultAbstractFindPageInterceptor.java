@@ -18,6 +18,7 @@ package io.micronaut.data.runtime.intercept;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.PageCount;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.CursoredPage;
@@ -30,6 +31,7 @@ import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.sql.WindowCountOperations;
 
 import java.util.List;
 
@@ -59,14 +61,31 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
 
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> results = (List<R>) CollectionUtils.iterableToList(iterable);
             Pageable pageable = getPageable(context);
+            PageCount.Strategy countStrategy = pageable.requestTotal() ? getPageCountStrategy(context) : PageCount.Strategy.SEPARATE;
+            List<R> results = null;
             Long totalCount = null;
+            if (countStrategy == PageCount.Strategy.WINDOW && pageable.getMode() == Mode.OFFSET
+                && operations instanceof WindowCountOperations windowCountOperations) {
+                WindowCountOperations.WindowCountResult<?> windowCountResult = windowCountOperations.findAllWithWindowCount(preparedQuery);
+                if (windowCountResult != null) {
+                    results = (List<R>) windowCountResult.results();
+                    totalCount = windowCountResult.totalCount();
+                }
+            }
+            if (results == null) {
+                Iterable<?> iterable = operations.findAll(preparedQuery);
+                results = (List<R>) CollectionUtils.iterableToList(iterable);
+            }
             if (pageable.requestTotal()) {
-                PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
-                Number n = operations.findOne(countQuery);
-                totalCount = n != null ? n.longValue() : null;
+                if (totalCount == null && (countStrategy == PageCount.Strategy.ELIDE || countStrategy == PageCount.Strategy.WINDOW)) {
+                    totalCount = elideTotalCount(pageable, results.size());
+                }
+                if (totalCount == null) {
+                    PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+                    Number n = operations.findOne(countQuery);
+                    totalCount = n != null ? n.longValue() : null;
+                }
             }
 
             Page<R> page;
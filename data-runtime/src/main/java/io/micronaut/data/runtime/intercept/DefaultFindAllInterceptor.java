@@ -23,7 +23,9 @@ import io.micronaut.data.model.runtime.PagedQuery;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * The default implementation of {@link FindAllInterceptor}.
@@ -47,8 +49,17 @@ public class DefaultFindAllInterceptor<T, R> extends AbstractQueryInterceptor<T,
     public Iterable<R> intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, Iterable<R>> context) {
         Class<Iterable<R>> rt = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
-            PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-            Iterable<?> iterable = operations.findAll(preparedQuery);
+            ChunkedQueries<Object> chunkedQueries = prepareChunkedQueries(methodKey, context);
+            Iterable<?> iterable;
+            if (chunkedQueries != null) {
+                List<Object> results = new ArrayList<>();
+                for (PreparedQuery<?, Object> preparedQuery : chunkedQueries.getQueries()) {
+                    operations.findAll(preparedQuery).forEach(results::add);
+                }
+                iterable = chunkedQueries.order(results);
+            } else {
+                iterable = operations.findAll(prepareQuery(methodKey, context));
+            }
             if (rt.isInstance(iterable)) {
                 return (Iterable<R>) iterable;
             } else {
@@ -17,10 +17,21 @@ package io.micronaut.data.runtime.intercept;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.ReturnType;
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.annotation.WriteChunkSize;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.SaveAllInterceptor;
 import io.micronaut.data.operations.RepositoryOperations;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@link SaveAllInterceptor}.
@@ -40,8 +51,20 @@ public class DefaultSaveAllInterceptor<T, R> extends AbstractQueryInterceptor<T,
         super(operations);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public R intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context) {
+        Object entities = getRequiredParameterInRole(context, TypeRole.ENTITIES, Object.class);
+        if (entities instanceof Publisher<?> publisher) {
+            Stream<?> stream = Flux.from(publisher).toStream();
+            return interceptStreaming(context, (Iterator<Object>) stream.iterator(), stream);
+        }
+        if (entities instanceof Stream<?> stream) {
+            return interceptStreaming(context, (Iterator<Object>) stream.iterator(), stream);
+        }
+        if (entities instanceof Iterator<?> iterator) {
+            return interceptStreaming(context, (Iterator<Object>) iterator, null);
+        }
         Iterable<Object> iterable = getEntitiesParameter(context, Object.class);
         Iterable<Object> rs = operations.persistAll(getInsertBatchOperation(context, iterable));
         ReturnType<R> rt = context.getReturnType();
@@ -55,4 +78,80 @@ public class DefaultSaveAllInterceptor<T, R> extends AbstractQueryInterceptor<T,
         return operations.getConversionService().convert(rs, rt.asArgument())
                 .orElseThrow(() -> new IllegalStateException("Unsupported iterable return type: " + rt.getType()));
     }
+
+    /**
+     * Persists the entities of a stream, an iterator or a publisher in chunks of {@link WriteChunkSize}.
+     * The persisted entities are only retained if the method returns a collection or a stream, all the chunks are persisted
+     * before the method returns.
+     *
+     * @param context  The context
+     * @param iterator The entities iterator
+     * @param stream   The entities stream to close or null
+     * @return The result
+     */
+    @SuppressWarnings("unchecked")
+    private R interceptStreaming(MethodInvocationContext<T, R> context, Iterator<Object> iterator, @Nullable Stream<?> stream) {
+        int chunkSize = context.intValue(WriteChunkSize.class).orElse(WriteChunkSize.DEFAULT);
+        Iterator<List<Object>> chunks = new ChunkIterator(iterator, chunkSize);
+        ReturnType<R> rt = context.getReturnType();
+        try {
+            List<Object> persisted = rt.isVoid() || isNumber(rt.getType()) ? null : new ArrayList<>();
+            long count = 0;
+            while (chunks.hasNext()) {
+                Iterable<Object> rs = operations.persistAll(getInsertBatchOperation(context, chunks.next()));
+                if (persisted == null) {
+                    count += count(rs);
+                } else {
+                    rs.forEach(persisted::add);
+                }
+            }
+            if (rt.isVoid()) {
+                return null;
+            }
+            if (persisted == null) {
+                return operations.getConversionService().convert(count, rt.asArgument())
+                        .orElseThrow(() -> new IllegalStateException("Unsupported return type: " + rt.getType()));
+            }
+            if (rt.getType() == Stream.class) {
+                return (R) persisted.stream();
+            }
+            return operations.getConversionService().convert(persisted, rt.asArgument())
+                    .orElseThrow(() -> new IllegalStateException("Unsupported iterable return type: " + rt.getType()));
+        } finally {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * Splits an iterator into the lists of the given size.
+     */
+    private static final class ChunkIterator implements Iterator<List<Object>> {
+
+        private final Iterator<Object> iterator;
+        private final int chunkSize;
+
+        private ChunkIterator(Iterator<Object> iterator, int chunkSize) {
+            this.iterator = iterator;
+            this.chunkSize = Math.max(1, chunkSize);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public List<Object> next() {
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Object> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
+            return chunk;
+        }
+    }
 }
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.propagation.ReactorPropagation;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.data.annotation.CacheableQuery;
+import io.micronaut.data.annotation.Repository;
+import io.micronaut.data.annotation.event.PostPersist;
+import io.micronaut.data.annotation.event.PostRemove;
+import io.micronaut.data.annotation.event.PostUpdate;
+import io.micronaut.data.connection.ConnectionSynchronization;
+import io.micronaut.data.event.EntityEventContext;
+import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.runtime.multitenancy.DataSourceTenantResolver;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.transaction.TransactionExecution;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronization;
+import io.micronaut.transaction.support.TransactionUtil;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.util.context.ContextView;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * The cache of the results of the repository methods annotated with {@link CacheableQuery}.
+ * The results are invalidated by the entity events and by the update and delete repository methods of the cached entities.
+ * The invalidation of the writes executed in a transaction is deferred until the transaction completes, the transaction
+ * doesn't use the cached results of the entities it has written until then.
+ *
+ * @since 4.12
+ */
+@Internal
+@Singleton
+public final class QueryResultCache implements EntityEventListener<Object> {
+
+    private static final Set<Class<? extends Annotation>> INVALIDATING_EVENT_TYPES = Set.of(PostPersist.class, PostUpdate.class, PostRemove.class);
+
+    private final BeanContext beanContext;
+    private final ConversionService conversionService;
+    @Nullable
+    private final DataSourceTenantResolver tenantResolver;
+    private final Map<RepositoryMethodKey, Optional<CachedMethod>> methods = new ConcurrentHashMap<>();
+    private final Map<Object, PendingWrites> pendingWrites = new ConcurrentHashMap<>();
+    private volatile Set<Class<?>> cachedEntities;
+
+    /**
+     * Default constructor.
+     *
+     * @param beanContext       The bean context
+     * @param conversionService The conversion service
+     * @param tenantResolver    The tenant resolver
+     */
+    QueryResultCache(BeanContext beanContext,
+                     ConversionService conversionService,
+                     @Nullable DataSourceTenantResolver tenantResolver) {
+        this.beanContext = beanContext;
+        this.conversionService = conversionService;
+        this.tenantResolver = tenantResolver;
+    }
+
+    /**
+     * Resolves the caching or invalidating behaviour of a repository method.
+     *
+     * @param key     The method key
+     * @param context The context
+     * @return The cached method or null if the method doesn't use the cache
+     */
+    @Nullable
+    CachedMethod resolve(RepositoryMethodKey key, MethodInvocationContext<Object, Object> context) {
+        if (getCachedEntities().isEmpty()) {
+            return null;
+        }
+        Optional<CachedMethod> cachedMethod = methods.get(key);
+        if (cachedMethod == null) {
+            cachedMethod = Optional.ofNullable(createCachedMethod(context));
+            methods.put(key, cachedMethod);
+        }
+        return cachedMethod.orElse(null);
+    }
+
+    /**
+     * Invalidates the cached results depending on the given entity type after the completion of the active transactions
+     * or immediately if there is no transaction.
+     *
+     * @param entityType        The entity type
+     * @param propagatedContext The propagated context of the write
+     */
+    void invalidate(Class<?> entityType, PropagatedContext propagatedContext) {
+        boolean deferred = false;
+        for (TransactionExecution transaction : TransactionUtil.findActiveTransactions(propagatedContext)) {
+            PendingWrites writes = findPendingWrites(transaction);
+            if (writes != null) {
+                writes.entities.add(entityType);
+                deferred = true;
+            }
+        }
+        if (!deferred) {
+            invalidate(entityType);
+        }
+    }
+
+    /**
+     * Invalidates the cached results depending on the given entity type.
+     *
+     * @param entityType The entity type
+     */
+    void invalidate(Class<?> entityType) {
+        for (Optional<CachedMethod> cachedMethod : methods.values()) {
+            if (cachedMethod.orElse(null) instanceof CachingMethod cachingMethod && cachingMethod.entities.contains(entityType)) {
+                cachingMethod.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean supports(RuntimePersistentEntity<Object> entity, Class<? extends Annotation> eventType) {
+        return INVALIDATING_EVENT_TYPES.contains(eventType) && getCachedEntities().contains(entity.getIntrospection().getBeanType());
+    }
+
+    @Override
+    public void postPersist(@NonNull EntityEventContext<Object> context) {
+        invalidate(context.getPersistentEntity().getIntrospection().getBeanType(), PropagatedContext.getOrEmpty());
+    }
+
+    @Override
+    public void postUpdate(@NonNull EntityEventContext<Object> context) {
+        invalidate(context.getPersistentEntity().getIntrospection().getBeanType(), PropagatedContext.getOrEmpty());
+    }
+
+    @Override
+    public void postRemove(@NonNull EntityEventContext<Object> context) {
+        invalidate(context.getPersistentEntity().getIntrospection().getBeanType(), PropagatedContext.getOrEmpty());
+    }
+
+    @Nullable
+    private PendingWrites findPendingWrites(TransactionExecution transaction) {
+        if (transaction instanceof TransactionStatus<?> status) {
+            return pendingWrites.computeIfAbsent(status.getConnection(), connection -> {
+                PendingWrites writes = new PendingWrites(connection);
+                status.registerSynchronization(writes);
+                return writes;
+            });
+        }
+        if (transaction instanceof ReactiveTransactionStatus<?> status) {
+            // The reactive transactions are completed before the execution of their connection completes
+            return pendingWrites.computeIfAbsent(status.getConnection(), connection -> {
+                PendingWrites writes = new PendingWrites(connection);
+                status.getConnectionStatus().registerSynchronization(writes);
+                return writes;
+            });
+        }
+        return null;
+    }
+
+    private boolean hasPendingWrites(Set<Class<?>> entities, PropagatedContext propagatedContext) {
+        if (pendingWrites.isEmpty()) {
+            return false;
+        }
+        for (TransactionExecution transaction : TransactionUtil.findActiveTransactions(propagatedContext)) {
+            Object connection = findConnection(transaction);
+            PendingWrites writes = connection == null ? null : pendingWrites.get(connection);
+            if (writes != null && !Collections.disjoint(writes.entities, entities)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static Object findConnection(TransactionExecution transaction) {
+        if (transaction instanceof TransactionStatus<?> status) {
+            return status.getConnection();
+        }
+        if (transaction instanceof ReactiveTransactionStatus<?> status) {
+            return status.getConnection();
+        }
+        return null;
+    }
+
+    private static PropagatedContext propagatedContext(ContextView contextView) {
+        return ReactorPropagation.findPropagatedContext(contextView).orElseGet(PropagatedContext::getOrEmpty);
+    }
+
+    /**
+     * Copies the collection results, the cached results are shared by the invocations.
+     *
+     * @param result The result
+     * @return The unmodifiable copy or the result
+     */
+    private static Object copyResult(Object result) {
+        if (result instanceof Set<?> set) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+        }
+        if (result instanceof Collection<?> collection) {
+            return Collections.unmodifiableList(new ArrayList<>(collection));
+        }
+        return result;
+    }
+
+    @Nullable
+    private CachedMethod createCachedMethod(MethodInvocationContext<Object, Object> context) {
+        Class<?> rootEntity = context.classValue(DataMethod.NAME, DataMethod.META_MEMBER_ROOT_ENTITY).orElse(null);
+        AnnotationValue<CacheableQuery> cacheableQuery = context.getAnnotation(CacheableQuery.class);
+        if (cacheableQuery != null) {
+            Set<Class<?>> entities = new HashSet<>(Arrays.asList(cacheableQuery.classValues("entities")));
+            if (rootEntity != null) {
+                entities.add(rootEntity);
+            }
+            Duration ttl = cacheableQuery.stringValue("ttl")
+                .flatMap(value -> conversionService.convert(value, Duration.class))
+                .orElse(Duration.ofMinutes(5));
+            return new CachingMethod(entities, cacheableQuery.intValue("maximumSize").orElse(1000), ttl.toNanos());
+        }
+        DataMethod.OperationType operationType = context.enumValue(DataMethod.NAME, DataMethod.META_MEMBER_OPERATION_TYPE, DataMethod.OperationType.class)
+            .orElse(DataMethod.OperationType.QUERY);
+        if (rootEntity != null && isWrite(operationType) && getCachedEntities().contains(rootEntity)) {
+            return new InvalidatingMethod(rootEntity);
+        }
+        return null;
+    }
+
+    private static boolean isWrite(DataMethod.OperationType operationType) {
+        return switch (operationType) {
+            case QUERY, COUNT, EXISTS -> false;
+            default -> true;
+        };
+    }
+
+    private Set<Class<?>> getCachedEntities() {
+        Set<Class<?>> entities = cachedEntities;
+        if (entities == null) {
+            entities = new HashSet<>();
+            Collection<BeanDefinition<Object>> repositories = beanContext.getBeanDefinitions(Qualifiers.byStereotype(Repository.class));
+            for (BeanDefinition<Object> repository : repositories) {
+                for (ExecutableMethod<Object, ?> method : repository.getExecutableMethods()) {
+                    AnnotationValue<CacheableQuery> cacheableQuery = method.getAnnotation(CacheableQuery.class);
+                    if (cacheableQuery != null) {
+                        entities.addAll(Arrays.asList(cacheableQuery.classValues("entities")));
+                        method.classValue(DataMethod.NAME, DataMethod.META_MEMBER_ROOT_ENTITY).ifPresent(entities::add);
+                    }
+                }
+            }
+            cachedEntities = entities;
+        }
+        return entities;
+    }
+
+    private List<Object> cacheKey(MethodInvocationContext<Object, Object> context) {
+        Object[] parameterValues = context.getParameterValues();
+        Object[] key = Arrays.copyOf(parameterValues, parameterValues.length + 1);
+        key[parameterValues.length] = tenantResolver == null ? null : tenantResolver.resolveTenantDataSourceName();
+        return Arrays.asList(key);
+    }
+
+    /**
+     * The behaviour of a repository method towards the cache.
+     */
+    interface CachedMethod {
+
+        /**
+         * Intercepts a synchronous method.
+         *
+         * @param context The context
+         * @param proceed The method execution
+         * @return The result
+         */
+        Object intercept(MethodInvocationContext<Object, Object> context, Supplier<Object> proceed);
+
+        /**
+         * Intercepts a method returning a completion stage.
+         *
+         * @param context The context
+         * @param proceed The method execution
+         * @return The result
+         */
+        CompletionStage<Object> interceptCompletionStage(MethodInvocationContext<Object, Object> context,
+                                                           Supplier<CompletionStage<Object>> proceed);
+
+        /**
+         * Intercepts a method returning a publisher.
+         *
+         * @param context The context
+         * @param proceed The method execution
+         * @return The result
+         */
+        Publisher<Object> interceptPublisher(MethodInvocationContext<Object, Object> context,
+                                               Supplier<Publisher<Object>> proceed);
+    }
+
+    /**
+     * A query method whose results are cached.
+     */
+    private final class CachingMethod implements CachedMethod {
+
+        private final Set<Class<?>> entities;
+        private final long ttlNanos;
+        private final Map<List<Object>, CachedResult> results;
+        private long generation;
+
+        CachingMethod(Set<Class<?>> entities, int maximumSize, long ttlNanos) {
+            this.entities = entities;
+            this.ttlNanos = ttlNanos;
+            this.results = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResult> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context, Supplier<Object> proceed) {
+            if (hasPendingWrites(entities, PropagatedContext.getOrEmpty())) {
+                return proceed.get();
+            }
+            List<Object> key = cacheKey(context);
+            CachedResult cachedResult = get(key);
+            if (cachedResult != null) {
+                return cachedResult.value();
+            }
+            long currentGeneration = generation();
+            Object result = proceed.get();
+            if (result instanceof BaseStream<?, ?>) {
+                return result;
+            }
+            result = copyResult(result);
+            put(key, result, currentGeneration);
+            return result;
+        }
+
+        @Override
+        public CompletionStage<Object> interceptCompletionStage(MethodInvocationContext<Object, Object> context,
+                                                                Supplier<CompletionStage<Object>> proceed) {
+            if (hasPendingWrites(entities, PropagatedContext.getOrEmpty())) {
+                return proceed.get();
+            }
+            List<Object> key = cacheKey(context);
+            CachedResult cachedResult = get(key);
+            if (cachedResult != null) {
+                return CompletableFuture.completedFuture(cachedResult.value());
+            }
+            long currentGeneration = generation();
+            return proceed.get().thenApply(result -> {
+                Object copy = copyResult(result);
+                put(key, copy, currentGeneration);
+                return copy;
+            });
+        }
+
+        @Override
+        public Publisher<Object> interceptPublisher(MethodInvocationContext<Object, Object> context,
+                                                    Supplier<Publisher<Object>> proceed) {
+            List<Object> key = cacheKey(context);
+            return Flux.<Object>deferContextual(contextView -> {
+                if (hasPendingWrites(entities, propagatedContext(contextView))) {
+                    return proceed.get();
+                }
+                CachedResult cachedResult = get(key);
+                if (cachedResult != null) {
+                    return Flux.fromIterable((List<Object>) cachedResult.value());
+                }
+                long currentGeneration = generation();
+                return Flux.from(proceed.get())
+                    .collectList()
+                    .doOnNext(list -> put(key, List.copyOf(list), currentGeneration))
+                    .flatMapIterable(Function.identity());
+            });
+        }
+
+        private synchronized CachedResult get(List<Object> key) {
+            CachedResult cachedResult = results.get(key);
+            if (cachedResult != null && System.nanoTime() - cachedResult.created() > ttlNanos) {
+                results.remove(key);
+                return null;
+            }
+            return cachedResult;
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void put(List<Object> key, Object value, long expectedGeneration) {
+            // The results of a query executed before an invalidation might be stale
+            if (generation == expectedGeneration) {
+                results.put(key, new CachedResult(value, System.nanoTime()));
+            }
+        }
+
+        private synchronized void clear() {
+            results.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * A write method invalidating the cached results of its root entity.
+     */
+    private final class InvalidatingMethod implements CachedMethod {
+
+        private final Class<?> entityType;
+
+        InvalidatingMethod(Class<?> entityType) {
+            this.entityType = entityType;
+        }
+
+        @Override
+        public Object intercept(MethodInvocationContext<Object, Object> context, Supplier<Object> proceed) {
+            try {
+                return proceed.get();
+            } finally {
+                invalidate(entityType, PropagatedContext.getOrEmpty());
+            }
+        }
+
+        @Override
+        public CompletionStage<Object> interceptCompletionStage(MethodInvocationContext<Object, Object> context,
+                                                                Supplier<CompletionStage<Object>> proceed) {
+            PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+            return proceed.get().whenComplete((result, throwable) -> invalidate(entityType, propagatedContext));
+        }
+
+        @Override
+        public Publisher<Object> interceptPublisher(MethodInvocationContext<Object, Object> context,
+                                                    Supplier<Publisher<Object>> proceed) {
+            Publisher<Object> publisher = proceed.get();
+            return Flux.deferContextual(contextView -> Flux.from(publisher)
+                .doFinally(signal -> invalidate(entityType, propagatedContext(contextView))));
+        }
+    }
+
+    /**
+     * The entity types written by a transaction, invalidated after its completion.
+     */
+    private final class PendingWrites implements TransactionSynchronization, ConnectionSynchronization {
+
+        private final Object connection;
+        private final Set<Class<?>> entities = ConcurrentHashMap.newKeySet();
+
+        private PendingWrites(Object connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void afterCompletion(Status status) {
+            complete();
+        }
+
+        @Override
+        public void executionComplete() {
+            complete();
+        }
+
+        private void complete() {
+            pendingWrites.remove(connection);
+            for (Class<?> entityType : entities) {
+                invalidate(entityType);
+            }
+        }
+    }
+
+    private record CachedResult(Object value, long created) {
+    }
+}
@@ -17,12 +17,17 @@ package io.micronaut.data.runtime.intercept.async;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.async.FindAllAsyncInterceptor;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.transaction.support.TransactionUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -45,10 +50,44 @@ public class DefaultFindAllAsyncInterceptor extends AbstractConvertCompletionSta
     @Override
     protected CompletionStage<?> interceptCompletionStage(RepositoryMethodKey methodKey, MethodInvocationContext<Object, CompletionStage<Iterable<Object>>> context) {
         if (context.hasAnnotation(Query.class)) {
+            ChunkedQueries<Object> chunkedQueries = prepareChunkedQueries(methodKey, context);
+            if (chunkedQueries != null) {
+                return findAllChunks(chunkedQueries);
+            }
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             return asyncDatastoreOperations.findAll(preparedQuery);
         }
         return asyncDatastoreOperations.findAll(getPagedQuery(context));
     }
 
+    /**
+     * Executes the chunks in groups of {@link ChunkedQueries#getConcurrency()} concurrent queries,
+     * one by one inside a transaction.
+     *
+     * @param chunkedQueries The chunked queries
+     * @return The results of all the chunks
+     */
+    private CompletionStage<List<Object>> findAllChunks(ChunkedQueries<Object> chunkedQueries) {
+        List<PreparedQuery<?, Object>> queries = chunkedQueries.getQueries();
+        // The queries of a transaction share its connection and cannot be executed concurrently
+        int concurrency = TransactionUtil.isTransactionActive(PropagatedContext.getOrEmpty()) ? 1 : chunkedQueries.getConcurrency();
+        CompletionStage<List<Object>> results = CompletableFuture.completedFuture(new ArrayList<>());
+        for (int i = 0; i < queries.size(); i += concurrency) {
+            List<PreparedQuery<?, Object>> group = queries.subList(i, Math.min(queries.size(), i + concurrency));
+            results = results.thenCompose(list -> {
+                List<CompletableFuture<Iterable<Object>>> futures = new ArrayList<>(group.size());
+                for (PreparedQuery<?, Object> preparedQuery : group) {
+                    futures.add(asyncDatastoreOperations.findAll(preparedQuery).toCompletableFuture());
+                }
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignore -> {
+                    for (CompletableFuture<Iterable<Object>> future : futures) {
+                        future.join().forEach(list::add);
+                    }
+                    return list;
+                });
+            });
+        }
+        return results.thenApply(chunkedQueries::order);
+    }
+
 }
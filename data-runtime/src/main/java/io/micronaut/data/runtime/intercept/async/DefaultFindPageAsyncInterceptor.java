@@ -17,15 +17,20 @@ package io.micronaut.data.runtime.intercept.async;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.PageCount;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.async.FindPageAsyncInterceptor;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.transaction.support.TransactionUtil;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -50,11 +55,34 @@ public class DefaultFindPageAsyncInterceptor extends AbstractConvertCompletionSt
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+            Pageable pageable = getPageable(context);
+            PageCount.Strategy countStrategy = getPageCountStrategy(context);
+            // The queries of a transaction share its connection and cannot be executed concurrently
+            if (countStrategy == PageCount.Strategy.CONCURRENT && !TransactionUtil.isTransactionActive(PropagatedContext.getOrEmpty())) {
+                CompletionStage<Number> total = asyncDatastoreOperations.findOne(countQuery);
+                return asyncDatastoreOperations.findAll(preparedQuery)
+                    .thenCombine(total, (objects, totalCount) -> {
+                        List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
+                        return Page.of(resultList, pageable, totalCount.longValue());
+                    });
+            }
+            if (countStrategy == PageCount.Strategy.ELIDE || countStrategy == PageCount.Strategy.WINDOW) {
+                return asyncDatastoreOperations.findAll(preparedQuery)
+                    .thenCompose(objects -> {
+                        List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
+                        Long totalCount = elideTotalCount(pageable, resultList.size());
+                        if (totalCount != null) {
+                            return CompletableFuture.completedFuture(Page.of(resultList, pageable, totalCount));
+                        }
+                        return asyncDatastoreOperations.findOne(countQuery)
+                            .thenApply(total -> Page.of(resultList, pageable, total.longValue()));
+                    });
+            }
             return asyncDatastoreOperations.findOne(countQuery)
                 .thenCompose(total -> asyncDatastoreOperations.findAll(preparedQuery)
                     .thenApply(objects -> {
                         List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
-                        return Page.of(resultList, getPageable(context), total.longValue());
+                        return Page.of(resultList, pageable, total.longValue());
                     }));
         }
         return asyncDatastoreOperations.findPage(getPagedQuery(context));
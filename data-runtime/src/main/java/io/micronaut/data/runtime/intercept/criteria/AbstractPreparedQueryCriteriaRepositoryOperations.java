@@ -17,8 +17,10 @@ package io.micronaut.data.runtime.intercept.criteria;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityCriteriaQuery;
 import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery;
@@ -61,13 +63,29 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     private final QueryBuilder queryBuilder;
     private final Class<?> entityRoot;
     private final Pageable pageable;
+    @Nullable
+    private final RepositoryMethodKey methodKey;
+    @Nullable
+    private final CriteriaQueryResultCache queryResultCache;
 
     protected AbstractPreparedQueryCriteriaRepositoryOperations(RepositoryOperations operations,
                                                                 MethodInvocationContext<?, ?> context,
                                                                 QueryBuilder queryBuilder,
                                                                 Class<?> entityRoot,
                                                                 Pageable pageable) {
+        this(operations, context, queryBuilder, entityRoot, pageable, null, null);
+    }
+
+    protected AbstractPreparedQueryCriteriaRepositoryOperations(RepositoryOperations operations,
+                                                                MethodInvocationContext<?, ?> context,
+                                                                QueryBuilder queryBuilder,
+                                                                Class<?> entityRoot,
+                                                                Pageable pageable,
+                                                                @Nullable RepositoryMethodKey methodKey,
+                                                                @Nullable CriteriaQueryResultCache queryResultCache) {
         this.context = context;
+        this.methodKey = methodKey;
+        this.queryResultCache = queryResultCache;
         this.queryBuilder = queryBuilder;
         this.entityRoot = entityRoot;
         this.pageable = pageable == null ? Pageable.unpaged() : pageable;
@@ -133,7 +151,7 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     private <E, T> StoredQuery<E, T> buildFind(CriteriaQuery<T> criteriaQuery,
                                                boolean isSingle) {
 
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder);
+        QueryResult queryResult = buildSelect(criteriaQuery);
         Collection<JoinPath> joinPaths = queryResult.getJoinPaths();
         Selection<?> selection = ((AbstractPersistentEntityCriteriaQuery<?>) criteriaQuery).getSelection();
         boolean isCompoundSelection = selection != null && selection.isCompoundSelection();
@@ -146,12 +164,20 @@ public abstract class AbstractPreparedQueryCriteriaRepositoryOperations {
     }
 
     private <E> StoredQuery<E, ?> buildExists(CriteriaQuery<?> criteriaQuery) {
-        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder);
+        QueryResult queryResult = buildSelect(criteriaQuery);
 
         return QueryResultStoredQuery.single(StoredQuery.OperationType.EXISTS, context.getName(), context.getAnnotationMetadata(),
             queryResult, (Class<E>) entityRoot);
     }
 
+    private QueryResult buildSelect(CriteriaQuery<?> criteriaQuery) {
+        if (queryResultCache == null || methodKey == null) {
+            return ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder);
+        }
+        return queryResultCache.getQueryResult(methodKey, criteriaQuery,
+            () -> ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(context, queryBuilder));
+    }
+
     private <E> StoredQuery<E, ?> buildUpdateAll(CriteriaUpdate<E> criteriaUpdate) {
         QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaUpdate).buildQuery(context, queryBuilder);
         return QueryResultStoredQuery.single(StoredQuery.OperationType.UPDATE, context.getName(),
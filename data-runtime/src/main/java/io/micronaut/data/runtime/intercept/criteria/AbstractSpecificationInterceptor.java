@@ -87,6 +87,7 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
 
     protected final CriteriaRepositoryOperations criteriaRepositoryOperations;
     protected final CriteriaBuilder criteriaBuilder;
+    protected final CriteriaQueryResultCache queryResultCache = new CriteriaQueryResultCache(CriteriaQueryResultCache.DEFAULT_MAX_SIZE);
     private final Map<RepositoryMethodKey, QueryBuilder> sqlQueryBuilderForRepositories = new ConcurrentHashMap<>();
     private final Map<RepositoryMethodKey, Set<JoinPath>> methodsJoinPaths = new ConcurrentHashMap<>();
 
@@ -119,7 +120,9 @@ public abstract class AbstractSpecificationInterceptor<T, R> extends AbstractQue
             context,
             sqlQueryBuilder,
             getRequiredRootEntity(context),
-            pageable
+            pageable,
+            methodKey,
+            queryResultCache
         );
     }
 
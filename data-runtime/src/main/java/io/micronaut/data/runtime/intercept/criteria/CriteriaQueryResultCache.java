@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept.criteria;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.JsonDataType;
+import io.micronaut.data.model.jpa.criteria.impl.AbstractPersistentEntityQuery;
+import io.micronaut.data.model.jpa.criteria.impl.CriteriaQueryFingerprint;
+import io.micronaut.data.model.query.builder.QueryParameterBinding;
+import io.micronaut.data.model.query.builder.QueryResult;
+import jakarta.persistence.criteria.CriteriaQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The bounded cache of the query results built from the criteria queries.
+ * The queries are keyed by the repository method and the {@link CriteriaQueryFingerprint}, a query of the same structure
+ * reuses the cached query string and only the values of the parameters are re-bound.
+ * The least recently used query is evicted when the cache is full.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class CriteriaQueryResultCache {
+
+    /**
+     * The default maximum number of the cached queries.
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final int maxSize;
+    private final Map<CacheKey, CachedQueryResult> cache;
+
+    /**
+     * @param maxSize The maximum number of the cached queries
+     */
+    public CriteriaQueryResultCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedQueryResult> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the query result of the criteria query, the query is built only if there is no query of the same structure cached.
+     *
+     * @param methodKey     The repository method key
+     * @param criteriaQuery The criteria query
+     * @param queryBuilder  The query builder
+     * @return The query result
+     */
+    @NonNull
+    public QueryResult getQueryResult(@NonNull RepositoryMethodKey methodKey,
+                                      @NonNull CriteriaQuery<?> criteriaQuery,
+                                      @NonNull Supplier<QueryResult> queryBuilder) {
+        if (maxSize <= 0 || !(criteriaQuery instanceof AbstractPersistentEntityQuery<?, ?> query)) {
+            return queryBuilder.get();
+        }
+        CriteriaQueryFingerprint fingerprint = CriteriaQueryFingerprint.of(query.toSelectQueryDefinition());
+        if (fingerprint == null) {
+            return queryBuilder.get();
+        }
+        CacheKey cacheKey = new CacheKey(methodKey, fingerprint.getKey());
+        List<Object> parameterValues = fingerprint.getParameterValues();
+        CachedQueryResult cached = get(cacheKey);
+        if (cached != null) {
+            return cached.bind(parameterValues);
+        }
+        QueryResult queryResult = queryBuilder.get();
+        cached = CachedQueryResult.of(queryResult, parameterValues);
+        if (cached != null) {
+            put(cacheKey, cached);
+        }
+        return queryResult;
+    }
+
+    private synchronized CachedQueryResult get(CacheKey cacheKey) {
+        return cache.get(cacheKey);
+    }
+
+    private synchronized void put(CacheKey cacheKey, CachedQueryResult cached) {
+        cache.putIfAbsent(cacheKey, cached);
+    }
+
+    private record CacheKey(RepositoryMethodKey methodKey, String fingerprint) {
+    }
+
+    /**
+     * The built query result with the indexes of the parameter values bound by each parameter binding.
+     *
+     * @param queryResult     The query result
+     * @param parameterIndexes The index of the parameter value for every binding or -1 if the binding is not a parameter value
+     */
+    private record CachedQueryResult(QueryResult queryResult, int[] parameterIndexes) {
+
+        @Nullable
+        static CachedQueryResult of(QueryResult queryResult, List<Object> parameterValues) {
+            // The bindings are matched to the parameters by the value identity, ambiguous values cannot be matched
+            int parametersCount = parameterValues.size();
+            for (int i = 0; i < parametersCount; i++) {
+                Object value = parameterValues.get(i);
+                if (value == null) {
+                    return null;
+                }
+                for (int j = i + 1; j < parametersCount; j++) {
+                    if (parameterValues.get(j) == value) {
+                        return null;
+                    }
+                }
+            }
+            List<QueryParameterBinding> parameterBindings = queryResult.getParameterBindings();
+            int[] parameterIndexes = new int[parameterBindings.size()];
+            boolean[] bound = new boolean[parametersCount];
+            for (int i = 0; i < parameterIndexes.length; i++) {
+                Object value = parameterBindings.get(i).getValue();
+                int parameterIndex = -1;
+                for (int j = 0; j < parametersCount; j++) {
+                    if (parameterValues.get(j) == value) {
+                        parameterIndex = j;
+                        bound[j] = true;
+                        break;
+                    }
+                }
+                parameterIndexes[i] = parameterIndex;
+            }
+            for (boolean b : bound) {
+                if (!b) {
+                    // The value was transformed by the query builder
+                    return null;
+                }
+            }
+            return new CachedQueryResult(queryResult, parameterIndexes);
+        }
+
+        QueryResult bind(List<Object> parameterValues) {
+            List<QueryParameterBinding> parameterBindings = queryResult.getParameterBindings();
+            List<QueryParameterBinding> newParameterBindings = new ArrayList<>(parameterBindings.size());
+            for (int i = 0; i < parameterIndexes.length; i++) {
+                QueryParameterBinding parameterBinding = parameterBindings.get(i);
+                int parameterIndex = parameterIndexes[i];
+                if (parameterIndex == -1) {
+                    newParameterBindings.add(parameterBinding);
+                } else {
+                    newParameterBindings.add(new ReboundQueryParameterBinding(parameterBinding, parameterValues.get(parameterIndex)));
+                }
+            }
+            return QueryResult.of(
+                queryResult.getQuery(),
+                queryResult.getQueryParts(),
+                newParameterBindings,
+                queryResult.getAdditionalRequiredParameters(),
+                queryResult.getMax(),
+                queryResult.getOffset(),
+                queryResult.getJoinPaths()
+            );
+        }
+    }
+
+    private record ReboundQueryParameterBinding(QueryParameterBinding delegate,
+                                                Object value) implements QueryParameterBinding {
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getKey() {
+            return delegate.getKey();
+        }
+
+        @Override
+        public DataType getDataType() {
+            return delegate.getDataType();
+        }
+
+        @Override
+        public JsonDataType getJsonDataType() {
+            return delegate.getJsonDataType();
+        }
+
+        @Override
+        public String getConverterClassName() {
+            return delegate.getConverterClassName();
+        }
+
+        @Override
+        public int getParameterIndex() {
+            return delegate.getParameterIndex();
+        }
+
+        @Override
+        public String[] getParameterBindingPath() {
+            return delegate.getParameterBindingPath();
+        }
+
+        @Override
+        public String[] getPropertyPath() {
+            return delegate.getPropertyPath();
+        }
+
+        @Override
+        public boolean isAutoPopulated() {
+            return delegate.isAutoPopulated();
+        }
+
+        @Override
+        public boolean isRequiresPreviousPopulatedValue() {
+            return delegate.isRequiresPreviousPopulatedValue();
+        }
+
+        @Override
+        public boolean isExpandable() {
+            return delegate.isExpandable();
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean isExpression() {
+            return delegate.isExpression();
+        }
+
+        @Override
+        public String getRole() {
+            return delegate.getRole();
+        }
+
+        @Override
+        public String getTableAlias() {
+            return delegate.getTableAlias();
+        }
+    }
+}
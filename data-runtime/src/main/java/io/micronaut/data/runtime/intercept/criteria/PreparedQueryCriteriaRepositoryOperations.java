@@ -18,6 +18,7 @@ package io.micronaut.data.runtime.intercept.criteria;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.operations.CriteriaRepositoryOperations;
@@ -47,8 +48,10 @@ final class PreparedQueryCriteriaRepositoryOperations extends AbstractPreparedQu
                                                      MethodInvocationContext<?, ?> context,
                                                      QueryBuilder queryBuilder,
                                                      Class<?> entityRoot,
-                                                     Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+                                                     Pageable pageable,
+                                                     RepositoryMethodKey methodKey,
+                                                     CriteriaQueryResultCache queryResultCache) {
+        super(operations, context, queryBuilder, entityRoot, pageable, methodKey, queryResultCache);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = operations;
     }
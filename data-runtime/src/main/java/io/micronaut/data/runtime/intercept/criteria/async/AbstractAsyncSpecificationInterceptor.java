@@ -87,7 +87,9 @@ public abstract class AbstractAsyncSpecificationInterceptor<T, R> extends Abstra
             context,
             sqlQueryBuilder,
             getRequiredRootEntity(context),
-            pageable
+            pageable,
+            methodKey,
+            queryResultCache
         );
     }
 
@@ -18,12 +18,14 @@ package io.micronaut.data.runtime.intercept.criteria.async;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.async.AsyncCriteriaRepositoryOperations;
 import io.micronaut.data.operations.async.AsyncRepositoryOperations;
 import io.micronaut.data.runtime.intercept.criteria.AbstractPreparedQueryCriteriaRepositoryOperations;
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -50,8 +52,10 @@ final class PreparedQueryAsyncCriteriaRepositoryOperations extends AbstractPrepa
                                                           MethodInvocationContext<?, ?> context,
                                                           QueryBuilder queryBuilder,
                                                           Class<?> entityRoot,
-                                                          Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+                                                          Pageable pageable,
+                                                          RepositoryMethodKey methodKey,
+                                                          CriteriaQueryResultCache queryResultCache) {
+        super(operations, context, queryBuilder, entityRoot, pageable, methodKey, queryResultCache);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = asyncRepositoryOperations;
     }
@@ -81,7 +81,9 @@ public abstract class AbstractReactiveSpecificationInterceptor<T, R> extends Abs
             context,
             sqlQueryBuilder,
             getRequiredRootEntity(context),
-            pageable
+            pageable,
+            methodKey,
+            queryResultCache
         );
     }
 
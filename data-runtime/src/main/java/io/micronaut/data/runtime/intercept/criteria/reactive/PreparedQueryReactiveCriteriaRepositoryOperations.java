@@ -17,12 +17,14 @@ package io.micronaut.data.runtime.intercept.criteria.reactive;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactiveCriteriaRepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.runtime.intercept.criteria.AbstractPreparedQueryCriteriaRepositoryOperations;
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -47,8 +49,10 @@ final class PreparedQueryReactiveCriteriaRepositoryOperations extends AbstractPr
                                                              MethodInvocationContext<?, ?> context,
                                                              QueryBuilder queryBuilder,
                                                              Class<?> entityRoot,
-                                                             Pageable pageable) {
-        super(operations, context, queryBuilder, entityRoot, pageable);
+                                                             Pageable pageable,
+                                                             RepositoryMethodKey methodKey,
+                                                             CriteriaQueryResultCache queryResultCache) {
+        super(operations, context, queryBuilder, entityRoot, pageable, methodKey, queryResultCache);
         this.criteriaBuilder = criteriaBuilder;
         this.operations = reactiveRepositoryOperations;
     }
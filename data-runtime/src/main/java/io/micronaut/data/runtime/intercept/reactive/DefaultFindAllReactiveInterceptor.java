@@ -17,12 +17,16 @@ package io.micronaut.data.runtime.intercept.reactive;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.propagation.ReactorPropagation;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.reactive.FindAllReactiveInterceptor;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.transaction.support.TransactionUtil;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 
 /**
  * Default implementation of {@link FindAllReactiveInterceptor}.
@@ -43,6 +47,20 @@ public class DefaultFindAllReactiveInterceptor extends AbstractPublisherIntercep
     @Override
     public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
         if (context.hasAnnotation(Query.class)) {
+            ChunkedQueries<Object> chunkedQueries = prepareChunkedQueries(methodKey, context);
+            if (chunkedQueries != null) {
+                Flux<Object> results = Flux.deferContextual(contextView -> {
+                    // The queries of a transaction share its connection and cannot be executed concurrently
+                    int concurrency = TransactionUtil.isTransactionActive(ReactorPropagation.findPropagatedContext(contextView).orElseGet(PropagatedContext::getOrEmpty))
+                        ? 1 : chunkedQueries.getConcurrency();
+                    return Flux.fromIterable(chunkedQueries.getQueries())
+                        .flatMapSequential(preparedQuery -> reactiveOperations.findAll(preparedQuery), concurrency);
+                });
+                if (chunkedQueries.isPreserveOrder()) {
+                    return results.collectList().flatMapIterable(chunkedQueries::order);
+                }
+                return results;
+            }
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             return reactiveOperations.findAll(preparedQuery);
         }
@@ -17,6 +17,9 @@ package io.micronaut.data.runtime.intercept.reactive;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.propagation.ReactorPropagation;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.data.annotation.PageCount;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.reactive.FindPageReactiveInterceptor;
@@ -28,8 +31,10 @@ import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
+import io.micronaut.transaction.support.TransactionUtil;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -55,34 +60,60 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
-
-            return Flux.from(reactiveOperations.findOne(countQuery))
-                .flatMap(total -> {
-                    Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
-                    return resultList.collectList().map(list -> {
-                            Pageable pageable = preparedQuery.getPageable();
-                            Page page;
-                            if (pageable.getMode() == Pageable.Mode.OFFSET) {
-                                page = Page.of(list, pageable, total.longValue());
-                            } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                                List<Pageable.Cursor> cursors;
-                                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable);
-                                } else if (sqlPreparedQuery.isDtoProjection()) {
-                                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
-                                } else {
-                                    throw new IllegalStateException("CursoredPage cannot produce projection result");
-                                }
-                                page = CursoredPage.of(list, pageable, cursors, total.longValue());
-                            } else {
-                                throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
-                            }
-                            return page;
-                        }
-                    );
+            PageCount.Strategy countStrategy = getPageCountStrategy(context);
+            if (countStrategy == PageCount.Strategy.CONCURRENT) {
+                return Flux.<Page<Object>>deferContextual(contextView -> {
+                    // The queries of a transaction share its connection and cannot be executed concurrently
+                    if (TransactionUtil.isTransactionActive(ReactorPropagation.findPropagatedContext(contextView).orElseGet(PropagatedContext::getOrEmpty))) {
+                        return findPage(preparedQuery, countQuery);
+                    }
+                    return Mono.zip(
+                        Flux.from(reactiveOperations.findAll(preparedQuery)).collectList(),
+                        Mono.from(reactiveOperations.findOne(countQuery))
+                    ).map(tuple -> toPage(preparedQuery, (List<Object>) tuple.getT1(), tuple.getT2().longValue()));
                 });
+            }
+            if (countStrategy == PageCount.Strategy.ELIDE || countStrategy == PageCount.Strategy.WINDOW) {
+                return Flux.from(reactiveOperations.findAll(preparedQuery)).collectList()
+                    .flatMap(list -> {
+                        Long totalCount = elideTotalCount(preparedQuery.getPageable(), list.size());
+                        if (totalCount != null) {
+                            return Mono.just(toPage(preparedQuery, (List<Object>) list, totalCount));
+                        }
+                        return Mono.from(reactiveOperations.findOne(countQuery))
+                            .map(total -> toPage(preparedQuery, (List<Object>) list, total.longValue()));
+                    });
+            }
+            return findPage(preparedQuery, countQuery);
         }
         return reactiveOperations.findPage(getPagedQuery(context));
     }
+
+    private Flux<Page<Object>> findPage(PreparedQuery<?, ?> preparedQuery, PreparedQuery<?, Number> countQuery) {
+        return Flux.from(reactiveOperations.findOne(countQuery))
+            .flatMap(total -> {
+                Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
+                return resultList.collectList().map(list -> toPage(preparedQuery, list, total.longValue()));
+            });
+    }
+
+    private Page<Object> toPage(PreparedQuery<?, ?> preparedQuery, List<Object> list, long total) {
+        Pageable pageable = preparedQuery.getPageable();
+        if (pageable.getMode() == Pageable.Mode.OFFSET) {
+            return Page.of(list, pageable, total);
+        } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
+            List<Pageable.Cursor> cursors;
+            if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                cursors = sqlPreparedQuery.createCursors(list, pageable);
+            } else if (sqlPreparedQuery.isDtoProjection()) {
+                RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
+                cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
+            } else {
+                throw new IllegalStateException("CursoredPage cannot produce projection result");
+            }
+            return CursoredPage.of(list, pageable, cursors, total);
+        } else {
+            throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
+        }
+    }
 }
@@ -17,10 +17,16 @@ package io.micronaut.data.runtime.intercept.reactive;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.annotation.TypeRole;
+import io.micronaut.data.annotation.WriteChunkSize;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.reactive.SaveAllReactiveInterceptor;
 import io.micronaut.data.operations.RepositoryOperations;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@link SaveAllReactiveInterceptor}.
@@ -38,8 +44,25 @@ public class DefaultSaveAllReactiveInterceptor extends AbstractCountOrEntityPubl
         super(operations);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Publisher<?> interceptPublisher(RepositoryMethodKey methodKey, MethodInvocationContext<Object, Object> context) {
+        Object entities = getRequiredParameterInRole(context, TypeRole.ENTITIES, Object.class);
+        Flux<Object> source;
+        if (entities instanceof Publisher<?> publisher) {
+            source = Flux.from((Publisher<Object>) publisher);
+        } else if (entities instanceof Stream<?> stream) {
+            source = Flux.fromStream((Stream<Object>) stream);
+        } else if (entities instanceof Iterator<?> iterator) {
+            source = Flux.fromIterable(() -> (Iterator<Object>) iterator);
+        } else {
+            source = null;
+        }
+        if (source != null) {
+            int chunkSize = context.intValue(WriteChunkSize.class).orElse(WriteChunkSize.DEFAULT);
+            return source.buffer(Math.max(1, chunkSize))
+                .concatMap(chunk -> reactiveOperations.persistAll(getInsertBatchOperation(context, chunk)));
+        }
         Iterable<Object> iterable = getEntitiesParameter(context, Object.class);
         return reactiveOperations.persistAll(getInsertBatchOperation(context, iterable));
     }
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.PersistentEntityUtils;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the column values of the loaded entities with {@link MappedEntity#dynamicUpdate()} enabled.
+ * The snapshots are weakly referenced by the entity instance and are released with the entity.
+ * The arrays, dates, lists, sets and maps are copied into the snapshot, so the changes made in place are detected,
+ * the collection elements are not copied. The values of the other mutable types can't be compared with the snapshot
+ * and their columns are always updated.
+ *
+ * <p>The snapshots are owned by the repository operations of a data source.</p>
+ *
+ * @since 4.12
+ */
+@Internal
+public final class EntitySnapshots {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+        BigDecimal.class, BigInteger.class, UUID.class
+    );
+
+    private final Map<RuntimePersistentEntity<?>, List<TrackedColumn>> trackedColumns = new ConcurrentHashMap<>(10);
+    private final Map<EntityReference, Object[]> snapshots = new ConcurrentHashMap<>(100);
+    private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the entity has the dynamic update enabled
+     */
+    public static boolean isDynamicUpdate(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return persistentEntity.getAnnotationMetadata().booleanValue(MappedEntity.class, "dynamicUpdate").orElse(false);
+    }
+
+    /**
+     * Captures the current values of the entity.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     */
+    public <T> void capture(@NonNull RuntimePersistentEntity<T> persistentEntity, @Nullable T entity) {
+        if (entity == null) {
+            return;
+        }
+        Object[] snapshot = snapshot(persistentEntity, entity);
+        if (snapshot != null) {
+            store(entity, snapshot);
+        }
+    }
+
+    /**
+     * Reads the current values of the entity without storing them, the snapshot can be stored later using {@link #store(Object, Object[])}.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return The snapshot or null if the entity doesn't have the dynamic update enabled
+     */
+    @Nullable
+    public <T> Object[] snapshot(@NonNull RuntimePersistentEntity<T> persistentEntity, @NonNull T entity) {
+        List<TrackedColumn> columns = getTrackedColumns(persistentEntity);
+        if (columns.isEmpty()) {
+            return null;
+        }
+        Object[] snapshot = new Object[columns.size()];
+        for (int i = 0; i < snapshot.length; i++) {
+            TrackedColumn column = columns.get(i);
+            if (column.comparable()) {
+                snapshot[i] = copyValue(column.read(entity));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Finds the stored snapshot of the entity.
+     *
+     * @param entity The entity
+     * @return The snapshot or null if the entity wasn't captured
+     */
+    @Nullable
+    public Object[] find(@NonNull Object entity) {
+        return snapshots.get(new EntityReference(entity, null));
+    }
+
+    /**
+     * Stores the snapshot of the entity.
+     *
+     * @param entity   The entity
+     * @param snapshot The snapshot
+     */
+    public void store(@NonNull Object entity, @NonNull Object[] snapshot) {
+        expungeReleased();
+        snapshots.put(new EntityReference(entity, released), snapshot);
+    }
+
+    /**
+     * Releases the snapshot of the entity, the next update of the entity will update all the columns.
+     *
+     * @param entity The entity
+     */
+    public void release(@NonNull Object entity) {
+        expungeReleased();
+        snapshots.remove(new EntityReference(entity, null));
+    }
+
+    /**
+     * Resolves the properties changed since the snapshot was taken.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param snapshot         The snapshot of the entity, see {@link #find(Object)}
+     * @param <T>              The entity type
+     * @return The changed properties or null if the snapshot is not known
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> Set<RuntimePersistentProperty<T>> changedProperties(@NonNull RuntimePersistentEntity<T> persistentEntity,
+                                                                  @NonNull T entity,
+                                                                  @Nullable Object[] snapshot) {
+        List<TrackedColumn> columns = getTrackedColumns(persistentEntity);
+        if (columns.isEmpty() || snapshot == null) {
+            return null;
+        }
+        Set<RuntimePersistentProperty<T>> changed = new LinkedHashSet<>();
+        for (int i = 0; i < snapshot.length; i++) {
+            TrackedColumn column = columns.get(i);
+            if (!column.comparable() || !Objects.deepEquals(snapshot[i], column.read(entity))) {
+                changed.add((RuntimePersistentProperty<T>) column.property());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Copies an array, a date, a list, a set or a map without copying its elements, the other values are returned as is.
+     *
+     * @param value The value
+     * @return The copy
+     */
+    @Nullable
+    public static Object copyValue(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Date date) {
+            return date.clone();
+        }
+        if (value instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        if (value instanceof Set<?> set) {
+            return new LinkedHashSet<>(set);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new LinkedHashMap<>(map);
+        }
+        return value;
+    }
+
+    private List<TrackedColumn> getTrackedColumns(RuntimePersistentEntity<?> persistentEntity) {
+        return trackedColumns.computeIfAbsent(persistentEntity, EntitySnapshots::trackedColumns);
+    }
+
+    private static List<TrackedColumn> trackedColumns(RuntimePersistentEntity<?> persistentEntity) {
+        if (!isDynamicUpdate(persistentEntity)) {
+            return List.of();
+        }
+        List<TrackedColumn> columns = new ArrayList<>();
+        for (RuntimePersistentProperty<?> property : persistentEntity.getPersistentProperties()) {
+            if (property instanceof Association association && association.isForeignKey()
+                || property.getAnnotationMetadata().hasStereotype(AutoPopulated.class)) {
+                // Not written by the update or populated on the update
+                continue;
+            }
+            PersistentEntityUtils.traversePersistentProperties(property, (associations, leaf) -> {
+                List<BeanProperty<Object, Object>> path = new ArrayList<>(associations.size() + 1);
+                for (Association association : associations) {
+                    path.add(beanProperty(association));
+                }
+                BeanProperty<Object, Object> leafProperty = beanProperty(leaf);
+                path.add(leafProperty);
+                columns.add(new TrackedColumn(property, path, isComparable(leafProperty.getType())));
+            });
+        }
+        return columns;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BeanProperty<Object, Object> beanProperty(Object property) {
+        return (BeanProperty<Object, Object>) ((RuntimePersistentProperty<?>) property).getProperty();
+    }
+
+    private static boolean isComparable(Class<?> type) {
+        Class<?> valueType = ReflectionUtils.getWrapperType(type);
+        return valueType.isArray()
+            || Enum.class.isAssignableFrom(valueType)
+            || IMMUTABLE_TYPES.contains(valueType)
+            || valueType.getName().startsWith("java.time.")
+            || Date.class.isAssignableFrom(valueType)
+            || List.class.isAssignableFrom(valueType)
+            || Set.class.isAssignableFrom(valueType)
+            || Map.class.isAssignableFrom(valueType);
+    }
+
+    private void expungeReleased() {
+        Object reference;
+        while ((reference = released.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    /**
+     * The column of the entity.
+     *
+     * @param property   The root property
+     * @param path       The bean properties leading to the column value
+     * @param comparable Whether the column value can be compared with the snapshot
+     */
+    private record TrackedColumn(RuntimePersistentProperty<?> property, List<BeanProperty<Object, Object>> path, boolean comparable) {
+
+        Object read(Object entity) {
+            Object value = entity;
+            for (BeanProperty<Object, Object> beanProperty : path) {
+                if (value == null) {
+                    return null;
+                }
+                value = beanProperty.get(value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The weak reference to the entity compared by the identity.
+     */
+    private static final class EntityReference extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        EntityReference(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hashCode = System.identityHashCode(entity);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EntityReference that)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == that.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper.sql;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.runtime.mapper.ResultReader;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolves the column labels of a result set to the indexes used by the index based {@link ResultReader}.
+ * Used by {@link SqlResultEntityTypeMapper} to build a column plan once per statement instead of
+ * looking up every value by the column label.
+ *
+ * @param <RS> The result set type
+ * @since 4.12
+ */
+public interface SqlColumnIndexResolver<RS> {
+
+    /**
+     * Resolve the column indexes of the result set.
+     * The keys of the map are normalized by {@link #normalizeColumnLabel(String)}; when a label is repeated only the first index is kept.
+     *
+     * @param resultSet The result set
+     * @return The column indexes by the normalized column label
+     */
+    @NonNull
+    Map<String, Integer> resolveColumnIndexes(@NonNull RS resultSet);
+
+    /**
+     * Normalize the column label, the lookup is case-insensitive as with the label based readers.
+     *
+     * @param columnLabel The column label
+     * @return The normalized label
+     */
+    @NonNull
+    static String normalizeColumnLabel(@NonNull String columnLabel) {
+        return columnLabel.toUpperCase(Locale.ENGLISH);
+    }
+
+}
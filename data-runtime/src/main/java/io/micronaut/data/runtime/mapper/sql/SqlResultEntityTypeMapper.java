@@ -47,6 +47,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
@@ -74,6 +75,12 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private final SqlJsonColumnReader<RS> jsonColumnReader;
     private final DataConversionService conversionService;
     private final BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener;
+    @Nullable
+    private final ResultReader<RS, Integer> columnIndexReader;
+    @Nullable
+    private final SqlColumnIndexResolver<RS> columnIndexResolver;
+    private final ColumnPlan columnPlan = new ColumnPlan();
+    private Map<String, Integer> columnIndexes;
     private boolean callNext = true;
 
     /**
@@ -90,7 +97,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull RuntimePersistentEntity<R> entity,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null, null, null);
     }
 
     /**
@@ -107,7 +114,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null, null, null);
     }
 
     /**
@@ -126,7 +133,34 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
             @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, null, null);
+    }
+
+    /**
+     * Constructor used to read the values by the column index.
+     * The column indexes are resolved once by the first row and every later row is read by the resolved index,
+     * the columns missing in the result are read using the column name reader.
+     *
+     * @param entity              The entity
+     * @param resultReader        The result reader
+     * @param joinPaths           The join paths
+     * @param jsonColumnReader    The json column reader
+     * @param loadListener        The event listener
+     * @param conversionService   The conversion service
+     * @param columnIndexReader   The column index reader
+     * @param columnIndexResolver The column index resolver
+     * @since 4.12
+     */
+    public SqlResultEntityTypeMapper(
+            @NonNull RuntimePersistentEntity<R> entity,
+            @NonNull ResultReader<RS, String> resultReader,
+            @Nullable Set<JoinPath> joinPaths,
+            @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
+            @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener,
+            DataConversionService conversionService,
+            @NonNull ResultReader<RS, Integer> columnIndexReader,
+            @NonNull SqlColumnIndexResolver<RS> columnIndexResolver) {
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, columnIndexReader, columnIndexResolver);
     }
 
     /**
@@ -139,6 +173,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      * @param jsonColumnReader  The json column reader
      * @param eventListener     The event listener used for trigger post load if configured
      * @param conversionService The conversion service
+     * @param columnIndexReader The column index reader
+     * @param columnIndexResolver The column index resolver
      */
     private SqlResultEntityTypeMapper(
             @NonNull RuntimePersistentEntity<R> entity,
@@ -146,8 +182,12 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @Nullable Set<JoinPath> joinPaths,
             String startingPrefix,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
-            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener) {
+            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener,
+            @Nullable ResultReader<RS, Integer> columnIndexReader,
+            @Nullable SqlColumnIndexResolver<RS> columnIndexResolver) {
         this.conversionService = conversionService;
+        this.columnIndexReader = columnIndexResolver == null ? null : columnIndexReader;
+        this.columnIndexResolver = columnIndexReader == null ? null : columnIndexResolver;
         ArgumentUtils.requireNonNull("entity", entity);
         ArgumentUtils.requireNonNull("resultReader", resultReader);
         this.entity = entity;
@@ -205,7 +245,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      */
     @NonNull
     public R readEntity(@NonNull RS rs) {
-        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix), null, null);
+        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix, columnPlan), null, null);
         if (entityInstance == null) {
             throw new DataAccessException("Unable to map result to entity of type [" + entity.getIntrospection().getBeanType() + "]. Missing result data.");
         }
@@ -262,7 +302,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         if (hasJoins) {
             return new PushingMapper<>() {
 
-                final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
                 Object entityId;
                 R entityInstance;
 
@@ -295,7 +335,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
         return new PushingMapper<>() {
 
-            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
             R entityInstance;
 
             @Override
@@ -331,7 +371,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
                 @Override
                 public void processRow(RS row) {
-                    MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                    MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
                     Object id = readEntityId(row, ctx);
                     if (id == null) {
                         throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
@@ -368,7 +408,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         return new PushingMapper<>() {
 
             final List<R> allProcessed = new ArrayList<>(20);
-            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
 
             @Override
             public void processRow(RS row) {
@@ -391,6 +431,70 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         };
     }
 
+    /**
+     * Read multiple entities incrementally. An entity is completed once a row of a different entity is read,
+     * only the entity being aggregated is kept in the memory.
+     * Requires the rows of the "many" joins to be ordered by the root entity identity.
+     *
+     * @return The incremental mapper
+     * @since 4.12
+     */
+    public IncrementalMapper<RS, R> readManyIncrementalMapper() {
+        if (hasJoins) {
+            return new IncrementalMapper<>() {
+
+                MappingContext<R> current;
+                Object currentId;
+
+                @Override
+                public R processRow(RS row) {
+                    MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
+                    Object id = readEntityId(row, ctx);
+                    if (id == null) {
+                        throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
+                    }
+                    if (current != null && currentId.equals(id)) {
+                        readChildren(row, current.entity, null, current);
+                        return null;
+                    }
+                    R completed = complete();
+                    ctx.entity = readEntity(row, ctx, null, id);
+                    current = ctx;
+                    currentId = id;
+                    return completed;
+                }
+
+                @Override
+                public R complete() {
+                    MappingContext<R> ctx = current;
+                    if (ctx == null) {
+                        return null;
+                    }
+                    current = null;
+                    currentId = null;
+                    if (!fetchJoinPaths.isEmpty()) {
+                        return (R) setChildrenAndTriggerPostLoad(ctx.entity, ctx, null);
+                    }
+                    return triggerPostLoad(ctx.persistentEntity, ctx.entity);
+                }
+            };
+        }
+        return new IncrementalMapper<>() {
+
+            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix, columnPlan);
+
+            @Override
+            public R processRow(RS row) {
+                return triggerPostLoad(ctx.persistentEntity, readEntity(row, ctx, null, null));
+            }
+
+            @Override
+            public R complete() {
+                return null;
+            }
+        };
+    }
+
     private void readChildren(RS rs, Object instance, Object parent, MappingContext<R> ctx) {
         if (ctx.manyAssociations != null) {
             Object id = readEntityId(rs, ctx);
@@ -692,20 +796,20 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     }
 
     private <K> Object readProperty(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
-        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
-        String columnAlias = prop.getAlias();
-        if (StringUtils.isNotEmpty(columnAlias)) {
-            columnName = columnAlias;
-        } else if (ctx.prefix != null && !ctx.prefix.isEmpty()) {
-            columnName = ctx.prefix + columnName;
+        Column column = ctx.columnPlan.columns.get(prop);
+        if (column == null) {
+            column = resolveColumn(rs, ctx, prop);
+            ctx.columnPlan.columns.put(prop, column);
         }
         DataType dataType = prop.getDataType();
         Object result;
         if (dataType == DataType.JSON && jsonColumnReader != null) {
             JsonDataType jsonDataType = prop.getJsonDataType();
-            result = jsonColumnReader.readJsonColumn(resultReader, rs, columnName, jsonDataType, prop.getArgument());
+            result = jsonColumnReader.readJsonColumn(resultReader, rs, column.name, jsonDataType, prop.getArgument());
+        } else if (column.index != null) {
+            result = columnIndexReader.readDynamic(rs, column.index, dataType);
         } else {
-            result = resultReader.readDynamic(rs, columnName, dataType);
+            result = resultReader.readDynamic(rs, column.name, dataType);
         }
         AttributeConverter<Object, Object> converter = prop.getConverter();
         if (converter != null) {
@@ -714,9 +818,27 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         return result;
     }
 
+    private <K> Column resolveColumn(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
+        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
+        String columnAlias = prop.getAlias();
+        if (StringUtils.isNotEmpty(columnAlias)) {
+            columnName = columnAlias;
+        } else if (ctx.prefix != null && !ctx.prefix.isEmpty()) {
+            columnName = ctx.prefix + columnName;
+        }
+        Integer columnIndex = null;
+        if (columnIndexResolver != null) {
+            if (columnIndexes == null) {
+                columnIndexes = columnIndexResolver.resolveColumnIndexes(rs);
+            }
+            columnIndex = columnIndexes.get(SqlColumnIndexResolver.normalizeColumnLabel(columnName));
+        }
+        return new Column(columnName, columnIndex);
+    }
+
     private <K> K triggerPostLoad(RuntimePersistentEntity<?> persistentEntity, K entity) {
         K finalEntity;
-        if (eventListener != null && persistentEntity.hasPostLoadEventListeners()) {
+        if (eventListener != null && (persistentEntity.hasPostLoadEventListeners() || EntitySnapshots.isDynamicUpdate(persistentEntity))) {
             finalEntity = (K) eventListener.apply((RuntimePersistentEntity<Object>) persistentEntity, entity);
         } else {
             finalEntity = entity;
@@ -814,6 +936,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         private final List<Association> joinPath;
         private final List<Association> embeddedPath;
         private final Association association;
+        private final ColumnPlan columnPlan;
 
         private Map<Object, MappingContext> manyAssociations;
         private Map<Association, MappingContext> associations;
@@ -827,7 +950,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                                JoinPath jp,
                                List<Association> joinPath,
                                List<Association> embeddedPath,
-                               Association association) {
+                               Association association,
+                               ColumnPlan columnPlan) {
             this.rootPersistentEntity = rootPersistentEntity;
             this.persistentEntity = persistentEntity;
             this.namingStrategy = namingStrategy;
@@ -836,9 +960,10 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.joinPath = joinPath;
             this.embeddedPath = embeddedPath;
             this.association = association;
+            this.columnPlan = columnPlan;
         }
 
-        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix) {
+        public static <K> MappingContext<K> of(RuntimePersistentEntity<K> persistentEntity, String prefix, ColumnPlan columnPlan) {
             return new MappingContext<>(
                     persistentEntity,
                     persistentEntity,
@@ -847,7 +972,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     null,
                     Collections.emptyList(),
                     Collections.emptyList(),
-                    null);
+                    null,
+                    columnPlan);
         }
 
         public <K> MappingContext<K> embedded(Embedded embedded) {
@@ -867,7 +993,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     associated(embeddedPath, association),
-                    association
+                    association,
+                    columnPlan.path(association)
             );
         }
 
@@ -896,13 +1023,19 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     embeddedPath,
-                    association
+                    association,
+                    columnPlan
             );
             return ctx;
         }
 
         private <K> MappingContext<K> joinAssociation(Map<String, JoinPath> joinPaths, Association association) {
-            JoinPath jp = findJoinPath(joinPaths, association);
+            ColumnPlan joinColumnPlan = columnPlan.join(association);
+            if (!joinColumnPlan.joinPathResolved) {
+                joinColumnPlan.joinPath = findJoinPath(joinPaths, association);
+                joinColumnPlan.joinPathResolved = true;
+            }
+            JoinPath jp = joinColumnPlan.joinPath;
             RuntimePersistentEntity<K> associatedEntity = (RuntimePersistentEntity<K>) association.getAssociatedEntity();
             return new MappingContext<>(
                     rootPersistentEntity,
@@ -912,7 +1045,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     associated(this.joinPath, association),
                     Collections.emptyList(), // Reset path,
-                    association
+                    association,
+                    joinColumnPlan
             );
         }
 
@@ -926,7 +1060,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     jp,
                     joinPath,
                     associated(embeddedPath, embedded),
-                    embedded
+                    embedded,
+                    columnPlan.embedded(embedded)
             );
         }
 
@@ -1004,6 +1139,50 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The resolved columns of the mapping context, shared by all the contexts of the same path.
+     * Allows resolving the column names and indexes once per statement instead of once per row.
+     */
+    private static final class ColumnPlan {
+
+        private final Map<PersistentProperty, Column> columns = new IdentityHashMap<>();
+        private Map<Association, ColumnPlan> paths;
+        private Map<Association, ColumnPlan> joins;
+        private Map<Association, ColumnPlan> embedded;
+        private JoinPath joinPath;
+        private boolean joinPathResolved;
+
+        private ColumnPlan path(Association association) {
+            if (paths == null) {
+                paths = new IdentityHashMap<>();
+            }
+            return paths.computeIfAbsent(association, a -> new ColumnPlan());
+        }
+
+        private ColumnPlan join(Association association) {
+            if (joins == null) {
+                joins = new IdentityHashMap<>();
+            }
+            return joins.computeIfAbsent(association, a -> new ColumnPlan());
+        }
+
+        private ColumnPlan embedded(Association association) {
+            if (embedded == null) {
+                embedded = new IdentityHashMap<>();
+            }
+            return embedded.computeIfAbsent(association, a -> new ColumnPlan());
+        }
+    }
+
+    /**
+     * The resolved column.
+     *
+     * @param name  The column name
+     * @param index The column index or null if the column is read by the name
+     */
+    private record Column(String name, @Nullable Integer index) {
+    }
+
     /**
      * The pushing mapper helper interface.
      *
@@ -1029,4 +1208,32 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The incremental mapper helper interface.
+     *
+     * @param <RS> The row type
+     * @param <R>  The result type
+     * @since 4.12
+     */
+    public interface IncrementalMapper<RS, R> {
+
+        /**
+         * Process row.
+         *
+         * @param row The row
+         * @return The result completed by this row or null
+         */
+        @Nullable
+        R processRow(@NonNull RS row);
+
+        /**
+         * Complete the result being aggregated, called after the last row.
+         *
+         * @return the last result or null
+         */
+        @Nullable
+        R complete();
+
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.runtime.config.DataConfiguration;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Resolves the executor of the {@link ExecutorAsyncOperations} from the {@link DataConfiguration.AsyncConfiguration}.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class AsyncExecutorResolver {
+
+    private AsyncExecutorResolver() {
+    }
+
+    /**
+     * Resolve the executor of the async operations.
+     *
+     * @param beanLocator          The bean locator
+     * @param executorService      The default executor service, the {@code io} executor if available
+     * @param localExecutorService The local executor service used when there is no default executor service
+     * @return The executor
+     */
+    @NonNull
+    public static Executor resolve(@NonNull BeanLocator beanLocator,
+                                   @Nullable ExecutorService executorService,
+                                   @NonNull Supplier<ExecutorService> localExecutorService) {
+        return resolve(beanLocator, executorService, localExecutorService, null);
+    }
+
+    /**
+     * Resolve the executor of the async operations using a connection pool.
+     * The operations are limited to the size of the pool unless the maximum concurrency is configured.
+     *
+     * @param beanLocator          The bean locator
+     * @param executorService      The default executor service, the {@code io} executor if available
+     * @param localExecutorService The local executor service used when there is no default executor service
+     * @param poolSize             The maximum size of the connection pool, null if unknown
+     * @return The executor
+     */
+    @NonNull
+    public static Executor resolve(@NonNull BeanLocator beanLocator,
+                                   @Nullable ExecutorService executorService,
+                                   @NonNull Supplier<ExecutorService> localExecutorService,
+                                   @Nullable Integer poolSize) {
+        DataConfiguration.AsyncConfiguration configuration = beanLocator.findBean(DataConfiguration.AsyncConfiguration.class).orElse(null);
+        String executorName = configuration == null ? null : configuration.getExecutor();
+        Executor executor;
+        if (executorName != null) {
+            executor = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(executorName))
+                .orElseThrow(() -> new ConfigurationException(
+                    DataConfiguration.AsyncConfiguration.VIRTUAL_EXECUTOR.equals(executorName)
+                        ? "Async operations configured to use virtual threads but the JVM doesn't support virtual threads"
+                        : "Executor [" + executorName + "] configured for the async operations doesn't exist"
+                ));
+        } else {
+            executor = executorService != null ? executorService : localExecutorService.get();
+        }
+        Integer maxConcurrency = configuration == null ? null : configuration.getMaxConcurrency();
+        if (maxConcurrency == null && poolSize != null && poolSize > 0) {
+            // The operations exceeding the pool size would occupy a thread waiting for a connection
+            maxConcurrency = poolSize;
+        }
+        if (maxConcurrency != null) {
+            return new ConcurrencyLimitedExecutor(executor, maxConcurrency);
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor limiting the number of the tasks running concurrently on the delegate executor.
+ * The exceeding tasks are queued and submitted when a running task completes, no thread is blocked waiting for a permit.
+ *
+ * @since 4.12
+ */
+@Internal
+final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger available;
+
+    ConcurrencyLimitedExecutor(@NonNull Executor delegate, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be greater than zero: " + maxConcurrency);
+        }
+        this.delegate = delegate;
+        this.available = new AtomicInteger(maxConcurrency);
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        queue.offer(command);
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            int permits = available.get();
+            if (permits == 0) {
+                return;
+            }
+            if (!available.compareAndSet(permits, permits - 1)) {
+                continue;
+            }
+            Runnable next = queue.poll();
+            if (next == null) {
+                available.incrementAndGet();
+                continue;
+            }
+            submit(next);
+        }
+    }
+
+    private void submit(Runnable command) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    available.incrementAndGet();
+                    drain();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            available.incrementAndGet();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.data.annotation.EntityCache;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link EntityIdentityCache} keeping a bounded least recently used cache of every entity in memory.
+ *
+ * @since 4.12
+ */
+@Internal
+@Singleton
+final class DefaultEntityIdentityCache implements EntityIdentityCache {
+
+    private final ConversionService conversionService;
+    private final Map<RegionKey, Region> regions = new ConcurrentHashMap<>();
+
+    DefaultEntityIdentityCache(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    @Override
+    public <E> E get(String dataSourceName, RuntimePersistentEntity<E> persistentEntity, Object id) {
+        Region region = regions.get(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()));
+        return region == null ? null : (E) region.get(id);
+    }
+
+    @Override
+    public <E> void put(String dataSourceName, RuntimePersistentEntity<E> persistentEntity, Object id, E entity) {
+        Region region = regions.computeIfAbsent(
+            new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()),
+            key -> newRegion(persistentEntity)
+        );
+        RuntimePersistentProperty<E> version = persistentEntity.getVersion();
+        region.put(id, entity, version == null ? null : version.getProperty().get(entity));
+    }
+
+    @Override
+    public void evict(String dataSourceName, RuntimePersistentEntity<?> persistentEntity, Object id) {
+        Region region = regions.get(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()));
+        if (region != null) {
+            region.evict(id);
+        }
+    }
+
+    @Override
+    public void evictAll(String dataSourceName, RuntimePersistentEntity<?> persistentEntity) {
+        Region region = regions.get(new RegionKey(dataSourceName, persistentEntity.getIntrospection().getBeanType()));
+        if (region != null) {
+            region.evictAll();
+        }
+    }
+
+    private Region newRegion(RuntimePersistentEntity<?> persistentEntity) {
+        long ttlNanos = persistentEntity.stringValue(EntityCache.class, "ttl")
+            .filter(value -> !value.isEmpty())
+            .flatMap(value -> conversionService.convert(value, Duration.class))
+            .map(Duration::toNanos)
+            .orElse(0L);
+        return new Region(persistentEntity.intValue(EntityCache.class, "maximumSize").orElse(10000), ttlNanos);
+    }
+
+    private record RegionKey(String dataSourceName, Class<?> entityType) {
+    }
+
+    private record CachedEntity(Object value, @Nullable Object version, long created) {
+    }
+
+    /**
+     * The cached instances of an entity.
+     */
+    private static final class Region {
+
+        private final long ttlNanos;
+        private final Map<Object, CachedEntity> entities;
+
+        Region(int maximumSize, long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.entities = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, CachedEntity> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        synchronized Object get(Object id) {
+            CachedEntity cachedEntity = entities.get(id);
+            if (cachedEntity == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - cachedEntity.created() > ttlNanos) {
+                entities.remove(id);
+                return null;
+            }
+            return cachedEntity.value();
+        }
+
+        synchronized void put(Object id, @NonNull Object value, @Nullable Object version) {
+            CachedEntity cachedEntity = entities.get(id);
+            if (cachedEntity != null && isNewer(cachedEntity.version(), version)) {
+                return;
+            }
+            entities.put(id, new CachedEntity(value, version, System.nanoTime()));
+        }
+
+        synchronized void evict(Object id) {
+            entities.remove(id);
+        }
+
+        synchronized void evictAll() {
+            entities.clear();
+        }
+
+        private static boolean isNewer(@Nullable Object cachedVersion, @Nullable Object version) {
+            if (cachedVersion instanceof Comparable comparable && version != null && cachedVersion.getClass() == version.getClass()) {
+                return comparable.compareTo(version) > 0;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+
+/**
+ * The cache of the entities annotated with {@link io.micronaut.data.annotation.EntityCache} used by the SQL repository
+ * operations to find an entity by its identity. The default implementation is a local bounded cache,
+ * other implementations can replace it using {@link io.micronaut.context.annotation.Replaces}.
+ *
+ * <p>The operations take care of the transactions, the cache only receives the committed instances
+ * and the evictions of the written instances. The cached instances are copies owned by the cache and the found instances
+ * are copied before they are returned to the callers, so the cache doesn't need to copy them.</p>
+ *
+ * @since 4.12
+ */
+@Experimental
+public interface EntityIdentityCache {
+
+    /**
+     * Finds the cached instance of an entity.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param <E>              The entity type
+     * @return The cached instance or null
+     */
+    @Nullable
+    <E> E get(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull Object id);
+
+    /**
+     * Caches an instance of an entity. If the entity has a version property, the instance must not replace
+     * a cached instance with a newer version.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param entity           The instance
+     * @param <E>              The entity type
+     */
+    <E> void put(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull Object id, @NonNull E entity);
+
+    /**
+     * Evicts the cached instance of an entity.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     */
+    void evict(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull Object id);
+
+    /**
+     * Evicts all the cached instances of an entity.
+     *
+     * @param dataSourceName   The data source name
+     * @param persistentEntity The persistent entity
+     */
+    void evictAll(@NonNull String dataSourceName, @NonNull RuntimePersistentEntity<?> persistentEntity);
+}
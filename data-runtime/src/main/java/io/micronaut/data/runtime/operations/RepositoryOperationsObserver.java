@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+
+/**
+ * Observes the statements executed by the JDBC repository operations, for example to record metrics.
+ * A single bean of this type is picked up by the operations of every data source, the durations are only
+ * measured when the bean exists.
+ *
+ * <p>The repository type is the type returned by {@link io.micronaut.data.model.runtime.PreparedQuery#getRepositoryType()}
+ * and the method name is the name of the invoked repository method.</p>
+ *
+ * @since 4.12
+ */
+@Experimental
+public interface RepositoryOperationsObserver {
+
+    /**
+     * Invoked after the statement of a query was executed, before its result is mapped.
+     *
+     * @param dataSourceName The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param executeNanos   The execution time in nanoseconds
+     */
+    default void queryExecuted(@NonNull String dataSourceName, @NonNull Class<?> repositoryType, @NonNull String methodName, long executeNanos) {
+    }
+
+    /**
+     * Invoked after the result of a query was mapped.
+     *
+     * @param dataSourceName The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param rowsRead       The number of mapped results
+     * @param mapNanos       The mapping time in nanoseconds
+     */
+    default void resultMapped(@NonNull String dataSourceName, @NonNull Class<?> repositoryType, @NonNull String methodName, long rowsRead, long mapNanos) {
+    }
+
+    /**
+     * Invoked after an insert, update or delete statement was executed.
+     *
+     * @param dataSourceName The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param rowsWritten    The number of affected rows
+     */
+    default void rowsWritten(@NonNull String dataSourceName, @NonNull Class<?> repositoryType, @NonNull String methodName, long rowsWritten) {
+    }
+
+    /**
+     * Invoked after a batch statement was executed.
+     *
+     * @param dataSourceName The data source name
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param batchSize      The number of statements in the batch
+     */
+    default void batchExecuted(@NonNull String dataSourceName, @NonNull Class<?> repositoryType, @NonNull String methodName, int batchSize) {
+    }
+}
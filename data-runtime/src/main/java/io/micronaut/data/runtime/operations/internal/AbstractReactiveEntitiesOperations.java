@@ -94,16 +94,19 @@ public abstract class AbstractReactiveEntitiesOperations<Ctx extends OperationCo
     }
 
     private void doCascade(boolean isPost, Relation.Cascade cascadeType) {
-        this.entities = entities.flatMapIterable(list -> list).concatMap(d -> {
-            if (d.vetoed) {
-                return Mono.just(d);
+        this.entities = entities.flatMap(list -> {
+            List<Data> notVetoed = list.stream().filter(d -> !d.vetoed).toList();
+            if (notVetoed.isEmpty()) {
+                return Mono.just(list);
             }
-            Mono<T> entity = cascadeOperations.cascadeEntity(ctx, d.entity, persistentEntity, isPost, cascadeType);
-            return entity.map(e -> {
-                d.entity = e;
-                return d;
-            });
-        }).collectList();
+            return cascadeOperations.cascadeEntities(ctx, notVetoed.stream().map(d -> d.entity).toList(), persistentEntity, isPost, cascadeType)
+                .map(cascaded -> {
+                    for (int i = 0; i < notVetoed.size(); i++) {
+                        notVetoed.get(i).entity = cascaded.get(i);
+                    }
+                    return list;
+                });
+        });
     }
 
     @Override
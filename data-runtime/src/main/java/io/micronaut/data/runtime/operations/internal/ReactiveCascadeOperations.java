@@ -28,7 +28,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -72,11 +77,125 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                                      RuntimePersistentEntity<T> persistentEntity,
                                      boolean isPost,
                                      Relation.Cascade cascadeType) {
-        List<CascadeOp> cascadeOps = new ArrayList<>();
+        return cascadeEntity(ctx, entity, persistentEntity, cascadeType, collectCascadeOps(ctx, entity, persistentEntity, isPost, cascadeType));
+    }
+
+    /**
+     * Cascade the operation of multiple entities of the same type.
+     * The children of the same association are collected across all the entities and persisted in one batch,
+     * the JOIN table relationships of the association are persisted together as well.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 4.12
+     */
+    public <T> Mono<List<T>> cascadeEntities(Ctx ctx,
+                                             List<T> entities,
+                                             RuntimePersistentEntity<T> persistentEntity,
+                                             boolean isPost,
+                                             Relation.Cascade cascadeType) {
+        if (cascadeType != Relation.Cascade.PERSIST || entities.size() < 2) {
+            return Flux.fromIterable(entities)
+                .concatMap(entity -> cascadeEntity(ctx, entity, persistentEntity, isPost, cascadeType))
+                .collectList();
+        }
+        Map<List<Association>, List<BatchedCascadeManyOp>> batches = new LinkedHashMap<>();
+        List<Mono<T>> cascadedEntities = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            List<CascadeOp> cascadeOps = collectCascadeOps(ctx, entity, persistentEntity, isPost, cascadeType);
+            List<CascadeOp> entityCascadeOps = new ArrayList<>(cascadeOps.size());
+            for (CascadeOp cascadeOp : cascadeOps) {
+                if (cascadeOp instanceof CascadeManyOp cascadeManyOp && helper.isSupportsBatchInsert(ctx, persistentEntity)) {
+                    batches.computeIfAbsent(cascadeOp.ctx.associations, associations -> new ArrayList<>())
+                        .add(new BatchedCascadeManyOp(cascadedEntities.size(), cascadeManyOp));
+                } else {
+                    entityCascadeOps.add(cascadeOp);
+                }
+            }
+            cascadedEntities.add(cascadeEntity(ctx, entity, persistentEntity, cascadeType, entityCascadeOps));
+        }
+        Mono<List<T>> result = Flux.concat(cascadedEntities).collectList();
+        for (List<BatchedCascadeManyOp> batch : batches.values()) {
+            result = result.flatMap(list -> persistChildrenBatch(ctx, list, persistentEntity, batch));
+        }
+        return result;
+    }
 
+    private <T> Mono<List<T>> persistChildrenBatch(Ctx ctx,
+                                                   List<T> entities,
+                                                   RuntimePersistentEntity<T> persistentEntity,
+                                                   List<BatchedCascadeManyOp> batch) {
+        CascadeManyOp firstOp = batch.iterator().next().cascadeManyOp;
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimeAssociation<Object> association = (RuntimeAssociation) firstOp.ctx.getAssociation();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cascading many PERSIST for {} '{}' entities association: '{}'", batch.size(), persistentEntity.getName(), firstOp.ctx.associations);
+        }
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+        // The same child can be referenced by multiple parents
+        Set<Object> uniqueChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> notVetoedChildren = new ArrayList<>();
+        for (BatchedCascadeManyOp batchedOp : batch) {
+            for (Object child : batchedOp.cascadeManyOp.children) {
+                if (uniqueChildren.add(child) && !veto.test(child)) {
+                    notVetoedChildren.add(child);
+                }
+            }
+        }
+        // The persisted batch contains only the children that were not vetoed
+        return helper.persistBatch(ctx, notVetoedChildren, childPersistentEntity, veto).collectList().flatMap(persistedChildren -> {
+            Map<Object, Object> persistedByChild = new IdentityHashMap<>(persistedChildren.size());
+            for (int i = 0; i < persistedChildren.size(); i++) {
+                persistedByChild.put(notVetoedChildren.get(i), persistedChildren.get(i));
+            }
+            List<Object> parents = new ArrayList<>(batch.size());
+            List<List<Object>> parentsChildren = new ArrayList<>(batch.size());
+            for (BatchedCascadeManyOp batchedOp : batch) {
+                CascadeManyOp cascadeManyOp = batchedOp.cascadeManyOp;
+                List<Object> newChildren = new ArrayList<>();
+                for (Object child : cascadeManyOp.children) {
+                    newChildren.add(persistedByChild.getOrDefault(child, child));
+                }
+                T entity = entities.get(batchedOp.index);
+                entities.set(batchedOp.index, afterCascadedMany(entity, cascadeManyOp.ctx.associations, cascadeManyOp.children, newChildren));
+                parents.add(cascadeManyOp.ctx.parent);
+                parentsChildren.add(newChildren);
+            }
+            Mono<Void> op = Mono.empty();
+            if (SqlQueryBuilder.isForeignKeyWithJoinTable(association)) {
+                op = helper.persistManyAssociationsBatch(ctx, association, parents, firstOp.ctx.parentPersistentEntity, parentsChildren, childPersistentEntity, ctx.persisted::contains);
+            }
+            return op.then(Mono.fromSupplier(() -> {
+                for (List<Object> newChildren : parentsChildren) {
+                    ctx.persisted.addAll(newChildren);
+                }
+                return entities;
+            }));
+        });
+    }
+
+    private <T> List<CascadeOp> collectCascadeOps(Ctx ctx,
+                                                  T entity,
+                                                  RuntimePersistentEntity<T> persistentEntity,
+                                                  boolean isPost,
+                                                  Relation.Cascade cascadeType) {
+        List<CascadeOp> cascadeOps = new ArrayList<>();
         cascade(ctx.annotationMetadata, ctx.repositoryType, isPost, cascadeType,
                 CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity), persistentEntity, entity, cascadeOps);
+        return cascadeOps;
+    }
 
+    private <T> Mono<T> cascadeEntity(Ctx ctx,
+                                      T entity,
+                                      RuntimePersistentEntity<T> persistentEntity,
+                                      Relation.Cascade cascadeType,
+                                      List<CascadeOp> cascadeOps) {
         Mono<T> monoEntity = Mono.just(entity);
 
         for (CascadeOp cascadeOp : cascadeOps) {
@@ -144,6 +263,9 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
                         }
+                        if (helper.isSupportsBatchUpdate(ctx, childPersistentEntity)) {
+                            return updateChildrenBatch(ctx, cascadeManyOp.children, childPersistentEntity);
+                        }
                         Flux<Object> childrenFlux = Flux.empty();
                         for (Object child : cascadeManyOp.children) {
                             if (ctx.persisted.contains(child)) {
@@ -200,6 +322,54 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
         return monoEntity;
     }
 
+    /**
+     * Persist the new children and update the existing children in batches.
+     *
+     * @param ctx                   The context
+     * @param children              The children
+     * @param childPersistentEntity The child persistent entity
+     * @return The persisted and updated children
+     */
+    private Mono<List<Object>> updateChildrenBatch(Ctx ctx, Iterable<Object> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        List<Object> values = new ArrayList<>();
+        List<Integer> newIndexes = new ArrayList<>();
+        List<Object> newChildren = new ArrayList<>();
+        List<Integer> existingIndexes = new ArrayList<>();
+        List<Object> existingChildren = new ArrayList<>();
+        for (Object child : children) {
+            if (ctx.persisted.contains(child)) {
+                continue;
+            }
+            if (identity.getProperty().get(child) == null) {
+                newIndexes.add(values.size());
+                newChildren.add(child);
+            } else {
+                existingIndexes.add(values.size());
+                existingChildren.add(child);
+            }
+            values.add(child);
+        }
+        Mono<List<Object>> persisted;
+        if (newChildren.isEmpty()) {
+            persisted = Mono.just(newChildren);
+        } else if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+            persisted = helper.persistBatch(ctx, newChildren, childPersistentEntity, null).collectList();
+        } else {
+            persisted = Flux.fromIterable(newChildren).concatMap(child -> helper.persistOne(ctx, child, childPersistentEntity)).collectList();
+        }
+        Mono<List<Object>> updated = existingChildren.isEmpty() ? Mono.just(existingChildren) : helper.updateBatch(ctx, existingChildren, childPersistentEntity).collectList();
+        return persisted.flatMap(persistedChildren -> updated.map(updatedChildren -> {
+            for (int i = 0; i < newIndexes.size(); i++) {
+                values.set(newIndexes.get(i), persistedChildren.get(i));
+            }
+            for (int i = 0; i < existingIndexes.size(); i++) {
+                values.set(existingIndexes.get(i), updatedChildren.get(i));
+            }
+            return values;
+        }));
+    }
+
     private <T> Mono<T> updateChildren(Ctx ctx,
                                        Mono<T> monoEntity,
                                        CascadeOp cascadeOp,
@@ -232,6 +402,15 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
         return monoEntity;
     }
 
+    /**
+     * The cascade operation of the children of one entity that is persisted in a batch with the children of other entities.
+     *
+     * @param index         The index of the parent entity
+     * @param cascadeManyOp The cascade operation
+     */
+    private record BatchedCascadeManyOp(int index, CascadeManyOp cascadeManyOp) {
+    }
+
     /**
      * The cascade operations helper.
      *
@@ -309,6 +488,20 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
          */
         <T> Mono<T> updateOne(Ctx ctx, T entityValue, RuntimePersistentEntity<T> persistentEntity);
 
+        /**
+         * Update multiple entities in batch during cascade.
+         *
+         * @param ctx              The context
+         * @param entityValues     The entity values
+         * @param persistentEntity The persistent entity
+         * @param <T>              The entity type
+         * @return The entity values
+         * @since 4.12
+         */
+        default <T> Flux<T> updateBatch(Ctx ctx, Iterable<T> entityValues, RuntimePersistentEntity<T> persistentEntity) {
+            return Flux.fromIterable(entityValues).concatMap(entityValue -> updateOne(ctx, entityValue, persistentEntity));
+        }
+
         /**
          * Persist JOIN table relationship.
          *
@@ -342,6 +535,29 @@ public final class ReactiveCascadeOperations<Ctx extends OperationContext> exten
                                                Object parentEntityValue, RuntimePersistentEntity<Object> parentPersistentEntity,
                                                Iterable<Object> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity,
                                                Predicate<Object> veto);
+
+        /**
+         * Persist JOIN table relationships of multiple parent entities in batch.
+         *
+         * @param ctx                    The context
+         * @param runtimeAssociation     The association
+         * @param parentEntityValues     The parent entity values
+         * @param parentPersistentEntity The parent persistent entity
+         * @param childEntityValues      The child entity values of every parent entity
+         * @param childPersistentEntity  The child persistent entity
+         * @param veto                   The veto predicate
+         * @return The empty mono
+         * @since 4.12
+         */
+        default Mono<Void> persistManyAssociationsBatch(Ctx ctx,
+                                                        RuntimeAssociation runtimeAssociation,
+                                                        List<Object> parentEntityValues, RuntimePersistentEntity<Object> parentPersistentEntity,
+                                                        List<? extends Iterable<Object>> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity,
+                                                        Predicate<Object> veto) {
+            return Flux.range(0, parentEntityValues.size())
+                .concatMap(i -> persistManyAssociationBatch(ctx, runtimeAssociation, parentEntityValues.get(i), parentPersistentEntity, childEntityValues.get(i), childPersistentEntity, veto))
+                .then();
+        }
     }
 
 }
@@ -28,8 +28,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -72,11 +77,123 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                                RuntimePersistentEntity<T> persistentEntity,
                                boolean isPost,
                                Relation.Cascade cascadeType) {
+        return cascadeEntity(ctx, entity, persistentEntity, cascadeType, collectCascadeOps(ctx, entity, persistentEntity, isPost, cascadeType));
+    }
+
+    /**
+     * Cascade the operation of multiple entities of the same type.
+     * The children of the same association are collected across all the entities and persisted in one batch,
+     * the JOIN table relationships of the association are persisted in one batch as well.
+     *
+     * @param ctx              The context
+     * @param entities         The entity instances
+     * @param persistentEntity The persistent entity
+     * @param isPost           Is post cascade?
+     * @param cascadeType      The cascade type
+     * @param <T>              The entity type
+     * @return The entity instances
+     * @since 4.12
+     */
+    public <T> List<T> cascadeEntities(Ctx ctx,
+                                       List<T> entities,
+                                       RuntimePersistentEntity<T> persistentEntity,
+                                       boolean isPost,
+                                       Relation.Cascade cascadeType) {
+        List<T> result = new ArrayList<>(entities.size());
+        if (cascadeType != Relation.Cascade.PERSIST || entities.size() < 2) {
+            for (T entity : entities) {
+                result.add(cascadeEntity(ctx, entity, persistentEntity, isPost, cascadeType));
+            }
+            return result;
+        }
+        Map<List<Association>, List<BatchedCascadeManyOp>> batches = new LinkedHashMap<>();
+        for (T entity : entities) {
+            List<CascadeOp> cascadeOps = collectCascadeOps(ctx, entity, persistentEntity, isPost, cascadeType);
+            List<CascadeOp> entityCascadeOps = new ArrayList<>(cascadeOps.size());
+            for (CascadeOp cascadeOp : cascadeOps) {
+                if (cascadeOp instanceof CascadeManyOp cascadeManyOp && helper.isSupportsBatchInsert(ctx, cascadeManyOp.childPersistentEntity)) {
+                    batches.computeIfAbsent(cascadeOp.ctx.associations, associations -> new ArrayList<>())
+                        .add(new BatchedCascadeManyOp(result.size(), cascadeManyOp));
+                } else {
+                    entityCascadeOps.add(cascadeOp);
+                }
+            }
+            result.add(cascadeEntity(ctx, entity, persistentEntity, cascadeType, entityCascadeOps));
+        }
+        for (List<BatchedCascadeManyOp> batch : batches.values()) {
+            persistChildrenBatch(ctx, result, persistentEntity, batch);
+        }
+        return result;
+    }
+
+    private <T> void persistChildrenBatch(Ctx ctx,
+                                          List<T> entities,
+                                          RuntimePersistentEntity<T> persistentEntity,
+                                          List<BatchedCascadeManyOp> batch) {
+        CascadeManyOp firstOp = batch.iterator().next().cascadeManyOp;
+        RuntimePersistentEntity<Object> childPersistentEntity = firstOp.childPersistentEntity;
+        RuntimeAssociation<Object> association = (RuntimeAssociation) firstOp.ctx.getAssociation();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cascading many PERSIST for {} '{}' entities association: '{}'", batch.size(), persistentEntity.getName(), firstOp.ctx.associations);
+        }
+        // The same child can be referenced by multiple parents
+        Set<Object> uniqueChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> children = new ArrayList<>();
+        for (BatchedCascadeManyOp batchedOp : batch) {
+            for (Object child : batchedOp.cascadeManyOp.children) {
+                if (uniqueChildren.add(child)) {
+                    children.add(child);
+                }
+            }
+        }
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        Predicate<Object> veto = val -> ctx.persisted.contains(val) || identity.getProperty().get(val) != null && !(identity instanceof Association);
+        List<Object> persistedChildren = helper.persistBatch(ctx, children, childPersistentEntity, veto);
+        Map<Object, Object> persistedByChild = new IdentityHashMap<>(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            persistedByChild.put(children.get(i), persistedChildren.get(i));
+        }
+
+        boolean joinTable = SqlQueryBuilder.isForeignKeyWithJoinTable(association);
+        List<Object> parents = new ArrayList<>(batch.size());
+        List<List<Object>> parentsChildren = new ArrayList<>(batch.size());
+        for (BatchedCascadeManyOp batchedOp : batch) {
+            CascadeManyOp cascadeManyOp = batchedOp.cascadeManyOp;
+            List<Object> newChildren = new ArrayList<>();
+            for (Object child : cascadeManyOp.children) {
+                newChildren.add(persistedByChild.get(child));
+            }
+            T entity = entities.get(batchedOp.index);
+            entities.set(batchedOp.index, afterCascadedMany(entity, cascadeManyOp.ctx.associations, cascadeManyOp.children, newChildren));
+            parents.add(cascadeManyOp.ctx.parent);
+            parentsChildren.add(newChildren);
+        }
+        if (joinTable) {
+            helper.persistManyAssociationsBatch(ctx, association, parents, firstOp.ctx.parentPersistentEntity, parentsChildren, childPersistentEntity);
+        }
+        for (List<Object> newChildren : parentsChildren) {
+            ctx.persisted.addAll(newChildren);
+        }
+    }
+
+    private <T> List<CascadeOp> collectCascadeOps(Ctx ctx,
+                                                  T entity,
+                                                  RuntimePersistentEntity<T> persistentEntity,
+                                                  boolean isPost,
+                                                  Relation.Cascade cascadeType) {
         List<CascadeOp> cascadeOps = new ArrayList<>();
         cascade(ctx.annotationMetadata, ctx.repositoryType,
                 isPost, cascadeType,
                 CascadeContext.of(ctx.associations, entity, (RuntimePersistentEntity<Object>) persistentEntity),
                 persistentEntity, entity, cascadeOps);
+        return cascadeOps;
+    }
+
+    private <T> T cascadeEntity(Ctx ctx,
+                                T entity,
+                                RuntimePersistentEntity<T> persistentEntity,
+                                Relation.Cascade cascadeType,
+                                List<CascadeOp> cascadeOps) {
         for (CascadeOp cascadeOp : cascadeOps) {
             if (cascadeOp instanceof CascadeOneOp cascadeOneOp) {
                 RuntimePersistentEntity<Object> childPersistentEntity = cascadeOp.childPersistentEntity;
@@ -116,19 +233,26 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                 List<Object> entities;
                 if (cascadeType == Relation.Cascade.UPDATE) {
                     entities = CollectionUtils.iterableToList(cascadeManyOp.children);
-                    for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
-                        Object child = iterator.next();
-                        if (ctx.persisted.contains(child)) {
-                            continue;
+                    if (helper.isSupportsBatchUpdate(ctx, childPersistentEntity)) {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Cascading many UPDATE for '{}' association: '{}'", persistentEntity.getName(), cascadeOp.ctx.associations);
                         }
-                        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
-                        Object value;
-                        if (identity.getProperty().get(child) == null) {
-                            value = helper.persistOne(ctx, child, childPersistentEntity);
-                        } else {
-                            value = helper.updateOne(ctx, child, childPersistentEntity);
+                        updateChildrenBatch(ctx, entities, childPersistentEntity);
+                    } else {
+                        for (ListIterator<Object> iterator = entities.listIterator(); iterator.hasNext(); ) {
+                            Object child = iterator.next();
+                            if (ctx.persisted.contains(child)) {
+                                continue;
+                            }
+                            RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+                            Object value;
+                            if (identity.getProperty().get(child) == null) {
+                                value = helper.persistOne(ctx, child, childPersistentEntity);
+                            } else {
+                                value = helper.updateOne(ctx, child, childPersistentEntity);
+                            }
+                            iterator.set(value);
                         }
-                        iterator.set(value);
                     }
                 } else if (cascadeType == Relation.Cascade.PERSIST) {
                     if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
@@ -177,6 +301,63 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
         return entity;
     }
 
+    /**
+     * Persist the new children and update the existing children in batches.
+     *
+     * @param ctx                   The context
+     * @param children              The children, replaced by the persisted and updated values
+     * @param childPersistentEntity The child persistent entity
+     */
+    private void updateChildrenBatch(Ctx ctx, List<Object> children, RuntimePersistentEntity<Object> childPersistentEntity) {
+        RuntimePersistentProperty<Object> identity = childPersistentEntity.getIdentity();
+        List<Integer> newIndexes = new ArrayList<>();
+        List<Object> newChildren = new ArrayList<>();
+        List<Integer> existingIndexes = new ArrayList<>();
+        List<Object> existingChildren = new ArrayList<>();
+        for (int i = 0; i < children.size(); i++) {
+            Object child = children.get(i);
+            if (ctx.persisted.contains(child)) {
+                continue;
+            }
+            if (identity.getProperty().get(child) == null) {
+                newIndexes.add(i);
+                newChildren.add(child);
+            } else {
+                existingIndexes.add(i);
+                existingChildren.add(child);
+            }
+        }
+        if (!newChildren.isEmpty()) {
+            List<Object> persisted;
+            if (helper.isSupportsBatchInsert(ctx, childPersistentEntity)) {
+                persisted = helper.persistBatch(ctx, newChildren, childPersistentEntity, val -> false);
+            } else {
+                persisted = new ArrayList<>(newChildren.size());
+                for (Object child : newChildren) {
+                    persisted.add(helper.persistOne(ctx, child, childPersistentEntity));
+                }
+            }
+            for (int i = 0; i < newIndexes.size(); i++) {
+                children.set(newIndexes.get(i), persisted.get(i));
+            }
+        }
+        if (!existingChildren.isEmpty()) {
+            List<Object> updated = helper.updateBatch(ctx, existingChildren, childPersistentEntity);
+            for (int i = 0; i < existingIndexes.size(); i++) {
+                children.set(existingIndexes.get(i), updated.get(i));
+            }
+        }
+    }
+
+    /**
+     * The cascade operation of the children of one entity that is persisted in a batch with the children of other entities.
+     *
+     * @param index         The index of the parent entity
+     * @param cascadeManyOp The cascade operation
+     */
+    private record BatchedCascadeManyOp(int index, CascadeManyOp cascadeManyOp) {
+    }
+
     /**
      * The cascade operations helper.
      *
@@ -254,6 +435,24 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
          */
         <T> T updateOne(Ctx ctx, T entityValue, RuntimePersistentEntity<T> persistentEntity);
 
+        /**
+         * Update multiple entities in batch during cascade.
+         *
+         * @param ctx              The context
+         * @param entityValues     The entity values
+         * @param persistentEntity The persistent entity
+         * @param <T>              The entity type
+         * @return The entity values
+         * @since 4.12
+         */
+        default <T> List<T> updateBatch(Ctx ctx, Iterable<T> entityValues, RuntimePersistentEntity<T> persistentEntity) {
+            List<T> values = new ArrayList<>();
+            for (T entityValue : entityValues) {
+                values.add(updateOne(ctx, entityValue, persistentEntity));
+            }
+            return values;
+        }
+
         /**
          * Persist JOIN table relationship.
          *
@@ -283,6 +482,26 @@ public final class SyncCascadeOperations<Ctx extends OperationContext> extends A
                                          RuntimeAssociation runtimeAssociation,
                                          Object parentEntityValue, RuntimePersistentEntity<Object> parentPersistentEntity,
                                          Iterable<Object> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity);
+
+        /**
+         * Persist JOIN table relationships of multiple parent entities in batch.
+         *
+         * @param ctx                    The context
+         * @param runtimeAssociation     The association
+         * @param parentEntityValues     The parent entity values
+         * @param parentPersistentEntity The parent persistent entity
+         * @param childEntityValues      The child entity values of every parent entity
+         * @param childPersistentEntity  The child persistent entity
+         * @since 4.12
+         */
+        default void persistManyAssociationsBatch(Ctx ctx,
+                                                  RuntimeAssociation runtimeAssociation,
+                                                  List<Object> parentEntityValues, RuntimePersistentEntity<Object> parentPersistentEntity,
+                                                  List<? extends Iterable<Object>> childEntityValues, RuntimePersistentEntity<Object> childPersistentEntity) {
+            for (int i = 0; i < parentEntityValues.size(); i++) {
+                persistManyAssociationBatch(ctx, runtimeAssociation, parentEntityValues.get(i), parentPersistentEntity, childEntityValues.get(i), childPersistentEntity);
+            }
+        }
     }
 
 
@@ -22,9 +22,16 @@ import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.annotation.EntityCache;
+import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.MappedProperty;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.annotation.TypeDef;
@@ -52,16 +59,22 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.operations.HintsCapableRepository;
 import io.micronaut.data.runtime.config.DataSettings;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.convert.DataConversionService;
 import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder;
 import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.mapper.QueryStatement;
 import io.micronaut.data.runtime.mapper.ResultReader;
+import io.micronaut.data.runtime.mapper.sql.EntitySnapshots;
 import io.micronaut.data.runtime.mapper.sql.JsonQueryResultMapper;
+import io.micronaut.data.runtime.mapper.sql.SqlColumnIndexResolver;
 import io.micronaut.data.runtime.mapper.sql.SqlJsonValueMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
+import io.micronaut.data.runtime.operations.EntityIdentityCache;
+import io.micronaut.data.runtime.operations.RepositoryOperationsObserver;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.BasicStoredQuery;
@@ -70,6 +83,7 @@ import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.transaction.TransactionExecution;
 import jakarta.persistence.Tuple;
 import org.slf4j.Logger;
 
@@ -81,6 +95,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -106,6 +121,9 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
 
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
 
+    // Oracle limits the IN list to 1000 expressions
+    private static final int MULTI_ROW_DELETE_MAX_SIZE = 1000;
+
     protected final String dataSourceName;
     @SuppressWarnings("WeakerAccess")
     protected final ResultReader<RS, String> columnNameResultSetReader;
@@ -117,9 +135,16 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final SqlJsonColumnMapperProvider<RS> sqlJsonColumnMapperProvider;
     protected final Map<Class, SqlQueryBuilder2> queryBuilders = new HashMap<>(10);
     protected final Map<Class, String> repositoriesWithHardcodedDataSource = new HashMap<>(10);
+    @Nullable
+    protected final TransactionalEntityCache entityCache;
+    protected final EntitySnapshots entitySnapshots = new EntitySnapshots();
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
+    private final Map<DynamicUpdateKey, SqlStoredQuery> entityDynamicUpdates = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final Map<String, PooledSequenceAllocator> sequenceAllocators = new ConcurrentHashMap<>(10);
+    @Nullable
+    private final RepositoryOperationsObserver operationsObserver;
 
     /**
      * Default constructor.
@@ -155,6 +180,10 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         this.preparedStatementWriter = preparedStatementWriter;
         this.jsonMapper = jsonMapper;
         this.sqlJsonColumnMapperProvider = sqlJsonColumnMapperProvider;
+        this.operationsObserver = beanContext.findBean(RepositoryOperationsObserver.class).orElse(null);
+        this.entityCache = beanContext.findBean(EntityIdentityCache.class)
+            .map(cache -> new TransactionalEntityCache(cache, dataSourceName))
+            .orElse(null);
         Collection<BeanDefinition<Object>> beanDefinitions = beanContext
             .getBeanDefinitions(Object.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<Object> beanDefinition : beanDefinitions) {
@@ -176,6 +205,451 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return columnNameResultSetReader;
     }
 
+    /**
+     * @return Whether the entity mappers should read the values by the column index resolved once per statement
+     * @since 4.12
+     */
+    protected boolean isColumnIndexMapping() {
+        return false;
+    }
+
+    /**
+     * @return Whether the operations update only the changed columns of the entities with {@link io.micronaut.data.annotation.MappedEntity#dynamicUpdate()} enabled,
+     * the loaded entities are captured by the {@link #entitySnapshots} only if supported
+     * @since 4.12
+     */
+    protected boolean isDynamicUpdateSupported() {
+        return false;
+    }
+
+    /**
+     * @return The padding of the expanded collection parameters
+     * @since 4.12
+     */
+    @NonNull
+    protected ExpandableParameterPadding getExpandableParameterPadding() {
+        return ExpandableParameterPadding.NONE;
+    }
+
+    /**
+     * @return The maximum number of the rows inserted by a multi-row insert statement, 0 if disabled
+     * @since 4.12
+     */
+    protected int getMultiRowInsertSize() {
+        return 0;
+    }
+
+    /**
+     * Resolves the number of the rows inserted by one multi-row {@code INSERT ... VALUES (...), (...)} statement.
+     * The size is limited by the maximum number of the bind parameters of the dialect.
+     *
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The insert query
+     * @return The number of the rows or 0 if the multi-row insert cannot be used
+     * @since 4.12
+     */
+    protected int getMultiRowInsertSize(PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        int multiRowInsertSize = getMultiRowInsertSize();
+        if (multiRowInsertSize < 2 || sqlStoredQuery.getOperationType() != OperationType.INSERT) {
+            return 0;
+        }
+        Dialect dialect = sqlStoredQuery.getDialect();
+        PersistentProperty identity = persistentEntity.getIdentity();
+        boolean generatedId = identity != null && identity.isGenerated() && !sqlStoredQuery.getQueryBuilder().isPooledSequence(identity);
+        int parametersPerRow = sqlStoredQuery.getQueryBindings().size();
+        if (parametersPerRow == 0 || sqlStoredQuery.isRawQuery() || !dialect.supportsMultiRowInsert(generatedId)
+            || !sqlStoredQuery.getQuery().equals(buildMultiRowInsert(persistentEntity, sqlStoredQuery, 1))) {
+            // Only the default insert statement of the entity can be rendered with multiple rows
+            return 0;
+        }
+        int size = Math.min(multiRowInsertSize, dialect.getMaxBindParameters() / parametersPerRow);
+        return size < 2 ? 0 : size;
+    }
+
+    /**
+     * Builds the multi-row insert statement of the entity.
+     * The parameters of the entities are bound in the order of the entities.
+     *
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The insert query of one entity
+     * @param rows             The number of the entities
+     * @return The query or null if not supported
+     * @since 4.12
+     */
+    @Nullable
+    protected final String buildMultiRowInsert(PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery, int rows) {
+        return sqlStoredQuery.getQueryBuilder().buildMultiRowInsert(sqlStoredQuery.getAnnotationMetadata(), persistentEntity, rows);
+    }
+
+    /**
+     * Resolves the number of the entities deleted by one statement: {@code DELETE ... WHERE id IN (...)} for the simple identities,
+     * the predicates of the entities joined with {@code OR} otherwise, for example for the embedded identities.
+     * The entities with a version are always deleted one by one to detect the optimistic locking failures.
+     *
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The delete query of one entity
+     * @return The number of the entities or 0 if the multi-row delete cannot be used
+     * @since 4.12
+     */
+    protected int getMultiRowDeleteSize(PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        if (sqlStoredQuery.getOperationType() != OperationType.DELETE
+            || sqlStoredQuery.isRawQuery()
+            || sqlStoredQuery.isOptimisticLock()
+            || persistentEntity.getVersion() != null) {
+            return 0;
+        }
+        int parametersPerRow = sqlStoredQuery.getQueryBindings().size();
+        if (parametersPerRow == 0 || buildMultiRowDelete(sqlStoredQuery, 1) == null) {
+            return 0;
+        }
+        Dialect dialect = sqlStoredQuery.getDialect();
+        int maxRows = parametersPerRow == 1 ? dialect.getMaxInListSize() : dialect.getMaxBindParameters() / parametersPerRow;
+        int size = Math.min(MULTI_ROW_DELETE_MAX_SIZE, maxRows);
+        return size < 2 ? 0 : size;
+    }
+
+    /**
+     * Builds the statement deleting multiple entities from the delete query of one entity,
+     * a simple identity predicate is expanded into an {@code IN} list.
+     * The parameters of the entities are bound in the order of the entities.
+     *
+     * @param sqlStoredQuery The delete query of one entity
+     * @param rows           The number of the entities
+     * @return The query or null if not supported
+     * @since 4.12
+     */
+    @Nullable
+    protected final String buildMultiRowDelete(SqlStoredQuery<?, ?> sqlStoredQuery, int rows) {
+        return sqlStoredQuery.getQueryBuilder().buildMultiRowDelete(sqlStoredQuery.getQuery(), sqlStoredQuery.getQueryBindings().size(), rows);
+    }
+
+    /**
+     * Resolves the number of the identities deleted by one statement of a delete by the identities, for example {@code deleteAllById}.
+     * The simple identities are expanded into {@code DELETE ... WHERE id IN (...)}, only the lists exceeding the size of a chunk are split.
+     * The embedded identities are deleted by the identity predicates joined with {@code OR}.
+     *
+     * @param preparedQuery The prepared delete query
+     * @return The number of the identities or 0 if the query is not a delete by the identities that needs the chunks
+     * @since 4.12
+     */
+    protected int getIdentityDeleteSize(SqlPreparedQuery<?, ?> preparedQuery) {
+        List<QueryParameterBinding> bindings = preparedQuery.getQueryBindings();
+        if (preparedQuery.getOperationType() != OperationType.DELETE || preparedQuery.isRawQuery() || bindings.isEmpty()) {
+            return 0;
+        }
+        int parameterIndex = bindings.get(0).getParameterIndex();
+        for (QueryParameterBinding binding : bindings) {
+            if (binding.getParameterIndex() != parameterIndex || parameterIndex == -1 || binding.getValue() != null
+                || binding.getRole() != null || binding.isExpression() || binding.isAutoPopulated()) {
+                return 0;
+            }
+        }
+        if (!(preparedQuery.getParameterArray()[parameterIndex] instanceof Iterable<?> identities)) {
+            return 0;
+        }
+        Dialect dialect = preparedQuery.getDialect();
+        if (isIdentityInList(preparedQuery)) {
+            int size = Math.min(MULTI_ROW_DELETE_MAX_SIZE, dialect.getMaxInListSize());
+            return CollectionUtils.iterableToList(identities).size() > size ? size : 0;
+        }
+        for (QueryParameterBinding binding : bindings) {
+            if (ArrayUtils.isEmpty(binding.getParameterBindingPath())) {
+                return 0;
+            }
+        }
+        if (buildEmbeddedIdentityDelete(preparedQuery, 1) == null) {
+            return 0;
+        }
+        int size = Math.min(MULTI_ROW_DELETE_MAX_SIZE, dialect.getMaxBindParameters() / bindings.size());
+        return Math.max(size, 1);
+    }
+
+    /**
+     * Builds the statement of a delete by the identities.
+     *
+     * @param preparedQuery The prepared delete query
+     * @param identities    The number of the identities
+     * @return The query
+     * @since 4.12
+     */
+    @NonNull
+    protected final String buildIdentityDelete(SqlPreparedQuery<?, ?> preparedQuery, int identities) {
+        if (isIdentityInList(preparedQuery)) {
+            String[] queryParts = preparedQuery.getExpandableQueryParts();
+            String positionalParameterFormat = preparedQuery.getQueryBuilder().positionalParameterFormat();
+            StringBuilder query = new StringBuilder(queryParts[0]);
+            for (int i = 1; i <= identities; i++) {
+                query.append(String.format(positionalParameterFormat, i));
+                if (i != identities) {
+                    query.append(',');
+                }
+            }
+            return query.append(queryParts[1]).toString();
+        }
+        return Objects.requireNonNull(buildEmbeddedIdentityDelete(preparedQuery, identities));
+    }
+
+    /**
+     * Lists the identities of a delete by the identities.
+     *
+     * @param preparedQuery The prepared delete query
+     * @return The identities
+     * @since 4.12
+     */
+    @NonNull
+    protected final List<Object> getDeletedIdentities(SqlPreparedQuery<?, ?> preparedQuery) {
+        Iterable<?> identities = (Iterable<?>) preparedQuery.getParameterArray()[preparedQuery.getQueryBindings().get(0).getParameterIndex()];
+        List<Object> result = new ArrayList<>();
+        identities.forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Binds the identities of one statement of a delete by the identities.
+     *
+     * @param binder        The binder
+     * @param preparedQuery The prepared delete query
+     * @param identities    The identities of the statement
+     * @since 4.12
+     */
+    protected final void bindIdentities(BindableParametersStoredQuery.Binder binder, SqlPreparedQuery<?, ?> preparedQuery, List<Object> identities) {
+        List<QueryParameterBinding> bindings = preparedQuery.getQueryBindings();
+        Argument<?> argument = preparedQuery.getArguments()[bindings.get(0).getParameterIndex()];
+        for (Object identity : identities) {
+            for (QueryParameterBinding binding : bindings) {
+                Object value = identity;
+                String[] parameterBindingPath = binding.getParameterBindingPath();
+                if (parameterBindingPath != null) {
+                    for (String property : parameterBindingPath) {
+                        if (value == null) {
+                            break;
+                        }
+                        value = BeanWrapper.getWrapper(value).getRequiredProperty(property, Argument.OBJECT_ARGUMENT);
+                    }
+                }
+                binder.bindOne(binding, binder.convert(binding.getParameterConverterClass(), value, argument));
+            }
+        }
+    }
+
+    @Nullable
+    private String buildEmbeddedIdentityDelete(SqlPreparedQuery<?, ?> preparedQuery, int identities) {
+        List<QueryParameterBinding> bindings = preparedQuery.getQueryBindings();
+        String query;
+        if (preparedQuery.isExpandableQuery()) {
+            // The identity collection is bound as an expandable parameter, every embedded value is a single parameter of the statement
+            String[] queryParts = preparedQuery.getExpandableQueryParts();
+            String positionalParameterFormat = preparedQuery.getQueryBuilder().positionalParameterFormat();
+            StringBuilder builder = new StringBuilder(queryParts[0]);
+            for (int i = 1; i <= bindings.size(); i++) {
+                builder.append(String.format(positionalParameterFormat, i)).append(queryParts[i]);
+            }
+            query = builder.toString();
+        } else {
+            query = preparedQuery.getQuery();
+        }
+        return preparedQuery.getQueryBuilder().buildMultiRowDelete(query, bindings.size(), identities);
+    }
+
+    private boolean isIdentityInList(SqlStoredQuery<?, ?> sqlStoredQuery) {
+        List<QueryParameterBinding> bindings = sqlStoredQuery.getQueryBindings();
+        if (!sqlStoredQuery.isExpandableQuery() || bindings.size() != 1 || !bindings.get(0).isExpandable()) {
+            return false;
+        }
+        String queryPart = sqlStoredQuery.getExpandableQueryParts()[0];
+        return queryPart.endsWith(" IN (") && !queryPart.endsWith(" NOT IN (");
+    }
+
+    /**
+     * Finds the identity looked up by a query that can be served by the {@link #entityCache}.
+     * The query needs to find a single entity annotated with {@link EntityCache} only by its identity,
+     * without joins and locks.
+     *
+     * @param preparedQuery The prepared query
+     * @return The identity or null if the query cannot use the cache
+     * @since 4.12
+     */
+    @Nullable
+    protected final Object findCachedEntityId(@NonNull SqlPreparedQuery<?, ?> preparedQuery) {
+        if (entityCache == null
+            || !preparedQuery.getPersistentEntity().hasAnnotation(EntityCache.class)
+            || preparedQuery.isRawQuery()
+            || preparedQuery.isCount()
+            || preparedQuery.isDtoProjection()
+            || preparedQuery.hasPageable()
+            || preparedQuery.hasResultConsumer()
+            || preparedQuery.getOperationType() != OperationType.QUERY
+            || preparedQuery.getResultDataType() != DataType.ENTITY
+            || preparedQuery.getResultType() != preparedQuery.getRootEntity()
+            || !preparedQuery.getJoinPaths().isEmpty()) {
+            return null;
+        }
+        String query = preparedQuery.getQuery();
+        if (query.contains(" FOR UPDATE") || query.contains("UPDLOCK")) {
+            return null;
+        }
+        return findIdentityParameter(preparedQuery);
+    }
+
+    /**
+     * Evicts the entities updated or deleted by a query from the {@link #entityCache}. The query deleting
+     * an entity by its identity only evicts the entity, any other query evicts all the entities of its root entity type.
+     *
+     * @param status        The status of the transaction in progress or null if the connection is committing every statement
+     * @param preparedQuery The prepared query
+     * @since 4.12
+     */
+    protected final void evictCachedEntities(@Nullable TransactionExecution status, @NonNull SqlPreparedQuery<?, ?> preparedQuery) {
+        RuntimePersistentEntity<?> persistentEntity = preparedQuery.getPersistentEntity();
+        if (!isCachedEntityWrite(persistentEntity, preparedQuery)) {
+            return;
+        }
+        Object id = preparedQuery.getOperationType() == OperationType.DELETE && !preparedQuery.isRawQuery()
+            ? findIdentityParameter(preparedQuery) : null;
+        if (id == null) {
+            entityCache.evictAll(status, persistentEntity);
+        } else {
+            entityCache.evict(status, persistentEntity, id);
+        }
+    }
+
+    /**
+     * Evicts an entity updated or deleted by an entity operation from the {@link #entityCache}.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     * @param storedQuery      The stored query of the operation
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @since 4.12
+     */
+    protected final <T> void evictCachedEntity(@Nullable TransactionExecution status,
+                                               @NonNull RuntimePersistentEntity<T> persistentEntity,
+                                               @NonNull StoredQuery<?, ?> storedQuery,
+                                               @NonNull T entity) {
+        if (isCachedEntityWrite(persistentEntity, storedQuery)) {
+            boolean deleted = storedQuery.getOperationType() == OperationType.DELETE
+                || storedQuery.getOperationType() == OperationType.DELETE_RETURNING;
+            entityCache.written(status, persistentEntity, entity, deleted);
+        }
+    }
+
+    /**
+     * Whether the entities written by a query need to be evicted from the {@link #entityCache}.
+     *
+     * @param persistentEntity The persistent entity
+     * @param storedQuery      The stored query
+     * @return true if the query updates or deletes a cached entity
+     * @since 4.12
+     */
+    protected final boolean isCachedEntityWrite(@NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull StoredQuery<?, ?> storedQuery) {
+        if (entityCache == null || !persistentEntity.hasAnnotation(EntityCache.class)) {
+            return false;
+        }
+        return switch (storedQuery.getOperationType()) {
+            case UPDATE, UPDATE_RETURNING, DELETE, DELETE_RETURNING -> true;
+            default -> false;
+        };
+    }
+
+    @Nullable
+    private Object findIdentityParameter(SqlPreparedQuery<?, ?> preparedQuery) {
+        RuntimePersistentProperty<?> identity = preparedQuery.getPersistentEntity().getIdentity();
+        if (identity == null || preparedQuery.getQueryBindings().size() != 1) {
+            return null;
+        }
+        QueryParameterBinding binding = preparedQuery.getQueryBindings().get(0);
+        String[] propertyPath = binding.getPropertyPath();
+        String[] bindingPath = binding.getParameterBindingPath();
+        Object[] parameters = preparedQuery.getParameterArray();
+        if (binding.isExpression()
+            || binding.isExpandable()
+            || binding.getParameterIndex() < 0
+            || binding.getParameterIndex() >= parameters.length
+            || bindingPath != null && bindingPath.length > 0
+            || propertyPath == null
+            || propertyPath.length != 1
+            || !propertyPath[0].equals(identity.getName())) {
+            return null;
+        }
+        return parameters[binding.getParameterIndex()];
+    }
+
+    /**
+     * @return The start of an observed phase, zero when there is no {@link RepositoryOperationsObserver}
+     * @since 4.12
+     */
+    protected final long observationStart() {
+        return operationsObserver == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Notifies the {@link RepositoryOperationsObserver} that the statement of a query was executed.
+     *
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param startNanos     The value returned by {@link #observationStart()} before the execution
+     * @return The start of the mapping phase
+     * @since 4.12
+     */
+    protected final long observeQueryExecuted(Class<?> repositoryType, String methodName, long startNanos) {
+        if (operationsObserver == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        operationsObserver.queryExecuted(dataSourceName, repositoryType, methodName, now - startNanos);
+        return now;
+    }
+
+    /**
+     * Notifies the {@link RepositoryOperationsObserver} that the result of a query was mapped.
+     *
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param rowsRead       The number of mapped results
+     * @param startNanos     The value returned by {@link #observeQueryExecuted(Class, String, long)}
+     * @since 4.12
+     */
+    protected final void observeResultMapped(Class<?> repositoryType, String methodName, long rowsRead, long startNanos) {
+        if (operationsObserver != null) {
+            operationsObserver.resultMapped(dataSourceName, repositoryType, methodName, rowsRead, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Notifies the {@link RepositoryOperationsObserver} that the results of a streamed query were mapped.
+     * The mapping time is accumulated over the rows read by the consumer of the stream.
+     *
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param rowsRead       The number of mapped results
+     * @param mapNanos       The accumulated mapping time in nanoseconds
+     * @since 4.12
+     */
+    protected final void observeStreamMapped(Class<?> repositoryType, String methodName, long rowsRead, long mapNanos) {
+        if (operationsObserver != null) {
+            operationsObserver.resultMapped(dataSourceName, repositoryType, methodName, rowsRead, mapNanos);
+        }
+    }
+
+    /**
+     * Notifies the {@link RepositoryOperationsObserver} about the rows affected by a statement.
+     *
+     * @param repositoryType The repository type
+     * @param methodName     The repository method name
+     * @param rowsWritten    The number of affected rows
+     * @param batchSize      The number of statements in the batch, zero if the statement was not batched
+     * @since 4.12
+     */
+    protected final void observeRowsWritten(Class<?> repositoryType, String methodName, long rowsWritten, int batchSize) {
+        if (operationsObserver != null) {
+            if (batchSize > 0) {
+                operationsObserver.batchExecuted(dataSourceName, repositoryType, methodName, batchSize);
+            }
+            operationsObserver.rowsWritten(dataSourceName, repositoryType, methodName, rowsWritten);
+        }
+    }
+
     @Override
     public <E, R> PreparedQuery<E, R> decorate(PreparedQuery<E, R> preparedQuery) {
         return new DefaultSqlPreparedQuery<>(preparedQuery);
@@ -205,6 +679,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
                                          boolean isUpdate,
                                          boolean isSingleResult) throws Exc {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(preparedQuery);
+        sqlPreparedQuery.setExpandableParameterPadding(getExpandableParameterPadding());
         sqlPreparedQuery.prepare(null);
         if (!isUpdate) {
             sqlPreparedQuery.attachPageable(preparedQuery.getPageable(), isSingleResult);
@@ -377,6 +852,66 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * Resolves the update of the changed columns of an entity with {@link io.micronaut.data.annotation.MappedEntity#dynamicUpdate()} enabled.
+     *
+     * @param annotationMetadata The repository annotation metadata
+     * @param repositoryType     The repository type
+     * @param storedQuery        The entity update
+     * @param entity             The entity
+     * @param snapshot           The snapshot the entity is compared with, null if not known
+     * @param <E>                The entity type
+     * @return The update of the changed columns, the given update if the changes are not known or null if the entity is unchanged
+     * @since 4.12
+     */
+    @Nullable
+    protected <E> SqlStoredQuery<E, ?> resolveDynamicUpdate(AnnotationMetadata annotationMetadata,
+                                                           Class<?> repositoryType,
+                                                           @NonNull SqlStoredQuery<E, ?> storedQuery,
+                                                           @NonNull E entity,
+                                                           @Nullable Object[] snapshot) {
+        RuntimePersistentEntity<E> persistentEntity = storedQuery.getPersistentEntity();
+        if (!isDynamicUpdateSupported()
+            || storedQuery.isRawQuery()
+            || storedQuery.getOperationType() != OperationType.UPDATE
+            || persistentEntity.getAnnotationMetadata().hasAnnotation(EntityRepresentation.class)
+            || !EntitySnapshots.isDynamicUpdate(persistentEntity)) {
+            return storedQuery;
+        }
+        Set<RuntimePersistentProperty<E>> changedProperties = entitySnapshots.changedProperties(persistentEntity, entity, snapshot);
+        if (changedProperties == null) {
+            return storedQuery;
+        }
+        if (changedProperties.isEmpty()) {
+            // The cascaded updates still need to run
+            return persistentEntity.cascadesUpdate() ? storedQuery : null;
+        }
+        List<RuntimePersistentProperty<E>> properties = new ArrayList<>(changedProperties);
+        for (RuntimePersistentProperty<E> property : persistentEntity.getPersistentProperties()) {
+            if (property.getAnnotationMetadata().booleanValue(AutoPopulated.class, AutoPopulated.UPDATEABLE).orElse(false)) {
+                properties.add(property);
+            }
+        }
+        Class<E> rootEntity = persistentEntity.getIntrospection().getBeanType();
+        DynamicUpdateKey key = new DynamicUpdateKey(repositoryType, rootEntity, properties.stream().map(PersistentProperty::getName).toList());
+        //noinspection unchecked
+        return entityDynamicUpdates.computeIfAbsent(key, dynamicUpdateKey -> {
+            final SqlQueryBuilder2 queryBuilder = findQueryBuilder(repositoryType);
+            final QueryResult queryResult = queryBuilder.buildPartialUpdate(annotationMetadata, persistentEntity, properties);
+            final boolean optimisticLock = persistentEntity.getVersion() != null;
+            return new DefaultSqlStoredQuery<>(
+                QueryResultStoredQuery.single(OperationType.UPDATE, "Dynamic update", AnnotationMetadata.EMPTY_METADATA, queryResult, rootEntity),
+                persistentEntity,
+                queryBuilder) {
+
+                @Override
+                public boolean isOptimisticLock() {
+                    return optimisticLock;
+                }
+            };
+        });
+    }
+
     /**
      * Resolve SQL insert association operation.
      *
@@ -502,7 +1037,9 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final <E, R> SqlStoredQuery<E, R> getSqlStoredQuery(StoredQuery<E, R> storedQuery) {
         if (storedQuery instanceof SqlStoredQuery<E, R> sqlStoredQuery) {
             if (sqlStoredQuery.isExpandableQuery() && !(sqlStoredQuery instanceof SqlPreparedQuery)) {
-                return new DefaultSqlPreparedQuery<>(sqlStoredQuery);
+                DefaultSqlPreparedQuery<E, R> sqlPreparedQuery = new DefaultSqlPreparedQuery<>(sqlStoredQuery);
+                sqlPreparedQuery.setExpandableParameterPadding(getExpandableParameterPadding());
+                return sqlPreparedQuery;
             }
             return sqlStoredQuery;
         }
@@ -521,9 +1058,39 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         if (sqlStoredQuery.getOperationType() == OperationType.INSERT_RETURNING) {
             return false;
         }
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity != null && !sqlStoredQuery.isRawQuery() && sqlStoredQuery.getQueryBuilder().isPooledSequence(identity)) {
+            // The identifiers are assigned before the insert
+            return sqlStoredQuery.getDialect() != Dialect.SQL_SERVER;
+        }
         return isSupportsBatchInsert(persistentEntity, sqlStoredQuery.getDialect());
     }
 
+    /**
+     * Finds the allocator of the identifiers of an entity with a pooled sequence identity.
+     *
+     * @param persistentEntity The persistent entity
+     * @param sqlStoredQuery   The insert query
+     * @return The allocator or null if the identity isn't a pooled sequence
+     * @see io.micronaut.data.annotation.GeneratedValue#allocationSize()
+     * @since 4.12
+     */
+    @Nullable
+    protected final PooledSequenceAllocator findPooledSequenceAllocator(PersistentEntity persistentEntity, SqlStoredQuery<?, ?> sqlStoredQuery) {
+        PersistentProperty identity = persistentEntity.getIdentity();
+        if (identity == null || sqlStoredQuery.isRawQuery()) {
+            return null;
+        }
+        SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
+        if (!queryBuilder.isPooledSequence(identity)) {
+            return null;
+        }
+        return sequenceAllocators.computeIfAbsent(
+            queryBuilder.buildNextSequenceValue(persistentEntity),
+            query -> new PooledSequenceAllocator(query, queryBuilder.getSequenceAllocationSize(identity))
+        );
+    }
+
     /**
      * Does supports batch for update queries.
      *
@@ -695,12 +1262,16 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         RuntimePersistentEntity<E> persistentEntity = preparedQuery.getPersistentEntity();
         boolean isEntityResult = preparedQuery.getResultDataType() == DataType.ENTITY;
         if (isEntityResult) {
+            boolean captureSnapshots = isDynamicUpdateSupported();
             loadListener = (loadedEntity, o) -> {
+                Object loaded = o;
                 if (loadedEntity.hasPostLoadEventListeners()) {
-                    return triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
-                } else {
-                    return o;
+                    loaded = triggerPostLoad(o, loadedEntity, preparedQuery.getAnnotationMetadata());
+                }
+                if (captureSnapshots) {
+                    entitySnapshots.capture(loadedEntity, loaded);
                 }
+                return loaded;
             };
         } else {
             loadListener = null;
@@ -714,6 +1285,17 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         if (isEntityResult) {
             ResultReader<RS, String> resultReader =
                 preparedQuery.isDtoProjection() ? createColumnNameResultSetReaderWithColumnExistenceAware() : columnNameResultSetReader;
+            if (isColumnIndexMapping() && columnIndexResultSetReader instanceof SqlColumnIndexResolver<?> columnIndexResolver) {
+                return new SqlResultEntityTypeMapper<>(
+                    getEntity(preparedQuery.getResultType()),
+                    resultReader,
+                    preparedQuery.getJoinPaths(),
+                    sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
+                    loadListener,
+                    conversionService,
+                    columnIndexResultSetReader,
+                    (SqlColumnIndexResolver<RS>) columnIndexResolver);
+            }
             return new SqlResultEntityTypeMapper<>(
                 getEntity(preparedQuery.getResultType()),
                 resultReader,
@@ -774,6 +1356,16 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         };
     }
 
+    /**
+     * Used to cache the updates of the changed properties.
+     *
+     * @param repositoryType The repository type
+     * @param entityType     The entity type
+     * @param properties     The updated properties
+     */
+    private record DynamicUpdateKey(Class<?> repositoryType, Class<?> entityType, List<String> properties) {
+    }
+
     /**
      * Used to cache queries for entities.
      */
@@ -16,6 +16,7 @@
 package io.micronaut.data.runtime.operations.internal.sql;
 
 import io.micronaut.aop.InvocationContext;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
@@ -24,6 +25,7 @@ import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Embedded;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
@@ -40,6 +42,7 @@ import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DummyPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
@@ -47,11 +50,13 @@ import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Implementation of {@link SqlPreparedQuery}.
@@ -64,11 +69,15 @@ import java.util.Optional;
 @Internal
 public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, DelegatePreparedQuery<E, R> {
 
+    private static final int ORACLE_MAX_IN_LIST_SIZE = 1000;
+
     protected List<QueryParameterBinding> cursorQueryBindings;
     protected List<RuntimePersistentProperty<Object>> cursorProperties;
     protected final SqlStoredQuery<E, R> sqlStoredQuery;
     protected String query;
     private final boolean bindPageableOrSort;
+    private boolean identityOrder;
+    private ExpandableParameterPadding expandableParameterPadding = ExpandableParameterPadding.NONE;
 
     public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
         this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate());
@@ -141,7 +150,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
                     q.append(String.format(positionalParameterFormat, inx++));
                 } else if (parameter.getRole() == null) {
                     Object parameterValue = getParameterValue(parameter);
-                    int size = Math.max(1, sizeOf(parameterValue));
+                    int size = paddedSize(Math.max(1, sizeOf(parameterValue)));
                     for (int k = 0; k < size; k++) {
                         q.append(String.format(positionalParameterFormat, inx++));
                         if (k + 1 != size) {
@@ -172,6 +181,32 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
     }
 
+    @Override
+    public void setExpandableParameterPadding(ExpandableParameterPadding padding) {
+        this.expandableParameterPadding = padding;
+    }
+
+    /**
+     * Compute the number of the placeholders of an expanded parameter.
+     *
+     * @param size The number of the values
+     * @return The padded size
+     */
+    private int paddedSize(int size) {
+        if (expandableParameterPadding != ExpandableParameterPadding.POWER_OF_TWO || size <= 1) {
+            return size;
+        }
+        int padded = Integer.highestOneBit(size - 1) << 1;
+        if (padded < 0) {
+            return size;
+        }
+        if (getDialect() == Dialect.ORACLE && padded > ORACLE_MAX_IN_LIST_SIZE) {
+            // Oracle doesn't allow more than 1000 expressions in the list
+            return Math.max(size, ORACLE_MAX_IN_LIST_SIZE);
+        }
+        return padded;
+    }
+
     private Pageable getPageableParameter(QueryParameterBinding parameter) {
         Object value = getParameterValue(parameter);
         if (value instanceof Pageable) {
@@ -238,14 +273,40 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return cursored.withSort(enhanceCursoredSort(cursored.getSort(), cursored.isBackward(), persistentEntity));
     }
 
+    @Override
+    public boolean attachIdentityOrder() {
+        Pageable pageable = getPageable();
+        RuntimePersistentProperty<E> identity = getPersistentEntity().getIdentity();
+        identityOrder = !bindPageableOrSort
+            && pageable.isUnpaged()
+            && !pageable.isSorted()
+            && !isRawQuery()
+            && sqlStoredQuery.getLimit() == -1
+            && sqlStoredQuery.getOffset() <= 0
+            && identity != null
+            && !(identity instanceof Embedded)
+            && !query.contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE);
+        return identityOrder;
+    }
+
     @Override
     public void attachPageable(Pageable pageable, boolean isSingleResult) {
+        if (identityOrder) {
+            StringBuilder builder = new StringBuilder();
+            RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+            builder.append(sqlStoredQuery.getQueryBuilder().buildOrderBy("", persistentEntity, sqlStoredQuery.getAnnotationMetadata(), sortById(persistentEntity), isNative(), null));
+            appendQueryPart(builder);
+            return;
+        }
         if (pageable.isUnpaged() && !pageable.isSorted() || bindPageableOrSort) {
             return;
         }
         StringBuilder builder = new StringBuilder();
         appendPaginationOrOrderQueryPart(builder, pageable, isSingleResult, null, storedQuery.getQueryBindings().size() + 1);
+        appendQueryPart(builder);
+    }
 
+    private void appendQueryPart(StringBuilder builder) {
         int forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.STANDARD_FOR_UPDATE_CLAUSE);
         if (forUpdateIndex == -1) {
             forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.SQL_SERVER_FOR_UPDATE_CLAUSE);
@@ -318,45 +379,165 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
 
         List<QueryParameterBinding> cursorBindings = new ArrayList<>(orders.size());
-        cursorQueryBindings = new ArrayList<>(orders.size() * (orders.size() + 1) / 2);
+        BitSet nullCursorValues = new BitSet(orders.size());
         for (int i = 0; i < orders.size(); ++i) {
             cursorBindings.add(new CursoredQueryParameterBinder(
                 "cursor_" + i, cursorProperties.get(i).getDataType(), cursor.get(i)
             ));
+            if (cursor.get(i) == null) {
+                nullCursorValues.set(i);
+            }
+        }
+        BitSet nullableProperties = new BitSet(orders.size());
+        for (int i = 0; i < cursorProperties.size(); ++i) {
+            RuntimePersistentProperty<Object> property = cursorProperties.get(i);
+            if (property.isOptional() && property != persistentEntity.getIdentity()) {
+                nullableProperties.set(i);
+            }
+        }
+        CursorPagination cursorPagination = sqlStoredQuery.resolveQueryPart(
+            new CursorPaginationKey(query, List.copyOf(orders), nullableProperties, nullCursorValues, paramIndex, tableAlias),
+            this::renderCursorPagination
+        );
+        cursorQueryBindings = new ArrayList<>(cursorPagination.boundCursorIndexes().size());
+        for (int index : cursorPagination.boundCursorIndexes()) {
+            cursorQueryBindings.add(cursorBindings.get(index));
+        }
+        query = cursorPagination.query();
+        return cursorPagination.predicate();
+    }
+
+    /**
+     * The row value comparison {@code (a, b, id) > (?, ?, ?)} is used if all the properties are sorted in the same direction
+     * and none of them can be null.
+     *
+     * @param key The cursored pagination key
+     * @return true if the predicate can compare the row values
+     */
+    private boolean isRowValueComparison(CursorPaginationKey key) {
+        List<Order> orders = key.orders();
+        if (orders.size() < 2 || !getDialect().supportsRowValueComparison()
+            || !key.nullableProperties().isEmpty() || !key.nullCursorValues().isEmpty()) {
+            return false;
+        }
+        boolean ascending = orders.get(0).isAscending();
+        for (Order order : orders) {
+            if (order.isAscending() != ascending) {
+                return false;
+            }
         }
+        return true;
+    }
 
+    private CursorPagination renderCursorPagination(CursorPaginationKey key) {
+        RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
+        SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
+        String positionalParameter = queryBuilder.positionalParameterFormat();
+        List<Order> orders = key.orders();
+        String baseQuery = key.query();
+        int paramIndex = key.paramIndex();
+        List<Integer> boundCursorIndexes = new ArrayList<>();
         StringBuilder builder = new StringBuilder(" ");
-        if (query.contains("WHERE")) {
-            int i = query.indexOf("WHERE") + "WHERE".length();
-            query = query.substring(0, i) + "(" + query.substring(i) + ")";
+        int whereIndex = findWhereClause(baseQuery);
+        if (whereIndex != -1) {
+            int i = whereIndex + "WHERE".length();
+            baseQuery = baseQuery.substring(0, i) + "(" + baseQuery.substring(i) + ")";
             builder.append(" AND (");
         } else {
             builder.append("WHERE (");
         }
-        String positionalParameter = getQueryBuilder().positionalParameterFormat();
-        for (int i = 0; i < orders.size(); ++i) {
-            builder.append("(");
-            for (int j = 0; j <= i; ++j) {
-                String propertyName = orders.get(j).getProperty();
-                builder.append(sqlStoredQuery.getQueryBuilder().buildPropertyByName(propertyName, query, persistentEntity, getAnnotationMetadata(), isNative(), tableAlias));
-                if (orders.get(i).isAscending()) {
-                    builder.append(i == j ? " > " : " = ");
-                } else {
-                    builder.append(i == j ? " < " : " = ");
+        List<String> columns = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            columns.add(queryBuilder.buildPropertyByName(order.getProperty(), baseQuery, persistentEntity, getAnnotationMetadata(), isNative(), key.tableAlias()));
+        }
+        if (isRowValueComparison(key)) {
+            builder.append("(").append(String.join(",", columns));
+            builder.append(orders.get(0).isAscending() ? ") > (" : ") < (");
+            for (int i = 0; i < orders.size(); ++i) {
+                if (i > 0) {
+                    builder.append(",");
                 }
-                cursorQueryBindings.add(cursorBindings.get(j));
                 builder.append(String.format(positionalParameter, paramIndex++));
-                if (i != j) {
+                boundCursorIndexes.add(i);
+            }
+            builder.append(")");
+        } else {
+            // The NULL values are sorted as the lowest or the highest values depending on the dialect
+            boolean nullsLow = getDialect().sortsNullsLow();
+            boolean hasCondition = false;
+            for (int i = 0; i < orders.size(); ++i) {
+                boolean nullsFirst = orders.get(i).isAscending() == nullsLow;
+                if (key.nullCursorValues().get(i) && !nullsFirst) {
+                    // No value is sorted after NULL
+                    continue;
+                }
+                if (hasCondition) {
+                    builder.append(" OR ");
+                }
+                hasCondition = true;
+                builder.append("(");
+                for (int j = 0; j < i; ++j) {
+                    builder.append(columns.get(j));
+                    if (key.nullCursorValues().get(j)) {
+                        builder.append(" IS NULL");
+                    } else {
+                        builder.append(" = ").append(String.format(positionalParameter, paramIndex++));
+                        boundCursorIndexes.add(j);
+                    }
                     builder.append(" AND ");
                 }
+                if (key.nullCursorValues().get(i)) {
+                    builder.append(columns.get(i)).append(" IS NOT NULL");
+                } else {
+                    boolean orNull = key.nullableProperties().get(i) && !nullsFirst;
+                    if (orNull) {
+                        builder.append("(");
+                    }
+                    builder.append(columns.get(i)).append(orders.get(i).isAscending() ? " > " : " < ")
+                        .append(String.format(positionalParameter, paramIndex++));
+                    boundCursorIndexes.add(i);
+                    if (orNull) {
+                        builder.append(" OR ").append(columns.get(i)).append(" IS NULL)");
+                    }
+                }
+                builder.append(")");
             }
-            builder.append(")");
-            if (i < orders.size() - 1) {
-                builder.append(" OR ");
+            if (!hasCondition) {
+                builder.append("1 = 0");
             }
         }
         builder.append(")");
-        return builder.toString();
+        return new CursorPagination(baseQuery, builder.toString(), List.copyOf(boundCursorIndexes));
+    }
+
+    /**
+     * Finds the {@code WHERE} keyword of the query itself, skipping the subqueries and the quoted literals and identifiers.
+     *
+     * @param query The query
+     * @return The index of the keyword or -1 if the query doesn't have a {@code WHERE} clause
+     */
+    private static int findWhereClause(String query) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (c == 'W' || c == 'w') && query.regionMatches(true, i, "WHERE", 0, "WHERE".length())
+                && (i == 0 || !Character.isJavaIdentifierPart(query.charAt(i - 1)))
+                && (i + "WHERE".length() == query.length() || !Character.isJavaIdentifierPart(query.charAt(i + "WHERE".length())))) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     private List<RuntimePersistentProperty<Object>> getCursorProperties(CursoredPageable cursoredPageable, RuntimePersistentEntity<Object> persistentEntity) {
@@ -433,7 +614,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
 
     @Override
     public void bindParameters(Binder binder, E entity, Map<QueryParameterBinding, Object> previousValues) {
-        super.bindParameters(binder, entity, previousValues);
+        super.bindParameters(paddingBinder(binder), entity, previousValues);
         if (cursorQueryBindings != null) {
             for (QueryParameterBinding queryParameterBinding : cursorQueryBindings) {
                 binder.bindOne(queryParameterBinding, queryParameterBinding.getValue());
@@ -441,6 +622,30 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
     }
 
+    @Override
+    public void bindParameters(Binder binder, InvocationContext<?, ?> invocationContext, E entity, Map<QueryParameterBinding, Object> previousValues) {
+        // The entity operations bind the values of the query prepared for the entity
+        super.bindParameters(paddingBinder(binder), invocationContext, entity, previousValues);
+    }
+
+    /**
+     * Pads the expanded parameters to the number of the placeholders rendered by {@link #prepare(Object)}.
+     *
+     * @param binder The binder
+     * @return The padding binder or the given binder if the parameters aren't padded
+     */
+    private Binder paddingBinder(Binder binder) {
+        if (expandableParameterPadding == ExpandableParameterPadding.NONE || !isExpandableQuery() || binder instanceof DefaultSqlPreparedQuery<?, ?>.PaddingBinder) {
+            return binder;
+        }
+        return new PaddingBinder(binder);
+    }
+
+    @Override
+    public <K, V> V resolveQueryPart(K key, Function<K, V> renderer) {
+        return sqlStoredQuery.resolveQueryPart(key, renderer);
+    }
+
     @Override
     public QueryResultInfo getQueryResultInfo() {
         return sqlStoredQuery.getQueryResultInfo();
@@ -504,6 +709,59 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return 1;
     }
 
+    /**
+     * Repeats the last value of the expanded parameters up to the padded size.
+     */
+    private final class PaddingBinder implements Binder {
+
+        private final Binder delegate;
+
+        private PaddingBinder(Binder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+            return delegate.autoPopulateRuntimeProperty(persistentProperty, previousValue);
+        }
+
+        @Override
+        public Object convert(Object value, RuntimePersistentProperty<?> property) {
+            return delegate.convert(value, property);
+        }
+
+        @Override
+        public Object convert(Class<?> converterClass, Object value, Argument<?> argument) {
+            return delegate.convert(converterClass, value, argument);
+        }
+
+        @Override
+        public void bindOne(QueryParameterBinding binding, Object value) {
+            delegate.bindOne(binding, value);
+        }
+
+        @Override
+        public void bindMany(QueryParameterBinding binding, Collection<Object> values) {
+            int size = values.size();
+            int padded = paddedSize(size);
+            if (padded > size) {
+                List<Object> paddedValues = new ArrayList<>(padded);
+                paddedValues.addAll(values);
+                Object last = paddedValues.get(size - 1);
+                for (int i = size; i < padded; i++) {
+                    paddedValues.add(last);
+                }
+                values = paddedValues;
+            }
+            delegate.bindMany(binding, values);
+        }
+
+        @Override
+        public int currentIndex() {
+            return delegate.currentIndex();
+        }
+    }
+
     private record CursoredQueryParameterBinder(
         String name,
         DataType dataType,
@@ -524,4 +782,38 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
             return value;
         }
     }
+
+    /**
+     * The key of the rendered cursored pagination.
+     *
+     * @param query              The query before the pagination is applied
+     * @param orders             The orders of the cursored pageable
+     * @param nullableProperties The indexes of the sorted properties that can be null
+     * @param nullCursorValues   The indexes of the null values of the cursor
+     * @param paramIndex         The index of the first cursor parameter
+     * @param tableAlias         The table alias
+     */
+    private record CursorPaginationKey(
+        String query,
+        List<Order> orders,
+        BitSet nullableProperties,
+        BitSet nullCursorValues,
+        int paramIndex,
+        @Nullable String tableAlias
+    ) {
+    }
+
+    /**
+     * The rendered cursored pagination.
+     *
+     * @param query              The query with the existing predicate enclosed in the parentheses
+     * @param predicate          The predicate of the cursor
+     * @param boundCursorIndexes The indexes of the cursor values in the order of the parameters of the predicate
+     */
+    private record CursorPagination(
+        String query,
+        String predicate,
+        List<Integer> boundCursorIndexes
+    ) {
+    }
 }
@@ -34,6 +34,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -47,9 +49,12 @@ import java.util.stream.Collectors;
 @Internal
 public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStoredQuery<E, R> implements SqlStoredQuery<E, R> {
 
+    private static final int MAX_QUERY_PARTS = 64;
+
     private final boolean expandableQuery;
     private final SqlQueryBuilder2 queryBuilder;
     private final QueryResultInfo queryResultInfo;
+    private final Map<Object, Object> queryParts = new ConcurrentHashMap<>();
 
     /**
      * @param storedQuery             The stored query
@@ -79,6 +84,20 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K, V> V resolveQueryPart(K key, Function<K, V> renderer) {
+        Object queryPart = queryParts.get(key);
+        if (queryPart == null) {
+            queryPart = renderer.apply(key);
+            // The expanded queries produce a different key for every size of the parameters
+            if (queryParts.size() < MAX_QUERY_PARTS) {
+                queryParts.put(key, queryPart);
+            }
+        }
+        return (V) queryPart;
+    }
+
     @Override
     public QueryResultInfo getQueryResultInfo() {
         return queryResultInfo;
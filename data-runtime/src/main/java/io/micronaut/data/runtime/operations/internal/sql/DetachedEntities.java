@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.runtime.mapper.sql.EntitySnapshots;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copies the entity instances shared by the {@link TransactionalEntityCache}, so the changes made by the callers to
+ * the found or saved instances are never visible to the other callers. The introspected values, for example the embedded
+ * values and the associated entities, are copied recursively, the arrays, dates, lists, sets and maps are copied
+ * without their elements.
+ *
+ * @since 4.12
+ */
+@Internal
+final class DetachedEntities {
+
+    private DetachedEntities() {
+    }
+
+    /**
+     * Copies the entity instance.
+     *
+     * @param entity The entity
+     * @param <E>    The entity type
+     * @return The copy
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    static <E> E copy(@NonNull E entity) {
+        return (E) copy(entity, new IdentityHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copy(@Nullable Object value, Map<Object, Object> copies) {
+        if (value == null) {
+            return null;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        BeanIntrospection<Object> introspection = BeanIntrospector.SHARED.findIntrospection((Class<Object>) value.getClass()).orElse(null);
+        if (introspection == null) {
+            return EntitySnapshots.copyValue(value);
+        }
+        // A cycle through the constructor arguments keeps the original instance
+        copies.put(value, value);
+        Argument<?>[] constructorArguments = introspection.getConstructorArguments();
+        Set<String> constructorProperties = new HashSet<>(constructorArguments.length);
+        Object[] args = new Object[constructorArguments.length];
+        for (int i = 0; i < constructorArguments.length; i++) {
+            String name = constructorArguments[i].getName();
+            constructorProperties.add(name);
+            BeanProperty<Object, Object> property = introspection.getProperty(name).orElse(null);
+            args[i] = property == null ? null : copy(property.get(value), copies);
+        }
+        copy = introspection.instantiate(false, args);
+        copies.put(value, copy);
+        for (BeanProperty<Object, Object> property : introspection.getBeanProperties()) {
+            if (!property.isReadOnly() && !constructorProperties.contains(property.getName())) {
+                property.set(copy, copy(property.get(value), copies));
+            }
+        }
+        return copy;
+    }
+}
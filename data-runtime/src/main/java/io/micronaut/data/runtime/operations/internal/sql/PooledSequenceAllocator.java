@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Allocates the identifiers of a pooled sequence, see {@link io.micronaut.data.annotation.GeneratedValue#allocationSize()}.
+ * One call of the sequence returning {@code n} reserves the identifiers {@code n} to {@code n + allocationSize - 1}.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class PooledSequenceAllocator {
+
+    private final String query;
+    private final int allocationSize;
+    private long next;
+    private long limit;
+
+    /**
+     * @param query          The query selecting the next value of the sequence
+     * @param allocationSize The allocation size
+     */
+    PooledSequenceAllocator(String query, int allocationSize) {
+        this.query = query;
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * @return The query selecting the next value of the sequence
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Allocates the next identifier, calling the sequence when the current block is exhausted.
+     * The sequence is called without holding the lock, the concurrent callers finding the block exhausted
+     * fetch a block each and the remaining identifiers of the replaced block are skipped.
+     *
+     * @param nextSequenceValue Executes the {@link #getQuery()}
+     * @return The identifier
+     */
+    public long allocate(LongSupplier nextSequenceValue) {
+        Long id = tryAllocate();
+        if (id != null) {
+            return id;
+        }
+        return allocateBlock(nextSequenceValue.getAsLong());
+    }
+
+    /**
+     * Allocates the next identifier of the current block.
+     *
+     * @return The identifier or null if the block is exhausted
+     */
+    @Nullable
+    public synchronized Long tryAllocate() {
+        if (next < limit) {
+            return next++;
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the current block by the block of the sequence value and allocates its first identifier.
+     *
+     * @param sequenceValue The value returned by the {@link #getQuery()}
+     * @return The identifier
+     */
+    public synchronized long allocateBlock(long sequenceValue) {
+        next = sequenceValue;
+        limit = sequenceValue + allocationSize;
+        return next++;
+    }
+}
@@ -20,6 +20,7 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.QueryResultInfo;
+import io.micronaut.data.runtime.config.ExpandableParameterPadding;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersPreparedQuery;
 
 /**
@@ -49,6 +50,27 @@ public interface SqlPreparedQuery<E, R> extends BindableParametersPreparedQuery<
      */
     void attachPageable(Pageable pageable, boolean isSingleResult);
 
+    /**
+     * Order the result by the root entity identity if the query doesn't define any order or pagination.
+     * Allows aggregating the rows of the joined collections incrementally. Needs to be called before the statement is prepared.
+     *
+     * @return true if the result will be ordered by the root entity identity
+     * @since 4.12
+     */
+    default boolean attachIdentityOrder() {
+        return false;
+    }
+
+    /**
+     * Pad the expanded collection parameters. Needs to be called before the query is prepared.
+     *
+     * @param padding The padding
+     * @since 4.12
+     */
+    default void setExpandableParameterPadding(ExpandableParameterPadding padding) {
+        // Not supported by default
+    }
+
     /**
      * @return the query result info
      * @since 4.0.0
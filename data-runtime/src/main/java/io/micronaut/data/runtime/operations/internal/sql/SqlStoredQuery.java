@@ -24,6 +24,7 @@ import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * SQL version of {@link BindableParametersStoredQuery} carrying extra SQL related data.
@@ -67,4 +68,19 @@ public interface SqlStoredQuery<E, R> extends BindableParametersStoredQuery<E, R
      */
     @Nullable
     QueryResultInfo getQueryResultInfo();
+
+    /**
+     * Resolves a query part rendered at runtime, like the predicate of the cursored pagination.
+     * The implementation can cache the part for the following executions of the query.
+     *
+     * @param key      The key identifying the query part
+     * @param renderer The renderer of the query part
+     * @param <K>      The key type
+     * @param <V>      The query part type
+     * @return The query part
+     * @since 4.12
+     */
+    default <K, V> V resolveQueryPart(K key, Function<K, V> renderer) {
+        return renderer.apply(key);
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.connection.ConnectionSynchronization;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.runtime.operations.EntityIdentityCache;
+import io.micronaut.transaction.TransactionExecution;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.reactive.ReactiveTransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronization;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares the entities with the {@link EntityIdentityCache} of a data source once they are committed.
+ * The entities read in a transaction are cached after the commit, the entities written in a transaction
+ * are not read from the cache by the transaction and are evicted after its completion. The written entities with
+ * a version are cached after the commit to prevent the older versions read concurrently from being cached.
+ * The reactive transactions don't report their outcome, their written entities are evicted once the execution
+ * of the transaction connection completes.
+ *
+ * <p>The entities read from the database are only cached if no entity of the same type was written since the read
+ * started, see {@link #generation(RuntimePersistentEntity)}. The entities are copied when they are cached and when they
+ * are found, see {@link DetachedEntities}, the changes made to a found or saved instance are never visible to the other callers.</p>
+ *
+ * @since 4.12
+ */
+@Internal
+public final class TransactionalEntityCache {
+
+    private final EntityIdentityCache cache;
+    private final String dataSourceName;
+    private final Map<Object, TransactionEntities> transactions = new ConcurrentHashMap<>();
+    private final Map<RuntimePersistentEntity<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    TransactionalEntityCache(EntityIdentityCache cache, String dataSourceName) {
+        this.cache = cache;
+        this.dataSourceName = dataSourceName;
+    }
+
+    /**
+     * Returns the generation of the cached entities of an entity type, which changes whenever a written entity
+     * of the type is evicted or cached. The generation must be captured before the entity is read from the database.
+     *
+     * @param persistentEntity The persistent entity
+     * @return The generation
+     */
+    public long generation(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return generationOf(persistentEntity).get();
+    }
+
+    /**
+     * Finds a cached entity.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param <E>              The entity type
+     * @return The cached entity or null
+     */
+    @Nullable
+    public <E> E get(@Nullable TransactionExecution status, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull Object id) {
+        TransactionEntities transaction = status == null ? null : transactions.get(getConnection(status));
+        if (transaction != null) {
+            EntityKey key = new EntityKey(persistentEntity, id);
+            if (transaction.isWritten(key)) {
+                return null;
+            }
+            ReadEntity read = transaction.reads.get(key);
+            if (read != null) {
+                return (E) DetachedEntities.copy(read.entity());
+            }
+        }
+        E cached = cache.get(dataSourceName, persistentEntity, id);
+        return cached == null ? null : DetachedEntities.copy(cached);
+    }
+
+    /**
+     * Caches an entity read from the database.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param entity           The entity
+     * @param generation       The {@link #generation(RuntimePersistentEntity)} captured before the entity was read
+     * @param <E>              The entity type
+     */
+    public <E> void put(@Nullable TransactionExecution status,
+                        @NonNull RuntimePersistentEntity<E> persistentEntity,
+                        @NonNull Object id,
+                        @NonNull E entity,
+                        long generation) {
+        if (status == null) {
+            putRead(persistentEntity, id, DetachedEntities.copy(entity), generation);
+            return;
+        }
+        TransactionEntities transaction = findTransaction(status);
+        EntityKey key = new EntityKey(persistentEntity, id);
+        if (!transaction.isWritten(key)) {
+            transaction.reads.put(key, new ReadEntity(DetachedEntities.copy(entity), generation));
+        }
+    }
+
+    /**
+     * Evicts an updated or deleted entity.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param deleted          Whether the entity was deleted
+     * @param <E>              The entity type
+     */
+    public <E> void written(@Nullable TransactionExecution status, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity, boolean deleted) {
+        Object id = persistentEntity.getIdentity().getProperty().get(entity);
+        if (id != null) {
+            recordWrite(status, persistentEntity, id, !deleted && persistentEntity.getVersion() != null ? DetachedEntities.copy(entity) : null);
+        }
+    }
+
+    /**
+     * Evicts an entity updated or deleted by a query.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     */
+    public void evict(@Nullable TransactionExecution status, @NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull Object id) {
+        recordWrite(status, persistentEntity, id, null);
+    }
+
+    private <E> void recordWrite(@Nullable TransactionExecution status, RuntimePersistentEntity<E> persistentEntity, Object id, @Nullable E committedEntity) {
+        if (status == null) {
+            if (committedEntity == null) {
+                evictWritten(persistentEntity, id);
+            } else {
+                putWritten(persistentEntity, id, committedEntity);
+            }
+            return;
+        }
+        findTransaction(status).write(new EntityKey(persistentEntity, id), committedEntity);
+    }
+
+    /**
+     * Evicts all the entities of an entity type updated or deleted by a query.
+     *
+     * @param status           The status of the transaction in progress or null if the connection is committing every statement
+     * @param persistentEntity The persistent entity
+     */
+    public void evictAll(@Nullable TransactionExecution status, @NonNull RuntimePersistentEntity<?> persistentEntity) {
+        if (status == null) {
+            evictAllWritten(persistentEntity);
+            return;
+        }
+        TransactionEntities transaction = findTransaction(status);
+        transaction.reads.keySet().removeIf(key -> key.persistentEntity().equals(persistentEntity));
+        transaction.evictedEntities.add(persistentEntity);
+    }
+
+    private AtomicLong generationOf(RuntimePersistentEntity<?> persistentEntity) {
+        return generations.computeIfAbsent(persistentEntity, ignore -> new AtomicLong());
+    }
+
+    private <E> void putRead(RuntimePersistentEntity<E> persistentEntity, Object id, E entity, long generation) {
+        AtomicLong currentGeneration = generationOf(persistentEntity);
+        if (currentGeneration.get() != generation) {
+            return;
+        }
+        cache.put(dataSourceName, persistentEntity, id, entity);
+        // The entity might have been written after the generation was checked, the writes change the generation before updating the cache
+        if (currentGeneration.get() != generation) {
+            cache.evict(dataSourceName, persistentEntity, id);
+        }
+    }
+
+    private <E> void putWritten(RuntimePersistentEntity<E> persistentEntity, Object id, E entity) {
+        generationOf(persistentEntity).incrementAndGet();
+        cache.put(dataSourceName, persistentEntity, id, entity);
+    }
+
+    private void evictWritten(RuntimePersistentEntity<?> persistentEntity, Object id) {
+        generationOf(persistentEntity).incrementAndGet();
+        cache.evict(dataSourceName, persistentEntity, id);
+    }
+
+    private void evictAllWritten(RuntimePersistentEntity<?> persistentEntity) {
+        generationOf(persistentEntity).incrementAndGet();
+        cache.evictAll(dataSourceName, persistentEntity);
+    }
+
+    private TransactionEntities findTransaction(TransactionExecution status) {
+        return transactions.computeIfAbsent(getConnection(status), connection -> {
+            TransactionEntities transaction = new TransactionEntities(connection);
+            if (status instanceof ReactiveTransactionStatus<?> reactiveStatus) {
+                // The reactive transactions don't support the synchronizations, the connection execution completes after the transaction
+                reactiveStatus.getConnectionStatus().registerSynchronization(transaction);
+            } else {
+                ((TransactionStatus<?>) status).registerSynchronization(transaction);
+            }
+            return transaction;
+        });
+    }
+
+    private static Object getConnection(TransactionExecution status) {
+        if (status instanceof ReactiveTransactionStatus<?> reactiveStatus) {
+            return reactiveStatus.getConnection();
+        }
+        return ((TransactionStatus<?>) status).getConnection();
+    }
+
+    private record EntityKey(RuntimePersistentEntity<?> persistentEntity, Object id) {
+    }
+
+    private record ReadEntity(Object entity, long generation) {
+    }
+
+    /**
+     * The entities read and written by a transaction.
+     */
+    private final class TransactionEntities implements TransactionSynchronization, ConnectionSynchronization {
+
+        private final Object connection;
+        private final Map<EntityKey, ReadEntity> reads = new HashMap<>();
+        private final Map<EntityKey, Object> writes = new LinkedHashMap<>();
+        private final Set<RuntimePersistentEntity<?>> evictedEntities = new HashSet<>();
+        // The entities written after each of the active savepoints created after the registration, the innermost first
+        private final Deque<Set<EntityKey>> savepointWrites = new ArrayDeque<>();
+
+        private TransactionEntities(Object connection) {
+            this.connection = connection;
+        }
+
+        private boolean isWritten(EntityKey key) {
+            return writes.containsKey(key) || evictedEntities.contains(key.persistentEntity());
+        }
+
+        private void write(EntityKey key, @Nullable Object committedEntity) {
+            reads.remove(key);
+            writes.put(key, committedEntity);
+            Set<EntityKey> keys = savepointWrites.peek();
+            if (keys != null) {
+                keys.add(key);
+            }
+        }
+
+        @Override
+        public void beforeSavepoint() {
+            savepointWrites.push(new HashSet<>());
+        }
+
+        @Override
+        public void afterSavepointRelease() {
+            Set<EntityKey> keys = savepointWrites.poll();
+            Set<EntityKey> outerKeys = savepointWrites.peek();
+            if (keys != null && outerKeys != null) {
+                outerKeys.addAll(keys);
+            }
+        }
+
+        @Override
+        public void afterSavepointRollback() {
+            Set<EntityKey> keys = savepointWrites.poll();
+            if (keys == null) {
+                // The savepoint was created before the registration, all the writes were rolled back
+                writes.replaceAll((key, committedEntity) -> null);
+                return;
+            }
+            // The rolled back entities are only evicted
+            for (EntityKey key : keys) {
+                writes.put(key, null);
+            }
+            Set<EntityKey> outerKeys = savepointWrites.peek();
+            if (outerKeys != null) {
+                outerKeys.addAll(keys);
+            }
+        }
+
+        @Override
+        public void executionComplete() {
+            afterCompletion(Status.UNKNOWN);
+        }
+
+        @Override
+        public void afterCompletion(Status status) {
+            transactions.remove(connection);
+            if (status == Status.COMMITTED) {
+                // The reads are cached before the writes change the generations, the written entities are not among them
+                for (Map.Entry<EntityKey, ReadEntity> e : reads.entrySet()) {
+                    EntityKey key = e.getKey();
+                    putRead((RuntimePersistentEntity<Object>) key.persistentEntity(), key.id(), e.getValue().entity(), e.getValue().generation());
+                }
+            }
+            for (RuntimePersistentEntity<?> persistentEntity : evictedEntities) {
+                evictAllWritten(persistentEntity);
+            }
+            for (Map.Entry<EntityKey, Object> e : writes.entrySet()) {
+                EntityKey key = e.getKey();
+                if (status == Status.COMMITTED && e.getValue() != null && !evictedEntities.contains(key.persistentEntity())) {
+                    putWritten((RuntimePersistentEntity<Object>) key.persistentEntity(), key.id(), e.getValue());
+                } else {
+                    evictWritten(key.persistentEntity(), key.id());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+import java.util.List;
+
+/**
+ * The repository operations that can select the total count of a page together with its rows.
+ *
+ * @since 4.12
+ */
+@Internal
+public interface WindowCountOperations {
+
+    /**
+     * Finds the results of the query and the total count of the matching rows using a single statement
+     * built by {@link io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2#buildWindowCountSelect(String)}.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The entity type
+     * @param <R>           The result type
+     * @return The results or null if the count cannot be selected by the query
+     */
+    @Nullable
+    <T, R> WindowCountResult<R> findAllWithWindowCount(@NonNull PreparedQuery<T, R> preparedQuery);
+
+    /**
+     * The results of a query with the total count.
+     *
+     * @param results    The results
+     * @param totalCount The total count or null if the query didn't return any row
+     * @param <R>        The result type
+     */
+    record WindowCountResult<R>(@NonNull List<R> results, @Nullable Long totalCount) {
+    }
+}
@@ -0,0 +1,157 @@
+package io.micronaut.data.runtime.criteria
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.core.type.Argument
+import io.micronaut.data.event.EntityEventListener
+import io.micronaut.data.intercept.RepositoryMethodKey
+import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaBuilder
+import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot
+import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery
+import io.micronaut.data.model.query.builder.QueryResult
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry
+import io.micronaut.data.model.runtime.RuntimePersistentEntity
+import io.micronaut.data.model.runtime.RuntimePersistentProperty
+import io.micronaut.data.runtime.intercept.criteria.CriteriaQueryResultCache
+import io.micronaut.inject.ExecutableMethod
+import spock.lang.Specification
+
+class CriteriaQueryResultCacheSpec extends Specification {
+
+    PersistentEntityCriteriaBuilder criteriaBuilder
+    RepositoryMethodKey methodKey
+    CriteriaQueryResultCache cache = new CriteriaQueryResultCache(CriteriaQueryResultCache.DEFAULT_MAX_SIZE)
+    int builds = 0
+
+    void setup() {
+        Map<Class, RuntimePersistentEntity> map = new HashMap<>()
+        criteriaBuilder = new RuntimeCriteriaBuilder(new RuntimeEntityRegistry() {
+            @Override
+            EntityEventListener<Object> getEntityEventListener() {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            <T> RuntimePersistentEntity<T> getEntity(Class<T> type) {
+                return map.computeIfAbsent(type, RuntimePersistentEntity::new)
+            }
+
+            @Override
+            <T> RuntimePersistentEntity<T> newEntity(Class<T> type) {
+                throw new IllegalStateException()
+            }
+
+            @Override
+            ApplicationContext getApplicationContext() {
+                throw new IllegalStateException()
+            }
+        })
+        ExecutableMethod method = Stub(ExecutableMethod) {
+            getName() >> "findAll"
+            getArguments() >> new Argument[0]
+        }
+        methodKey = new RepositoryMethodKey(this, method)
+    }
+
+    void "test query of the same structure is built once"() {
+        when:
+            QueryResult first = queryResult(createQuery("Joe", 10L))
+            QueryResult second = queryResult(createQuery("Fred", 20L))
+
+        then:
+            builds == 1
+            second.query == first.query
+            first.parameterBindings*.value == ["Joe", 10L]
+            second.parameterBindings*.value == ["Fred", 20L]
+            second.parameterBindings*.name == first.parameterBindings*.name
+            second.parameterBindings*.dataType == first.parameterBindings*.dataType
+    }
+
+    void "test query of a different structure is built"() {
+        when:
+            QueryResult first = queryResult(createQuery("Joe", 10L))
+            PersistentEntityCriteriaQuery<Test> query = criteriaBuilder.createQuery(Test)
+            PersistentEntityRoot<Test> root = query.from(Test)
+            query.where(criteriaBuilder.equal(root.get("name"), "Joe"))
+            QueryResult second = queryResult(query)
+
+        then:
+            builds == 2
+            second.query != first.query
+    }
+
+    void "test query with ambiguous parameter values is not cached"() {
+        when:
+            String name = "Joe"
+            queryResult(createQuery(name, name))
+            queryResult(createQuery(name, name))
+
+        then:
+            builds == 2
+    }
+
+    void "test the least recently used query is evicted"() {
+        given:
+            cache = new CriteriaQueryResultCache(2)
+
+        when:
+            queryResult(createQuery("Joe", 10L))
+            queryResult(createNameQuery("Joe"))
+            queryResult(createQuery("Fred", 20L))
+            queryResult(createAgeQuery(10L))
+
+        then:
+            builds == 3
+
+        when:
+            queryResult(createQuery("Bob", 30L))
+
+        then:
+            builds == 3
+
+        when:
+            queryResult(createNameQuery("Fred"))
+
+        then:
+            builds == 4
+    }
+
+    private PersistentEntityCriteriaQuery<Test> createNameQuery(Object name) {
+        PersistentEntityCriteriaQuery<Test> query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.equal(root.get("name"), name))
+        return query
+    }
+
+    private PersistentEntityCriteriaQuery<Test> createAgeQuery(Object age) {
+        PersistentEntityCriteriaQuery<Test> query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.greaterThan(root.get("age"), age))
+        return query
+    }
+
+    private PersistentEntityCriteriaQuery<Test> createQuery(Object name, Object age) {
+        PersistentEntityCriteriaQuery<Test> query = criteriaBuilder.createQuery(Test)
+        PersistentEntityRoot<Test> root = query.from(Test)
+        query.where(criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("name"), name),
+                criteriaBuilder.greaterThan(root.get("age"), age)
+        ))
+        return query
+    }
+
+    private QueryResult queryResult(PersistentEntityCriteriaQuery<Test> query) {
+        return cache.getQueryResult(methodKey, query, () -> {
+            builds++
+            return ((QueryResultPersistentEntityCriteriaQuery) query).buildQuery(AnnotationMetadata.EMPTY_METADATA, new SqlQueryBuilder(Dialect.ANSI))
+        })
+    }
+}
@@ -0,0 +1,113 @@
+package io.micronaut.data.runtime.operations
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.exceptions.ConfigurationException
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class AsyncExecutorResolverSpec extends Specification {
+
+    void "test the default executor is used"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ExecutorService executorService = Executors.newSingleThreadExecutor()
+
+        expect:
+        AsyncExecutorResolver.resolve(context, executorService, { throw new IllegalStateException() }).is(executorService)
+
+        cleanup:
+        executorService.shutdown()
+        context.close()
+    }
+
+    void "test the local executor is used without a default executor"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ExecutorService executorService = Executors.newSingleThreadExecutor()
+
+        expect:
+        AsyncExecutorResolver.resolve(context, null, { executorService }).is(executorService)
+
+        cleanup:
+        executorService.shutdown()
+        context.close()
+    }
+
+    void "test a missing executor fails"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['micronaut.data.async.executor': 'missing'])
+
+        when:
+        AsyncExecutorResolver.resolve(context, null, { Executors.newCachedThreadPool() })
+
+        then:
+        def e = thrown(ConfigurationException)
+        e.message.contains("missing")
+
+        cleanup:
+        context.close()
+    }
+
+    void "test the executor is limited by the max concurrency"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['micronaut.data.async.max-concurrency': 2])
+        ExecutorService executorService = Executors.newCachedThreadPool()
+        def executor = AsyncExecutorResolver.resolve(context, executorService, { throw new IllegalStateException() })
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        def completed = new CountDownLatch(20)
+
+        when:
+        20.times {
+            executor.execute {
+                def current = running.incrementAndGet()
+                maxRunning.accumulateAndGet(current, { a, b -> Math.max(a, b) })
+                Thread.sleep(5)
+                running.decrementAndGet()
+                completed.countDown()
+            }
+        }
+
+        then:
+        executor instanceof ConcurrencyLimitedExecutor
+        completed.await(10, TimeUnit.SECONDS)
+        maxRunning.get() <= 2
+
+        cleanup:
+        executorService.shutdown()
+        context.close()
+    }
+
+    void "test the executor is limited by the pool size"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        ExecutorService executorService = Executors.newCachedThreadPool()
+
+        expect:
+        AsyncExecutorResolver.resolve(context, executorService, { throw new IllegalStateException() }, 10) instanceof ConcurrencyLimitedExecutor
+        AsyncExecutorResolver.resolve(context, executorService, { throw new IllegalStateException() }, null).is(executorService)
+
+        cleanup:
+        executorService.shutdown()
+        context.close()
+    }
+
+    void "test the max concurrency overrides the pool size"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(['micronaut.data.async.max-concurrency': 0])
+
+        when:
+        AsyncExecutorResolver.resolve(context, null, { Executors.newCachedThreadPool() }, 10)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        cleanup:
+        context.close()
+    }
+}
@@ -0,0 +1,96 @@
+package io.micronaut.data.runtime.operations.internal.sql
+
+import io.micronaut.core.type.Argument
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.runtime.QueryParameterBinding
+import io.micronaut.data.model.runtime.RuntimePersistentProperty
+import io.micronaut.data.runtime.config.ExpandableParameterPadding
+import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery
+import spock.lang.Specification
+
+class DefaultSqlPreparedQuerySpec extends Specification {
+
+    QueryParameterBinding binding = Stub(QueryParameterBinding) {
+        isExpandable() >> true
+    }
+
+    void "test the expanded parameters of the entity-bound query are padded"() {
+        given:
+            def preparedQuery = new DefaultSqlPreparedQuery<Object, Object>(storedQuery())
+            preparedQuery.setExpandableParameterPadding(ExpandableParameterPadding.POWER_OF_TWO)
+            def binder = new RecordingBinder()
+
+        when:
+            preparedQuery.bindParameters(binder, null, new Object(), null)
+
+        then:
+            binder.values == [1, 2, 3, 3]
+    }
+
+    void "test the expanded parameters of the bound query are padded"() {
+        given:
+            def preparedQuery = new DefaultSqlPreparedQuery<Object, Object>(storedQuery())
+            preparedQuery.setExpandableParameterPadding(ExpandableParameterPadding.POWER_OF_TWO)
+            def binder = new RecordingBinder()
+
+        when:
+            preparedQuery.bindParameters(binder, null, null)
+
+        then:
+            binder.values == [1, 2, 3, 3]
+    }
+
+    void "test the expanded parameters aren't padded by default"() {
+        given:
+            def preparedQuery = new DefaultSqlPreparedQuery<Object, Object>(storedQuery())
+            def binder = new RecordingBinder()
+
+        when:
+            preparedQuery.bindParameters(binder, null, new Object(), null)
+
+        then:
+            binder.values == [1, 2, 3]
+    }
+
+    private SqlStoredQuery<Object, Object> storedQuery() {
+        return Stub(SqlStoredQuery) {
+            getQuery() >> "SELECT * FROM item WHERE id IN (?)"
+            getQueryBindings() >> [binding]
+            isExpandableQuery() >> true
+            getDialect() >> Dialect.H2
+            bindParameters(_, _, _, _) >> { BindableParametersStoredQuery.Binder binder, invocationContext, entity, previousValues ->
+                binder.bindMany(binding, [1, 2, 3])
+            }
+        }
+    }
+
+    static class RecordingBinder implements BindableParametersStoredQuery.Binder {
+
+        List<Object> values = []
+
+        @Override
+        Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+            return previousValue
+        }
+
+        @Override
+        Object convert(Object value, RuntimePersistentProperty<?> property) {
+            return value
+        }
+
+        @Override
+        Object convert(Class<?> converterClass, Object value, Argument<?> argument) {
+            return value
+        }
+
+        @Override
+        void bindOne(QueryParameterBinding binding, Object value) {
+            values.add(value)
+        }
+
+        @Override
+        void bindMany(QueryParameterBinding binding, Collection<Object> values) {
+            this.values.addAll(values)
+        }
+    }
+}
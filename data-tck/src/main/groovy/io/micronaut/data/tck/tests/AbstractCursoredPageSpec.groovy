@@ -118,6 +118,75 @@ abstract class AbstractCursoredPageSpec extends Specification {
         Sort.of(Sort.Order.desc("name"))                             | "ZZZZZ09" | "ZZZZZ09" | "ZZZZZ06" | "ZZZZZ03"
         Sort.of(Sort.Order.asc("age"), Sort.Order.asc("name"))       | "AAAAA00" | "BBBBB00" | "KKKKK00" | "TTTTT00"
         Sort.of(Sort.Order.desc("age"), Sort.Order.asc("name"))      | "AAAAA09" | "BBBBB09" | "KKKKK09" | "TTTTT09"
+        Sort.of(Sort.Order.asc("age"), Sort.Order.desc("name"))      | "ZZZZZ00" | "YYYYY00" | "PPPPP00" | "GGGGG00"
+        Sort.of(Sort.Order.desc("age"), Sort.Order.asc("name"), Sort.Order.desc("id")) | "AAAAA09" | "BBBBB09" | "KKKKK09" | "TTTTT09"
+    }
+
+    void "test cursored pagination does not share the cached SQL of different sorts"() {
+        when: "The second pages of different sorts are selected"
+        def asc = personRepository.findAll(CursoredPageable.from(10, Sort.of(Sort.Order.asc("name"))))
+        def ascNext = personRepository.findAll(asc.nextPageable())
+        def desc = personRepository.findAll(CursoredPageable.from(10, Sort.of(Sort.Order.desc("name"))))
+        def descNext = personRepository.findAll(desc.nextPageable())
+        def mixed = personRepository.findAll(CursoredPageable.from(10, Sort.of(Sort.Order.asc("age"), Sort.Order.desc("name"))))
+        def mixedNext = personRepository.findAll(mixed.nextPageable())
+        def same = personRepository.findAll(CursoredPageable.from(10, Sort.of(Sort.Order.asc("age"), Sort.Order.asc("name"))))
+        def sameNext = personRepository.findAll(same.nextPageable())
+
+        then: "Every sort selects its own page"
+        ascNext.content[0].name == "AAAAA03"
+        descNext.content[0].name == "ZZZZZ06"
+        mixedNext.content[0].name == "PPPPP00"
+        sameNext.content[0].name == "KKKKK00"
+
+        when: "The second page of the first sort is selected again"
+        def ascNextAgain = personRepository.findAll(asc.nextPageable())
+
+        then: "The cached SQL selects the same page"
+        ascNextAgain.content*.id == ascNext.content*.id
+    }
+
+    void "test cursored pageable list for nullable sorting #sorting"() {
+        given: "Every third person has no income and the incomes are not unique"
+        def people = personRepository.findAll()
+        people.each { it.income = it.age % 3 == 0 ? null : (it.age % 5) * 100.0d }
+        personRepository.updateAll(people)
+
+        when: "All the pages are selected"
+        def expected = personRepository.findAll(Sort.of(sorting.orderBy + Sort.Order.asc("id")))*.id
+        def forward = readAllPages(CursoredPageable.from(50, sorting)) { personRepository.findAll((Pageable) it) }
+
+        then: "The pages contain every person once in the order of the database"
+        forward.size() == 780
+        forward == expected
+
+        when: "The previous page of the second page is selected"
+        def first = personRepository.findAll(CursoredPageable.from(50, sorting))
+        def second = personRepository.findAll(first.nextPageable())
+        def previous = personRepository.findAll(second.previousPageable())
+
+        then: "It is the first page"
+        previous.content*.id == first.content*.id
+
+        where:
+        sorting << [
+                Sort.of(Sort.Order.asc("income")),
+                Sort.of(Sort.Order.desc("income")),
+                Sort.of(Sort.Order.asc("income"), Sort.Order.desc("name")),
+                Sort.of(Sort.Order.desc("age"), Sort.Order.asc("income"))
+        ]
+    }
+
+    void "test cursored pageable with a where clause in a subquery"() {
+        when: "All the pages of a query selecting from a subquery are selected"
+        def sorting = Sort.of(Sort.Order.asc("name"))
+        def expected = personRepository.findAll(Sort.of(Sort.Order.asc("name"), Sort.Order.asc("id")))
+                .findAll { it.age > 10 && it.age < 25 }*.id
+        def forward = readAllPages(CursoredPageable.from(50, sorting)) { personRepository.findAgedBetweenTenAndTwentyFive(it) }
+
+        then: "The cursor predicate is added to the outer query"
+        forward.size() == 364
+        forward == expected
     }
 
     void "test pageable list with row removal"() {
@@ -309,4 +378,15 @@ abstract class AbstractCursoredPageSpec extends Specification {
         page.nextPageable().number == 2
         page.content.empty
     }
+
+    private static List<Long> readAllPages(CursoredPageable pageable, Function<CursoredPageable, Page<Person>> finder) {
+        List<Long> ids = []
+        Page<Person> page = finder.apply(pageable)
+        ids.addAll(page.content*.id)
+        while (page.hasNext() && !page.content.isEmpty()) {
+            page = finder.apply((CursoredPageable) page.nextPageable())
+            ids.addAll(page.content*.id)
+        }
+        return ids
+    }
 }
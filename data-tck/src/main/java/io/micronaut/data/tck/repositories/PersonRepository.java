@@ -185,6 +185,10 @@ public interface PersonRepository extends CrudRepository<Person, Long>, Pageable
 
     CursoredPage<Person> retrieve(@NonNull Pageable pageable);
 
+    @Query(value = "SELECT * FROM (SELECT * FROM person WHERE age > 10) person_ where person_.age < 25",
+            countQuery = "SELECT COUNT(*) FROM (SELECT * FROM person WHERE age > 10) person_ where person_.age < 25")
+    CursoredPage<Person> findAgedBetweenTenAndTwentyFive(CursoredPageable pageable);
+
     @NonNull
     CursoredPage<Person> findAll(@Nullable PredicateSpecification<Person> spec, CursoredPageable pageable);
 
@@ -406,11 +406,13 @@ public interface TransactionDefinition {
      * @return The connection definition that is required for this transaction.
      */
     default ConnectionDefinition getConnectionDefinition() {
+        // The read-only transaction requires a read-only connection, which can be routed to a read replica
+        ConnectionDefinition connectionDefinition = isReadOnly().orElse(false) ? ConnectionDefinition.READ_ONLY : ConnectionDefinition.DEFAULT;
         if (getPropagationBehavior() == Propagation.REQUIRES_NEW) {
             // In most of the cases REQUIRES_NEW transaction requires new connection to be opened
-            return ConnectionDefinition.DEFAULT.withName(getName()).withPropagation(ConnectionDefinition.Propagation.REQUIRES_NEW);
+            return connectionDefinition.withName(getName()).withPropagation(ConnectionDefinition.Propagation.REQUIRES_NEW);
         }
-        return ConnectionDefinition.DEFAULT.withName(getName());
+        return connectionDefinition.withName(getName());
     }
 
 }
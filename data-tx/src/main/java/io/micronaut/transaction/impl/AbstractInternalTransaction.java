@@ -107,6 +107,33 @@ public abstract class AbstractInternalTransaction<C> implements InternalTransact
         }
     }
 
+    @Override
+    public void triggerBeforeSavepoint() {
+        if (synchronizations != null) {
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.beforeSavepoint();
+            }
+        }
+    }
+
+    @Override
+    public void triggerAfterSavepointRelease() {
+        if (synchronizations != null) {
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterSavepointRelease();
+            }
+        }
+    }
+
+    @Override
+    public void triggerAfterSavepointRollback() {
+        if (synchronizations != null) {
+            for (TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterSavepointRollback();
+            }
+        }
+    }
+
     @Override
     public void cleanupAfterCompletion() {
     }
@@ -167,5 +167,21 @@ public abstract sealed class DefaultTransactionStatus<C> extends AbstractInterna
             // The synchronization should be bound to the current TX
             existingTransaction.registerSynchronization(synchronization);
         }
+
+        @Override
+        public void triggerBeforeSavepoint() {
+            // The savepoint synchronizations are registered on the current TX
+            existingTransaction.triggerBeforeSavepoint();
+        }
+
+        @Override
+        public void triggerAfterSavepointRelease() {
+            existingTransaction.triggerAfterSavepointRelease();
+        }
+
+        @Override
+        public void triggerAfterSavepointRollback() {
+            existingTransaction.triggerAfterSavepointRollback();
+        }
     }
 }
@@ -74,6 +74,24 @@ public interface InternalTransaction<T> extends TransactionStatus<T> {
 
     void triggerAfterCompletion(TransactionSynchronization.Status status);
 
+    /**
+     * Trigger {@link TransactionSynchronization#beforeSavepoint()}.
+     * @since 4.12
+     */
+    void triggerBeforeSavepoint();
+
+    /**
+     * Trigger {@link TransactionSynchronization#afterSavepointRelease()}.
+     * @since 4.12
+     */
+    void triggerAfterSavepointRelease();
+
+    /**
+     * Trigger {@link TransactionSynchronization#afterSavepointRollback()}.
+     * @since 4.12
+     */
+    void triggerAfterSavepointRollback();
+
     void cleanupAfterCompletion();
 
     /**
@@ -17,7 +17,6 @@ package io.micronaut.transaction.support;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.propagation.PropagatedContext;
-import io.micronaut.core.propagation.PropagatedContextElement;
 import io.micronaut.transaction.TransactionCallback;
 import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.TransactionOperations;
@@ -85,7 +84,7 @@ public abstract class AbstractPropagatedStatusTransactionOperations<T extends Tr
     private record PropagatedTransactionStatusElement<T extends TransactionStatus<?>>(
         TransactionOperations<?> transactionOperations,
         TransactionStatus<?> status
-    ) implements PropagatedContextElement {
+    ) implements TransactionPropagatedContextElement {
     }
 
 }
@@ -19,7 +19,6 @@ import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.async.propagation.ReactorPropagation;
-import io.micronaut.core.propagation.PropagatedContextElement;
 import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.reactive.ReactiveConnectionStatus;
 import io.micronaut.data.connection.reactive.ReactiveConnectionSynchronization;
@@ -388,7 +387,7 @@ public abstract class AbstractReactorTransactionOperations<C> implements Reactor
     private record ReactiveTransactionPropagatedContext<C>(
         ReactiveTransactionOperations<?> transactionOperations,
         ReactiveTransactionStatus<C> status)
-        implements PropagatedContextElement {
+        implements TransactionPropagatedContextElement {
     }
 
     /**
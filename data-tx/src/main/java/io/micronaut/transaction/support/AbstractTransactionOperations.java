@@ -38,6 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -60,12 +62,24 @@ public abstract class AbstractTransactionOperations<T extends InternalTransactio
     @Nullable
     protected final SynchronousConnectionManager<C> synchronousConnectionManager;
 
+    private final List<TransactionObserver> transactionObservers = new ArrayList<>(2);
+
     public AbstractTransactionOperations(ConnectionOperations<C> connectionOperations,
                                          @Nullable SynchronousConnectionManager<C> synchronousConnectionManager) {
         this.connectionOperations = connectionOperations;
         this.synchronousConnectionManager = synchronousConnectionManager;
     }
 
+    /**
+     * Adds a transaction observer that will be notified when a new transaction is completed.
+     *
+     * @param transactionObserver The transaction observer
+     * @since 4.12
+     */
+    public void addTransactionObserver(@NonNull TransactionObserver transactionObserver) {
+        transactionObservers.add(transactionObserver);
+    }
+
     /**
      * Returns connection definition.
      *
@@ -346,11 +360,29 @@ public abstract class AbstractTransactionOperations<T extends InternalTransactio
     private void begin(T transaction) {
         if (transaction.isNewTransaction()) {
             doBegin(transaction);
+            if (!transactionObservers.isEmpty()) {
+                observeCompletion(transaction);
+            }
         } else if (transaction.isNestedTransaction()) {
+            transaction.triggerBeforeSavepoint();
             doNestedBegin(transaction);
         }
     }
 
+    private void observeCompletion(T transaction) {
+        long start = System.nanoTime();
+        TransactionDefinition definition = transaction.getTransactionDefinition();
+        transaction.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(@NonNull Status status) {
+                long durationNanos = System.nanoTime() - start;
+                for (TransactionObserver transactionObserver : transactionObservers) {
+                    transactionObserver.transactionCompleted(definition, status, durationNanos);
+                }
+            }
+        });
+    }
+
     private void commitInternal(T tx) {
         if (tx.isCompleted()) {
             throw new IllegalTransactionStateException("Transaction is already completed - do not call commit or rollback more than once per transaction");
@@ -379,6 +411,7 @@ public abstract class AbstractTransactionOperations<T extends InternalTransactio
                     doCommit(tx);
                 } else if (tx.isNestedTransaction()) {
                     doNestedCommit(tx);
+                    tx.triggerAfterSavepointRelease();
                 }
 
             } catch (UnexpectedRollbackException ex) {
@@ -422,6 +455,7 @@ public abstract class AbstractTransactionOperations<T extends InternalTransactio
                     doRollback(tx);
                 } else if (tx.isNestedTransaction()) {
                     doNestedRollback(tx);
+                    tx.triggerAfterSavepointRollback();
                 } else {
                     tx.setRollbackOnly();
                 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import io.micronaut.core.annotation.Experimental;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.transaction.TransactionDefinition;
+
+/**
+ * Observes the completion of the new transactions started by {@link AbstractTransactionOperations}, for example to record metrics.
+ *
+ * The durations are only measured when at least one observer is registered.
+ *
+ * @since 4.12
+ */
+@Experimental
+public interface TransactionObserver {
+
+    /**
+     * Invoked after a new transaction was committed or rolled back.
+     *
+     * @param definition    The transaction definition
+     * @param status        The completion status
+     * @param durationNanos The time between the transaction begin and its completion in nanoseconds
+     */
+    void transactionCompleted(@NonNull TransactionDefinition definition,
+                              @NonNull TransactionSynchronization.Status status,
+                              long durationNanos);
+}
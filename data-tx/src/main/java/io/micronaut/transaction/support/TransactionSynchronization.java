@@ -92,6 +92,35 @@ public interface TransactionSynchronization extends Ordered {
     default void afterCommit() {
     }
 
+    /**
+     * Invoked before a savepoint of a nested transaction is created.
+     * Can e.g. flush the statements deferred by the transaction, so they are not
+     * rolled back together with the nested transaction.
+     * <p>The savepoints can be nested, every invocation is followed by either
+     * {@link #afterSavepointRelease()} or {@link #afterSavepointRollback()} of the same savepoint.
+     * @throws RuntimeException in case of errors; will be <b>propagated to the caller</b>
+     * @since 4.12
+     */
+    default void beforeSavepoint() {
+    }
+
+    /**
+     * Invoked after the nested transaction was committed and its savepoint released.
+     * The work of the nested transaction becomes a part of the enclosing transaction.
+     * @since 4.12
+     */
+    default void afterSavepointRelease() {
+    }
+
+    /**
+     * Invoked after the nested transaction was rolled back to its savepoint.
+     * The work done since the matching {@link #beforeSavepoint()} was discarded,
+     * while the enclosing transaction is still active and can commit.
+     * @since 4.12
+     */
+    default void afterSavepointRollback() {
+    }
+
     /**
      * Invoked after transaction commit/rollback.
      * Can perform resource cleanup <i>after</i> transaction completion.
@@ -20,11 +20,14 @@ import io.micronaut.core.annotation.AnnotationMetadataProvider;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.transaction.TransactionDefinition;
+import io.micronaut.transaction.TransactionExecution;
 import io.micronaut.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Transaction utils.
@@ -69,4 +72,34 @@ public final class TransactionUtil {
         return definition;
     }
 
+    /**
+     * Whether the propagated context contains an uncompleted transaction. The operations of the transaction
+     * share its connection and cannot be executed concurrently.
+     *
+     * @param propagatedContext The propagated context
+     * @return true if there is an active transaction
+     * @since 4.12
+     */
+    public static boolean isTransactionActive(@NonNull PropagatedContext propagatedContext) {
+        return propagatedContext.findAll(TransactionPropagatedContextElement.class)
+            .anyMatch(element -> !element.status().isCompleted());
+    }
+
+    /**
+     * Finds the uncompleted transactions of the propagated context, the synchronous transactions are represented
+     * by {@link io.micronaut.transaction.TransactionStatus} and the reactive transactions by
+     * {@link io.micronaut.transaction.reactive.ReactiveTransactionStatus}.
+     *
+     * @param propagatedContext The propagated context
+     * @return The active transactions
+     * @since 4.12
+     */
+    @NonNull
+    public static List<TransactionExecution> findActiveTransactions(@NonNull PropagatedContext propagatedContext) {
+        return propagatedContext.findAll(TransactionPropagatedContextElement.class)
+            .map(TransactionPropagatedContextElement::status)
+            .filter(status -> !status.isCompleted())
+            .toList();
+    }
+
 }